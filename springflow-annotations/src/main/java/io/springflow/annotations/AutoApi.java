@@ -53,6 +53,8 @@ import java.lang.annotation.Target;
  * @since 0.1.0
  * @see Expose
  * @see Security
+ * @see QueryBudget
+ * @see FetchProfile
  */
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
@@ -158,4 +160,51 @@ public @interface AutoApi {
      * @since 0.5.1
      */
     boolean supportSpecification() default false;
+
+    /**
+     * Limits on the cost of the list queries of this entity.
+     *
+     * <p>Defaults to the global {@code springflow.query.*} limits.
+     *
+     * @return the query budget
+     * @see QueryBudget
+     * @since 0.6.0
+     */
+    QueryBudget budget() default @QueryBudget;
+
+    /**
+     * Bounds of the adaptive concurrency limit of the endpoints of this entity.
+     *
+     * <p>Only applies when {@code springflow.concurrency.enabled} is true. Defaults to the
+     * global {@code springflow.concurrency.*} settings.
+     *
+     * @return the concurrency limit
+     * @see ConcurrencyLimit
+     * @since 0.6.0
+     */
+    ConcurrencyLimit concurrency() default @ConcurrencyLimit;
+
+    /**
+     * Write-behind mode of the create endpoint: entities are queued and inserted in batches
+     * by a background writer, and {@code POST} answers {@code 202 Accepted}.
+     *
+     * <p>Disabled by default.
+     *
+     * @return the write-behind configuration
+     * @see WriteBehind
+     * @since 0.6.0
+     */
+    WriteBehind writeBehind() default @WriteBehind;
+
+    /**
+     * Named fetch profiles that clients select with {@code ?profile=name} on the list and
+     * get-by-id endpoints.
+     *
+     * <p>Without a profile, the default fetch behaviour applies.
+     *
+     * @return the fetch profiles
+     * @see FetchProfile
+     * @since 0.6.0
+     */
+    FetchProfile[] fetchProfiles() default {};
 }
@@ -0,0 +1,66 @@
+package io.springflow.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Per-entity bounds of the adaptive concurrency limit of the generated endpoints.
+ *
+ * <p>Used within {@link AutoApi} to override the global {@code springflow.concurrency.*}
+ * settings. Each operation of the entity (list, get by id, create...) gets its own limit,
+ * which grows while calls stay under the latency threshold and shrinks when they exceed it.
+ * Calls beyond the limit are rejected at once with {@code 429 Too Many Requests}.
+ * Every attribute defaults to {@code -1}, meaning the global value applies; a
+ * {@code maxLimit} of {@code 0} disables limiting for this entity.
+ *
+ * <h3>Example Usage:</h3>
+ * <pre>{@code
+ * @Entity
+ * @AutoApi(
+ *     path = "reports",
+ *     concurrency = @ConcurrencyLimit(initialLimit = 2, maxLimit = 4, latencyThresholdMs = 5000)
+ * )
+ * public class Report {
+ *     // ...
+ * }
+ * }</pre>
+ *
+ * @author SpringFlow
+ * @since 0.6.0
+ * @see AutoApi
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConcurrencyLimit {
+
+    /**
+     * Number of concurrent calls allowed per operation before any latency is observed.
+     *
+     * @return the initial limit, {@code -1} for the global value
+     */
+    int initialLimit() default -1;
+
+    /**
+     * Lowest value the limit shrinks to.
+     *
+     * @return the minimum limit, {@code -1} for the global value
+     */
+    int minLimit() default -1;
+
+    /**
+     * Highest value the limit grows to.
+     *
+     * @return the maximum limit, {@code 0} to disable limiting, {@code -1} for the global value
+     */
+    int maxLimit() default -1;
+
+    /**
+     * Latency above which a call is considered a sign of overload and shrinks the limit.
+     *
+     * @return the threshold in milliseconds, {@code -1} for the global value
+     */
+    long latencyThresholdMs() default -1;
+}
@@ -0,0 +1,54 @@
+package io.springflow.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A named set of relations to load together, selected by clients with {@code ?profile=name}.
+ *
+ * <p>Used within {@link AutoApi#fetchProfiles()}. The listed relations are loaded through a
+ * JPA fetch graph ({@code jakarta.persistence.fetchgraph}) and expanded in the response; the
+ * other relations are not loaded: to-one relations are rendered as their ID and to-many
+ * relations are omitted.
+ *
+ * <h3>Example Usage:</h3>
+ * <pre>{@code
+ * @Entity
+ * @AutoApi(
+ *     path = "orders",
+ *     fetchProfiles = {
+ *         @FetchProfile(name = "list", attributes = {"customer"}),
+ *         @FetchProfile(name = "detail", attributes = {"customer", "lines", "lines.product"})
+ *     }
+ * )
+ * public class Order {
+ *     // ...
+ * }
+ * }</pre>
+ *
+ * @author SpringFlow
+ * @since 0.6.0
+ * @see AutoApi
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface FetchProfile {
+
+    /**
+     * The profile name, as passed in the {@code profile} query parameter.
+     *
+     * @return the profile name
+     */
+    String name();
+
+    /**
+     * The relations to load, as attribute paths. Nested relations use dots
+     * ({@code "lines.product"}); their parents are loaded as well.
+     *
+     * @return the attribute paths, empty to load no relation
+     */
+    String[] attributes() default {};
+}
@@ -56,6 +56,77 @@ public enum FilterType {
      */
     LIKE,
 
+    /**
+     * Prefix match filter for strings.
+     *
+     * <p>Query parameter: {@code ?field[starts_with]=prefix}
+     *
+     * <p>Examples:
+     * <ul>
+     *   <li>{@code ?name[starts_with]=Jo} - Matches names starting with "Jo"</li>
+     * </ul>
+     *
+     * <p>SQL equivalent: {@code WHERE field LIKE '?%'}. Unlike {@link #LIKE}, the pattern has no
+     * leading wildcard so an index on the column (or on {@code lower(column)} when the filter is
+     * case-insensitive) can serve it. {@code %} and {@code _} in the value are matched literally.
+     *
+     * @since 0.6.0
+     */
+    STARTS_WITH,
+
+    /**
+     * Suffix match filter for strings.
+     *
+     * <p>Query parameter: {@code ?field[ends_with]=suffix}
+     *
+     * <p>Examples:
+     * <ul>
+     *   <li>{@code ?email[ends_with]=@gmail.com} - Matches Gmail addresses</li>
+     * </ul>
+     *
+     * <p>SQL equivalent: {@code WHERE field LIKE '%?'}. {@code %} and {@code _} in the value are
+     * matched literally.
+     *
+     * @since 0.6.0
+     */
+    ENDS_WITH,
+
+    /**
+     * Case-insensitive pattern matching filter for strings, regardless of
+     * {@link Filterable#caseSensitive()}.
+     *
+     * <p>Query parameter: {@code ?field[ilike]=pattern}
+     *
+     * <p>Examples:
+     * <ul>
+     *   <li>{@code ?name[ilike]=john} - Matches names containing "John", "JOHN", ...</li>
+     * </ul>
+     *
+     * <p>SQL equivalent: {@code WHERE lower(field) LIKE '%?%'}. {@code %} and {@code _} in the
+     * value are matched literally.
+     *
+     * @since 0.6.0
+     */
+    ILIKE,
+
+    /**
+     * Full-text match on a {@link Searchable} field.
+     *
+     * <p>Query parameter: {@code ?field[search]=terms}
+     *
+     * <p>Examples:
+     * <ul>
+     *   <li>{@code ?description[search]=wireless mouse} - Matches descriptions containing both words</li>
+     * </ul>
+     *
+     * <p>Terms are looked up in SpringFlow's in-process inverted index and the matching IDs are
+     * pushed into the query: {@code WHERE id IN (?, ?, ...)}. Until the index is built, each term
+     * falls back to {@code lower(field) LIKE '%term%'}.
+     *
+     * @since 0.6.0
+     */
+    FULL_TEXT,
+
     /**
      * Greater than comparison.
      *
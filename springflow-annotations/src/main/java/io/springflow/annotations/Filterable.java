@@ -96,10 +96,25 @@ public @interface Filterable {
     /**
      * Whether the filter is case-sensitive.
      *
-     * <p>Only applies to string filters (EQUALS, LIKE).
+     * <p>Only applies to string filters (EQUALS, LIKE, STARTS_WITH, ENDS_WITH).
+     * Case-insensitive filters compare {@code lower(column)}; an expression index on it
+     * keeps EQUALS and STARTS_WITH index-friendly.
      * Defaults to {@code true}.
      *
      * @return true if case-sensitive
      */
     boolean caseSensitive() default true;
+
+    /**
+     * Whether the field's values are offered by the {@code GET /suggest} typeahead endpoint.
+     *
+     * <p>Only applies to string fields. Distinct values are kept in an in-memory prefix index,
+     * e.g. {@code GET /api/products/suggest?field=name&q=lap}, ranked by how many entities
+     * share each value.
+     * Defaults to {@code false}.
+     *
+     * @return true if the field is suggestable
+     * @since 0.6.0
+     */
+    boolean suggestable() default false;
 }
@@ -0,0 +1,73 @@
+package io.springflow.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Per-entity limits on the cost of the queries generated for list endpoints.
+ *
+ * <p>Used within {@link AutoApi} to override the global {@code springflow.query.*} limits.
+ * Every attribute defaults to {@code -1}, meaning the global value applies; {@code 0} disables
+ * the limit for this entity.
+ *
+ * <h3>Example Usage:</h3>
+ * <pre>{@code
+ * @Entity
+ * @AutoApi(
+ *     path = "orders",
+ *     budget = @QueryBudget(timeoutMs = 2000, maxFilters = 5, maxOffset = 10000)
+ * )
+ * public class Order {
+ *     // ...
+ * }
+ * }</pre>
+ *
+ * @author SpringFlow
+ * @since 0.6.0
+ * @see AutoApi
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    /**
+     * Query timeout in milliseconds, passed to the persistence provider as the
+     * {@code jakarta.persistence.query.timeout} hint.
+     *
+     * @return the timeout, {@code 0} for none, {@code -1} for the global value
+     */
+    int timeoutMs() default -1;
+
+    /**
+     * Maximum number of filter parameters in a single request.
+     *
+     * @return the maximum, {@code 0} for none, {@code -1} for the global value
+     */
+    int maxFilters() default -1;
+
+    /**
+     * Maximum number of values in an {@code IN} or {@code NOT IN} filter.
+     *
+     * @return the maximum, {@code 0} for none, {@code -1} for the global value
+     */
+    int maxInSize() default -1;
+
+    /**
+     * Maximum row offset ({@code page * size}) of a list request. Deeper pages are rejected:
+     * the client must narrow its filters instead of paging further.
+     *
+     * @return the maximum, {@code 0} for none, {@code -1} for the global value
+     */
+    int maxOffset() default -1;
+
+    /**
+     * Maximum number of relations fetch-joined by a list query. Relations beyond the limit
+     * are loaded after the page query instead.
+     *
+     * @return the maximum, {@code 0} for none, {@code -1} for the global value
+     */
+    int maxFetchJoins() default -1;
+}
@@ -0,0 +1,46 @@
+package io.springflow.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a text field for full-text search.
+ *
+ * <p>The values of {@code @Searchable} fields are tokenized into an in-process inverted index,
+ * kept up to date by the generated service on create, update and delete. The index serves
+ * {@link FilterType#FULL_TEXT} filters and relevance-ranked searches without a
+ * {@code LIKE '%term%'} scan.</p>
+ *
+ * <h3>Example Usage:</h3>
+ * <pre>{@code
+ * @Entity
+ * @AutoApi
+ * public class Product {
+ *     @Searchable(weight = 2.0f)
+ *     @Filterable(types = FilterType.FULL_TEXT)
+ *     private String name;        // ?name[search]=wireless mouse
+ *
+ *     @Searchable
+ *     private String description;
+ * }
+ * }</pre>
+ *
+ * @author SpringFlow
+ * @since 0.6.0
+ * @see FilterType#FULL_TEXT
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Searchable {
+
+    /**
+     * Relative weight of matches in this field when ranking results.
+     *
+     * @return the weight, 1 by default
+     */
+    float weight() default 1.0f;
+}
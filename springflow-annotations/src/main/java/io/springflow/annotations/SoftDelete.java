@@ -58,4 +58,19 @@ public @interface SoftDelete {
      * @return the name of the deletedAt field
      */
     String deletedAtField() default "deletedAt";
-}
\ No newline at end of file
+
+    /**
+     * Whether the deleted flag column may contain {@code NULL}.
+     *
+     * <p>Defaults to {@code true}: active records are selected with
+     * {@code deleted = false OR deleted IS NULL}. Set to {@code false} when the column is
+     * {@code NOT NULL} so that a single {@code deleted = false} predicate is used, which
+     * databases can serve from an index. Primitive {@code boolean} flags and flags
+     * annotated with {@code @Column(nullable = false)} or {@code @NotNull} are always
+     * treated as non-null.</p>
+     *
+     * @return false if the deleted flag is never null
+     * @since 0.6.0
+     */
+    boolean nullable() default true;
+}
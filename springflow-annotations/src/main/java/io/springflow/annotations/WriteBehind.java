@@ -0,0 +1,75 @@
+package io.springflow.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Write-behind mode of the create endpoint of an entity, for high-volume inserts such as
+ * telemetry.
+ *
+ * <p>Used within {@link AutoApi}. When enabled, {@code POST} validates the entity, puts it in a
+ * bounded in-memory queue and answers {@code 202 Accepted} with a ticket. A background writer
+ * inserts the queued entities in batches, one transaction and JDBC batch per batch. When the
+ * queue is full, requests wait up to the offer timeout, then get {@code 503}. The queue is
+ * flushed on shutdown; entities still queued when the process is killed are lost.
+ * Every numeric attribute defaults to {@code -1}, meaning the global
+ * {@code springflow.write-behind.*} value applies.
+ *
+ * <h3>Example Usage:</h3>
+ * <pre>{@code
+ * @Entity
+ * @AutoApi(
+ *     path = "measurements",
+ *     writeBehind = @WriteBehind(enabled = true, batchSize = 1000)
+ * )
+ * public class Measurement {
+ *     // ...
+ * }
+ * }</pre>
+ *
+ * @author SpringFlow
+ * @since 0.6.0
+ * @see AutoApi
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface WriteBehind {
+
+    /**
+     * Whether the create endpoint queues the entities instead of inserting them at once.
+     *
+     * @return true to enable write-behind
+     */
+    boolean enabled() default false;
+
+    /**
+     * Maximum number of entities waiting to be written.
+     *
+     * @return the queue capacity, {@code -1} for the global value
+     */
+    int queueCapacity() default -1;
+
+    /**
+     * Maximum number of entities inserted in one transaction.
+     *
+     * @return the batch size, {@code -1} for the global value
+     */
+    int batchSize() default -1;
+
+    /**
+     * How long the writer waits for a batch to fill up before writing it.
+     *
+     * @return the delay in milliseconds, {@code -1} for the global value
+     */
+    long maxDelayMs() default -1;
+
+    /**
+     * How long a request waits for room in a full queue before it is rejected.
+     *
+     * @return the timeout in milliseconds, {@code 0} to reject at once, {@code -1} for the global value
+     */
+    long offerTimeoutMs() default -1;
+}
@@ -14,6 +14,7 @@
  * <ul>
  *   <li>{@link io.springflow.annotations.Hidden} - Exclude field from DTOs</li>
  *   <li>{@link io.springflow.annotations.ReadOnly} - Make field read-only in API</li>
+ *   <li>{@link io.springflow.annotations.Searchable} - Index field for full-text search</li>
  * </ul>
  *
  * <h2>Phase 2 Annotations</h2>
@@ -0,0 +1,65 @@
+package io.springflow.core.config;
+
+/**
+ * Configuration properties for the batch endpoints ({@code POST|PATCH|DELETE /batch}) and the
+ * bulk delete by filter ({@code DELETE /?filters}).
+ * <p>
+ * These properties can be configured via application.yml under the springflow.batch prefix.
+ * </p>
+ *
+ * <h3>Example Configuration:</h3>
+ * <pre>{@code
+ * springflow:
+ *   batch:
+ *     chunk-size: 500
+ *     max-items: 10000
+ *     max-affected-rows: 10000
+ * }</pre>
+ */
+public class BatchProperties {
+
+    /**
+     * Number of entities written between two flush/clear of the persistence context.
+     * Also used as the JDBC batch size of the session.
+     * Default: 500
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Maximum number of items per batch request, 0 for no limit.
+     * Default: 10000
+     */
+    private int maxItems = 10_000;
+
+    /**
+     * Maximum number of rows a bulk delete by filter may affect, 0 for no limit.
+     * Default: 10000
+     */
+    private long maxAffectedRows = 10_000;
+
+    // Getters and Setters
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    public void setMaxItems(int maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    public long getMaxAffectedRows() {
+        return maxAffectedRows;
+    }
+
+    public void setMaxAffectedRows(long maxAffectedRows) {
+        this.maxAffectedRows = maxAffectedRows;
+    }
+}
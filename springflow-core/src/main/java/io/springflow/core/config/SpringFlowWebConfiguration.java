@@ -1,11 +1,17 @@
 package io.springflow.core.config;
 
+import io.springflow.core.execution.ConcurrencyLimitInterceptor;
+import io.springflow.core.execution.ConcurrencyLimiterRegistry;
+import io.springflow.core.execution.ExecutionGate;
+import io.springflow.core.execution.ExecutionGateInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.SortHandlerMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -14,7 +20,9 @@ import java.util.List;
  * Web MVC configuration for SpringFlow pagination and sorting.
  * <p>
  * This configuration customizes Spring Data's pagination and sorting support
- * with SpringFlow-specific defaults and limits.
+ * with SpringFlow-specific defaults and limits. When a {@link ConcurrencyLimiterRegistry} or an
+ * {@link ExecutionGate} is defined, it also limits the concurrent calls to the generated
+ * controllers: per entity operation first, so that a rejected request never waits on the gate.
  * </p>
  */
 @Configuration
@@ -22,6 +30,10 @@ public class SpringFlowWebConfiguration implements WebMvcConfigurer {
 
     private final PageableProperties pageableProperties;
 
+    private ExecutionGate executionGate;
+
+    private ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+
     /**
      * Creates SpringFlowWebConfiguration with injected PageableProperties.
      * <p>
@@ -35,6 +47,26 @@ public class SpringFlowWebConfiguration implements WebMvcConfigurer {
         this.pageableProperties = pageableProperties;
     }
 
+    @Autowired(required = false)
+    public void setExecutionGate(ExecutionGate executionGate) {
+        this.executionGate = executionGate;
+    }
+
+    @Autowired(required = false)
+    public void setConcurrencyLimiterRegistry(ConcurrencyLimiterRegistry concurrencyLimiterRegistry) {
+        this.concurrencyLimiterRegistry = concurrencyLimiterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (concurrencyLimiterRegistry != null) {
+            registry.addInterceptor(new ConcurrencyLimitInterceptor(concurrencyLimiterRegistry));
+        }
+        if (executionGate != null) {
+            registry.addInterceptor(new ExecutionGateInterceptor(executionGate));
+        }
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         PageableHandlerMethodArgumentResolver pageableResolver = createPageableResolver();
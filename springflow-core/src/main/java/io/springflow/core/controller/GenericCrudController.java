@@ -1,13 +1,27 @@
 package io.springflow.core.controller;
 
+import io.springflow.annotations.FilterType;
+import io.springflow.core.dto.Aggregation;
+import io.springflow.core.dto.BatchItemResult;
+import io.springflow.core.dto.BatchResponse;
+import io.springflow.core.dto.FacetValue;
+import io.springflow.core.exception.BatchOperationException;
+import io.springflow.core.exception.EntityNotFoundException;
+import io.springflow.core.exception.PreconditionFailedException;
+import io.springflow.core.exception.ValidationException;
+import io.springflow.core.execution.WriteBehindRegistry;
+import io.springflow.core.execution.WriteBehindWriter;
 import io.springflow.core.filter.FilterResolver;
 import io.springflow.core.mapper.DtoMapper;
 import io.springflow.core.mapper.DtoMapperFactory;
 import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.FetchProfileMetadata;
+import io.springflow.core.metadata.FieldMetadata;
 import io.springflow.core.metadata.MetadataResolver;
 import io.springflow.core.service.GenericCrudService;
 import io.springflow.core.utils.EntityUtils;
 import io.springflow.core.validation.EntityValidator;
+import io.springflow.core.validation.ValidationGroups;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,26 +29,41 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.convert.ConversionException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Generic CRUD controller providing RESTful endpoints for entities.
@@ -54,6 +83,12 @@ public abstract class GenericCrudController<T, ID> {
 
     private static final Logger log = LoggerFactory.getLogger(GenericCrudController.class);
 
+    private static final int DEFAULT_FACET_LIMIT = 20;
+    private static final int MAX_FACET_LIMIT = 100;
+    private static final int MAX_FACET_BUCKETS = 50;
+    private static final int DEFAULT_SUGGEST_LIMIT = 10;
+    private static final int MAX_SUGGEST_LIMIT = 50;
+
     @Autowired
     protected ApplicationContext applicationContext;
 
@@ -72,6 +107,16 @@ public abstract class GenericCrudController<T, ID> {
     protected EntityMetadata metadata;
     protected Class<T> entityClass;
 
+    /**
+     * Coalesces identical concurrent reads; null unless {@code springflow.coalescing.enabled}.
+     */
+    protected ReadCoalescer readCoalescer;
+
+    /**
+     * Queues the creates of entities in write-behind mode; null if not configured.
+     */
+    protected WriteBehindRegistry writeBehindRegistry;
+
     /**
      * Default constructor for subclasses.
      * Dependencies will be injected via @Autowired and initialized in @PostConstruct.
@@ -117,6 +162,23 @@ public abstract class GenericCrudController<T, ID> {
         this(service, dtoMapper, filterResolver, metadata, entityClass, null);
     }
 
+    @Autowired(required = false)
+    public void setReadCoalescer(ReadCoalescer readCoalescer) {
+        this.readCoalescer = readCoalescer;
+    }
+
+    @Autowired(required = false)
+    public void setWriteBehindRegistry(WriteBehindRegistry writeBehindRegistry) {
+        this.writeBehindRegistry = writeBehindRegistry;
+    }
+
+    /**
+     * Returns the metadata of the entity served by this controller.
+     */
+    public EntityMetadata getMetadata() {
+        return metadata;
+    }
+
     /**
      * Initializes metadata and DtoMapper if not already provided via constructor.
      */
@@ -172,22 +234,49 @@ public abstract class GenericCrudController<T, ID> {
         log.debug("GET request to find all {} with pagination: {} and parameters: {}",
                 entityClass.getSimpleName(), pageable, parameterMap.keySet());
 
+        return ResponseEntity.ok(coalesce("findAll", null, parameterMap, () -> findPage(pageable, parameterMap)));
+    }
+
+    private PageResponse<Map<String, Object>> findPage(Pageable pageable, Map<String, String[]> parameterMap) {
         boolean includeDeleted = Boolean.parseBoolean(getFirstParam(parameterMap, "includeDeleted", "false"));
         boolean deletedOnly = Boolean.parseBoolean(getFirstParam(parameterMap, "deletedOnly", "false"));
         List<String> fields = extractFields(getFirstParam(parameterMap, "fields", null));
+        FetchProfileMetadata profile = resolveFetchProfile(parameterMap);
+
+        if (profile != null) {
+            // The profile's entity graph decides what is loaded and expanded
+            Specification<T> spec = filterResolver.buildFilterSpecification(parameterMap, metadata);
+            Page<T> page = deletedOnly
+                    ? service.findDeletedOnly(spec, pageable)
+                    : service.findAll(spec, pageable, includeDeleted, profile);
+            return new PageResponse<>(dtoMapper.toOutputDtoPage(page, fields, profile));
+        }
 
         Specification<T> spec = filterResolver.buildSpecification(parameterMap, metadata, fields);
         Page<T> page;
 
         if (deletedOnly) {
              page = service.findDeletedOnly(spec, pageable);
+        } else if (filterResolver.requiresCollectionFetch(metadata, fields)) {
+             // Collection fetch joins multiply rows: page over IDs first, then load the graph
+             page = service.findAllTwoPhase(spec, pageable, includeDeleted);
         } else {
              page = service.findAll(spec, pageable, includeDeleted);
         }
 
+        loadCollections(page.getContent(), fields);
         Page<Map<String, Object>> dtoPage = dtoMapper.toOutputDtoPage(page, fields);
-        PageResponse<Map<String, Object>> response = new PageResponse<>(dtoPage);
-        return ResponseEntity.ok(response);
+        return new PageResponse<>(dtoPage);
+    }
+
+    /**
+     * Runs a read through the {@link ReadCoalescer}, if coalescing is enabled.
+     */
+    private <R> R coalesce(String operation, Object id, Map<String, String[]> parameterMap, Supplier<R> read) {
+        if (readCoalescer == null) {
+            return read.get();
+        }
+        return readCoalescer.execute(metadata.entityName(), operation, id, parameterMap, read);
     }
 
     /**
@@ -230,16 +319,273 @@ public abstract class GenericCrudController<T, ID> {
         List<String> fields = extractFields(getFirstParam(parameterMap, "fields", null));
 
         Page<T> page = service.search(searchRequest, pageable);
+        loadCollections(page.getContent(), fields);
         Page<Map<String, Object>> dtoPage = dtoMapper.toOutputDtoPage(page, fields);
         PageResponse<Map<String, Object>> response = new PageResponse<>(dtoPage);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * GET /aggregate - Compute aggregates in the database.
+     * <p>
+     * Accepts the same filters as the list endpoint. Measures must be numeric fields marked with
+     * {@code @Filterable} or {@code @Summary}; group-by fields must be {@code @Filterable}.
+     * </p>
+     *
+     * @param request the HTTP request ({@code fn}, {@code groupBy} and filter parameters)
+     * @return aggregated rows with HTTP 200 OK
+     */
+    @Operation(
+            summary = "Aggregate entities",
+            description = "Compute count/sum/avg/min/max in the database, optionally grouped by fields. " +
+                    "Example: ?fn=count,sum:amount&groupBy=status. Supports the same filters as the list endpoint."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully computed aggregates",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid aggregate function or field",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/aggregate")
+    public ResponseEntity<List<Map<String, Object>>> aggregate(jakarta.servlet.http.HttpServletRequest request) {
+        Map<String, String[]> parameterMap = request.getParameterMap();
+        log.debug("GET request to aggregate {} with parameters: {}", entityClass.getSimpleName(), parameterMap.keySet());
+
+        List<Aggregation> aggregations = extractFields(getFirstParam(parameterMap, "fn", "count")).stream()
+                .map(Aggregation::parse)
+                .distinct()
+                .toList();
+        List<String> groupBy = extractFields(getFirstParam(parameterMap, "groupBy", null));
+        groupBy = groupBy == null ? List.of() : groupBy.stream().map(String::trim).distinct().toList();
+        validateAggregation(aggregations, groupBy);
+
+        Specification<T> spec = filterResolver.buildSpecification(parameterMap, metadata);
+        return ResponseEntity.ok(service.aggregate(spec, aggregations, groupBy));
+    }
+
+    /**
+     * GET /facets - Count entities per value of {@code @Filterable} fields.
+     * <p>
+     * Each facet reuses the list endpoint's filters except its own, so that a client can show
+     * the alternatives to its current selection. {@code buckets.{field}=b0,b1,...} turns a
+     * {@code RANGE} field into a histogram.
+     * </p>
+     *
+     * @param request the HTTP request ({@code facet}, {@code facetLimit}, {@code buckets.*} and filter parameters)
+     * @return counts per facet with HTTP 200 OK
+     */
+    @Operation(
+            summary = "Facet counts",
+            description = "Count entities per value of @Filterable fields, e.g. ?facet=status,category. " +
+                    "Use buckets.{field}=0,100,500 for range histograms. Supports the same filters as the list endpoint."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully computed facet counts",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid facet field",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/facets")
+    public ResponseEntity<Map<String, List<?>>> facets(jakarta.servlet.http.HttpServletRequest request) {
+        Map<String, String[]> parameterMap = request.getParameterMap();
+        log.debug("GET request to facet {} with parameters: {}", entityClass.getSimpleName(), parameterMap.keySet());
+
+        List<String> facetNames = extractFields(getFirstParam(parameterMap, "facet", null));
+        if (facetNames == null) {
+            throw new IllegalArgumentException("At least one facet is required, e.g. ?facet=status");
+        }
+        int limit = parseFacetLimit(getFirstParam(parameterMap, "facetLimit", null));
+
+        Map<String, List<?>> facets = new LinkedHashMap<>();
+        for (String name : facetNames.stream().map(String::trim).distinct().toList()) {
+            FieldMetadata field = metadata.getFieldByName(name)
+                    .filter(f -> !f.hidden() && f.filterConfig() != null && !f.isCollectionRelation())
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid facet field: " + name));
+
+            // A facet is never narrowed by its own filter
+            Specification<T> spec = filterResolver.buildSpecificationExcluding(parameterMap, metadata, name);
+
+            String buckets = getFirstParam(parameterMap, "buckets." + name, null);
+            if (StringUtils.hasText(buckets)) {
+                facets.put(name, service.countByRanges(spec, name, parseBuckets(field, buckets)));
+            } else {
+                facets.put(name, service.countBy(spec, name, limit));
+            }
+        }
+        return ResponseEntity.ok(facets);
+    }
+
+    /**
+     * GET /suggest - Typeahead values of a suggestable field.
+     * <p>
+     * Returns the most frequent distinct values starting with {@code q}, ignoring case and
+     * accents, from an in-memory prefix index maintained on writes.
+     * </p>
+     *
+     * @param field the field, which must be a {@code @Filterable(suggestable = true)} string field
+     * @param q     the typed prefix
+     * @param limit the maximum number of values (default 10, max 50)
+     * @return the values with their entity counts with HTTP 200 OK
+     */
+    @Operation(
+            summary = "Typeahead suggestions",
+            description = "Most frequent values of a suggestable field starting with a prefix, e.g. ?field=name&q=lap"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved suggestions",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Field is not suggestable",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<FacetValue>> suggest(
+            @Parameter(description = "Suggestable field") @RequestParam("field") String field,
+            @Parameter(description = "Typed prefix") @RequestParam(value = "q", defaultValue = "") String q,
+            @Parameter(description = "Maximum number of values") @RequestParam(value = "limit", required = false) Integer limit) {
+        log.debug("GET request to suggest {} values of {} for prefix: {}", entityClass.getSimpleName(), field, q);
+
+        metadata.getFieldByName(field)
+                .filter(f -> !f.hidden() && f.isSuggestable())
+                .orElseThrow(() -> new IllegalArgumentException("Field is not suggestable: " + field));
+        if (!StringUtils.hasText(q)) {
+            return ResponseEntity.ok(List.of());
+        }
+        int effectiveLimit = limit == null ? DEFAULT_SUGGEST_LIMIT : Math.max(1, Math.min(MAX_SUGGEST_LIMIT, limit));
+        return ResponseEntity.ok(service.suggest(field, q.trim(), effectiveLimit));
+    }
+
+    /**
+     * GET /search?q= - Full-text search of the {@code @Searchable} fields, ranked by relevance.
+     * <p>
+     * Unlike the {@code FULL_TEXT} filter of the list endpoint, which only restricts the query
+     * to the matching IDs, results are ordered best match first, by the field weights of
+     * {@code @Searchable}; a {@code sort} parameter is ignored.
+     * </p>
+     *
+     * @param q        the search text
+     * @param pageable pagination parameters (page, size)
+     * @param fields   the fields to return, comma-separated
+     * @return page of DTOs, best match first, with HTTP 200 OK; HTTP 400 if the entity has no
+     * searchable field, or HTTP 503 while the index is being built
+     */
+    @Operation(
+            summary = "Full-text search",
+            description = "Search the searchable fields for all terms of q, e.g. ?q=wireless mouse; results are ranked by relevance"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Matching entities, best match first",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Entity has no searchable field",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Full-text index being built",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<Map<String, Object>>> searchText(
+            @Parameter(description = "Search text") @RequestParam("q") String q,
+            @Parameter(description = "Pagination parameters (page, size)")
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "Fields to return, comma-separated") @RequestParam(value = "fields", required = false) String fields) {
+        log.debug("GET request to search {} for: {}", entityClass.getSimpleName(), q);
+
+        List<String> outputFields = extractFields(fields);
+        Page<T> page = service.searchText(q, pageable);
+        loadCollections(page.getContent(), outputFields);
+        return ResponseEntity.ok(new PageResponse<>(dtoMapper.toOutputDtoPage(page, outputFields)));
+    }
+
+    private int parseFacetLimit(String value) {
+        if (value == null) {
+            return DEFAULT_FACET_LIMIT;
+        }
+        try {
+            return Math.max(1, Math.min(MAX_FACET_LIMIT, Integer.parseInt(value.trim())));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid facetLimit: " + value);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private List<Comparable> parseBuckets(FieldMetadata field, String buckets) {
+        if (!Arrays.asList(field.filterConfig().types()).contains(FilterType.RANGE)) {
+            throw new IllegalArgumentException("Buckets require a RANGE filter on field: " + field.name());
+        }
+        List<String> bounds = Arrays.stream(buckets.split(",")).map(String::trim).filter(StringUtils::hasText).toList();
+        if (bounds.isEmpty() || bounds.size() > MAX_FACET_BUCKETS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_FACET_BUCKETS + " bucket bounds are required for field: " + field.name());
+        }
+        List<Comparable> converted = new ArrayList<>();
+        for (String bound : bounds) {
+            Object value;
+            try {
+                value = filterResolver.convert(bound, field.type());
+            } catch (ConversionException e) {
+                value = null;
+            }
+            if (!(value instanceof Comparable comparable)) {
+                throw new IllegalArgumentException("Invalid bucket bound '" + bound + "' for field: " + field.name());
+            }
+            converted.add(comparable);
+        }
+        return converted;
+    }
+
+    private void validateAggregation(List<Aggregation> aggregations, List<String> groupBy) {
+        for (Aggregation aggregation : aggregations) {
+            if (aggregation.field() == null) {
+                continue;
+            }
+            FieldMetadata field = metadata.getFieldByName(aggregation.field())
+                    .filter(f -> !f.hidden() && !f.isRelation())
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid aggregate field: " + aggregation.field()));
+            if (aggregation.function() == Aggregation.Function.COUNT) {
+                continue;
+            }
+            boolean numeric = Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(field.type()));
+            if (!numeric || (field.filterConfig() == null && !field.summary())) {
+                throw new IllegalArgumentException("Field cannot be aggregated: " + aggregation.field()
+                        + " (numeric @Filterable or @Summary fields only)");
+            }
+        }
+        for (String name : groupBy) {
+            metadata.getFieldByName(name)
+                    .filter(f -> !f.hidden() && !f.isRelation() && f.filterConfig() != null)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid group-by field: " + name));
+        }
+    }
+
     private void validateSort(Pageable pageable) {
         if (pageable.getSort().isUnsorted()) {
             return;
         }
-        for (org.springframework.data.domain.Sort.Order order : pageable.getSort()) {
+        for (Sort.Order order : pageable.getSort()) {
             String property = order.getProperty();
             if (metadata.getFieldByName(property).isEmpty()) {
                 throw new IllegalArgumentException("Invalid sort field: " + property);
@@ -254,10 +600,16 @@ public abstract class GenericCrudController<T, ID> {
 
     /**
      * GET /{id} - Find entity by ID.
+     * <p>
+     * The response carries an ETag: the {@code @Version} of the entity, or a weak hash of the DTO
+     * for unversioned entities. When {@code If-None-Match} matches the version, HTTP 304 NOT
+     * MODIFIED is returned after a query reading the version only, without loading the entity.
+     * </p>
      *
      * @param id the entity ID
      * @param params query parameters (e.g., fields)
-     * @return DTO with HTTP 200 OK (excludes @Hidden fields), or HTTP 404 NOT FOUND if not exists
+     * @return DTO with HTTP 200 OK (excludes @Hidden fields), HTTP 304 NOT MODIFIED if the ETag
+     * matches, or HTTP 404 NOT FOUND if not exists
      */
     @Operation(
             summary = "Get entity by ID",
@@ -269,6 +621,10 @@ public abstract class GenericCrudController<T, ID> {
                     description = "Successfully retrieved entity",
                     content = @Content(mediaType = "application/json")
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Entity unchanged since the ETag given in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Entity not found",
@@ -283,11 +639,247 @@ public abstract class GenericCrudController<T, ID> {
         Map<String, String[]> parameterMap = request.getParameterMap();
         log.debug("GET request to find {} with id: {}", entityClass.getSimpleName(), id);
         List<String> fields = extractFields(getFirstParam(parameterMap, "fields", null));
-        
+        FetchProfileMetadata profile = resolveFetchProfile(parameterMap);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        // Built once per request, so that each filter is checked and recorded once
+        Specification<T> spec = profile != null
+                ? filterResolver.buildFilterSpecification(parameterMap, metadata)
+                : filterResolver.buildSpecification(parameterMap, metadata, fields);
+
+        if (ifNoneMatch != null && metadata.getVersionField().isPresent()) {
+            Object version = service.findVersion(id, spec);
+            if (version != null && eTagMatches(ifNoneMatch, versionETag(version))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(versionETag(version)).build();
+            }
+        }
+
+        TaggedDto found = coalesce("findById", id, parameterMap, () -> {
+            T entity;
+            Map<String, Object> dto;
+            if (profile != null) {
+                entity = service.findById(id, spec, profile);
+                dto = dtoMapper.toOutputDto(entity, fields, profile);
+            } else {
+                entity = service.findById(id, spec);
+                dto = dtoMapper.toOutputDto(entity, fields);
+            }
+            return new TaggedDto(dto, eTag(entity, dto));
+        });
+
+        if (ifNoneMatch != null && eTagMatches(ifNoneMatch, found.eTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(found.eTag()).build();
+        }
+        return ResponseEntity.ok().eTag(found.eTag()).body(found.dto());
+    }
+
+    private record TaggedDto(Map<String, Object> dto, String eTag) {
+    }
+
+    /**
+     * The ETag of an entity: its version, or a weak hash of its DTO if it has no version.
+     */
+    private String eTag(T entity, Map<String, Object> dto) {
+        Object version = EntityUtils.getEntityVersion(entity, metadata);
+        if (version != null) {
+            return versionETag(version);
+        }
+        return "W/\"" + Integer.toHexString(dto.hashCode()) + "\"";
+    }
+
+    private String versionETag(Object version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Weak comparison of an {@code If-None-Match} header with an ETag.
+     */
+    private boolean eTagMatches(String header, String eTag) {
+        String opaqueTag = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the version required by an {@code If-Match} header.
+     *
+     * @return the version, or null if the header is absent or {@code *}
+     * @throws PreconditionFailedException if the header holds a weak ETag, which never matches
+     * @throws IllegalArgumentException    if the entity has no version or the header holds several ETags
+     */
+    private Object expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        FieldMetadata versionField = metadata.getVersionField().orElseThrow(() -> new IllegalArgumentException(
+                "If-Match requires a @Version field on " + entityClass.getSimpleName()));
+        String tag = ifMatch.trim();
+        if (tag.contains(",")) {
+            throw new IllegalArgumentException("If-Match must contain a single ETag");
+        }
+        if (tag.startsWith("W/") || tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("ETag " + tag + " does not match the current version of "
+                    + entityClass.getSimpleName());
+        }
+        try {
+            return filterResolver.convert(tag.substring(1, tag.length() - 1), versionField.type());
+        } catch (RuntimeException e) {
+            throw new PreconditionFailedException("ETag " + tag + " does not match the current version of "
+                    + entityClass.getSimpleName());
+        }
+    }
+
+    /**
+     * GET /by-ids?ids=1,2,3 - Find several entities by ID with one query.
+     * <p>
+     * The results follow the order of the requested IDs. An ID that does not exist, or that the
+     * soft-delete filter or the other filters exclude, gets a {@code null} entry in
+     * {@code content} and is listed in {@code missing}. Supports the {@code fields},
+     * {@code includeDeleted} and filter parameters of {@code GET /}.
+     * </p>
+     *
+     * @param ids     the entity IDs, comma-separated or repeated
+     * @param request the HTTP request holding the other parameters
+     * @return the DTOs in request order and the missing IDs, with HTTP 200 OK
+     */
+    @Operation(
+            summary = "Get entities by IDs",
+            description = "Retrieve several entities by ID with one query, in the order of the IDs. Missing IDs are listed in 'missing'."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Found entities, with a null entry for each missing ID",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid ID, or too many IDs",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/by-ids")
+    public ResponseEntity<Map<String, Object>> findByIds(
+            @Parameter(description = "Entity IDs, comma-separated", required = true)
+            @RequestParam("ids") List<String> ids,
+            jakarta.servlet.http.HttpServletRequest request) {
+        log.debug("GET request to find {} {} by IDs", ids.size(), entityClass.getSimpleName());
+        return ResponseEntity.ok(findByIds(ids, request.getParameterMap()));
+    }
+
+    /**
+     * POST /by-ids - Find several entities by ID, for lists of IDs too long for a query string.
+     * <p>Same as {@code GET /by-ids}, with the IDs as a JSON array in the body.</p>
+     *
+     * @param ids     the entity IDs
+     * @param request the HTTP request holding the other parameters
+     * @return the DTOs in request order and the missing IDs, with HTTP 200 OK
+     */
+    @Operation(
+            summary = "Get entities by IDs (POST)",
+            description = "Same as GET /by-ids, with the IDs as a JSON array in the request body."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Found entities, with a null entry for each missing ID",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid ID, or too many IDs",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @PostMapping("/by-ids")
+    public ResponseEntity<Map<String, Object>> findByIdsInBody(
+            @Parameter(description = "Entity IDs", required = true)
+            @RequestBody List<Object> ids,
+            jakarta.servlet.http.HttpServletRequest request) {
+        log.debug("POST request to find {} {} by IDs", ids.size(), entityClass.getSimpleName());
+        return ResponseEntity.ok(findByIds(ids, request.getParameterMap()));
+    }
+
+    private Map<String, Object> findByIds(List<?> rawIds, Map<String, String[]> parameterMap) {
+        boolean includeDeleted = Boolean.parseBoolean(getFirstParam(parameterMap, "includeDeleted", "false"));
+        List<String> fields = extractFields(getFirstParam(parameterMap, "fields", null));
+        List<ID> ids = new ArrayList<>(rawIds.size());
+        for (Object rawId : rawIds) {
+            ids.add(parseId(rawId));
+        }
+
         Specification<T> spec = filterResolver.buildSpecification(parameterMap, metadata, fields);
-        T entity = service.findById(id, spec);
-        Map<String, Object> dto = dtoMapper.toOutputDto(entity, fields);
-        return ResponseEntity.ok(dto);
+        Map<ID, T> found = service.findAllByIds(ids, spec, includeDeleted);
+        loadCollections(new ArrayList<>(found.values()), fields);
+
+        // A null entry marks each missing ID, keeping every result at the position of its ID
+        Map<ID, Map<String, Object>> dtos = new HashMap<>();
+        List<Map<String, Object>> content = new ArrayList<>(ids.size());
+        Set<ID> missing = new LinkedHashSet<>();
+        for (ID id : ids) {
+            T entity = found.get(id);
+            if (entity == null) {
+                content.add(null);
+                missing.add(id);
+            } else {
+                content.add(dtos.computeIfAbsent(id, key -> dtoMapper.toOutputDto(entity, fields)));
+            }
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("content", content);
+        body.put("missing", missing);
+        return body;
+    }
+
+    private ID parseId(Object rawId) {
+        if (rawId == null || (rawId instanceof String value && value.isBlank())) {
+            throw new IllegalArgumentException("IDs must not be empty");
+        }
+        try {
+            return convertId(rawId);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid " + entityClass.getSimpleName() + " ID: " + rawId);
+        }
+    }
+
+    /**
+     * Resolves the fetch profile named by the {@code profile} parameter.
+     *
+     * @return the profile, or null if the parameter is absent
+     * @throws IllegalArgumentException if the entity declares no such profile
+     */
+    private FetchProfileMetadata resolveFetchProfile(Map<String, String[]> parameterMap) {
+        String name = getFirstParam(parameterMap, "profile", null);
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return metadata.getFetchProfile(name)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown fetch profile: " + name));
+    }
+
+    /**
+     * Batch-loads the collection relations the mapper is about to output, so that mapping
+     * a page does not trigger one lazy query per row and collection.
+     */
+    private void loadCollections(List<T> entities, List<String> fields) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        List<String> collections = metadata.fields().stream()
+                .filter(FieldMetadata::isCollectionRelation)
+                .filter(field -> field.isOutput(fields))
+                .map(FieldMetadata::name)
+                .toList();
+        if (!collections.isEmpty()) {
+            service.loadCollections(entities, collections);
+        }
     }
 
     private List<String> extractFields(String fieldsParam) {
@@ -299,9 +891,16 @@ public abstract class GenericCrudController<T, ID> {
 
     /**
      * POST / - Create a new entity.
+     * <p>
+     * In write-behind mode ({@code @AutoApi(writeBehind = @WriteBehind(enabled = true))}), the
+     * validated entity is queued and inserted later in a batch: the response is then HTTP 202
+     * ACCEPTED with a ticket, whose outcome {@code GET /write-behind/{ticket}} reports, or
+     * HTTP 503 if the queue is full.
+     * </p>
      *
      * @param inputDto the input data as Map (excludes ID, @Hidden, @ReadOnly fields)
-     * @return created entity DTO with HTTP 201 CREATED and Location header
+     * @return created entity DTO with HTTP 201 CREATED and Location header, or the ticket of the
+     * queued entity with HTTP 202 ACCEPTED
      */
     @Operation(
             summary = "Create a new entity",
@@ -313,10 +912,20 @@ public abstract class GenericCrudController<T, ID> {
                     description = "Entity successfully created",
                     content = @Content(mediaType = "application/json")
             ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Entity queued for creation (write-behind mode)",
+                    content = @Content(mediaType = "application/json")
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid input data / Validation error",
                     content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Write-behind queue full",
+                    content = @Content(mediaType = "application/json")
             )
     })
     @PostMapping
@@ -332,6 +941,26 @@ public abstract class GenericCrudController<T, ID> {
             entityValidator.validateForCreate(entity);
         }
 
+        WriteBehindWriter<T> writeBehind = writeBehindRegistry == null
+                ? null
+                : writeBehindRegistry.writerFor(metadata, service::createAll);
+        if (writeBehind != null) {
+            String ticket = writeBehind.enqueue(entity, () -> {
+                // Rebuilt when its batch fails, and written on its own: validated again like the original
+                T recreated = dtoMapper.toEntity(inputDto);
+                if (entityValidator != null) {
+                    entityValidator.validateForCreate(recreated);
+                }
+                return recreated;
+            });
+            URI status = ServletUriComponentsBuilder
+                    .fromCurrentRequest()
+                    .path("/write-behind/{ticket}")
+                    .buildAndExpand(ticket)
+                    .toUri();
+            return ResponseEntity.accepted().location(status).body(Map.of("ticket", ticket));
+        }
+
         T created = service.save(entity);
         Map<String, Object> outputDto = dtoMapper.toOutputDto(created);
 
@@ -344,12 +973,59 @@ public abstract class GenericCrudController<T, ID> {
         return ResponseEntity.created(location).body(outputDto);
     }
 
+    /**
+     * GET /write-behind/{ticket} - Get the outcome of an entity queued in write-behind mode.
+     * <p>
+     * The status is {@code QUEUED} until the entity is written, then {@code WRITTEN}, or
+     * {@code FAILED} with an error code if it could not be written: the entity is then lost.
+     * Only the outcomes of the last tickets, twice the queue capacity, are kept.
+     * </p>
+     *
+     * @param ticket the ticket returned on create
+     * @return the ticket, its status and error with HTTP 200 OK, or HTTP 404 NOT FOUND if the
+     * ticket is unknown or too old
+     */
+    @Operation(
+            summary = "Get the outcome of a write-behind create",
+            description = "Report whether an entity queued in write-behind mode was written, is still queued, or failed."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Outcome of the ticket",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown ticket",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @GetMapping("/write-behind/{ticket}")
+    public ResponseEntity<Map<String, Object>> writeBehindOutcome(
+            @Parameter(description = "Ticket returned on create", required = true)
+            @PathVariable String ticket) {
+        WriteBehindWriter.TicketOutcome outcome = Optional.ofNullable(writeBehindRegistry)
+                .flatMap(registry -> registry.outcome(metadata, ticket))
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Unknown write-behind ticket of " + metadata.entityName() + ": " + ticket));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("ticket", outcome.ticket());
+        body.put("status", outcome.status());
+        if (outcome.error() != null) {
+            body.put("error", outcome.error());
+        }
+        return ResponseEntity.ok(body);
+    }
+
     /**
      * PUT /{id} - Update an existing entity (full update).
      *
      * @param id       the entity ID
      * @param inputDto the updated data as Map (excludes ID, @Hidden, @ReadOnly fields)
-     * @return updated entity DTO with HTTP 200 OK, or HTTP 404 NOT FOUND if not exists
+     * @param ifMatch  the {@code If-Match} request header: the ETag the entity must still have
+     * @return updated entity DTO with HTTP 200 OK, HTTP 404 NOT FOUND if not exists, or
+     * HTTP 412 PRECONDITION FAILED if the entity changed since the ETag
      */
     @Operation(
             summary = "Update an existing entity",
@@ -370,6 +1046,11 @@ public abstract class GenericCrudController<T, ID> {
                     responseCode = "400",
                     description = "Invalid input data / Validation error",
                     content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Entity changed since the ETag given in If-Match",
+                    content = @Content(mediaType = "application/json")
             )
     })
     @PutMapping("/{id}")
@@ -377,21 +1058,15 @@ public abstract class GenericCrudController<T, ID> {
             @Parameter(description = "Entity ID", required = true)
             @PathVariable ID id,
             @Parameter(description = "Updated entity data", required = true)
-            @RequestBody Map<String, Object> inputDto) {
+            @RequestBody Map<String, Object> inputDto,
+            @Parameter(description = "ETag the entity must still have")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.debug("PUT request to update {} with id: {}", entityClass.getSimpleName(), id);
 
-        T existing = service.findById(id);
-        dtoMapper.updateEntity(existing, inputDto);
-
-        // Validate with Update group if validator is available
-        if (entityValidator != null) {
-            entityValidator.validateForUpdate(existing);
-        }
-
-        T updated = service.save(existing);
+        T updated = service.update(id, expectedVersion(ifMatch), existing -> applyUpdate(existing, inputDto));
         Map<String, Object> outputDto = dtoMapper.toOutputDto(updated);
 
-        return ResponseEntity.ok(outputDto);
+        return ResponseEntity.ok().eTag(eTag(updated, outputDto)).body(outputDto);
     }
 
     /**
@@ -400,10 +1075,19 @@ public abstract class GenericCrudController<T, ID> {
      * Only the fields present in the request body will be updated.
      * Missing fields will remain unchanged. This is different from PUT which replaces the entire entity.
      * </p>
+     * <p>
+     * With {@code Prefer: return=minimal}, and when no hook, auditing, search index or class-level
+     * constraint needs the entity, the fields are written with a single {@code UPDATE} of their
+     * columns without loading the entity, and HTTP 204 NO CONTENT is returned.
+     * </p>
      *
      * @param id       the entity ID
      * @param inputDto the partial data as Map (only fields to update)
-     * @return updated entity DTO with HTTP 200 OK, or HTTP 404 NOT FOUND if not exists
+     * @param prefer   the {@code Prefer} request header
+     * @param ifMatch  the {@code If-Match} request header: the ETag the entity must still have
+     * @return updated entity DTO with HTTP 200 OK, HTTP 204 NO CONTENT for a minimal return,
+     * HTTP 404 NOT FOUND if not exists, or HTTP 412 PRECONDITION FAILED if the entity changed
+     * since the ETag
      */
     @Operation(
             summary = "Partially update an entity",
@@ -420,10 +1104,19 @@ public abstract class GenericCrudController<T, ID> {
                     description = "Entity not found",
                     content = @Content(mediaType = "application/json")
             ),
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Entity updated without loading it (Prefer: return=minimal)"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid field names or validation error",
                     content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Entity changed since the ETag given in If-Match",
+                    content = @Content(mediaType = "application/json")
             )
     })
     @PatchMapping("/{id}")
@@ -431,34 +1124,80 @@ public abstract class GenericCrudController<T, ID> {
             @Parameter(description = "Entity ID", required = true)
             @PathVariable ID id,
             @Parameter(description = "Partial entity data (only fields to update)", required = true)
-            @RequestBody Map<String, Object> inputDto) {
+            @RequestBody Map<String, Object> inputDto,
+            @Parameter(description = "return=minimal to update the columns without loading the entity")
+            @RequestHeader(value = "Prefer", required = false) String prefer,
+            @Parameter(description = "ETag the entity must still have")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.debug("PATCH request to partially update {} with id: {} with data: {}",
                 entityClass.getSimpleName(), id, inputDto);
 
         // Validate that provided fields are valid (not trying to update @Hidden or @ReadOnly fields)
         dtoMapper.validateUpdatableFields(inputDto);
+        Object expectedVersion = expectedVersion(ifMatch);
+
+        if (prefersMinimalReturn(prefer) && service.supportsColumnUpdate(inputDto.keySet())
+                && (entityValidator == null || !entityValidator.hasClassConstraints(entityClass))) {
+            service.updateColumns(id, expectedVersion, toColumnValues(inputDto));
+            return ResponseEntity.noContent().header("Preference-Applied", "return=minimal").build();
+        }
+
+        T updated = service.update(id, expectedVersion, existing -> applyUpdate(existing, inputDto));
+        Map<String, Object> outputDto = dtoMapper.toOutputDto(updated);
+
+        return ResponseEntity.ok().eTag(eTag(updated, outputDto)).body(outputDto);
+    }
 
-        T existing = service.findById(id);
+    /**
+     * Applies the input to the managed entity and validates it with the Update group.
+     */
+    private void applyUpdate(T existing, Map<String, Object> inputDto) {
         dtoMapper.updateEntity(existing, inputDto);
 
         // Validate with Update group if validator is available
         if (entityValidator != null) {
             entityValidator.validateForUpdate(existing);
         }
-
-        T updated = service.save(existing);
-        Map<String, Object> outputDto = dtoMapper.toOutputDto(updated);
-
-        return ResponseEntity.ok(outputDto);
     }
 
+    private boolean prefersMinimalReturn(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            if (preference.trim().equalsIgnoreCase("return=minimal")) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+    /**
+     * Converts the patched values to the field types by applying them to a transient instance with
+     * the mapper, and validates each patched property with the Update group.
+     */
+    private Map<String, Object> toColumnValues(Map<String, Object> inputDto) {
+        T probe = BeanUtils.instantiateClass(entityClass);
+        dtoMapper.updateEntity(probe, inputDto);
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String name : inputDto.keySet()) {
+            if (entityValidator != null) {
+                entityValidator.validateProperty(probe, name, ValidationGroups.Update.class);
+            }
+            Field field = metadata.getFieldByName(name).orElseThrow().field();
+            ReflectionUtils.makeAccessible(field);
+            values.put(name, ReflectionUtils.getField(field, probe));
+        }
+        return values;
+    }
 
     /**
      * DELETE /{id} - Delete an entity.
      *
-     * @param id the entity ID
-     * @return HTTP 204 NO CONTENT on success, or HTTP 404 NOT FOUND if not exists
+     * @param id      the entity ID
+     * @param ifMatch the {@code If-Match} request header: the ETag the entity must still have
+     * @return HTTP 204 NO CONTENT on success, HTTP 404 NOT FOUND if not exists, or
+     * HTTP 412 PRECONDITION FAILED if the entity changed since the ETag
      */
     @Operation(
             summary = "Delete an entity",
@@ -473,17 +1212,66 @@ public abstract class GenericCrudController<T, ID> {
                     responseCode = "404",
                     description = "Entity not found",
                     content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Entity changed since the ETag given in If-Match",
+                    content = @Content(mediaType = "application/json")
             )
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(
             @Parameter(description = "Entity ID", required = true)
-            @PathVariable ID id) {
+            @PathVariable ID id,
+            @Parameter(description = "ETag the entity must still have")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.debug("DELETE request to delete {} with id: {}", entityClass.getSimpleName(), id);
-        service.deleteById(id);
+        Object expectedVersion = expectedVersion(ifMatch);
+        if (expectedVersion != null) {
+            service.deleteById(id, expectedVersion);
+        } else {
+            service.deleteById(id);
+        }
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * DELETE /?filters - Delete every entity matching the filters with a single statement.
+     * <p>
+     * Uses the same filters as {@code GET /}, except relation paths. Entities are soft-deleted
+     * if {@code @SoftDelete} is present. At least one filter is required, and the delete is
+     * rejected when more rows match than {@code springflow.batch.max-affected-rows}, or when a
+     * hard delete would skip the cascades of the entity.
+     * </p>
+     *
+     * @param request the HTTP request holding the filters
+     * @return the number of deleted entities with HTTP 200 OK
+     */
+    @Operation(
+            summary = "Delete entities by filter",
+            description = "Delete all entities matching the filters in one statement. At least one filter is required."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Entities deleted, with their count",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No filter, relation path filter, too many matching entities, or cascading relations",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @DeleteMapping
+    public ResponseEntity<Map<String, Object>> deleteByFilter(jakarta.servlet.http.HttpServletRequest request) {
+        Map<String, String[]> parameterMap = request.getParameterMap();
+        log.debug("DELETE request to delete {} with parameters: {}", entityClass.getSimpleName(), parameterMap.keySet());
+
+        Specification<T> spec = filterResolver.buildBulkSpecification(parameterMap, metadata);
+        return ResponseEntity.ok(Map.of("deleted", service.deleteAll(spec)));
+    }
+
     /**
      * POST /{id}/restore - Restore a soft-deleted entity.
      *
@@ -546,6 +1334,194 @@ public abstract class GenericCrudController<T, ID> {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * POST /batch - Create several entities in one transaction.
+     * <p>
+     * Every item is mapped and validated before anything is written. If any item is invalid, no
+     * entity is created and the failed items are returned with HTTP 400.
+     * </p>
+     *
+     * @param inputDtos the entities to create
+     * @return one result per item, with the created IDs
+     */
+    @Operation(
+            summary = "Create entities in batch",
+            description = "Create several entities in one transaction. If any item is invalid, nothing is created."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "All entities created",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Some items are invalid, or the batch is too large",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> createBatch(
+            @Parameter(description = "Entities to create", required = true)
+            @RequestBody List<Map<String, Object>> inputDtos) {
+        log.debug("POST request to create {} {} in batch", inputDtos.size(), entityClass.getSimpleName());
+
+        List<T> entities = new ArrayList<>(inputDtos.size());
+        List<BatchItemResult> failures = new ArrayList<>();
+        for (int i = 0; i < inputDtos.size(); i++) {
+            try {
+                T entity = dtoMapper.toEntity(inputDtos.get(i));
+                if (entityValidator != null) {
+                    entityValidator.validateForCreate(entity);
+                }
+                entities.add(entity);
+            } catch (IllegalArgumentException | ValidationException | ConstraintViolationException e) {
+                failures.add(BatchItemResult.failure(i, null, e));
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new BatchOperationException(inputDtos.size(), failures);
+        }
+
+        List<T> created = service.createAll(entities);
+        List<BatchItemResult> results = new ArrayList<>(created.size());
+        for (int i = 0; i < created.size(); i++) {
+            results.add(BatchItemResult.success(i, getEntityId(created.get(i)), BatchItemResult.Status.CREATED));
+        }
+        return ResponseEntity.ok(BatchResponse.succeeded(results));
+    }
+
+    /**
+     * PATCH /batch - Partially update several entities in one transaction.
+     * <p>
+     * Each item holds the ID of the entity and the fields to change. If any entity is missing or
+     * invalid, nothing is updated and the failed items are returned with HTTP 400; an ID that cannot
+     * be read or a field that cannot be updated fails its item, not the whole request.
+     * </p>
+     *
+     * @param inputDtos the changes, each with the entity ID
+     * @return one result per item
+     */
+    @Operation(
+            summary = "Partially update entities in batch",
+            description = "Update several entities in one transaction. Each item must contain the entity ID. "
+                    + "If any item fails, nothing is updated."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "All entities updated",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Some items are missing or invalid, or the batch is too large",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @PatchMapping("/batch")
+    public ResponseEntity<BatchResponse> patchBatch(
+            @Parameter(description = "Partial entity data, each with the entity ID", required = true)
+            @RequestBody List<Map<String, Object>> inputDtos) {
+        log.debug("PATCH request to update {} {} in batch", inputDtos.size(), entityClass.getSimpleName());
+
+        String idField = idFieldName();
+        List<ID> ids = new ArrayList<>(inputDtos.size());
+        List<Map<String, Object>> changes = new ArrayList<>(inputDtos.size());
+        List<BatchItemResult> failures = new ArrayList<>();
+        for (int i = 0; i < inputDtos.size(); i++) {
+            Object rawId = inputDtos.get(i).get(idField);
+            try {
+                ids.add(convertId(rawId));
+                Map<String, Object> change = new LinkedHashMap<>(inputDtos.get(i));
+                change.remove(idField);
+                dtoMapper.validateUpdatableFields(change);
+                changes.add(change);
+            } catch (IllegalArgumentException | ConversionException e) {
+                failures.add(BatchItemResult.failure(i, rawId, e));
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new BatchOperationException(inputDtos.size(), failures);
+        }
+
+        List<BatchItemResult> results = service.updateAll(ids, (index, existing) -> {
+            dtoMapper.updateEntity(existing, changes.get(index));
+            if (entityValidator != null) {
+                entityValidator.validateForUpdate(existing);
+            }
+        });
+        return ResponseEntity.ok(BatchResponse.succeeded(results));
+    }
+
+    /**
+     * DELETE /batch - Delete several entities in one transaction.
+     * <p>
+     * Entities are soft-deleted if {@code @SoftDelete} is present. If any entity is missing
+     * or any ID cannot be read, nothing is deleted and the failed items are returned with HTTP 400.
+     * </p>
+     *
+     * @param rawIds the IDs of the entities to delete
+     * @return one result per item
+     */
+    @Operation(
+            summary = "Delete entities in batch",
+            description = "Delete several entities by ID in one transaction. If any entity is missing, nothing is deleted."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "All entities deleted",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Some entities are missing, or the batch is too large",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    @DeleteMapping("/batch")
+    public ResponseEntity<BatchResponse> deleteBatch(
+            @Parameter(description = "IDs of the entities to delete", required = true)
+            @RequestBody List<Object> rawIds) {
+        log.debug("DELETE request to delete {} {} in batch", rawIds.size(), entityClass.getSimpleName());
+
+        List<ID> ids = new ArrayList<>(rawIds.size());
+        List<BatchItemResult> failures = new ArrayList<>();
+        for (int i = 0; i < rawIds.size(); i++) {
+            try {
+                ids.add(convertId(rawIds.get(i)));
+            } catch (IllegalArgumentException | ConversionException e) {
+                failures.add(BatchItemResult.failure(i, rawIds.get(i), e));
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new BatchOperationException(rawIds.size(), failures);
+        }
+        return ResponseEntity.ok(BatchResponse.succeeded(service.deleteAllById(ids)));
+    }
+
+    private String idFieldName() {
+        return metadata.getIdField()
+                .map(FieldMetadata::name)
+                .orElseThrow(() -> new IllegalStateException("No ID field on " + entityClass.getSimpleName()));
+    }
+
+    /**
+     * Converts an ID read from a JSON body, such as an {@code Integer} for a {@code Long} ID, to
+     * the ID type of the entity.
+     */
+    @SuppressWarnings("unchecked")
+    private ID convertId(Object rawId) {
+        if (rawId == null) {
+            throw new IllegalArgumentException("Each batch item must contain the entity ID");
+        }
+        if (metadata.idType().isInstance(rawId)) {
+            return (ID) rawId;
+        }
+        return (ID) filterResolver.convert(String.valueOf(rawId), metadata.idType());
+    }
+
     /**
      * Extract the ID from an entity.
      * Subclasses can override this method for custom ID extraction logic.
@@ -1,11 +1,17 @@
 package io.springflow.core.controller;
 
+import io.springflow.core.dto.BatchResponse;
+import io.springflow.core.exception.BatchOperationException;
+import io.springflow.core.exception.ConcurrencyLimitExceededException;
 import io.springflow.core.exception.DuplicateEntityException;
 import io.springflow.core.exception.EntityNotFoundException;
+import io.springflow.core.exception.PreconditionFailedException;
+import io.springflow.core.exception.ServiceOverloadedException;
 import io.springflow.core.exception.ValidationException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -120,6 +126,93 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    /**
+     * Handle PreconditionFailedException - return HTTP 412 PRECONDITION FAILED.
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(
+            PreconditionFailedException ex,
+            HttpServletRequest request) {
+        log.warn("Precondition failed: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                "Precondition Failed",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
+    /**
+     * Handle ConcurrencyLimitExceededException - return HTTP 429 TOO MANY REQUESTS with Retry-After.
+     */
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceeded(
+            ConcurrencyLimitExceededException ex,
+            HttpServletRequest request) {
+        log.debug("Request rejected: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    /**
+     * Handle ServiceOverloadedException - return HTTP 503 SERVICE UNAVAILABLE with Retry-After.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloaded(
+            ServiceOverloadedException ex,
+            HttpServletRequest request) {
+        log.warn("Request rejected: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    /**
+     * Handle query timeouts (the {@code @QueryBudget} timeout of an entity) - return HTTP 503
+     * SERVICE UNAVAILABLE with Retry-After, like the other overload responses. The message of
+     * the exception, which may hold SQL, is only logged.
+     */
+    @ExceptionHandler({
+            jakarta.persistence.QueryTimeoutException.class,
+            org.springframework.dao.QueryTimeoutException.class
+    })
+    public ResponseEntity<ErrorResponse> handleQueryTimeout(
+            Exception ex,
+            HttpServletRequest request) {
+        log.warn("Query timed out on {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "The query took longer than its timeout",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     /**
      * Handle ValidationException - return HTTP 400 BAD REQUEST with field errors.
      */
@@ -140,6 +233,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    /**
+     * Handle BatchOperationException - return HTTP 400 BAD REQUEST with the failed items.
+     */
+    @ExceptionHandler(BatchOperationException.class)
+    public ResponseEntity<BatchResponse> handleBatchOperation(
+            BatchOperationException ex,
+            HttpServletRequest request) {
+        log.warn("Batch rejected on {}: {}", request.getRequestURI(), ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(BatchResponse.failed(ex.getTotal(), ex.getFailures()));
+    }
+
     /**
      * Handle MethodArgumentNotValidException - return HTTP 400 BAD REQUEST with detailed field errors.
      * This is thrown by Spring's @Valid annotation when request body validation fails.
@@ -0,0 +1,107 @@
+package io.springflow.core.controller;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent reads of the generated endpoints (single flight).
+ * <p>
+ * The first request for a key runs the read; requests with the same key arriving while it is
+ * in flight wait for it and return its result, or rethrow its exception, instead of querying
+ * the database again. Nothing is kept once the read completes, so results are never older than
+ * the read they joined.
+ * </p>
+ * <p>
+ * Results are shared between requests and must not be modified. Only enable coalescing when
+ * the result of a read does not depend on the caller, for example through row-level filters
+ * based on the security context.
+ * </p>
+ */
+public class ReadCoalescer {
+
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs a read, or joins the identical read already in flight.
+     *
+     * @param entityName the entity name
+     * @param operation  the read operation, such as {@code findById}
+     * @param id         the entity ID, or null for list operations
+     * @param parameters the request parameters; their order does not matter
+     * @param read       the read, returning a result that is safe to share
+     * @param <R>        the result type
+     * @return the result of this read or of the read it joined
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R execute(String entityName, String operation, Object id, Map<String, String[]> parameters,
+                         Supplier<R> read) {
+        Key key = new Key(entityName, operation, id, normalize(parameters));
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.increment();
+            return (R) join(running);
+        }
+
+        executed.increment();
+        try {
+            R result = read.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Returns the number of reads that ran against the service.
+     */
+    public long executedReads() {
+        return executed.sum();
+    }
+
+    /**
+     * Returns the number of reads answered by joining a read already in flight.
+     */
+    public long coalescedReads() {
+        return coalesced.sum();
+    }
+
+    private static Object join(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static Map<String, List<String>> normalize(Map<String, String[]> parameters) {
+        Map<String, List<String>> normalized = new TreeMap<>();
+        if (parameters != null) {
+            parameters.forEach((name, values) -> normalized.put(name, values == null ? List.of() : Arrays.asList(values)));
+        }
+        return normalized;
+    }
+
+    private record Key(String entityName, String operation, Object id, Map<String, List<String>> parameters) {
+    }
+}
@@ -1,6 +1,8 @@
 package io.springflow.core.controller.support;
 
 import io.springflow.core.controller.GenericCrudController;
+import io.springflow.core.controller.ReadCoalescer;
+import io.springflow.core.execution.WriteBehindRegistry;
 import io.springflow.core.filter.FilterResolver;
 import io.springflow.core.mapper.DtoMapper;
 import io.springflow.core.mapper.DtoMapperFactory;
@@ -18,6 +20,7 @@ import net.bytebuddy.matcher.ElementMatchers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Field;
@@ -47,6 +50,8 @@ public class SpringFlowControllerFactoryBean<T, ID> implements FactoryBean<Gener
     private FilterResolver filterResolver;
     private EntityMetadata metadata;
     private EntityValidator entityValidator;
+    private ReadCoalescer readCoalescer;
+    private WriteBehindRegistry writeBehindRegistry;
     private final SecurityExpressionBuilder securityExpressionBuilder = new SecurityExpressionBuilder();
 
     public void setEntityClass(Class<T> entityClass) {
@@ -73,9 +78,25 @@ public class SpringFlowControllerFactoryBean<T, ID> implements FactoryBean<Gener
         this.entityValidator = entityValidator;
     }
 
+    @Autowired(required = false)
+    public void setReadCoalescer(ReadCoalescer readCoalescer) {
+        this.readCoalescer = readCoalescer;
+    }
+
+    @Autowired(required = false)
+    public void setWriteBehindRegistry(WriteBehindRegistry writeBehindRegistry) {
+        this.writeBehindRegistry = writeBehindRegistry;
+    }
+
     @Override
-    @SuppressWarnings("unchecked")
     public GenericCrudController<T, ID> getObject() throws Exception {
+        GenericCrudController<T, ID> controller = createController();
+        controller.setReadCoalescer(readCoalescer);
+        controller.setWriteBehindRegistry(writeBehindRegistry);
+        return controller;
+    }
+
+    private GenericCrudController<T, ID> createController() {
         DtoMapper<T, ID> dtoMapper = dtoMapperFactory.getMapper(entityClass, metadata);
 
         boolean hasSecurity = metadata.securedApiConfig() != null || 
@@ -0,0 +1,52 @@
+package io.springflow.core.dto;
+
+import java.util.Locale;
+
+/**
+ * An aggregate function applied to a field, parsed from expressions such as {@code count},
+ * {@code count:id} or {@code sum:amount}.
+ */
+public record Aggregation(
+    Function function,
+    String field // null for count(*)
+) {
+    public enum Function {
+        COUNT, SUM, AVG, MIN, MAX
+    }
+
+    /**
+     * Parses an aggregate expression of the form {@code function[:field]}.
+     *
+     * @param expression the expression, e.g. {@code sum:amount}
+     * @return the aggregation
+     * @throws IllegalArgumentException if the function is unknown or a field is missing
+     */
+    public static Aggregation parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Aggregate function is required");
+        }
+        String[] parts = expression.trim().split(":", 2);
+        Function function;
+        try {
+            function = Function.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown aggregate function: " + parts[0]);
+        }
+        String field = parts.length > 1 && !parts[1].isBlank() ? parts[1].trim() : null;
+        if (field == null && function != Function.COUNT) {
+            throw new IllegalArgumentException("Aggregate function " + parts[0] + " requires a field, e.g. "
+                    + parts[0] + ":amount");
+        }
+        return new Aggregation(function, field);
+    }
+
+    /**
+     * Name of this aggregation in result rows, e.g. {@code count} or {@code sum_amount}.
+     *
+     * @return the result alias
+     */
+    public String alias() {
+        String name = function.name().toLowerCase(Locale.ROOT);
+        return field == null ? name : name + "_" + field;
+    }
+}
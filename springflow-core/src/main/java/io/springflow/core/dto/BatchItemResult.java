@@ -0,0 +1,63 @@
+package io.springflow.core.dto;
+
+import io.springflow.core.exception.EntityNotFoundException;
+import io.springflow.core.exception.ValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of one item of a batch request.
+ *
+ * @param index       the position of the item in the request
+ * @param id          the entity ID, when known
+ * @param status      the outcome
+ * @param error       the error message, or null on success
+ * @param fieldErrors the validation errors by field, or null
+ */
+public record BatchItemResult(
+    int index,
+    Object id,
+    Status status,
+    String error,
+    Map<String, String> fieldErrors
+) {
+
+    /**
+     * Outcome of a batch item.
+     */
+    public enum Status {
+        CREATED,
+        UPDATED,
+        DELETED,
+        INVALID,
+        NOT_FOUND
+    }
+
+    public static BatchItemResult success(int index, Object id, Status status) {
+        return new BatchItemResult(index, id, status, null, null);
+    }
+
+    /**
+     * Describes a failed item: {@link Status#NOT_FOUND} for a missing entity, {@link Status#INVALID}
+     * otherwise, with the field errors of a {@link ValidationException} or of Bean Validation
+     * constraint violations.
+     */
+    public static BatchItemResult failure(int index, Object id, RuntimeException e) {
+        if (e instanceof EntityNotFoundException) {
+            return new BatchItemResult(index, id, Status.NOT_FOUND, e.getMessage(), null);
+        }
+        Map<String, String> fieldErrors = null;
+        if (e instanceof ValidationException validation && !validation.getFieldErrors().isEmpty()) {
+            fieldErrors = validation.getFieldErrors();
+        } else if (e instanceof ConstraintViolationException violations && violations.getConstraintViolations() != null) {
+            fieldErrors = new LinkedHashMap<>();
+            for (ConstraintViolation<?> violation : violations.getConstraintViolations()) {
+                fieldErrors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+            }
+        }
+        return new BatchItemResult(index, id, Status.INVALID, e.getMessage(), fieldErrors);
+    }
+}
@@ -0,0 +1,31 @@
+package io.springflow.core.dto;
+
+import java.util.List;
+
+/**
+ * Response of a batch request.
+ * <p>
+ * On success, {@code items} holds one result per item, in request order. When any item fails,
+ * nothing is written and {@code items} holds the failed items only.
+ * </p>
+ *
+ * @param total     the number of items in the request
+ * @param succeeded the number of items written
+ * @param failed    the number of failed items
+ * @param items     the item results
+ */
+public record BatchResponse(
+    int total,
+    int succeeded,
+    int failed,
+    List<BatchItemResult> items
+) {
+
+    public static BatchResponse succeeded(List<BatchItemResult> items) {
+        return new BatchResponse(items.size(), items.size(), 0, items);
+    }
+
+    public static BatchResponse failed(int total, List<BatchItemResult> failures) {
+        return new BatchResponse(total, 0, failures.size(), failures);
+    }
+}
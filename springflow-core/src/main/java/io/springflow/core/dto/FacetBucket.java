@@ -0,0 +1,11 @@
+package io.springflow.core.dto;
+
+/**
+ * Number of entities whose facet field falls into {@code [from, to)}.
+ * A null bound means the bucket is open on that side.
+ */
+public record FacetBucket(
+    Object from,
+    Object to,
+    long count
+) {}
@@ -0,0 +1,9 @@
+package io.springflow.core.dto;
+
+/**
+ * Number of entities having a given value for a facet field.
+ */
+public record FacetValue(
+    Object value,
+    long count
+) {}
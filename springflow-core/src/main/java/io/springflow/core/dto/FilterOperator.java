@@ -8,6 +8,9 @@ public enum FilterOperator {
     LESS_THAN,
     LESS_THAN_OR_EQUAL,
     LIKE,
+    STARTS_WITH,
+    ENDS_WITH,
+    ILIKE,
     IN,
     IS_NULL,
     IS_NOT_NULL
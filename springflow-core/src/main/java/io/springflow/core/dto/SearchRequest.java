@@ -4,8 +4,14 @@ import java.util.List;
 
 public record SearchRequest(
     List<FilterCriteria> criteria,
-    LogicalOperator operator // AND/OR
+    LogicalOperator operator, // AND/OR
+    List<SearchRequest> groups, // nested groups, combined with the criteria using the same operator
+    boolean not // negates the whole group
 ) {
+    public SearchRequest(List<FilterCriteria> criteria, LogicalOperator operator) {
+        this(criteria, operator, null, false);
+    }
+
     public enum LogicalOperator {
         AND, OR
     }
@@ -0,0 +1,29 @@
+package io.springflow.core.exception;
+
+import io.springflow.core.dto.BatchItemResult;
+
+import java.util.List;
+
+/**
+ * Exception thrown when items of a batch request fail. The batch runs in one transaction,
+ * so none of its items is written.
+ */
+public class BatchOperationException extends RuntimeException {
+
+    private final int total;
+    private final List<BatchItemResult> failures;
+
+    public BatchOperationException(int total, List<BatchItemResult> failures) {
+        super(String.format("Batch rejected: %d of %d items failed", failures.size(), total));
+        this.total = total;
+        this.failures = List.copyOf(failures);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public List<BatchItemResult> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,26 @@
+package io.springflow.core.exception;
+
+/**
+ * Exception thrown when an operation of an entity is at its concurrency limit. The request is
+ * rejected at once rather than queued.
+ */
+public class ConcurrencyLimitExceededException extends ServiceOverloadedException {
+
+    private final String entityName;
+    private final String operation;
+
+    public ConcurrencyLimitExceededException(String entityName, String operation, int limit) {
+        super(String.format("Too many concurrent %s requests on %s, at most %d are served at once",
+                operation, entityName, limit), 1);
+        this.entityName = entityName;
+        this.operation = operation;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+}
@@ -0,0 +1,46 @@
+package io.springflow.core.exception;
+
+/**
+ * Exception thrown when a conditional write ({@code If-Match}) targets a version of an entity
+ * that is no longer current.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    private final Class<?> entityClass;
+    private final Object id;
+    private final Object expectedVersion;
+    private final Object currentVersion;
+
+    public PreconditionFailedException(Class<?> entityClass, Object id, Object expectedVersion, Object currentVersion) {
+        super(String.format("Entity %s with id %s is at version %s, not %s",
+                entityClass.getSimpleName(), id, currentVersion, expectedVersion));
+        this.entityClass = entityClass;
+        this.id = id;
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+    }
+
+    public PreconditionFailedException(String message) {
+        super(message);
+        this.entityClass = null;
+        this.id = null;
+        this.expectedVersion = null;
+        this.currentVersion = null;
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public Object getId() {
+        return id;
+    }
+
+    public Object getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public Object getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -0,0 +1,22 @@
+package io.springflow.core.exception;
+
+/**
+ * Exception thrown when a request cannot be served because the generated endpoints are at
+ * their concurrency limit.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Returns the number of seconds after which the client may retry.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,118 @@
+package io.springflow.core.execution;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Adaptive concurrency limit of one operation, adjusted by additive increase and
+ * multiplicative decrease (AIMD) of the observed latency.
+ * <p>
+ * A call completing under the latency threshold while the limit is in use raises the limit by
+ * {@code 1 / limit}, so by about one per round of calls; a slower call multiplies it by the
+ * backoff ratio, once per generation of calls: the slow calls that were already running at
+ * the last backoff do not back off again, so a burst of slow responses to one latency spike
+ * shrinks the limit once, not once per response. The limit stays between the minimum and
+ * maximum limits. Calls beyond the limit
+ * are rejected at once rather than queued, so a slow operation only holds its own share of the
+ * connection pool.
+ * </p>
+ * <p>
+ * The limiter is lock-free: waiting is never involved, and the state is updated with atomic
+ * compare-and-set operations.
+ * </p>
+ */
+public class AimdLimiter {
+
+    private final ConcurrencyLimits limits;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final LongAdder rejected = new LongAdder();
+    private final LongSupplier nanoClock;
+    private final AtomicLong lastBackoffNanos;
+
+    public AimdLimiter(ConcurrencyLimits limits) {
+        this(limits, System::nanoTime);
+    }
+
+    AimdLimiter(ConcurrencyLimits limits, LongSupplier nanoClock) {
+        this.limits = limits;
+        this.nanoClock = nanoClock;
+        // No backoff yet: far enough in the past for any call to back off
+        this.lastBackoffNanos = new AtomicLong(nanoClock.getAsLong() - Long.MAX_VALUE / 2);
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(limits.latencyThresholdMs());
+        double initial = Math.clamp(limits.initialLimit(), Math.max(1, limits.minLimit()), Math.max(1, limits.maxLimit()));
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(initial));
+    }
+
+    /**
+     * Takes a slot if the limit allows it. Each successful call must be followed by
+     * {@link #release(long)}.
+     *
+     * @return true if the call may proceed, false if it must be rejected
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees a slot and adjusts the limit to the latency of the call.
+     *
+     * @param latencyNanos the duration of the call
+     */
+    public void release(long latencyNanos) {
+        int wasInFlight = inFlight.getAndDecrement();
+        if (latencyNanos > latencyThresholdNanos) {
+            long now = nanoClock.getAsLong();
+            long lastBackoff = lastBackoffNanos.get();
+            // A call started before the last backoff belongs to the generation already backed off
+            if (now - latencyNanos - lastBackoff < 0 || !lastBackoffNanos.compareAndSet(lastBackoff, now)) {
+                return;
+            }
+            limitBits.getAndUpdate(bits -> Double.doubleToLongBits(
+                    Math.max(Math.max(1, limits.minLimit()), Double.longBitsToDouble(bits) * limits.backoffRatio())));
+        } else {
+            limitBits.getAndUpdate(bits -> {
+                double limit = Double.longBitsToDouble(bits);
+                // Only grow a limit that is actually used, or it would grow without bound when idle
+                if (wasInFlight * 2 < limit) {
+                    return bits;
+                }
+                return Double.doubleToLongBits(Math.min(limits.maxLimit(), limit + 1 / limit));
+            });
+        }
+    }
+
+    /**
+     * Returns the number of concurrent calls currently allowed.
+     */
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    /**
+     * Returns the number of calls running.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns the number of calls rejected because the limit was reached.
+     */
+    public long rejectedCalls() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,68 @@
+package io.springflow.core.execution;
+
+import io.springflow.core.controller.GenericCrudController;
+import io.springflow.core.exception.ConcurrencyLimitExceededException;
+import io.springflow.core.metadata.EntityMetadata;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Applies the adaptive concurrency limit of each entity operation to the handlers of the
+ * generated controllers.
+ * <p>
+ * A request beyond the limit is rejected with a {@link ConcurrencyLimitExceededException}
+ * (429) before the handler runs, so before the service opens its transaction. The latency of
+ * the admitted requests, up to their completion, adjusts the limit.
+ * </p>
+ */
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ACQUIRED = ConcurrencyLimitInterceptor.class.getName() + ".ACQUIRED";
+
+    private final ConcurrencyLimiterRegistry registry;
+
+    public ConcurrencyLimitInterceptor(ConcurrencyLimiterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !(handlerMethod.getBean() instanceof GenericCrudController<?, ?> controller)) {
+            return true;
+        }
+        EntityMetadata metadata = controller.getMetadata();
+        String operation = handlerMethod.getMethod().getName();
+        AimdLimiter limiter = registry.limiterFor(metadata, operation);
+        if (limiter == null) {
+            return true;
+        }
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(metadata.entityName(), operation, limiter.getLimit());
+        }
+        request.setAttribute(ACQUIRED, new Acquired(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(ACQUIRED) instanceof Acquired acquired) {
+            request.removeAttribute(ACQUIRED);
+            acquired.limiter().release(System.nanoTime() - acquired.startNanos());
+        }
+    }
+
+    private record Acquired(AimdLimiter limiter, long startNanos) {
+    }
+}
@@ -0,0 +1,91 @@
+package io.springflow.core.execution;
+
+import io.springflow.core.controller.GenericCrudController;
+import io.springflow.core.metadata.EntityMetadata;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds one {@link AimdLimiter} per entity operation, such as {@code Product.findAll}.
+ * <p>
+ * Each operation is limited on its own, so a slow export or search only rejects its own
+ * requests, while the other endpoints of the entity and of other entities keep their share
+ * of the connection pool.
+ * </p>
+ * <p>
+ * The bounds of every generated controller are resolved once the context has started, so that
+ * an invalid {@code @AutoApi(concurrency = ...)} fails the startup rather than each request of
+ * its entity.
+ * </p>
+ */
+public class ConcurrencyLimiterRegistry implements ApplicationContextAware, SmartInitializingSingleton {
+
+    private final ConcurrencyLimits defaults;
+    private final ConcurrentMap<String, ConcurrencyLimits> entityLimits = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AimdLimiter> limiters = new ConcurrentHashMap<>();
+    private ApplicationContext applicationContext;
+
+    /**
+     * @param defaults the global bounds, overridden per entity by {@code @AutoApi(concurrency = ...)}
+     */
+    public ConcurrencyLimiterRegistry(ConcurrencyLimits defaults) {
+        this.defaults = defaults;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (applicationContext == null) {
+            return;
+        }
+        for (GenericCrudController<?, ?> controller : applicationContext.getBeansOfType(GenericCrudController.class).values()) {
+            limitsFor(controller.getMetadata());
+        }
+    }
+
+    /**
+     * Returns the limiter of an entity operation.
+     *
+     * @param metadata  the entity metadata
+     * @param operation the operation, such as {@code findAll}
+     * @return the limiter, or null if limiting is disabled for the entity
+     */
+    public AimdLimiter limiterFor(EntityMetadata metadata, String operation) {
+        ConcurrencyLimits limits = limitsFor(metadata);
+        if (!limits.isEnabled()) {
+            return null;
+        }
+        return limiters.computeIfAbsent(metadata.entityName() + "." + operation, key -> new AimdLimiter(limits));
+    }
+
+    /**
+     * Resolves the bounds of an entity.
+     *
+     * @throws IllegalStateException if its {@code @AutoApi(concurrency = ...)} is inconsistent
+     */
+    private ConcurrencyLimits limitsFor(EntityMetadata metadata) {
+        return entityLimits.computeIfAbsent(metadata.entityName(), name -> {
+            try {
+                return defaults.forEntity(metadata);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid @ConcurrencyLimit on " + name + ": " + e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Returns the limiters created so far, by {@code Entity.operation} key.
+     */
+    public Map<String, AimdLimiter> getLimiters() {
+        return Map.copyOf(limiters);
+    }
+}
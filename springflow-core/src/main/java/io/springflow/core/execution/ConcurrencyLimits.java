@@ -0,0 +1,60 @@
+package io.springflow.core.execution;
+
+import io.springflow.annotations.AutoApi;
+import io.springflow.annotations.ConcurrencyLimit;
+import io.springflow.core.metadata.EntityMetadata;
+
+/**
+ * Bounds of the adaptive concurrency limit of an operation.
+ * <p>
+ * The global bounds come from configuration; {@link #forEntity(EntityMetadata)} applies the
+ * overrides declared with {@link AutoApi#concurrency()}, where {@code -1} keeps the global
+ * value. A {@code maxLimit} of {@code 0} (or less) disables limiting.
+ * </p>
+ *
+ * @param initialLimit       concurrent calls allowed before any latency is observed
+ * @param minLimit           lowest value the limit shrinks to
+ * @param maxLimit           highest value the limit grows to
+ * @param latencyThresholdMs latency above which a call shrinks the limit
+ * @param backoffRatio       factor applied to the limit when a call is too slow
+ */
+public record ConcurrencyLimits(int initialLimit, int minLimit, int maxLimit, long latencyThresholdMs,
+                                double backoffRatio) {
+
+    public ConcurrencyLimits {
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1: " + backoffRatio);
+        }
+        if (maxLimit > 0 && minLimit > maxLimit) {
+            throw new IllegalArgumentException("minLimit " + minLimit + " is greater than maxLimit " + maxLimit);
+        }
+    }
+
+    /**
+     * Returns the bounds of an entity: these bounds overridden by its {@code @AutoApi(concurrency = ...)}.
+     *
+     * @param metadata the entity metadata, may be null
+     * @return the effective bounds
+     */
+    public ConcurrencyLimits forEntity(EntityMetadata metadata) {
+        AutoApi autoApi = metadata == null ? null : metadata.autoApiConfig();
+        ConcurrencyLimit limit = autoApi == null ? null : autoApi.concurrency();
+        if (limit == null) {
+            return this;
+        }
+        return new ConcurrencyLimits(
+                override(initialLimit, limit.initialLimit()),
+                override(minLimit, limit.minLimit()),
+                override(maxLimit, limit.maxLimit()),
+                limit.latencyThresholdMs() < 0 ? latencyThresholdMs : limit.latencyThresholdMs(),
+                backoffRatio);
+    }
+
+    public boolean isEnabled() {
+        return maxLimit > 0;
+    }
+
+    private static int override(int global, int entity) {
+        return entity < 0 ? global : entity;
+    }
+}
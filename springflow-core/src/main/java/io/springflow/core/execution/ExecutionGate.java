@@ -0,0 +1,105 @@
+package io.springflow.core.execution;
+
+import io.springflow.core.exception.ServiceOverloadedException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of concurrent calls to the generated endpoints.
+ * <p>
+ * On virtual threads, requests are no longer limited by the size of the server thread pool:
+ * thousands of them can reach the service at once and queue on the connection pool, where they
+ * fail after its connection timeout. The gate, sized to the connection pool, makes them wait
+ * in order on a fair semaphore instead, before any transaction is opened, and rejects them with
+ * a {@link ServiceOverloadedException} (503) when no slot frees up in time.
+ * </p>
+ * <p>
+ * The gate does not block while holding a monitor, so waiting virtual threads never pin their
+ * carrier thread.
+ * </p>
+ */
+public class ExecutionGate {
+
+    private final Semaphore permits;
+    private final int maxConcurrentCalls;
+    private final long acquireTimeoutNanos;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param maxConcurrentCalls the maximum number of concurrent calls
+     * @param acquireTimeout     how long a call waits for a free slot
+     */
+    public ExecutionGate(int maxConcurrentCalls, Duration acquireTimeout) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be positive: " + maxConcurrentCalls);
+        }
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    /**
+     * Waits for a free slot. Each successful call must be followed by {@link #release()}.
+     *
+     * @throws ServiceOverloadedException if no slot frees up within the acquire timeout, or if
+     *                                    the thread is interrupted while waiting
+     */
+    public void acquire() {
+        try {
+            if (permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        throw new ServiceOverloadedException(
+                "Too many concurrent requests, at most " + maxConcurrentCalls + " are served at once",
+                Math.max(1, TimeUnit.NANOSECONDS.toSeconds(acquireTimeoutNanos)));
+    }
+
+    /**
+     * Frees the slot taken by {@link #acquire()}.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * Runs a call once a slot is free.
+     *
+     * @param call the call
+     * @param <R>  the result type
+     * @return the result of the call
+     */
+    public <R> R execute(Supplier<R> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            release();
+        }
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    /**
+     * Returns the number of calls running.
+     */
+    public int activeCalls() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of calls rejected because no slot freed up in time.
+     */
+    public long rejectedCalls() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,51 @@
+package io.springflow.core.execution;
+
+import io.springflow.core.controller.GenericCrudController;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Runs the handlers of the generated controllers through an {@link ExecutionGate}.
+ * <p>
+ * The slot is taken before the handler runs, so before the service opens its transaction, and
+ * freed once the request completes. Other handlers of the application are not limited.
+ * </p>
+ */
+public class ExecutionGateInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ACQUIRED = ExecutionGateInterceptor.class.getName() + ".ACQUIRED";
+
+    private final ExecutionGate gate;
+
+    public ExecutionGateInterceptor(ExecutionGate gate) {
+        this.gate = gate;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && handlerMethod.getBean() instanceof GenericCrudController<?, ?>) {
+            gate.acquire();
+            request.setAttribute(ACQUIRED, Boolean.TRUE);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(ACQUIRED) != null) {
+            request.removeAttribute(ACQUIRED);
+            gate.release();
+        }
+    }
+}
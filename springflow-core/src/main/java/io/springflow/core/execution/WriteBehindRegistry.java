@@ -0,0 +1,130 @@
+package io.springflow.core.execution;
+
+import io.springflow.core.metadata.EntityMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * Holds the {@link WriteBehindWriter} of each entity created in write-behind mode, and flushes
+ * them on shutdown.
+ * <p>
+ * Writers are started on the first create of their entity. The registry stops in a late
+ * lifecycle phase, after the web server has stopped accepting requests but before the
+ * {@code DataSource} is closed, and waits for every queue to be written.
+ * </p>
+ */
+public class WriteBehindRegistry implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindRegistry.class);
+
+    /**
+     * Stops after the web server (graceful shutdown runs at {@code DEFAULT_PHASE - 1024}, the
+     * server itself stops at {@code DEFAULT_PHASE - 2048}).
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final WriteBehindSettings defaults;
+    private final Duration shutdownTimeout;
+    private final int maxBatchItems;
+    private final ConcurrentMap<String, WriteBehindSettings> entitySettings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, WriteBehindWriter<?>> writers = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    /**
+     * @param defaults        the global settings, overridden per entity by {@code @AutoApi(writeBehind = ...)}
+     * @param shutdownTimeout how long shutdown waits for each queue to be written
+     */
+    public WriteBehindRegistry(WriteBehindSettings defaults, Duration shutdownTimeout) {
+        this(defaults, shutdownTimeout, 0);
+    }
+
+    /**
+     * @param defaults        the global settings, overridden per entity by {@code @AutoApi(writeBehind = ...)}
+     * @param shutdownTimeout how long shutdown waits for each queue to be written
+     * @param maxBatchItems   the most entities a batch write accepts ({@code springflow.batch.max-items}),
+     *                        to which batch sizes are clamped; {@code 0} for no maximum
+     */
+    public WriteBehindRegistry(WriteBehindSettings defaults, Duration shutdownTimeout, int maxBatchItems) {
+        this.defaults = defaults;
+        this.shutdownTimeout = shutdownTimeout;
+        this.maxBatchItems = maxBatchItems;
+    }
+
+    /**
+     * Returns the writer of an entity, starting it on first use.
+     *
+     * @param metadata the entity metadata
+     * @param write    inserts a batch of entities in one transaction
+     * @param <T>      the entity type
+     * @return the writer, or null if write-behind is not enabled for the entity
+     */
+    @SuppressWarnings("unchecked")
+    public <T> WriteBehindWriter<T> writerFor(EntityMetadata metadata, Consumer<List<T>> write) {
+        WriteBehindSettings settings = entitySettings.computeIfAbsent(metadata.entityName(), name -> {
+            WriteBehindSettings entity = defaults.forEntity(metadata);
+            WriteBehindSettings clamped = entity.limitBatchSize(maxBatchItems);
+            if (clamped != entity) {
+                log.warn("Write-behind batch size of {} lowered from {} to springflow.batch.max-items ({})",
+                        name, entity.batchSize(), maxBatchItems);
+            }
+            return clamped;
+        });
+        if (!settings.enabled()) {
+            return null;
+        }
+        return (WriteBehindWriter<T>) writers.computeIfAbsent(metadata.entityName(), name -> {
+            WriteBehindWriter<T> writer = new WriteBehindWriter<>(name, settings, write);
+            writer.start();
+            return writer;
+        });
+    }
+
+    /**
+     * Returns the outcome of a write-behind ticket of an entity.
+     *
+     * @param metadata the entity metadata
+     * @param ticket   the ticket returned on create
+     * @return the outcome, or empty if the entity has no writer or the ticket is unknown
+     */
+    public Optional<WriteBehindWriter.TicketOutcome> outcome(EntityMetadata metadata, String ticket) {
+        WriteBehindWriter<?> writer = writers.get(metadata.entityName());
+        return writer == null ? Optional.empty() : writer.outcome(ticket);
+    }
+
+    /**
+     * Returns the writers started so far, by entity name.
+     */
+    public Map<String, WriteBehindWriter<?>> getWriters() {
+        return Map.copyOf(writers);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        writers.values().forEach(writer -> writer.stop(shutdownTimeout));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,64 @@
+package io.springflow.core.execution;
+
+import io.springflow.annotations.AutoApi;
+import io.springflow.annotations.WriteBehind;
+import io.springflow.core.metadata.EntityMetadata;
+
+/**
+ * Settings of the write-behind create mode of an entity.
+ * <p>
+ * The global values come from configuration, with write-behind disabled;
+ * {@link #forEntity(EntityMetadata)} applies {@link AutoApi#writeBehind()}, which enables it,
+ * and where {@code -1} keeps the global value.
+ * </p>
+ *
+ * @param enabled        whether creates are queued
+ * @param queueCapacity  maximum number of entities waiting to be written
+ * @param batchSize      maximum number of entities inserted in one transaction
+ * @param maxDelayMs     how long the writer waits for a batch to fill up
+ * @param offerTimeoutMs how long a request waits for room in a full queue
+ */
+public record WriteBehindSettings(boolean enabled, int queueCapacity, int batchSize, long maxDelayMs,
+                                  long offerTimeoutMs) {
+
+    public WriteBehindSettings {
+        if (queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("queueCapacity and batchSize must be positive: "
+                    + queueCapacity + ", " + batchSize);
+        }
+    }
+
+    /**
+     * Returns the settings of an entity: these settings overridden by its {@code @AutoApi(writeBehind = ...)}.
+     *
+     * @param metadata the entity metadata, may be null
+     * @return the effective settings
+     */
+    public WriteBehindSettings forEntity(EntityMetadata metadata) {
+        AutoApi autoApi = metadata == null ? null : metadata.autoApiConfig();
+        WriteBehind writeBehind = autoApi == null ? null : autoApi.writeBehind();
+        if (writeBehind == null) {
+            return this;
+        }
+        return new WriteBehindSettings(
+                writeBehind.enabled(),
+                writeBehind.queueCapacity() < 0 ? queueCapacity : writeBehind.queueCapacity(),
+                writeBehind.batchSize() < 0 ? batchSize : writeBehind.batchSize(),
+                writeBehind.maxDelayMs() < 0 ? maxDelayMs : writeBehind.maxDelayMs(),
+                writeBehind.offerTimeoutMs() < 0 ? offerTimeoutMs : writeBehind.offerTimeoutMs());
+    }
+
+    /**
+     * Returns these settings with a batch size of at most {@code maxItems}, the number of entities
+     * a batch write accepts; a larger batch would always fail and fall back to single writes.
+     *
+     * @param maxItems the maximum number of items per batch, or {@code 0} (or less) for no maximum
+     * @return the settings with the clamped batch size
+     */
+    public WriteBehindSettings limitBatchSize(int maxItems) {
+        if (maxItems <= 0 || batchSize <= maxItems) {
+            return this;
+        }
+        return new WriteBehindSettings(enabled, queueCapacity, maxItems, maxDelayMs, offerTimeoutMs);
+    }
+}
@@ -0,0 +1,382 @@
+package io.springflow.core.execution;
+
+import io.springflow.core.exception.ServiceOverloadedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Queues the entities created through the write-behind endpoint of an entity and inserts them
+ * in batches from a background thread.
+ * <p>
+ * Requests only wait for room in the bounded queue (backpressure); once it stays full for the
+ * offer timeout they are rejected with a {@link ServiceOverloadedException} (503). The writer
+ * takes up to {@code batchSize} entities, waiting at most {@code maxDelayMs} for a batch to
+ * fill up, and writes them in one call, so one transaction and JDBC batch. If a batch fails,
+ * its entities are recreated, validated again and written one by one, so that a single invalid
+ * row does not drop the others.
+ * </p>
+ * <p>
+ * The client has already been answered when an entity is written: an entity that still fails,
+ * or is left in the queue when shutdown times out, is dropped. Its ticket then reports
+ * {@link TicketStatus#FAILED} with one of the error codes below, it is counted in
+ * {@link #failedEntities()} and its cause is logged; the cause itself, which may hold SQL or
+ * constraint names, is never returned to the client. The outcomes of the last tickets, twice the queue capacity, can be read with
+ * {@link #outcome(String)}.
+ * </p>
+ * <p>
+ * Entities are written as the user who created them, so that auditing records the right
+ * user: consecutive entities of the same user share a batch.
+ * </p>
+ *
+ * @param <T> the entity type
+ */
+public class WriteBehindWriter<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindWriter.class);
+
+    private static final boolean SECURITY_PRESENT = ClassUtils.isPresent(
+            "org.springframework.security.core.context.SecurityContextHolder", WriteBehindWriter.class.getClassLoader());
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    /** Error of a ticket whose entity, recreated for the retry, no longer passes validation. */
+    public static final String ERROR_INVALID = "INVALID";
+
+    /** Error of a ticket whose entity could not be inserted, even on its own. */
+    public static final String ERROR_WRITE_FAILED = "WRITE_FAILED";
+
+    /** Error of a ticket whose entity was still queued when shutdown timed out. */
+    public static final String ERROR_SHUTDOWN = "SHUTDOWN";
+
+    private final String entityName;
+    private final WriteBehindSettings settings;
+    private final Consumer<List<T>> writer;
+    private final BlockingQueue<Pending<T>> queue;
+    private final Thread thread;
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Map<String, TicketOutcome> outcomes;
+    // Held for reading while an entity is queued, for writing while stop() closes the queue
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private volatile boolean accepting = true;
+
+    /**
+     * @param entityName the entity name, used in messages and the thread name
+     * @param settings   the queue and batch settings
+     * @param writer     inserts a batch of entities in one transaction
+     */
+    public WriteBehindWriter(String entityName, WriteBehindSettings settings, Consumer<List<T>> writer) {
+        this.entityName = entityName;
+        this.settings = settings;
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(settings.queueCapacity());
+        int maxOutcomes = settings.queueCapacity() * 2;
+        this.outcomes = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TicketOutcome> eldest) {
+                return size() > maxOutcomes;
+            }
+        };
+        this.thread = Thread.ofPlatform()
+                .name("springflow-write-behind-" + entityName)
+                .daemon()
+                .unstarted(this::run);
+    }
+
+    /**
+     * Starts the background writer.
+     */
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Queues a validated entity.
+     *
+     * @param entity   the entity to insert
+     * @param recreate recreates and validates the entity from the request, if the batch it was
+     *                 written in fails
+     * @return the ticket of the entity, whose outcome {@link #outcome(String)} reports
+     * @throws ServiceOverloadedException if the queue stays full for the offer timeout, or the
+     *                                    application is shutting down
+     */
+    public String enqueue(T entity, Supplier<T> recreate) {
+        Pending<T> pending = new Pending<>(UUID.randomUUID().toString(), entity, recreate,
+                SECURITY_PRESENT ? CallerContext.capture() : null);
+        boolean queued;
+        acceptLock.readLock().lock();
+        try {
+            // Checked under the lock: once stop() has closed the queue, nothing more is added
+            if (!accepting) {
+                throw new ServiceOverloadedException("The " + entityName + " write-behind queue is shut down", 1);
+            }
+            record(pending.ticket(), TicketStatus.QUEUED, null);
+            queued = queue.offer(pending, settings.offerTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+        if (!queued) {
+            forget(pending.ticket());
+            throw new ServiceOverloadedException("The " + entityName + " write-behind queue is full ("
+                    + settings.queueCapacity() + " entities)", 1);
+        }
+        accepted.increment();
+        return pending.ticket();
+    }
+
+    /**
+     * Returns the outcome of a ticket.
+     *
+     * @param ticket the ticket returned by {@link #enqueue}
+     * @return the outcome, or empty if the ticket is unknown or too old to be kept
+     */
+    public Optional<TicketOutcome> outcome(String ticket) {
+        synchronized (outcomes) {
+            return Optional.ofNullable(outcomes.get(ticket));
+        }
+    }
+
+    /**
+     * Stops accepting entities and waits for the queued ones to be written.
+     *
+     * @param timeout how long to wait for the queue to drain
+     */
+    public void stop(Duration timeout) {
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        try {
+            thread.join(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            // The writer may still take entities: leave them to it rather than race on the queue
+            log.warn("{} {} entities could not be written before shutdown", queue.size(), entityName);
+            return;
+        }
+        List<Pending<T>> unwritten = new ArrayList<>();
+        queue.drainTo(unwritten);
+        for (Pending<T> item : unwritten) {
+            fail(item, ERROR_SHUTDOWN);
+        }
+        if (!unwritten.isEmpty()) {
+            log.warn("{} {} entities could not be written before shutdown", unwritten.size(), entityName);
+        }
+    }
+
+    /**
+     * Returns the number of entities waiting to be written.
+     */
+    public int queued() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of entities accepted in the queue.
+     */
+    public long acceptedEntities() {
+        return accepted.sum();
+    }
+
+    /**
+     * Returns the number of entities written.
+     */
+    public long writtenEntities() {
+        return written.sum();
+    }
+
+    /**
+     * Returns the number of entities that could not be written.
+     */
+    public long failedEntities() {
+        return failed.sum();
+    }
+
+    private void run() {
+        List<Pending<T>> batch = new ArrayList<>(settings.batchSize());
+        while (accepting || !queue.isEmpty()) {
+            try {
+                fill(batch);
+            } catch (InterruptedException e) {
+                // Only stop() ends the writer, once the queue is drained; write what was taken
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void fill(List<Pending<T>> batch) throws InterruptedException {
+        Pending<T> first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.maxDelayMs());
+        while (batch.size() < settings.batchSize()) {
+            queue.drainTo(batch, settings.batchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= settings.batchSize() || remaining <= 0 || !accepting) {
+                return;
+            }
+            Pending<T> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<Pending<T>> batch) {
+        int start = 0;
+        for (int i = 1; i <= batch.size(); i++) {
+            if (i == batch.size() || !Objects.equals(batch.get(i).callerName(), batch.get(start).callerName())) {
+                List<Pending<T>> items = batch.subList(start, i);
+                Object caller = items.getFirst().caller();
+                if (caller != null) {
+                    CallerContext.runAs(caller, () -> writeItems(items, false));
+                } else {
+                    writeItems(items, false);
+                }
+                start = i;
+            }
+        }
+    }
+
+    private void writeItems(List<Pending<T>> items, boolean retry) {
+        List<T> entities = new ArrayList<>(items.size());
+        for (Pending<T> item : items) {
+            if (!retry) {
+                entities.add(item.entity());
+                continue;
+            }
+            try {
+                entities.add(item.recreate().get());
+            } catch (RuntimeException e) {
+                fail(item, ERROR_INVALID);
+                log.warn("Write-behind {} of ticket {} is no longer valid: {}", entityName, item.ticket(), e.getMessage());
+                return;
+            }
+        }
+        try {
+            writer.accept(entities);
+            written.add(items.size());
+            for (Pending<T> item : items) {
+                record(item.ticket(), TicketStatus.WRITTEN, null);
+            }
+        } catch (RuntimeException e) {
+            if (items.size() == 1) {
+                fail(items.getFirst(), ERROR_WRITE_FAILED);
+                log.error("Could not write {} of write-behind ticket {}", entityName, items.getFirst().ticket(), e);
+                return;
+            }
+            log.warn("Write-behind batch of {} {} failed, writing its entities one by one: {}",
+                    items.size(), entityName, e.getMessage());
+            for (Pending<T> item : items) {
+                writeItems(List.of(item), true);
+            }
+        }
+    }
+
+    private void fail(Pending<T> item, String error) {
+        failed.increment();
+        record(item.ticket(), TicketStatus.FAILED, error);
+    }
+
+    private void record(String ticket, TicketStatus status, String error) {
+        synchronized (outcomes) {
+            outcomes.put(ticket, new TicketOutcome(ticket, status, error));
+        }
+    }
+
+    private void forget(String ticket) {
+        synchronized (outcomes) {
+            outcomes.remove(ticket);
+        }
+    }
+
+    /**
+     * Where the entity of a ticket stands.
+     */
+    public enum TicketStatus {
+        /** Waiting in the queue, or being written. */
+        QUEUED,
+        /** Inserted and committed. */
+        WRITTEN,
+        /** Dropped: it could not be written, even on its own. */
+        FAILED
+    }
+
+    /**
+     * The outcome of a ticket.
+     *
+     * @param ticket the ticket
+     * @param status where the entity stands
+     * @param error  the error code of a failed ticket ({@link #ERROR_INVALID}, {@link #ERROR_WRITE_FAILED}
+     *               or {@link #ERROR_SHUTDOWN}), or null
+     */
+    public record TicketOutcome(String ticket, TicketStatus status, String error) {
+    }
+
+    private record Pending<T>(String ticket, T entity, Supplier<T> recreate, Object caller) {
+
+        String callerName() {
+            return caller == null ? null : CallerContext.name(caller);
+        }
+    }
+
+    /**
+     * Access to Spring Security, only loaded when it is on the classpath.
+     */
+    private static final class CallerContext {
+
+        static Object capture() {
+            return SecurityContextHolder.getContext().getAuthentication();
+        }
+
+        static String name(Object caller) {
+            return ((Authentication) caller).getName();
+        }
+
+        static void runAs(Object caller, Runnable action) {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication((Authentication) caller);
+            SecurityContextHolder.setContext(context);
+            try {
+                action.run();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+    }
+}
@@ -2,13 +2,20 @@ package io.springflow.core.filter;
 
 import io.springflow.annotations.FilterType;
 import io.springflow.annotations.Filterable;
+import io.springflow.core.index.QueryUsageRecorder;
 import io.springflow.core.metadata.EntityMetadata;
 import io.springflow.core.metadata.FieldMetadata;
-import io.springflow.core.metadata.RelationMetadata;
+import io.springflow.core.metadata.MetadataResolver;
+import io.springflow.core.search.FullTextIndex;
+import io.springflow.core.search.FullTextIndexRegistry;
+import io.springflow.core.search.TextAnalyzer;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.jpa.domain.Specification;
@@ -16,8 +23,11 @@ import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Resolves dynamic filters from query parameters into JPA Specifications.
@@ -31,14 +41,61 @@ import java.util.Map;
  */
 public class FilterResolver {
 
+    /**
+     * Maximum number of relations a filter path may traverse, e.g. 2 for {@code order.customer.email}.
+     */
+    public static final int MAX_PATH_DEPTH = 3;
+
     private final ConversionService conversionService;
+    private final InListStrategy inListStrategy;
+    private FullTextIndexRegistry fullTextIndexRegistry;
+    private QueryLimits queryLimits = QueryLimits.UNLIMITED;
+    private QueryUsageRecorder usageRecorder;
+    private final MetadataResolver metadataResolver = new MetadataResolver();
+    private final Map<Class<?>, List<FieldMetadata>> relatedFields = new ConcurrentHashMap<>();
 
     public FilterResolver() {
         this(DefaultConversionService.getSharedInstance());
     }
 
     public FilterResolver(ConversionService conversionService) {
+        this(conversionService, InListStrategy.DEFAULT);
+    }
+
+    public FilterResolver(ConversionService conversionService, InListStrategy inListStrategy) {
         this.conversionService = conversionService;
+        this.inListStrategy = inListStrategy;
+    }
+
+    /**
+     * Sets the registry used to resolve {@link FilterType#FULL_TEXT} filters. Without it, or
+     * until an entity's index is built, full-text filters fall back to {@code LIKE}.
+     *
+     * @param fullTextIndexRegistry the shared registry
+     */
+    public void setFullTextIndexRegistry(FullTextIndexRegistry fullTextIndexRegistry) {
+        this.fullTextIndexRegistry = fullTextIndexRegistry;
+    }
+
+    /**
+     * Sets the global query limits. Each entity may override them with {@code @AutoApi(budget = ...)}.
+     * The filter count and {@code IN} sizes are checked when a specification is built; fetch joins
+     * beyond the limit are left to the loading done after the page query.
+     *
+     * @param queryLimits the global limits
+     */
+    public void setQueryLimits(QueryLimits queryLimits) {
+        this.queryLimits = queryLimits;
+    }
+
+    /**
+     * Sets the recorder that counts the filters applied per field and operator.
+     * Facet specifications, built once per facet, are not recorded.
+     *
+     * @param usageRecorder the usage recorder, or null to disable recording
+     */
+    public void setUsageRecorder(QueryUsageRecorder usageRecorder) {
+        this.usageRecorder = usageRecorder;
     }
 
     /**
@@ -63,52 +120,188 @@ public class FilterResolver {
      * @return a Specification that can be used with JpaSpecificationExecutor
      */
     public <T> Specification<T> buildSpecification(Map<String, String[]> params, EntityMetadata metadata, List<String> fetchFields) {
+        return buildSpecification(params, metadata, fetchFields, null, true);
+    }
+
+    /**
+     * Builds a JPA Specification holding only the filters, without fetch joins.
+     * <p>Used when the relations to load are given by a fetch profile's entity graph.</p>
+     *
+     * @param params   the query parameters map
+     * @param metadata the entity metadata
+     * @param <T>      the entity type
+     * @return a Specification that can be used with JpaSpecificationExecutor
+     */
+    public <T> Specification<T> buildFilterSpecification(Map<String, String[]> params, EntityMetadata metadata) {
+        return buildSpecification(params, metadata, null, null, false);
+    }
+
+    /**
+     * Builds a JPA Specification from query parameters, ignoring the filters of one field.
+     * <p>Used for facet counts, where a facet must not be narrowed by its own selection.</p>
+     *
+     * @param params        the query parameters map
+     * @param metadata      the entity metadata
+     * @param excludedField name of the field whose filters are ignored
+     * @param <T>           the entity type
+     * @return a Specification that can be used with JpaSpecificationExecutor
+     */
+    public <T> Specification<T> buildSpecificationExcluding(Map<String, String[]> params, EntityMetadata metadata, String excludedField) {
+        return buildSpecification(params, metadata, null, excludedField, true);
+    }
+
+    /**
+     * Builds a JPA Specification for a bulk {@code DELETE} or {@code UPDATE} statement.
+     * <p>
+     * Bulk statements cannot join, so relation path filters are rejected, and the specification
+     * never uses its {@code CriteriaQuery} argument, which may be null. At least one filter is
+     * required, so that a request without filters cannot affect every row; for the same reason,
+     * filters that would match every row are rejected rather than ignored: blank values,
+     * {@code LIKE} patterns made only of wildcards, {@code BETWEEN} without two bounds, blank
+     * {@code IN} values, and operators without a predicate of their own.
+     * </p>
+     *
+     * @param params   the query parameters map
+     * @param metadata the entity metadata
+     * @param <T>      the entity type
+     * @return a Specification holding only the filters on the entity's own fields
+     * @throws IllegalArgumentException if there is no filter, a filter crosses a relation or
+     *                                  would match every row
+     */
+    public <T> Specification<T> buildBulkSpecification(Map<String, String[]> params, EntityMetadata metadata) {
+        QueryLimits limits = queryLimits.forEntity(metadata);
+        List<PathFilter> pathFilters = resolvePathFilters(params, metadata, null);
+        if (!pathFilters.isEmpty()) {
+            throw new IllegalArgumentException("Filter path " + pathFilters.get(0).path()
+                    + " cannot be used in a bulk operation");
+        }
+        if (inspectFilters(params, metadata, pathFilters, limits, true) == 0) {
+            throw new IllegalArgumentException("A bulk operation requires at least one filter");
+        }
+        checkBulkFilters(params, metadata);
+        return toSpecification(params, metadata, null, null, false, pathFilters, limits);
+    }
+
+    private <T> Specification<T> buildSpecification(Map<String, String[]> params, EntityMetadata metadata,
+                                                    List<String> fetchFields, String excludedField, boolean fetch) {
+        QueryLimits limits = queryLimits.forEntity(metadata);
+        List<PathFilter> pathFilters = resolvePathFilters(params, metadata, excludedField);
+        // Reject oversized requests now, before the specification reaches the database
+        inspectFilters(params, metadata, pathFilters, limits, excludedField == null);
+        return toSpecification(params, metadata, fetchFields, excludedField, fetch, pathFilters, limits);
+    }
+
+    private <T> Specification<T> toSpecification(Map<String, String[]> params, EntityMetadata metadata,
+                                                 List<String> fetchFields, String excludedField, boolean fetch,
+                                                 List<PathFilter> pathFilters, QueryLimits limits) {
+        Map<String, List<Object>> fullTextIds = searchFullTextIndex(params, metadata, excludedField);
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            // Add fetch joins if not a count query
-            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
-                if (fetchFields != null && !fetchFields.isEmpty()) {
-                    for (String fetchField : fetchFields) {
-                        metadata.getFieldByName(fetchField)
-                                .filter(FieldMetadata::isRelation)
-                                .ifPresent(fm -> root.fetch(fm.name(), jakarta.persistence.criteria.JoinType.LEFT));
-                    }
-                    query.distinct(true);
-                } else {
-                    // Default: fetch all non-hidden single-value relations to avoid N+1
-                    // Collection relations (OneToMany, ManyToMany) are NOT fetched by default
-                    // to avoid MultipleBagFetchException.
-                    for (FieldMetadata fieldMetadata : metadata.fields()) {
-                        if (fieldMetadata.isRelation() && !fieldMetadata.hidden()) {
-                            RelationMetadata.RelationType type = fieldMetadata.relation().type();
-                            if (type == RelationMetadata.RelationType.MANY_TO_ONE || 
-                                type == RelationMetadata.RelationType.ONE_TO_ONE) {
-                                root.fetch(fieldMetadata.name(), jakarta.persistence.criteria.JoinType.LEFT);
-                            }
-                        }
-                    }
-                    query.distinct(true);
-                }
+            // Add fetch joins only when entities are selected (not for count or projection queries)
+            if (fetch && isEntityQuery(query, metadata)) {
+                addFetchJoins(root, query, metadata, fetchFields, limits);
             }
 
             for (FieldMetadata fieldMetadata : metadata.fields()) {
+                if (fieldMetadata.name().equals(excludedField)) {
+                    continue;
+                }
                 if (fieldMetadata.filterConfig() != null) {
                     log.trace("Field {} has filter config, processing predicates", fieldMetadata.name());
-                    predicates.addAll(buildPredicatesForField(root, cb, fieldMetadata, params));
+                    predicates.addAll(buildPredicatesForField(root, cb, fieldMetadata, params, fullTextIds));
                 } else {
                     log.trace("Field {} has NO filter config", fieldMetadata.name());
                 }
             }
+            for (PathFilter pathFilter : pathFilters) {
+                predicates.add(buildPathPredicate(root, query, cb, pathFilter));
+            }
 
             return predicates.isEmpty() ? cb.conjunction() : cb.and(predicates.toArray(new Predicate[0]));
         };
     }
 
-    private List<Predicate> buildPredicatesForField(Root<?> root, CriteriaBuilder cb, FieldMetadata fieldMetadata, Map<String, String[]> params) {
+    /**
+     * Fetch-joins the relations the mapper will output.
+     * <p>
+     * Without a field selection, only single-valued relations ({@code @ManyToOne}, {@code @OneToOne})
+     * are fetched. With a selection, at most one collection is fetched as well (several bags cannot
+     * be fetched together); the others are batch-loaded after the page query. Hidden and
+     * {@code @JsonIgnore} relations are never fetched. DISTINCT is applied only when a collection
+     * join can duplicate root rows. No more than {@link QueryLimits#maxFetchJoins()} relations are
+     * fetched; the others are loaded after the page query as well.
+     * </p>
+     */
+    private void addFetchJoins(Root<?> root, CriteriaQuery<?> query, EntityMetadata metadata, List<String> fetchFields,
+                               QueryLimits limits) {
+        boolean selection = fetchFields != null && !fetchFields.isEmpty();
+        boolean collectionFetched = false;
+        int fetched = 0;
+        for (FieldMetadata fieldMetadata : metadata.fields()) {
+            if (!fieldMetadata.isRelation() || !fieldMetadata.isOutput(fetchFields)) {
+                continue;
+            }
+            if (!limits.allowsFetchJoin(fetched)) {
+                log.debug("Fetch join budget of {} reached for {}, not fetching {}",
+                        limits.maxFetchJoins(), metadata.entityName(), fieldMetadata.name());
+                break;
+            }
+            if (fieldMetadata.isCollectionRelation()) {
+                if (!selection || collectionFetched) {
+                    continue;
+                }
+                collectionFetched = true;
+            }
+            root.fetch(fieldMetadata.name(), jakarta.persistence.criteria.JoinType.LEFT);
+            fetched++;
+        }
+        if (collectionFetched) {
+            query.distinct(true);
+        }
+    }
+
+    /**
+     * Checks whether fetching the given fields requires a join on a collection relation.
+     * <p>
+     * Collection fetch joins multiply the rows returned per entity, so the database cannot
+     * apply LIMIT/OFFSET on entities. Callers should page over IDs first and fetch the
+     * graph afterwards (see {@code GenericCrudService#findAllTwoPhase}).
+     * </p>
+     *
+     * @param metadata    the entity metadata
+     * @param fetchFields list of relation fields to fetch eagerly
+     * @return true if at least one requested field is a {@code @OneToMany} or {@code @ManyToMany} relation
+     */
+    public boolean requiresCollectionFetch(EntityMetadata metadata, List<String> fetchFields) {
+        if (fetchFields == null || fetchFields.isEmpty()) {
+            return false;
+        }
+        for (FieldMetadata fieldMetadata : metadata.fields()) {
+            if (fieldMetadata.isCollectionRelation() && fieldMetadata.isOutput(fetchFields)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true when the query selects the entity itself, i.e. when fetch joins are allowed.
+     * Count queries, ID-only queries and tuple queries must not declare fetches.
+     */
+    private boolean isEntityQuery(CriteriaQuery<?> query, EntityMetadata metadata) {
+        Class<?> resultType = query.getResultType();
+        if (resultType == Long.class || resultType == long.class) {
+            return false;
+        }
+        return resultType == null || metadata.entityClass() == null || resultType.isAssignableFrom(metadata.entityClass());
+    }
+
+    private List<Predicate> buildPredicatesForField(Root<?> root, CriteriaBuilder cb, FieldMetadata fieldMetadata,
+                                                    Map<String, String[]> params, Map<String, List<Object>> fullTextIds) {
         List<Predicate> predicates = new ArrayList<>();
         Filterable config = fieldMetadata.filterConfig();
-        String baseParamName = StringUtils.hasText(config.paramName()) ? config.paramName() : fieldMetadata.name();
+        String baseParamName = paramName(fieldMetadata);
         List<FilterType> supportedTypes = Arrays.asList(config.types());
 
         // Process all parameters to find matches for this field (e.g., field, field[eq], field_like)
@@ -120,43 +313,230 @@ public class FilterResolver {
 
             log.trace("Checking param {} against field {} (baseParamName: {})", paramKey, fieldMetadata.name(), baseParamName);
 
-            // 1. Exact match (EQUALS)
-            if (paramKey.equals(baseParamName)) {
-                if (supportedTypes.contains(FilterType.EQUALS)) {
-                    log.debug("Applying EQUALS filter for field {}: {}", fieldMetadata.name(), firstValue);
-                    predicates.add(buildEqualsPredicate(root, cb, fieldMetadata, firstValue, config.caseSensitive()));
-                }
+            FilterType type = resolveFilterType(paramKey, baseParamName, supportedTypes);
+            if (type != null) {
+                log.debug("Applying {} filter for field {}: {}", type, fieldMetadata.name(), firstValue);
+                predicates.add(buildPredicateByType(root, cb, fieldMetadata, type, firstValue, config.caseSensitive(),
+                        fullTextIds));
+            }
+        }
+
+        return predicates;
+    }
+
+    /**
+     * Resolves the filter a query parameter applies to a field: {@code field} (EQUALS),
+     * {@code field[op]} or the legacy {@code field_op}. RANGE enables the four comparison operators.
+     *
+     * @return the filter type, or null if the parameter does not target the field or the
+     * operator is not supported by it
+     */
+    private FilterType resolveFilterType(String paramKey, String baseParamName, List<FilterType> supportedTypes) {
+        if (paramKey.equals(baseParamName)) {
+            return supportedTypes.contains(FilterType.EQUALS) ? FilterType.EQUALS : null;
+        }
+
+        String op;
+        if (paramKey.startsWith(baseParamName + "[") && paramKey.endsWith("]")) {
+            op = paramKey.substring(baseParamName.length() + 1, paramKey.length() - 1);
+        } else if (paramKey.startsWith(baseParamName + "_")) {
+            op = paramKey.substring(baseParamName.length() + 1);
+        } else {
+            return null;
+        }
+
+        FilterType type = resolveOperator(op);
+        if (type == null) {
+            return null;
+        }
+        boolean rangeOperator = type == FilterType.GREATER_THAN || type == FilterType.GREATER_THAN_OR_EQUAL
+                || type == FilterType.LESS_THAN || type == FilterType.LESS_THAN_OR_EQUAL;
+        return supportedTypes.contains(type) || (rangeOperator && supportedTypes.contains(FilterType.RANGE)) ? type : null;
+    }
+
+    /**
+     * Counts the filter parameters of the request and the values of its {@code IN} filters
+     * against the limits, and records each filter with the usage recorder.
+     *
+     * @return the number of filters
+     * @throws IllegalArgumentException if a limit is exceeded
+     */
+    private int inspectFilters(Map<String, String[]> params, EntityMetadata metadata, List<PathFilter> pathFilters,
+                               QueryLimits limits, boolean record) {
+        boolean recording = record && usageRecorder != null;
+        int filters = 0;
+        for (FieldMetadata fieldMetadata : metadata.fields()) {
+            Filterable config = fieldMetadata.filterConfig();
+            if (config == null) {
                 continue;
             }
+            String baseParamName = paramName(fieldMetadata);
+            List<FilterType> supportedTypes = Arrays.asList(config.types());
+            for (Map.Entry<String, String[]> entry : params.entrySet()) {
+                String[] paramValues = entry.getValue();
+                if (paramValues == null || paramValues.length == 0) {
+                    continue;
+                }
+                FilterType type = resolveFilterType(entry.getKey(), baseParamName, supportedTypes);
+                if (type == null) {
+                    continue;
+                }
+                filters++;
+                if (recording) {
+                    usageRecorder.recordFilter(metadata.entityName(), fieldMetadata.name(), type);
+                }
+                if (type == FilterType.IN || type == FilterType.NOT_IN) {
+                    limits.checkInSize(fieldMetadata.name(), paramValues[0].split(",").length);
+                }
+            }
+        }
+        for (PathFilter pathFilter : pathFilters) {
+            filters++;
+            if (recording) {
+                usageRecorder.recordFilter(metadata.entityName(), pathFilter.path(), pathFilter.type());
+            }
+            if (pathFilter.type() == FilterType.IN || pathFilter.type() == FilterType.NOT_IN) {
+                limits.checkInSize(pathFilter.path(), pathFilter.value().split(",").length);
+            }
+        }
+        limits.checkFilterCount(filters);
+        return filters;
+    }
 
-            // 2. Bracketed format: field[op]=value
-            if (paramKey.startsWith(baseParamName + "[") && paramKey.endsWith("]")) {
-                String op = paramKey.substring(baseParamName.length() + 1, paramKey.length() - 1);
-                FilterType type = resolveOperator(op);
-                log.trace("Found bracketed op {} for field {}, resolved to FilterType {}", op, fieldMetadata.name(), type);
-                if (type != null && (supportedTypes.contains(type) || 
-                    (supportedTypes.contains(FilterType.RANGE) && (type == FilterType.GREATER_THAN || type == FilterType.GREATER_THAN_OR_EQUAL || 
-                                                                  type == FilterType.LESS_THAN || type == FilterType.LESS_THAN_OR_EQUAL)))) {
-                    log.debug("Applying {} filter for field {}: {}", type, fieldMetadata.name(), firstValue);
-                    predicates.add(buildPredicateByType(root, cb, fieldMetadata, type, firstValue, config.caseSensitive()));
+    /**
+     * Rejects the filters of a bulk operation that would not narrow it: their predicate would be
+     * {@code conjunction()} or match every non-null value.
+     *
+     * @throws IllegalArgumentException on the first such filter
+     */
+    private void checkBulkFilters(Map<String, String[]> params, EntityMetadata metadata) {
+        for (FieldMetadata fieldMetadata : metadata.fields()) {
+            Filterable config = fieldMetadata.filterConfig();
+            if (config == null) {
+                continue;
+            }
+            String baseParamName = paramName(fieldMetadata);
+            List<FilterType> supportedTypes = Arrays.asList(config.types());
+            for (Map.Entry<String, String[]> entry : params.entrySet()) {
+                String[] paramValues = entry.getValue();
+                if (paramValues == null || paramValues.length == 0) {
+                    continue;
                 }
+                FilterType type = resolveFilterType(entry.getKey(), baseParamName, supportedTypes);
+                if (type != null && !narrowsBulkOperation(type, paramValues[0])) {
+                    throw new IllegalArgumentException("Filter " + entry.getKey() + "=" + paramValues[0]
+                            + " would match every row and cannot be used in a bulk operation");
+                }
+            }
+        }
+    }
+
+    private boolean narrowsBulkOperation(FilterType type, String value) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        return switch (type) {
+            case LIKE -> !value.chars().allMatch(c -> c == '%' || c == '_');
+            case BETWEEN -> {
+                String[] parts = value.split(",");
+                yield parts.length == 2 && !parts[0].isBlank() && !parts[1].isBlank();
+            }
+            case IN, NOT_IN -> Arrays.stream(value.split(",")).noneMatch(String::isBlank) && !value.endsWith(",");
+            case EQUALS, STARTS_WITH, ENDS_WITH, ILIKE, FULL_TEXT, GREATER_THAN, GREATER_THAN_OR_EQUAL,
+                 LESS_THAN, LESS_THAN_OR_EQUAL, IS_NULL -> true;
+            // Built as conjunction() by buildPredicateByType
+            default -> false;
+        };
+    }
+
+    /**
+     * Resolves the filters on relation paths, such as {@code category.name[like]=x}. Every segment
+     * but the last must be a visible relation, and the last a {@code @Filterable} field of the
+     * related entity supporting the operator. Dotted parameters whose first segment is not a
+     * field of the entity are ignored, like other unknown parameters.
+     *
+     * @throws IllegalArgumentException if a path starting with a field of the entity cannot be resolved
+     */
+    private List<PathFilter> resolvePathFilters(Map<String, String[]> params, EntityMetadata metadata, String excludedField) {
+        List<PathFilter> pathFilters = new ArrayList<>();
+        for (Map.Entry<String, String[]> entry : params.entrySet()) {
+            String paramKey = entry.getKey();
+            String[] paramValues = entry.getValue();
+            int bracket = paramKey.indexOf('[');
+            String path = bracket < 0 ? paramKey : paramKey.substring(0, bracket);
+            int dot = path.indexOf('.');
+            if (dot < 0 || paramValues == null || paramValues.length == 0) {
+                continue;
+            }
+            String first = path.substring(0, dot);
+            if (first.equals(excludedField) || metadata.getFieldByName(first).isEmpty()) {
                 continue;
             }
+            pathFilters.add(resolvePathFilter(paramKey, path.split("\\."), metadata, paramValues[0]));
+        }
+        return pathFilters;
+    }
 
-            // 3. Underscore format: field_op=value (legacy)
-            if (paramKey.startsWith(baseParamName + "_")) {
-                String op = paramKey.substring(baseParamName.length() + 1);
-                FilterType type = resolveOperator(op);
-                if (type != null && (supportedTypes.contains(type) || 
-                    (supportedTypes.contains(FilterType.RANGE) && (type == FilterType.GREATER_THAN || type == FilterType.GREATER_THAN_OR_EQUAL || 
-                                                                  type == FilterType.LESS_THAN || type == FilterType.LESS_THAN_OR_EQUAL)))) {
-                    log.debug("Applying {} filter (underscore) for field {}: {}", type, fieldMetadata.name(), firstValue);
-                    predicates.add(buildPredicateByType(root, cb, fieldMetadata, type, firstValue, config.caseSensitive()));
-                }
+    private PathFilter resolvePathFilter(String paramKey, String[] segments, EntityMetadata metadata, String value) {
+        if (segments.length - 1 > MAX_PATH_DEPTH) {
+            throw new IllegalArgumentException("Filter path " + paramKey + " traverses more than "
+                    + MAX_PATH_DEPTH + " relations");
+        }
+        List<FieldMetadata> relations = new ArrayList<>();
+        List<FieldMetadata> fields = metadata.fields();
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < segments.length - 1; i++) {
+            String segment = segments[i];
+            FieldMetadata relation = findField(fields, segment)
+                    .filter(f -> f.isRelation() && f.relation() != null && !f.hidden() && !f.jsonIgnored())
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown filter path: " + paramKey));
+            relations.add(relation);
+            fields = relatedFields.computeIfAbsent(relation.relation().targetEntity(), metadataResolver::resolveFields);
+            prefix.append(segment).append('.');
+        }
+        for (FieldMetadata field : fields) {
+            Filterable config = field.filterConfig();
+            if (config == null || field.hidden()) {
+                continue;
+            }
+            FilterType type = resolveFilterType(paramKey, prefix + paramName(field), Arrays.asList(config.types()));
+            if (type != null) {
+                return new PathFilter(prefix + field.name(), relations, field, type, value);
             }
         }
+        throw new IllegalArgumentException("Unknown filter path: " + paramKey);
+    }
 
-        return predicates;
+    private Optional<FieldMetadata> findField(List<FieldMetadata> fields, String name) {
+        return fields.stream().filter(f -> f.name().equals(name)).findFirst();
+    }
+
+    /**
+     * Builds the predicate of a relation path filter: on the reused join of the related entity
+     * for single-valued relations, or as an {@code EXISTS} subquery when the path crosses a collection.
+     */
+    private Predicate buildPathPredicate(Root<?> root, CriteriaQuery<?> query, CriteriaBuilder cb, PathFilter pathFilter) {
+        List<String> relations = pathFilter.relations().stream().map(FieldMetadata::name).toList();
+        boolean toMany = pathFilter.relations().stream().anyMatch(FieldMetadata::isCollectionRelation);
+        FieldMetadata field = pathFilter.field();
+        return RelationJoins.where(root, query, cb, relations, toMany, from -> buildPredicateByType(
+                from, cb, field, pathFilter.type(), pathFilter.value(), field.filterConfig().caseSensitive(), Map.of()));
+    }
+
+    /**
+     * A filter on a field of a related entity.
+     *
+     * @param path      the dotted field path, e.g. {@code category.name}
+     * @param relations the relations traversed from the root
+     * @param field     the filtered field of the last related entity
+     * @param type      the filter operator
+     * @param value     the raw filter value
+     */
+    private record PathFilter(String path, List<FieldMetadata> relations, FieldMetadata field, FilterType type, String value) {}
+
+    private String paramName(FieldMetadata fieldMetadata) {
+        String paramName = fieldMetadata.filterConfig().paramName();
+        return StringUtils.hasText(paramName) ? paramName : fieldMetadata.name();
     }
 
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(FilterResolver.class);
@@ -165,6 +545,10 @@ public class FilterResolver {
         return switch (op.toLowerCase()) {
             case "eq", "equals" -> FilterType.EQUALS;
             case "like", "contains" -> FilterType.LIKE;
+            case "starts_with", "startswith", "sw" -> FilterType.STARTS_WITH;
+            case "ends_with", "endswith", "ew" -> FilterType.ENDS_WITH;
+            case "ilike" -> FilterType.ILIKE;
+            case "search", "fts" -> FilterType.FULL_TEXT;
             case "gt" -> FilterType.GREATER_THAN;
             case "gte", "ge" -> FilterType.GREATER_THAN_OR_EQUAL;
             case "lt" -> FilterType.LESS_THAN;
@@ -177,31 +561,37 @@ public class FilterResolver {
         };
     }
 
-    private Predicate buildPredicateByType(Root<?> root, CriteriaBuilder cb, FieldMetadata fieldMetadata, 
-                                          FilterType type, String value, boolean caseSensitive) {
+    private Predicate buildPredicateByType(From<?, ?> from, CriteriaBuilder cb, FieldMetadata fieldMetadata,
+                                          FilterType type, String value, boolean caseSensitive,
+                                          Map<String, List<Object>> fullTextIds) {
         return switch (type) {
-            case EQUALS -> buildEqualsPredicate(root, cb, fieldMetadata, value, caseSensitive);
-            case LIKE -> buildLikePredicate(root, cb, fieldMetadata, value, caseSensitive);
-            case GREATER_THAN -> buildGreaterThanPredicate(root, cb, fieldMetadata, value);
-            case GREATER_THAN_OR_EQUAL -> buildGreaterThanOrEqualPredicate(root, cb, fieldMetadata, value);
-            case LESS_THAN -> buildLessThanPredicate(root, cb, fieldMetadata, value);
-            case LESS_THAN_OR_EQUAL -> buildLessThanOrEqualPredicate(root, cb, fieldMetadata, value);
-            case IN -> buildInPredicate(root, cb, fieldMetadata, value);
-            case NOT_IN -> cb.not(buildInPredicate(root, cb, fieldMetadata, value));
+            case EQUALS -> buildEqualsPredicate(from, cb, fieldMetadata, value, caseSensitive);
+            case LIKE -> buildLikePredicate(from, cb, fieldMetadata, value, caseSensitive);
+            case STARTS_WITH -> buildEscapedLikePredicate(from, cb, fieldMetadata, LikePatterns.startsWith(value), caseSensitive);
+            case ENDS_WITH -> buildEscapedLikePredicate(from, cb, fieldMetadata, LikePatterns.endsWith(value), caseSensitive);
+            case ILIKE -> buildEscapedLikePredicate(from, cb, fieldMetadata, LikePatterns.contains(value), false);
+            case FULL_TEXT -> buildFullTextPredicate(from, cb, fieldMetadata, value,
+                    fullTextIds.get(fullTextKey(fieldMetadata, value)));
+            case GREATER_THAN -> buildGreaterThanPredicate(from, cb, fieldMetadata, value);
+            case GREATER_THAN_OR_EQUAL -> buildGreaterThanOrEqualPredicate(from, cb, fieldMetadata, value);
+            case LESS_THAN -> buildLessThanPredicate(from, cb, fieldMetadata, value);
+            case LESS_THAN_OR_EQUAL -> buildLessThanOrEqualPredicate(from, cb, fieldMetadata, value);
+            case IN -> buildInPredicate(from, cb, fieldMetadata, value);
+            case NOT_IN -> cb.not(buildInPredicate(from, cb, fieldMetadata, value));
             case IS_NULL -> {
                 boolean isNull = Boolean.parseBoolean(value);
-                yield isNull ? cb.isNull(root.get(fieldMetadata.name())) : cb.isNotNull(root.get(fieldMetadata.name()));
+                yield isNull ? cb.isNull(from.get(fieldMetadata.name())) : cb.isNotNull(from.get(fieldMetadata.name()));
             }
             case BETWEEN -> {
                 String[] parts = value.split(",");
-                yield (parts.length == 2) ? buildBetweenPredicate(root, cb, fieldMetadata, parts[0], parts[1]) : cb.conjunction();
+                yield (parts.length == 2) ? buildBetweenPredicate(from, cb, fieldMetadata, parts[0], parts[1]) : cb.conjunction();
             }
             default -> cb.conjunction();
         };
     }
 
-    private Predicate buildEqualsPredicate(Root<?> root, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value, boolean caseSensitive) {
-        Path<Object> path = root.get(fieldMetadata.name());
+    private Predicate buildEqualsPredicate(From<?, ?> from, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value, boolean caseSensitive) {
+        Path<Object> path = from.get(fieldMetadata.name());
         Object convertedValue = convert(value, fieldMetadata.type());
 
         if (fieldMetadata.type() == String.class && !caseSensitive) {
@@ -210,8 +600,8 @@ public class FilterResolver {
         return cb.equal(path, convertedValue);
     }
 
-    private Predicate buildLikePredicate(Root<?> root, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value, boolean caseSensitive) {
-        Path<String> path = root.get(fieldMetadata.name());
+    private Predicate buildLikePredicate(From<?, ?> from, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value, boolean caseSensitive) {
+        Path<String> path = from.get(fieldMetadata.name());
         String pattern = "%" + value + "%";
 
         if (!caseSensitive) {
@@ -220,47 +610,168 @@ public class FilterResolver {
         return cb.like(path, pattern);
     }
 
+    /**
+     * Builds a LIKE predicate whose pattern was produced by {@link LikePatterns}. Case-insensitive
+     * matches compare {@code lower(column)}, so an expression index on it can serve prefix patterns.
+     */
+    private Predicate buildEscapedLikePredicate(From<?, ?> from, CriteriaBuilder cb, FieldMetadata fieldMetadata, String pattern, boolean caseSensitive) {
+        Path<String> path = from.get(fieldMetadata.name());
+
+        if (!caseSensitive) {
+            return cb.like(cb.lower(path), LikePatterns.lower(pattern), LikePatterns.ESCAPE_CHAR);
+        }
+        return cb.like(path, pattern, LikePatterns.ESCAPE_CHAR);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private Predicate buildGreaterThanPredicate(Root<?> root, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value) {
+    private Predicate buildGreaterThanPredicate(From<?, ?> from, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value) {
         Comparable convertedValue = (Comparable) convert(value, fieldMetadata.type());
-        return cb.greaterThan(root.get(fieldMetadata.name()), convertedValue);
+        return cb.greaterThan(from.get(fieldMetadata.name()), convertedValue);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private Predicate buildGreaterThanOrEqualPredicate(Root<?> root, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value) {
+    private Predicate buildGreaterThanOrEqualPredicate(From<?, ?> from, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value) {
         Comparable convertedValue = (Comparable) convert(value, fieldMetadata.type());
-        return cb.greaterThanOrEqualTo(root.get(fieldMetadata.name()), convertedValue);
+        return cb.greaterThanOrEqualTo(from.get(fieldMetadata.name()), convertedValue);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private Predicate buildLessThanPredicate(Root<?> root, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value) {
+    private Predicate buildLessThanPredicate(From<?, ?> from, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value) {
         Comparable convertedValue = (Comparable) convert(value, fieldMetadata.type());
-        return cb.lessThan(root.get(fieldMetadata.name()), convertedValue);
+        return cb.lessThan(from.get(fieldMetadata.name()), convertedValue);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private Predicate buildLessThanOrEqualPredicate(Root<?> root, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value) {
+    private Predicate buildLessThanOrEqualPredicate(From<?, ?> from, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value) {
         Comparable convertedValue = (Comparable) convert(value, fieldMetadata.type());
-        return cb.lessThanOrEqualTo(root.get(fieldMetadata.name()), convertedValue);
+        return cb.lessThanOrEqualTo(from.get(fieldMetadata.name()), convertedValue);
     }
 
-    private Predicate buildInPredicate(Root<?> root, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value) {
-        String[] parts = value.split(",");
-        CriteriaBuilder.In<Object> in = cb.in(root.get(fieldMetadata.name()));
-        for (String part : parts) {
-            in.value(convert(part, fieldMetadata.type()));
+    /**
+     * Searches the entity's full-text index once for each full-text filter on one of its
+     * {@code @Searchable} fields, when the specification is built, so that its count and
+     * content queries reuse the same hits.
+     *
+     * @return the matching IDs by {@link #fullTextKey}; empty without a ready index
+     * @throws IllegalArgumentException if a filter matches more than {@link FullTextIndex#DEFAULT_MAX_HITS} rows
+     */
+    private Map<String, List<Object>> searchFullTextIndex(Map<String, String[]> params, EntityMetadata metadata,
+                                                          String excludedField) {
+        FullTextIndex index = fullTextIndexRegistry == null || metadata.entityClass() == null ? null
+                : fullTextIndexRegistry.find(metadata.entityClass()).filter(FullTextIndex::isReady).orElse(null);
+        if (index == null) {
+            return Map.of();
+        }
+        Map<String, List<Object>> fullTextIds = new HashMap<>();
+        for (FieldMetadata fieldMetadata : metadata.fields()) {
+            Filterable config = fieldMetadata.filterConfig();
+            if (config == null || !fieldMetadata.isSearchable() || fieldMetadata.name().equals(excludedField)) {
+                continue;
+            }
+            String baseParamName = paramName(fieldMetadata);
+            List<FilterType> supportedTypes = Arrays.asList(config.types());
+            for (Map.Entry<String, String[]> entry : params.entrySet()) {
+                String[] paramValues = entry.getValue();
+                if (paramValues == null || paramValues.length == 0
+                        || resolveFilterType(entry.getKey(), baseParamName, supportedTypes) != FilterType.FULL_TEXT) {
+                    continue;
+                }
+                fullTextIds.computeIfAbsent(fullTextKey(fieldMetadata, paramValues[0]),
+                        key -> searchIds(index, fieldMetadata, paramValues[0]));
+            }
         }
-        return in;
+        return fullTextIds;
+    }
+
+    private List<Object> searchIds(FullTextIndex index, FieldMetadata fieldMetadata, String value) {
+        FullTextIndex.Hits hits = index.search(value, fieldMetadata.name(), 0, FullTextIndex.DEFAULT_MAX_HITS);
+        if (hits.total() > FullTextIndex.DEFAULT_MAX_HITS) {
+            throw new IllegalArgumentException("Full-text filter on " + fieldMetadata.name() + " matches "
+                    + hits.total() + " rows, more than the maximum of " + FullTextIndex.DEFAULT_MAX_HITS
+                    + "; refine the search terms");
+        }
+        List<Object> ids = new ArrayList<>(hits.hits().size());
+        for (FullTextIndex.Hit hit : hits.hits()) {
+            ids.add(hit.id());
+        }
+        return ids;
+    }
+
+    private static String fullTextKey(FieldMetadata fieldMetadata, String value) {
+        return fieldMetadata.name() + '=' + value;
+    }
+
+    /**
+     * Builds a full-text predicate: the IDs the entity's full-text index matched are pushed into
+     * the query. Without a ready index, or on a relation path, every term must occur in the
+     * lower-cased field ({@code LIKE '%term%'}), either as written or without its accents, so
+     * that accented values stored as such still match. Accent-insensitive matching of stored
+     * values beyond that depends on the database collation. A query without terms matches
+     * nothing on both paths.
+     *
+     * @param ids the IDs the index matched, or null if the index was not searched
+     */
+    private Predicate buildFullTextPredicate(From<?, ?> from, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value,
+                                             List<Object> ids) {
+        if (ids == null || !(from instanceof Root<?>)) {
+            Path<String> path = from.get(fieldMetadata.name());
+            List<Predicate> terms = new ArrayList<>();
+            for (String word : TextAnalyzer.words(value)) {
+                String term = TextAnalyzer.normalize(word);
+                Predicate asWritten = cb.like(cb.lower(path), LikePatterns.contains(word), LikePatterns.ESCAPE_CHAR);
+                terms.add(term.equals(word) ? asWritten
+                        : cb.or(asWritten, cb.like(cb.lower(path), LikePatterns.contains(term), LikePatterns.ESCAPE_CHAR)));
+            }
+            return terms.isEmpty() ? cb.disjunction() : cb.and(terms.toArray(new Predicate[0]));
+        }
+
+        if (ids.isEmpty()) {
+            return cb.disjunction();
+        }
+        EntityType<?> entityType = ((Root<?>) from).getModel();
+        String idName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+        return buildInPredicate(cb, from.get(idName), ids);
+    }
+
+    private Predicate buildInPredicate(From<?, ?> from, CriteriaBuilder cb, FieldMetadata fieldMetadata, String value) {
+        List<Object> values = new ArrayList<>();
+        for (String part : value.split(",")) {
+            values.add(convert(part, fieldMetadata.type()));
+        }
+        return buildInPredicate(cb, from.get(fieldMetadata.name()), values);
+    }
+
+    /**
+     * Builds an IN predicate shaped by the {@link InListStrategy}: one IN list per chunk, OR-ed
+     * together when the values exceed the chunk size.
+     */
+    private Predicate buildInPredicate(CriteriaBuilder cb, Path<Object> path, List<Object> values) {
+        List<Predicate> chunks = new ArrayList<>();
+        for (List<Object> chunk : inListStrategy.prepare(values)) {
+            CriteriaBuilder.In<Object> in = cb.in(path);
+            for (Object item : chunk) {
+                in.value(item);
+            }
+            chunks.add(in);
+        }
+        return chunks.size() == 1 ? chunks.get(0) : cb.or(chunks.toArray(new Predicate[0]));
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private Predicate buildBetweenPredicate(Root<?> root, CriteriaBuilder cb, FieldMetadata fieldMetadata, String min, String max) {
+    private Predicate buildBetweenPredicate(From<?, ?> from, CriteriaBuilder cb, FieldMetadata fieldMetadata, String min, String max) {
         Comparable convertedMin = (Comparable) convert(min, fieldMetadata.type());
         Comparable convertedMax = (Comparable) convert(max, fieldMetadata.type());
-        return cb.between(root.get(fieldMetadata.name()), convertedMin, convertedMax);
+        return cb.between(from.get(fieldMetadata.name()), convertedMin, convertedMax);
     }
 
-    private Object convert(String value, Class<?> targetType) {
+    /**
+     * Converts a request parameter value to the given field type.
+     *
+     * @param value      the raw value
+     * @param targetType the field type
+     * @return the converted value, or the raw value if no conversion is available
+     */
+    public Object convert(String value, Class<?> targetType) {
         if (conversionService.canConvert(String.class, targetType)) {
             return conversionService.convert(value, targetType);
         }
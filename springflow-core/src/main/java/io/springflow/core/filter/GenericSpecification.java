@@ -3,14 +3,23 @@ package io.springflow.core.filter;
 import io.springflow.annotations.FilterType;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Generic JPA Specification for dynamic filtering.
+ * <p>
+ * The key may be a dotted path through relations, such as {@code category.name}; see
+ * {@link RelationJoins} for how the relations are joined.
+ * </p>
  *
  * @param <T> Entity type
  * @author SpringFlow
@@ -25,8 +34,37 @@ public class GenericSpecification<T> implements Specification<T> {
 
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
-        FilterType operation = criteria.getOperation();
         String key = criteria.getKey();
+        int dot = key.lastIndexOf('.');
+        if (dot < 0) {
+            return toPredicate(root, key, builder);
+        }
+        List<String> relations = List.of(key.substring(0, dot).split("\\."));
+        String attribute = key.substring(dot + 1);
+        return RelationJoins.where(root, query, builder, relations, crossesCollection(root, relations),
+                from -> toPredicate(from, attribute, builder));
+    }
+
+    /**
+     * Checks through the metamodel whether a relation path goes through a collection.
+     */
+    private boolean crossesCollection(Root<T> root, List<String> relations) {
+        ManagedType<?> type = root.getModel();
+        for (String relation : relations) {
+            Attribute<?, ?> attribute = type.getAttribute(relation);
+            if (attribute.isCollection()) {
+                return true;
+            }
+            if (!(attribute instanceof SingularAttribute<?, ?> singular && singular.getType() instanceof ManagedType<?> next)) {
+                return false;
+            }
+            type = next;
+        }
+        return false;
+    }
+
+    private Predicate toPredicate(From<?, ?> root, String key, CriteriaBuilder builder) {
+        FilterType operation = criteria.getOperation();
         Object value = criteria.getValue();
 
         switch (operation) {
@@ -39,6 +77,16 @@ public class GenericSpecification<T> implements Specification<T> {
             case LIKE -> {
                 return builder.like(root.get(key), "%" + value + "%");
             }
+            case STARTS_WITH -> {
+                return builder.like(root.get(key), LikePatterns.startsWith(String.valueOf(value)), LikePatterns.ESCAPE_CHAR);
+            }
+            case ENDS_WITH -> {
+                return builder.like(root.get(key), LikePatterns.endsWith(String.valueOf(value)), LikePatterns.ESCAPE_CHAR);
+            }
+            case ILIKE -> {
+                return builder.like(builder.lower(root.get(key)),
+                        LikePatterns.lower(LikePatterns.contains(String.valueOf(value))), LikePatterns.ESCAPE_CHAR);
+            }
             case GREATER_THAN -> {
                 return builder.greaterThan(root.get(key), (Comparable) value);
             }
@@ -0,0 +1,81 @@
+package io.springflow.core.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Shapes the values of an {@code IN} predicate before they are bound.
+ * <p>
+ * Values are deduplicated, split into chunks of at most {@code chunkSize} values (each chunk
+ * becomes its own {@code IN} list, OR-ed together), and each chunk is optionally padded to the
+ * next power of two by repeating its last value. Padding keeps the number of distinct SQL
+ * strings logarithmic in the list size, so statement and plan caches can be reused; chunking
+ * keeps each list under driver and database parameter limits (Oracle allows 1000 per list).
+ * </p>
+ */
+public final class InListStrategy {
+
+    /**
+     * Default chunk size, matching the smallest common per-list database limit.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * Deduplicates, pads and chunks with {@link #DEFAULT_CHUNK_SIZE}.
+     */
+    public static final InListStrategy DEFAULT = new InListStrategy(true, DEFAULT_CHUNK_SIZE);
+
+    private final boolean padding;
+    private final int chunkSize;
+
+    /**
+     * @param padding   whether to pad each chunk to the next power of two
+     * @param chunkSize the maximum number of values per {@code IN} list
+     */
+    public InListStrategy(boolean padding, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("IN-list chunk size must be positive: " + chunkSize);
+        }
+        this.padding = padding;
+        this.chunkSize = chunkSize;
+    }
+
+    public boolean isPadding() {
+        return padding;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Deduplicates the values (keeping their first-seen order) and splits them into chunks,
+     * padded when enabled.
+     *
+     * @param values the values to bind
+     * @param <T>    the value type
+     * @return the chunks, empty when there are no values
+     */
+    public <T> List<List<T>> prepare(Collection<? extends T> values) {
+        List<T> distinct = new ArrayList<>(new LinkedHashSet<T>(values));
+        List<List<T>> chunks = new ArrayList<>((distinct.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<T> chunk = new ArrayList<>(distinct.subList(from, Math.min(from + chunkSize, distinct.size())));
+            if (padding) {
+                pad(chunk);
+            }
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private <T> void pad(List<T> chunk) {
+        int target = Math.min(Integer.highestOneBit(chunk.size() - 1) << 1, chunkSize);
+        T last = chunk.get(chunk.size() - 1);
+        while (chunk.size() < target) {
+            chunk.add(last);
+        }
+    }
+}
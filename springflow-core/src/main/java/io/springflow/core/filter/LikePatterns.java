@@ -0,0 +1,58 @@
+package io.springflow.core.filter;
+
+import java.util.Locale;
+
+/**
+ * Builds SQL {@code LIKE} patterns from user input.
+ * <p>
+ * The wildcards {@code %} and {@code _} in the input are escaped with {@link #ESCAPE_CHAR},
+ * which must be passed to {@code CriteriaBuilder.like(expression, pattern, escapeChar)}.
+ * </p>
+ */
+public final class LikePatterns {
+
+    /**
+     * The escape character used in the generated patterns.
+     */
+    public static final char ESCAPE_CHAR = '\\';
+
+    private LikePatterns() {
+    }
+
+    /**
+     * Escapes the {@code LIKE} wildcards and the escape character itself.
+     *
+     * @param value the raw value
+     * @return the value matching itself literally
+     */
+    public static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE_CHAR) {
+                escaped.append(ESCAPE_CHAR);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    public static String startsWith(String value) {
+        return escape(value) + "%";
+    }
+
+    public static String endsWith(String value) {
+        return "%" + escape(value);
+    }
+
+    public static String contains(String value) {
+        return "%" + escape(value) + "%";
+    }
+
+    /**
+     * Lower-cases a value the way it is compared against {@code lower(column)}.
+     */
+    public static String lower(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
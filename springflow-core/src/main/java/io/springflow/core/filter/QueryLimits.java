@@ -0,0 +1,109 @@
+package io.springflow.core.filter;
+
+import io.springflow.annotations.AutoApi;
+import io.springflow.annotations.QueryBudget;
+import io.springflow.core.metadata.EntityMetadata;
+
+/**
+ * Limits on the cost of a list query, checked before any SQL runs.
+ * <p>
+ * A value of {@code 0} (or less) disables the corresponding limit. The global limits come
+ * from configuration; {@link #forEntity(EntityMetadata)} applies the overrides declared with
+ * {@link AutoApi#budget()}, where {@code -1} keeps the global value.
+ * </p>
+ *
+ * @param timeoutMs     query timeout in milliseconds
+ * @param maxFilters    maximum number of filter parameters per request
+ * @param maxInSize     maximum number of values in an {@code IN} / {@code NOT IN} filter
+ * @param maxOffset     maximum row offset of a page
+ * @param maxFetchJoins maximum number of fetch-joined relations
+ */
+public record QueryLimits(int timeoutMs, int maxFilters, int maxInSize, int maxOffset, int maxFetchJoins) {
+
+    /**
+     * JPA hint holding the query timeout in milliseconds.
+     */
+    public static final String TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
+    /**
+     * No limit at all.
+     */
+    public static final QueryLimits UNLIMITED = new QueryLimits(0, 0, 0, 0, 0);
+
+    /**
+     * Returns the limits of an entity: these limits overridden by its {@code @AutoApi(budget = ...)}.
+     *
+     * @param metadata the entity metadata, may be null
+     * @return the effective limits
+     */
+    public QueryLimits forEntity(EntityMetadata metadata) {
+        AutoApi autoApi = metadata == null ? null : metadata.autoApiConfig();
+        QueryBudget budget = autoApi == null ? null : autoApi.budget();
+        if (budget == null) {
+            return this;
+        }
+        return new QueryLimits(
+                override(timeoutMs, budget.timeoutMs()),
+                override(maxFilters, budget.maxFilters()),
+                override(maxInSize, budget.maxInSize()),
+                override(maxOffset, budget.maxOffset()),
+                override(maxFetchJoins, budget.maxFetchJoins()));
+    }
+
+    public boolean hasTimeout() {
+        return timeoutMs > 0;
+    }
+
+    /**
+     * Rejects a request using more filter parameters than allowed.
+     *
+     * @param count the number of filter parameters
+     * @throws IllegalArgumentException if the limit is exceeded
+     */
+    public void checkFilterCount(int count) {
+        if (maxFilters > 0 && count > maxFilters) {
+            throw new IllegalArgumentException("Too many filters: " + count + " (maximum " + maxFilters + ")");
+        }
+    }
+
+    /**
+     * Rejects an {@code IN} filter with more values than allowed.
+     *
+     * @param field the filtered field
+     * @param size  the number of values
+     * @throws IllegalArgumentException if the limit is exceeded
+     */
+    public void checkInSize(String field, int size) {
+        if (maxInSize > 0 && size > maxInSize) {
+            throw new IllegalArgumentException("Too many values for IN filter on " + field + ": " + size
+                    + " (maximum " + maxInSize + ")");
+        }
+    }
+
+    /**
+     * Rejects a page starting beyond the maximum offset.
+     *
+     * @param offset the row offset of the page
+     * @throws IllegalArgumentException if the limit is exceeded
+     */
+    public void checkOffset(long offset) {
+        if (maxOffset > 0 && offset > maxOffset) {
+            throw new IllegalArgumentException("Page offset " + offset + " exceeds the maximum of " + maxOffset
+                    + "; narrow the filters instead of paging further");
+        }
+    }
+
+    /**
+     * Whether another relation may be fetch-joined after {@code fetched} ones.
+     *
+     * @param fetched the number of relations already fetch-joined
+     * @return true if the budget allows one more
+     */
+    public boolean allowsFetchJoin(int fetched) {
+        return maxFetchJoins <= 0 || fetched < maxFetchJoins;
+    }
+
+    private static int override(int global, int entity) {
+        return entity < 0 ? global : entity;
+    }
+}
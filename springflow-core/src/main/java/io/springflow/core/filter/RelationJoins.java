@@ -0,0 +1,91 @@
+package io.springflow.core.filter;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Builds predicates on attributes reached through relations, such as {@code category.name}.
+ * <p>
+ * Paths through single-valued relations join the related entity, reusing a fetch join or join
+ * already present on the query so that the same relation is never joined twice. Paths through
+ * a collection are expressed as {@code EXISTS} subqueries correlated with the root: joining the
+ * collection would return one row per matching element and break pagination.
+ * </p>
+ *
+ * @author SpringFlow
+ * @since 0.6.0
+ */
+public final class RelationJoins {
+
+    private RelationJoins() {
+    }
+
+    /**
+     * Builds a predicate on the entity reached from the root through the given relations.
+     *
+     * @param root      the query root
+     * @param query     the query, used to create the subquery of collection paths
+     * @param cb        the criteria builder
+     * @param relations the relation attribute names, from the root
+     * @param toMany    whether one of the relations is a collection
+     * @param predicate builds the predicate from the last joined entity
+     * @return the predicate, or an {@code EXISTS} predicate for collection paths
+     */
+    public static Predicate where(Root<?> root, CriteriaQuery<?> query, CriteriaBuilder cb, List<String> relations,
+                                  boolean toMany, Function<From<?, ?>, Predicate> predicate) {
+        if (!toMany) {
+            From<?, ?> from = root;
+            for (String relation : relations) {
+                from = join(from, relation);
+            }
+            return predicate.apply(from);
+        }
+
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        From<?, ?> from = correlate(subquery, root);
+        for (String relation : relations) {
+            from = from.join(relation);
+        }
+        subquery.select(cb.literal(1));
+        subquery.where(predicate.apply(from));
+        return cb.exists(subquery);
+    }
+
+    /**
+     * Returns the join of a relation, reusing an existing fetch join or join on it, or creating
+     * a left join. A left join keeps {@code relation.field[null]=true} true for entities without
+     * a related entity, whether or not the relation is also fetched.
+     *
+     * @param from      the entity to join from
+     * @param attribute the relation attribute name
+     * @return the join
+     */
+    public static From<?, ?> join(From<?, ?> from, String attribute) {
+        for (Fetch<?, ?> fetch : from.getFetches()) {
+            if (fetch instanceof Join<?, ?> join && fetch.getAttribute().getName().equals(attribute)) {
+                return join;
+            }
+        }
+        for (Join<?, ?> join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute)) {
+                return join;
+            }
+        }
+        return from.join(attribute, JoinType.LEFT);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static From<?, ?> correlate(Subquery<?> subquery, Root<?> root) {
+        return subquery.correlate((Root) root);
+    }
+}
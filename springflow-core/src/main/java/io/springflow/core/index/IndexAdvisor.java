@@ -0,0 +1,189 @@
+package io.springflow.core.index;
+
+import io.springflow.annotations.FilterType;
+import io.springflow.annotations.Filterable;
+import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.FieldMetadata;
+import jakarta.persistence.Column;
+import jakarta.persistence.JoinColumn;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Derives index suggestions from {@link EntityMetadata}.
+ * <p>
+ * Suggestions follow the predicates SpringFlow generates. On databases with partial indexes
+ * (PostgreSQL, SQLite, SQL Server) a soft-deleted entity gets an index restricted to active
+ * rows; elsewhere a composite index led by the deleted flag is suggested. Case-insensitive
+ * string filters compare {@code lower(column)}, which only an expression index can serve.
+ * </p>
+ */
+public class IndexAdvisor {
+
+    /**
+     * Operators a B-tree index on the column can serve.
+     */
+    private static final Set<FilterType> BTREE_OPERATORS = EnumSet.of(
+            FilterType.EQUALS, FilterType.IN, FilterType.RANGE, FilterType.GREATER_THAN,
+            FilterType.GREATER_THAN_OR_EQUAL, FilterType.LESS_THAN, FilterType.LESS_THAN_OR_EQUAL,
+            FilterType.STARTS_WITH, FilterType.IS_NULL);
+
+    private final boolean partialIndexes;
+    private final String falseLiteral;
+    private final boolean postgres;
+    private final boolean mysql;
+
+    /**
+     * Creates an advisor producing portable DDL (no partial indexes).
+     */
+    public IndexAdvisor() {
+        this(null);
+    }
+
+    /**
+     * Creates an advisor producing DDL for the given database.
+     *
+     * @param databaseProductName the JDBC database product name, or null for portable DDL
+     */
+    public IndexAdvisor(String databaseProductName) {
+        String product = databaseProductName == null ? "" : databaseProductName.toLowerCase(Locale.ROOT);
+        this.partialIndexes = product.contains("postgres") || product.contains("sqlite") || product.contains("sql server");
+        this.postgres = product.contains("postgres");
+        this.mysql = product.contains("mysql") || product.contains("mariadb");
+        this.falseLiteral = postgres ? "false" : "0";
+    }
+
+    /**
+     * Suggests the indexes that support the queries SpringFlow generates for an entity.
+     *
+     * @param metadata the entity metadata
+     * @return the suggested indexes, possibly empty
+     */
+    public List<IndexSuggestion> suggest(EntityMetadata metadata) {
+        List<IndexSuggestion> suggestions = new ArrayList<>();
+        if (metadata.isSoftDeleteEnabled()) {
+            softDeleteIndex(metadata).ifPresent(suggestions::add);
+        }
+        for (FieldMetadata field : metadata.fields()) {
+            lowerIndex(metadata, field).ifPresent(suggestions::add);
+        }
+        return suggestions;
+    }
+
+    /**
+     * Suggests an index for a field from the operators and sorts actually used on it.
+     * <p>
+     * A case-insensitive equality or prefix filter needs a {@code lower(column)} index; other
+     * comparisons and sorts need a plain index on the column. Contains, suffix and full-text
+     * filters cannot use a B-tree index, and the identifier is already the primary key, so
+     * neither yields a suggestion.
+     * </p>
+     *
+     * @param metadata  the entity metadata
+     * @param field     the filtered or sorted field
+     * @param operators the filter operators used on the field
+     * @param sorted    whether the field is used as a sort property
+     * @return the suggested index, or empty if no index would serve the usage
+     */
+    public Optional<IndexSuggestion> suggestForUsage(EntityMetadata metadata, FieldMetadata field,
+                                                     Set<FilterType> operators, boolean sorted) {
+        if (field.isId() || field.isCollectionRelation()) {
+            return Optional.empty();
+        }
+        Filterable config = field.filterConfig();
+        boolean caseInsensitive = config != null && !config.caseSensitive() && field.type() == String.class;
+        if (caseInsensitive && (operators.contains(FilterType.EQUALS) || operators.contains(FilterType.STARTS_WITH))) {
+            return Optional.of(lowerIndexSuggestion(metadata, field));
+        }
+        if (!sorted && operators.stream().noneMatch(BTREE_OPERATORS::contains)) {
+            return Optional.empty();
+        }
+
+        String table = metadata.tableName();
+        String column = columnName(field);
+        String ddl = "CREATE INDEX idx_" + table + "_" + column + " ON " + table + " (" + column + ");";
+        String reason = operators.isEmpty() ? "sort on " + field.name()
+                : (sorted ? "filter and sort on " : "filter on ") + field.name();
+        return Optional.of(new IndexSuggestion(table, column, List.of(column), null, ddl, reason));
+    }
+
+    /**
+     * Suggests a {@code lower(column)} index for a case-insensitive string filter whose equality
+     * or prefix match can use it.
+     */
+    private Optional<IndexSuggestion> lowerIndex(EntityMetadata metadata, FieldMetadata field) {
+        Filterable config = field.filterConfig();
+        if (config == null || config.caseSensitive() || field.type() != String.class) {
+            return Optional.empty();
+        }
+        List<FilterType> types = Arrays.asList(config.types());
+        if (!types.contains(FilterType.EQUALS) && !types.contains(FilterType.STARTS_WITH)) {
+            return Optional.empty();
+        }
+        return Optional.of(lowerIndexSuggestion(metadata, field));
+    }
+
+    /**
+     * Builds the {@code lower(column)} index. On PostgreSQL the {@code text_pattern_ops} operator
+     * class lets the index serve {@code LIKE 'prefix%'} whatever the collation.
+     */
+    private IndexSuggestion lowerIndexSuggestion(EntityMetadata metadata, FieldMetadata field) {
+        String table = metadata.tableName();
+        String column = columnName(field);
+        String expression = "lower(" + column + ")";
+        String indexed = postgres ? expression + " text_pattern_ops" : mysql ? "(" + expression + ")" : expression;
+        String ddl = "CREATE INDEX idx_" + table + "_" + column + "_lower ON " + table + " (" + indexed + ");";
+        return new IndexSuggestion(table, column, List.of(expression), null, ddl,
+                "case-insensitive filter on " + field.name());
+    }
+
+    private Optional<IndexSuggestion> softDeleteIndex(EntityMetadata metadata) {
+        FieldMetadata deletedField = metadata.getFieldByName(metadata.softDeleteConfig().deletedField()).orElse(null);
+        FieldMetadata idField = metadata.getIdField().orElse(null);
+        if (deletedField == null || idField == null) {
+            return Optional.empty();
+        }
+
+        String table = metadata.tableName();
+        String deleted = columnName(deletedField);
+        String id = columnName(idField);
+        String reason = metadata.isSoftDeleteFlagNullable()
+                ? "soft-delete filter; make " + deleted + " NOT NULL and use @SoftDelete(nullable = false) "
+                        + "so that the filter is a single equality"
+                : "soft-delete filter (" + deleted + " = false)";
+
+        if (partialIndexes) {
+            String condition = deleted + " = " + falseLiteral;
+            String ddl = "CREATE INDEX idx_" + table + "_active ON " + table + " (" + id + ") WHERE " + condition + ";";
+            return Optional.of(new IndexSuggestion(table, deleted, List.of(id), condition, ddl, reason));
+        }
+        String ddl = "CREATE INDEX idx_" + table + "_" + deleted + " ON " + table + " (" + deleted + ", " + id + ");";
+        return Optional.of(new IndexSuggestion(table, deleted, List.of(deleted, id), null, ddl, reason));
+    }
+
+    /**
+     * Resolves the column name of a field: {@code @Column(name)} or {@code @JoinColumn(name)} when set,
+     * otherwise the snake_case field name used by Spring Boot's default naming strategy.
+     *
+     * @param field the field metadata
+     * @return the column name
+     */
+    public static String columnName(FieldMetadata field) {
+        Column column = field.field() != null ? field.field().getAnnotation(Column.class) : null;
+        if (column != null && !column.name().isEmpty()) {
+            return column.name();
+        }
+        JoinColumn joinColumn = field.field() != null ? field.field().getAnnotation(JoinColumn.class) : null;
+        if (joinColumn != null && !joinColumn.name().isEmpty()) {
+            return joinColumn.name();
+        }
+        String snake = field.name().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+        return field.isRelation() ? snake + "_id" : snake;
+    }
+}
@@ -0,0 +1,28 @@
+package io.springflow.core.index;
+
+import io.springflow.annotations.FilterType;
+
+import java.util.Set;
+
+/**
+ * A missing index ranked by the recorded usage it would serve.
+ *
+ * @param entityName         the entity name
+ * @param field              the filtered or sorted field
+ * @param operators          the filter operators used on the field
+ * @param filterCount        the number of filters recorded on the field
+ * @param sortCount          the number of sorts recorded on the field
+ * @param averageQueryMillis the average list query duration of the entity
+ * @param score              the estimated query time the index addresses: uses times average duration
+ * @param suggestion         the suggested index
+ */
+public record IndexRecommendation(
+    String entityName,
+    String field,
+    Set<FilterType> operators,
+    long filterCount,
+    long sortCount,
+    double averageQueryMillis,
+    double score,
+    IndexSuggestion suggestion
+) {}
@@ -0,0 +1,112 @@
+package io.springflow.core.index;
+
+import io.springflow.annotations.FilterType;
+import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.FieldMetadata;
+import jakarta.persistence.Column;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Ranks the indexes that would serve the filters and sorts recorded by {@link QueryUsageRecorder}.
+ * <p>
+ * Each used field gets the suggestion of {@link IndexAdvisor#suggestForUsage}. Suggestions already
+ * covered by the mapping are dropped: an {@code @Table(indexes)} entry or unique constraint led by
+ * the column, or {@code @Column(unique = true)}. The rest are ranked by score, the number of uses
+ * times the entity's average list query duration, so that frequent filters on slow entities come first.
+ * </p>
+ */
+public class IndexRecommender {
+
+    private final IndexAdvisor advisor;
+
+    public IndexRecommender(IndexAdvisor advisor) {
+        this.advisor = advisor;
+    }
+
+    /**
+     * Ranks the missing indexes of the given entities.
+     *
+     * @param entities the entity metadata
+     * @param usage    the recorded usage, by entity name
+     * @return the recommendations, highest score first
+     */
+    public List<IndexRecommendation> recommend(Collection<EntityMetadata> entities,
+                                               Map<String, QueryUsageRecorder.EntityUsage> usage) {
+        List<IndexRecommendation> recommendations = new ArrayList<>();
+        for (EntityMetadata metadata : entities) {
+            QueryUsageRecorder.EntityUsage entityUsage = usage.get(metadata.entityName());
+            if (entityUsage == null) {
+                continue;
+            }
+            entityUsage.fields().forEach((fieldName, fieldUsage) -> metadata.getFieldByName(fieldName)
+                    .ifPresent(field -> recommend(metadata, field, entityUsage, fieldUsage, recommendations)));
+        }
+        recommendations.sort(Comparator.comparingDouble(IndexRecommendation::score).reversed()
+                .thenComparing(Comparator.comparingLong((IndexRecommendation r) -> r.filterCount() + r.sortCount()).reversed()));
+        return recommendations;
+    }
+
+    private void recommend(EntityMetadata metadata, FieldMetadata field, QueryUsageRecorder.EntityUsage entityUsage,
+                           QueryUsageRecorder.FieldUsage fieldUsage, List<IndexRecommendation> recommendations) {
+        Set<FilterType> operators = fieldUsage.filters().isEmpty()
+                ? EnumSet.noneOf(FilterType.class) : EnumSet.copyOf(fieldUsage.filters().keySet());
+        advisor.suggestForUsage(metadata, field, operators, fieldUsage.sorts() > 0)
+                .filter(suggestion -> !isDeclared(metadata, field, suggestion))
+                .ifPresent(suggestion -> {
+                    long uses = fieldUsage.filterCount() + fieldUsage.sorts();
+                    double averageMillis = entityUsage.averageQueryMillis();
+                    recommendations.add(new IndexRecommendation(metadata.entityName(), field.name(), operators,
+                            fieldUsage.filterCount(), fieldUsage.sorts(), averageMillis, uses * averageMillis, suggestion));
+                });
+    }
+
+    /**
+     * Checks the mapping for an index led by the suggested column. JPA cannot declare expression
+     * indexes, so {@code lower(column)} suggestions are never considered declared.
+     */
+    private boolean isDeclared(EntityMetadata metadata, FieldMetadata field, IndexSuggestion suggestion) {
+        if (suggestion.columns().stream().anyMatch(c -> c.contains("("))) {
+            return false;
+        }
+        Column column = field.field() != null ? field.field().getAnnotation(Column.class) : null;
+        if (column != null && column.unique()) {
+            return true;
+        }
+        Table table = metadata.entityClass() != null ? metadata.entityClass().getAnnotation(Table.class) : null;
+        if (table == null) {
+            return false;
+        }
+        String keyColumn = suggestion.keyColumn();
+        for (Index index : table.indexes()) {
+            if (leadingColumn(index.columnList()).equalsIgnoreCase(keyColumn)) {
+                return true;
+            }
+        }
+        for (UniqueConstraint constraint : table.uniqueConstraints()) {
+            if (constraint.columnNames().length > 0 && constraint.columnNames()[0].equalsIgnoreCase(keyColumn)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first column of an {@code @Index} column list such as {@code "name ASC, code"}.
+     */
+    private String leadingColumn(String columnList) {
+        String first = columnList.split(",")[0].trim();
+        int space = first.indexOf(' ');
+        return (space < 0 ? first : first.substring(0, space)).toLowerCase(Locale.ROOT);
+    }
+}
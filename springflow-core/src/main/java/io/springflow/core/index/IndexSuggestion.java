@@ -0,0 +1,22 @@
+package io.springflow.core.index;
+
+import java.util.List;
+
+/**
+ * An index suggested for the queries SpringFlow generates on a table.
+ *
+ * @param tableName the table to index
+ * @param keyColumn the column an existing index must contain (or filter on) to serve the queries
+ * @param columns   the indexed columns or expressions, in order
+ * @param condition the partial index condition, or null for a full index
+ * @param ddl       the suggested {@code CREATE INDEX} statement
+ * @param reason    the query pattern the index supports
+ */
+public record IndexSuggestion(
+    String tableName,
+    String keyColumn,
+    List<String> columns,
+    String condition,
+    String ddl,
+    String reason
+) {}
@@ -0,0 +1,119 @@
+package io.springflow.core.index;
+
+import io.springflow.annotations.AutoApi;
+import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.MetadataResolver;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Checks at startup that the indexes suggested by {@link IndexAdvisor} exist.
+ * <p>
+ * For every {@code @AutoApi} entity, the index metadata of its table is read through JDBC.
+ * Missing indexes are logged as warnings with the suggested DDL; nothing is created.
+ * </p>
+ */
+public class IndexValidator implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexValidator.class);
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MetadataResolver metadataResolver = new MetadataResolver();
+
+    public IndexValidator(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        validate();
+    }
+
+    /**
+     * Checks all {@code @AutoApi} entities and returns the suggestions without a matching index.
+     *
+     * @return the missing indexes
+     */
+    public List<IndexSuggestion> validate() {
+        List<IndexSuggestion> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData databaseMetaData = connection.getMetaData();
+            IndexAdvisor advisor = new IndexAdvisor(databaseMetaData.getDatabaseProductName());
+
+            for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+                Class<?> javaType = entityType.getJavaType();
+                if (javaType == null || !javaType.isAnnotationPresent(AutoApi.class)) {
+                    continue;
+                }
+                EntityMetadata metadata = metadataResolver.resolve(javaType);
+                for (IndexSuggestion suggestion : advisor.suggest(metadata)) {
+                    if (!isCovered(databaseMetaData, suggestion)) {
+                        log.warn("No index supports the {} on table {}. Suggested: {}",
+                                suggestion.reason(), suggestion.tableName(), suggestion.ddl());
+                        missing.add(suggestion);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Could not validate indexes: {}", e.getMessage());
+        }
+        return missing;
+    }
+
+    /**
+     * An existing index covers a suggestion when it contains the key column or, for partial
+     * indexes, filters on it. Expression indexes must index {@code lower(column)}, which drivers
+     * report as the expression text in place of the column name.
+     */
+    private boolean isCovered(DatabaseMetaData databaseMetaData, IndexSuggestion suggestion) throws SQLException {
+        String keyColumn = suggestion.keyColumn().toLowerCase(Locale.ROOT);
+        boolean expression = suggestion.columns().stream().anyMatch(c -> c.contains("("));
+        for (String table : tableNameCandidates(suggestion.tableName())) {
+            boolean tableFound = false;
+            try (ResultSet indexes = databaseMetaData.getIndexInfo(null, null, table, false, true)) {
+                while (indexes.next()) {
+                    tableFound = true;
+                    String column = indexes.getString("COLUMN_NAME");
+                    String filter = indexes.getString("FILTER_CONDITION");
+                    if (expression) {
+                        if (column != null && column.toLowerCase(Locale.ROOT).contains("lower(")
+                                && column.toLowerCase(Locale.ROOT).contains(keyColumn)) {
+                            return true;
+                        }
+                    } else if ((column != null && column.toLowerCase(Locale.ROOT).equals(keyColumn))
+                            || (filter != null && filter.toLowerCase(Locale.ROOT).contains(keyColumn))) {
+                        return true;
+                    }
+                }
+            }
+            if (tableFound) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private Set<String> tableNameCandidates(String tableName) {
+        Set<String> candidates = new LinkedHashSet<>();
+        candidates.add(tableName);
+        candidates.add(tableName.toUpperCase(Locale.ROOT));
+        candidates.add(tableName.toLowerCase(Locale.ROOT));
+        return candidates;
+    }
+}
@@ -0,0 +1,146 @@
+package io.springflow.core.index;
+
+import io.springflow.annotations.FilterType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records which filters and sort properties the generated endpoints actually receive, and how
+ * long their list queries take.
+ * <p>
+ * Counters are per entity and per field; recording is lock-free so it can stay enabled in
+ * production. {@link IndexRecommender} turns the snapshot into ranked index suggestions.
+ * </p>
+ */
+public class QueryUsageRecorder {
+
+    private final ConcurrentMap<String, EntityCounters> entities = new ConcurrentHashMap<>();
+
+    /**
+     * Records a filter applied to a field.
+     *
+     * @param entityName the entity name
+     * @param field      the filtered field
+     * @param type       the filter operator
+     */
+    public void recordFilter(String entityName, String field, FilterType type) {
+        counters(entityName).field(field).filters.computeIfAbsent(type, t -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records a sort on a field.
+     *
+     * @param entityName the entity name
+     * @param field      the sorted field
+     */
+    public void recordSort(String entityName, String field) {
+        counters(entityName).field(field).sorts.increment();
+    }
+
+    /**
+     * Records the duration of a list query.
+     *
+     * @param entityName the entity name
+     * @param nanos      the query duration in nanoseconds
+     */
+    public void recordQuery(String entityName, long nanos) {
+        EntityCounters counters = counters(entityName);
+        counters.queries.increment();
+        counters.queryNanos.add(nanos);
+        counters.maxQueryNanos.accumulate(nanos);
+    }
+
+    /**
+     * Returns a snapshot of the recorded usage, by entity name.
+     *
+     * @return the usage of every entity with at least one recorded filter, sort or query
+     */
+    public Map<String, EntityUsage> snapshot() {
+        Map<String, EntityUsage> snapshot = new LinkedHashMap<>();
+        entities.forEach((name, counters) -> snapshot.put(name, counters.snapshot(name)));
+        return snapshot;
+    }
+
+    /**
+     * Clears all counters.
+     */
+    public void reset() {
+        entities.clear();
+    }
+
+    private EntityCounters counters(String entityName) {
+        return entities.computeIfAbsent(entityName, n -> new EntityCounters());
+    }
+
+    /**
+     * The recorded usage of one entity.
+     *
+     * @param entityName      the entity name
+     * @param fields          the usage of each filtered or sorted field, by field name
+     * @param queries         the number of timed list queries
+     * @param totalQueryNanos the summed duration of those queries
+     * @param maxQueryNanos   the longest of those queries
+     */
+    public record EntityUsage(String entityName, Map<String, FieldUsage> fields, long queries,
+                              long totalQueryNanos, long maxQueryNanos) {
+
+        /**
+         * Returns the average list query duration in milliseconds, or 0 if none was timed.
+         */
+        public double averageQueryMillis() {
+            return queries == 0 ? 0 : totalQueryNanos / (double) queries / 1_000_000;
+        }
+    }
+
+    /**
+     * The recorded usage of one field.
+     *
+     * @param filters the number of filters per operator
+     * @param sorts   the number of sorts on the field
+     */
+    public record FieldUsage(Map<FilterType, Long> filters, long sorts) {
+
+        /**
+         * Returns the number of filters on the field, all operators combined.
+         */
+        public long filterCount() {
+            return filters.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private static final class EntityCounters {
+        private final ConcurrentMap<String, FieldCounters> fields = new ConcurrentHashMap<>();
+        private final LongAdder queries = new LongAdder();
+        private final LongAdder queryNanos = new LongAdder();
+        private final LongAccumulator maxQueryNanos = new LongAccumulator(Math::max, 0);
+
+        private FieldCounters field(String name) {
+            return fields.computeIfAbsent(name, n -> new FieldCounters());
+        }
+
+        private EntityUsage snapshot(String name) {
+            Map<String, FieldUsage> fieldUsages = new LinkedHashMap<>();
+            fields.forEach((field, counters) -> fieldUsages.put(field, counters.snapshot()));
+            return new EntityUsage(name, Collections.unmodifiableMap(fieldUsages), queries.sum(),
+                    queryNanos.sum(), maxQueryNanos.get());
+        }
+    }
+
+    private static final class FieldCounters {
+        private final ConcurrentMap<FilterType, LongAdder> filters = new ConcurrentHashMap<>();
+        private final LongAdder sorts = new LongAdder();
+
+        private FieldUsage snapshot() {
+            Map<FilterType, Long> counts = new EnumMap<>(FilterType.class);
+            filters.forEach((type, count) -> counts.put(type, count.sum()));
+            return new FieldUsage(Collections.unmodifiableMap(counts), sorts.sum());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+/**
+ * Index advice for {@code @AutoApi} entities.
+ *
+ * <p>SpringFlow generates the queries, so it knows which columns they filter and sort on.
+ * This package turns that knowledge into suggested index DDL, checks at startup
+ * whether matching indexes exist, and ranks the indexes the recorded traffic would use.
+ *
+ * <h2>Main Components</h2>
+ * <ul>
+ *   <li>{@link io.springflow.core.index.IndexAdvisor} - Derives index suggestions from entity metadata</li>
+ *   <li>{@link io.springflow.core.index.IndexSuggestion} - A suggested index and its DDL</li>
+ *   <li>{@link io.springflow.core.index.IndexValidator} - Checks suggestions against the database at startup</li>
+ *   <li>{@link io.springflow.core.index.QueryUsageRecorder} - Records the filters, sorts and query times per entity</li>
+ *   <li>{@link io.springflow.core.index.IndexRecommender} - Ranks missing indexes by recorded usage</li>
+ * </ul>
+ *
+ * @author SpringFlow
+ * @since 0.6.0
+ */
+package io.springflow.core.index;
@@ -1,5 +1,6 @@
 package io.springflow.core.mapper;
 
+import io.springflow.core.metadata.FetchProfileMetadata;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
@@ -55,6 +56,19 @@ public interface DtoMapper<T, ID> {
      */
     Map<String, Object> toOutputDto(T entity, List<String> fields);
 
+    /**
+     * Converts an entity to a Map-based OutputDTO, expanding only the relations of a fetch profile.
+     * <p>The default implementation ignores the profile.</p>
+     *
+     * @param entity  the entity
+     * @param fields  list of fields to include (if null or empty, all non-hidden fields are included)
+     * @param profile the fetch profile, may be null
+     * @return the output data as a Map
+     */
+    default Map<String, Object> toOutputDto(T entity, List<String> fields, FetchProfileMetadata profile) {
+        return toOutputDto(entity, fields);
+    }
+
     /**
      * Validates that the fields in the input DTO are allowed to be updated.
      * <p>
@@ -112,6 +126,20 @@ public interface DtoMapper<T, ID> {
      */
     Page<Map<String, Object>> toOutputDtoPage(Page<T> entityPage, List<String> fields);
 
+    /**
+     * Converts a page of entities to a page of OutputDTOs, expanding only the relations of a
+     * fetch profile.
+     * <p>The default implementation ignores the profile.</p>
+     *
+     * @param entityPage the page of entities
+     * @param fields     list of fields to include
+     * @param profile    the fetch profile, may be null
+     * @return the page of output DTOs
+     */
+    default Page<Map<String, Object>> toOutputDtoPage(Page<T> entityPage, List<String> fields, FetchProfileMetadata profile) {
+        return toOutputDtoPage(entityPage, fields);
+    }
+
     /**
      * Gets the entity class this mapper handles.
      *
@@ -1,6 +1,7 @@
 package io.springflow.core.mapper;
 
 import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.FetchProfileMetadata;
 import io.springflow.core.metadata.FieldMetadata;
 import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
@@ -64,8 +65,20 @@ public class EntityDtoMapper<T, ID> implements DtoMapper<T, ID> {
 
     @Override
     public Map<String, Object> toOutputDto(T entity, List<String> fields) {
+        return toOutputDto(entity, fields, new MappingContext());
+    }
+
+    @Override
+    public Map<String, Object> toOutputDto(T entity, List<String> fields, FetchProfileMetadata profile) {
+        if (profile == null) {
+            return toOutputDto(entity, fields);
+        }
+        return toOutputDto(entity, fields, new MappingContext(DtoMappingConfig.DEFAULT, profile.paths()));
+    }
+
+    private Map<String, Object> toOutputDto(T entity, List<String> fields, MappingContext context) {
         log.debug("Mapping {} to OutputDTO", entityClass.getSimpleName());
-        Object result = toOutputDtoInternal(entity, fields, new MappingContext());
+        Object result = toOutputDtoInternal(entity, fields, context);
         if (result instanceof Map) {
             return (Map<String, Object>) result;
         } else if (result != null) {
@@ -97,7 +110,8 @@ public class EntityDtoMapper<T, ID> implements DtoMapper<T, ID> {
             return mapSingleToSummaryOrId(entity);
         }
 
-        if (context.getCurrentDepth() > 0 && context.getCurrentDepth() >= maxDepth && (fields == null || fields.isEmpty())) {
+        if (!context.hasProfile() && context.getCurrentDepth() > 0 && context.getCurrentDepth() >= maxDepth
+                && (fields == null || fields.isEmpty())) {
             log.debug("Max depth reached for {}, returning summary/ID", entity.getClass().getSimpleName());
             return mapSingleToSummaryOrId(entity);
         }
@@ -111,16 +125,17 @@ public class EntityDtoMapper<T, ID> implements DtoMapper<T, ID> {
             if (entityMetadata != null) {
                 Map<String, Object> outputDto = new LinkedHashMap<>();
                 for (FieldMetadata fieldMeta : entityMetadata.fields()) {
-                    if (fieldMeta.hidden() || fieldMeta.jsonIgnored()) continue;
+                    if (!fieldMeta.isOutput(fields)) continue;
                     String fieldName = fieldMeta.name();
 
-                    if (fields != null && !fields.isEmpty()) {
-                        boolean exactMatch = fields.contains(fieldName);
-                        boolean subFieldMatch = fields.stream().anyMatch(f -> f.startsWith(fieldName + "."));
-                        if (!exactMatch && !subFieldMatch) continue;
-                    }
-
                     Object value = getFieldValue(entity, fieldMeta.field());
+                    if (fieldMeta.isRelation() && context.hasProfile() && !context.isInProfile(fieldName)) {
+                        // Not loaded by the profile's fetch graph: never initialize it
+                        if (!fieldMeta.isCollectionRelation()) {
+                            outputDto.put(fieldName, getIdentifier(value));
+                        }
+                        continue;
+                    }
                     if (fieldMeta.isRelation() && value != null) {
                         List<String> subFields = null;
                         if (fields != null) {
@@ -129,7 +144,12 @@ public class EntityDtoMapper<T, ID> implements DtoMapper<T, ID> {
                                     .map(f -> f.substring(fieldName.length() + 1))
                                     .collect(Collectors.toList());
                         }
-                        value = mapRelationValue(value, fieldMeta, subFields, context);
+                        context.enterPath(fieldName);
+                        try {
+                            value = mapRelationValue(value, fieldMeta, subFields, context);
+                        } finally {
+                            context.exitPath();
+                        }
                     }
                     outputDto.put(fieldName, value);
                 }
@@ -301,6 +321,21 @@ public class EntityDtoMapper<T, ID> implements DtoMapper<T, ID> {
         return summaryDto;
     }
 
+    /**
+     * Returns the ID of a related entity without initializing it when it is a lazy proxy.
+     */
+    private Object getIdentifier(Object entity) {
+        if (entity == null) return null;
+        if (entityManager != null) {
+            try {
+                return entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity);
+            } catch (RuntimeException e) {
+                log.trace("Persistence unit could not resolve the ID of {}", entity.getClass().getSimpleName());
+            }
+        }
+        return getEntityIdValue(entity);
+    }
+
     private Object getEntityIdValue(Object entity) {
         if (entity == null) return null;
         try {
@@ -351,6 +386,15 @@ public class EntityDtoMapper<T, ID> implements DtoMapper<T, ID> {
         return new PageImpl<>(dtoList, entityPage.getPageable(), entityPage.getTotalElements());
     }
 
+    @Override
+    public Page<Map<String, Object>> toOutputDtoPage(Page<T> entityPage, List<String> fields, FetchProfileMetadata profile) {
+        if (entityPage == null) return Page.empty();
+        List<Map<String, Object>> dtoList = entityPage.getContent().stream()
+                .map(e -> toOutputDto(e, fields, profile))
+                .collect(Collectors.toList());
+        return new PageImpl<>(dtoList, entityPage.getPageable(), entityPage.getTotalElements());
+    }
+
     @Override
     public Class<T> getEntityClass() {
         return entityClass;
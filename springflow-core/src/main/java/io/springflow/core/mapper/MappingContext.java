@@ -1,17 +1,26 @@
 package io.springflow.core.mapper;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Context for DTO mapping to handle circular references and depth tracking.
  * <p>
  * Uses IdentityHashMap to track visited objects by reference identity.
  * </p>
+ * <p>
+ * When created for a fetch profile, it also tracks the relation path being mapped so that
+ * only the relations of the profile are expanded, whatever the depth.
+ * </p>
  */
 public class MappingContext {
     private final Map<Object, Boolean> visited = new IdentityHashMap<>();
     private final DtoMappingConfig config;
+    private final Set<String> profilePaths;
+    private final Deque<String> path = new ArrayDeque<>();
     private int currentDepth = 0;
 
     public MappingContext() {
@@ -19,7 +28,47 @@ public class MappingContext {
     }
 
     public MappingContext(DtoMappingConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * @param config       the mapping configuration
+     * @param profilePaths the relation paths of the fetch profile, or null without profile
+     */
+    public MappingContext(DtoMappingConfig config, Set<String> profilePaths) {
         this.config = config != null ? config : DtoMappingConfig.DEFAULT;
+        this.profilePaths = profilePaths;
+    }
+
+    /**
+     * Whether relations are expanded according to a fetch profile rather than the max depth.
+     */
+    public boolean hasProfile() {
+        return profilePaths != null;
+    }
+
+    /**
+     * Whether the relation with the given name, below the current path, belongs to the profile.
+     *
+     * @param fieldName the relation field name
+     * @return true if the profile loads this relation
+     */
+    public boolean isInProfile(String fieldName) {
+        String qualified = path.isEmpty() ? fieldName : String.join(".", path) + "." + fieldName;
+        return profilePaths != null && profilePaths.contains(qualified);
+    }
+
+    /**
+     * Descends into a relation before mapping its value.
+     *
+     * @param fieldName the relation field name
+     */
+    public void enterPath(String fieldName) {
+        path.addLast(fieldName);
+    }
+
+    public void exitPath() {
+        path.removeLast();
     }
 
     /**
@@ -76,8 +125,9 @@ public class MappingContext {
     }
 
     public MappingContext fork() {
-        MappingContext forked = new MappingContext(this.config);
+        MappingContext forked = new MappingContext(this.config, this.profilePaths);
         forked.currentDepth = this.currentDepth;
+        forked.path.addAll(this.path);
         // Note: fork usually means separate visited set for some mapping strategies, 
         // but here we might want to preserve it depending on use case.
         // For now, new context with same config as per original test.
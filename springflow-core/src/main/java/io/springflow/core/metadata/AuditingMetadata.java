@@ -0,0 +1,175 @@
+package io.springflow.core.metadata;
+
+import io.springflow.annotations.Auditable;
+import org.springframework.data.annotation.CreatedBy;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedBy;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * How the audit fields of an entity are filled, resolved once per entity class.
+ * <p>
+ * Entities with Spring Data auditing annotations are left to Spring Data. Other
+ * {@link Auditable @Auditable} entities get their timestamp and user fields set by the service
+ * through the field handles resolved here, so that writes never scan the class hierarchy.
+ * Fields that are missing or whose type cannot hold the value are skipped.
+ * </p>
+ *
+ * @param mode      who fills the audit fields
+ * @param createdAt the creation timestamp field, or null
+ * @param createdBy the creator field, or null
+ * @param updatedAt the update timestamp field, or null
+ * @param updatedBy the last modifier field, or null
+ */
+public record AuditingMetadata(Mode mode, FieldSetter createdAt, FieldSetter createdBy,
+                               FieldSetter updatedAt, FieldSetter updatedBy) {
+
+    /**
+     * Auditing of an entity without {@code @Auditable} nor Spring Data auditing annotations.
+     */
+    public static final AuditingMetadata NONE = new AuditingMetadata(Mode.NONE, null, null, null, null);
+
+    /**
+     * Who fills the audit fields of an entity.
+     */
+    public enum Mode {
+        /** The entity is not audited. */
+        NONE,
+        /** Spring Data auditing fills the fields annotated with {@code @CreatedDate} and the like. */
+        SPRING_DATA,
+        /** The service fills the fields named in {@code @Auditable}. */
+        MANUAL
+    }
+
+    /**
+     * Resolves the auditing of an entity class.
+     *
+     * @param entityClass the entity class
+     * @param auditable   the {@code @Auditable} configuration, or null
+     * @return the auditing metadata
+     */
+    public static AuditingMetadata resolve(Class<?> entityClass, Auditable auditable) {
+        if (hasSpringDataAuditing(entityClass)) {
+            return new AuditingMetadata(Mode.SPRING_DATA, null, null, null, null);
+        }
+        if (auditable == null) {
+            return NONE;
+        }
+        return new AuditingMetadata(Mode.MANUAL,
+                timestampSetter(entityClass, auditable.createdAtField()),
+                userSetter(entityClass, auditable.createdByField()),
+                timestampSetter(entityClass, auditable.updatedAtField()),
+                userSetter(entityClass, auditable.updatedByField()));
+    }
+
+    /**
+     * Sets the audit fields of an entity when the service fills them.
+     *
+     * @param entity   the entity
+     * @param isCreate whether the entity is being created, which also sets the creation fields
+     * @param user     the current user
+     * @param now      the current time
+     */
+    public void apply(Object entity, boolean isCreate, String user, LocalDateTime now) {
+        if (mode != Mode.MANUAL) {
+            return;
+        }
+        if (isCreate) {
+            set(createdAt, entity, now);
+            set(createdBy, entity, user);
+        }
+        set(updatedAt, entity, now);
+        set(updatedBy, entity, user);
+    }
+
+    private static void set(FieldSetter setter, Object entity, Object value) {
+        if (setter != null) {
+            setter.set(entity, value);
+        }
+    }
+
+    private static boolean hasSpringDataAuditing(Class<?> entityClass) {
+        for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(CreatedDate.class) || field.isAnnotationPresent(LastModifiedDate.class)
+                        || field.isAnnotationPresent(CreatedBy.class) || field.isAnnotationPresent(LastModifiedBy.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static FieldSetter timestampSetter(Class<?> entityClass, String fieldName) {
+        Field field = ReflectionUtils.findField(entityClass, fieldName);
+        if (field == null) {
+            return null;
+        }
+        Function<LocalDateTime, Object> conversion = timestampConversion(field.getType());
+        return conversion == null ? null : new FieldSetter(field, conversion);
+    }
+
+    private static FieldSetter userSetter(Class<?> entityClass, String fieldName) {
+        Field field = ReflectionUtils.findField(entityClass, fieldName);
+        if (field == null || !field.getType().isAssignableFrom(String.class)) {
+            return null;
+        }
+        return new FieldSetter(field, Function.identity());
+    }
+
+    private static Function<LocalDateTime, Object> timestampConversion(Class<?> type) {
+        if (type.isAssignableFrom(LocalDateTime.class)) {
+            return now -> now;
+        }
+        if (type == Instant.class) {
+            return now -> now.atZone(ZoneId.systemDefault()).toInstant();
+        }
+        if (type == OffsetDateTime.class) {
+            return now -> now.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+        }
+        if (type == ZonedDateTime.class) {
+            return now -> now.atZone(ZoneId.systemDefault());
+        }
+        if (type == Date.class) {
+            return now -> Date.from(now.atZone(ZoneId.systemDefault()).toInstant());
+        }
+        return null;
+    }
+
+    /**
+     * An accessible audit field and the conversion of the value it is set to.
+     */
+    public static final class FieldSetter {
+
+        private final Field field;
+        private final Function<Object, Object> conversion;
+
+        @SuppressWarnings("unchecked")
+        FieldSetter(Field field, Function<?, Object> conversion) {
+            ReflectionUtils.makeAccessible(field);
+            this.field = field;
+            this.conversion = (Function<Object, Object>) conversion;
+        }
+
+        /**
+         * Returns the name of the field.
+         */
+        public String name() {
+            return field.getName();
+        }
+
+        void set(Object entity, Object value) {
+            ReflectionUtils.setField(field, entity, conversion.apply(value));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.springflow.core.metadata;
 
 import io.springflow.annotations.Auditable;
 import io.springflow.annotations.AutoApi;
+import io.springflow.annotations.FetchProfile;
 import io.springflow.annotations.SecuredApi;
 import io.springflow.annotations.SoftDelete;
 import java.util.List;
@@ -9,6 +10,10 @@ import java.util.Optional;
 
 /**
  * Metadata for a JPA entity scannned by SpringFlow.
+ * <p>
+ * The {@code auditing} component is derived from the entity class and {@code @Auditable}; the
+ * constructors without it resolve it.
+ * </p>
  */
 public record EntityMetadata(
     Class<?> entityClass,
@@ -19,8 +24,22 @@ public record EntityMetadata(
     SoftDelete softDeleteConfig,
     Auditable auditableConfig,
     SecuredApi securedApiConfig,
-    List<FieldMetadata> fields
+    List<FieldMetadata> fields,
+    AuditingMetadata auditing
 ) {
+    public EntityMetadata {
+        if (auditing == null) {
+            auditing = entityClass != null ? AuditingMetadata.resolve(entityClass, auditableConfig) : AuditingMetadata.NONE;
+        }
+    }
+
+    public EntityMetadata(Class<?> entityClass, Class<?> idType, String entityName, String tableName,
+                          AutoApi autoApiConfig, SoftDelete softDeleteConfig, Auditable auditableConfig,
+                          SecuredApi securedApiConfig, List<FieldMetadata> fields) {
+        this(entityClass, idType, entityName, tableName, autoApiConfig, softDeleteConfig, auditableConfig,
+                securedApiConfig, fields, null);
+    }
+
     public EntityMetadata(Class<?> entityClass, Class<?> idType, String entityName, String tableName, 
                           AutoApi autoApiConfig, SoftDelete softDeleteConfig, Auditable auditableConfig, List<FieldMetadata> fields) {
         this(entityClass, idType, entityName, tableName, autoApiConfig, softDeleteConfig, auditableConfig, null, fields);
@@ -48,14 +67,89 @@ public record EntityMetadata(
                 .findFirst();
     }
 
+    /**
+     * The field annotated with {@code @Version}, used for optimistic locking and ETags.
+     *
+     * @return the version field, or empty if the entity is not versioned
+     */
+    public Optional<FieldMetadata> getVersionField() {
+        return fields.stream()
+                .filter(FieldMetadata::isVersion)
+                .findFirst();
+    }
+
+    /**
+     * The fetch profile declared with the given name in {@code @AutoApi(fetchProfiles = ...)}.
+     *
+     * @param name the profile name
+     * @return the profile, or empty if the entity declares no such profile
+     */
+    public Optional<FetchProfileMetadata> getFetchProfile(String name) {
+        if (autoApiConfig == null || autoApiConfig.fetchProfiles() == null) {
+            return Optional.empty();
+        }
+        for (FetchProfile fetchProfile : autoApiConfig.fetchProfiles()) {
+            if (fetchProfile.name().equals(name)) {
+                return Optional.of(FetchProfileMetadata.of(fetchProfile));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Fields annotated with {@code @Searchable}, indexed for full-text search.
+     *
+     * @return the searchable fields, possibly empty
+     */
+    public List<FieldMetadata> getSearchableFields() {
+        return fields.stream()
+                .filter(FieldMetadata::isSearchable)
+                .toList();
+    }
+
+    /**
+     * String fields with {@code @Filterable(suggestable = true)}, served by the typeahead index.
+     *
+     * @return the suggestable fields, possibly empty
+     */
+    public List<FieldMetadata> getSuggestableFields() {
+        return fields.stream()
+                .filter(FieldMetadata::isSuggestable)
+                .toList();
+    }
+
     public boolean isSoftDeleteEnabled() {
         return softDeleteConfig != null;
     }
 
+    /**
+     * Whether the soft-delete flag may be null, in which case active records need
+     * {@code deleted = false OR deleted IS NULL} instead of a single equality.
+     *
+     * @return true if the flag may be null
+     */
+    public boolean isSoftDeleteFlagNullable() {
+        if (softDeleteConfig == null || !softDeleteConfig.nullable()) {
+            return false;
+        }
+        return getFieldByName(softDeleteConfig.deletedField())
+                .map(FieldMetadata::nullable)
+                .orElse(true);
+    }
+
     public boolean isAuditable() {
         return auditableConfig != null;
     }
 
+    /**
+     * Whether Spring Data auditing, rather than the service, fills the audit fields.
+     *
+     * @return true if the entity has Spring Data auditing annotations
+     */
+    public boolean usesSpringDataAuditing() {
+        return auditing.mode() == AuditingMetadata.Mode.SPRING_DATA;
+    }
+
     public boolean isSpecificationSupported() {
         return autoApiConfig != null && autoApiConfig.supportSpecification();
     }
@@ -0,0 +1,104 @@
+package io.springflow.core.metadata;
+
+import io.springflow.annotations.FetchProfile;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A named fetch profile declared with {@link FetchProfile}: the relation paths loaded by a
+ * JPA fetch graph and expanded by the DTO mapper.
+ *
+ * @param name       the profile name
+ * @param attributes the relation paths, nested ones separated by dots
+ */
+public record FetchProfileMetadata(String name, List<String> attributes) {
+
+    /**
+     * JPA hint loading only the attributes of the given entity graph.
+     */
+    public static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    public static FetchProfileMetadata of(FetchProfile fetchProfile) {
+        return new FetchProfileMetadata(fetchProfile.name(), List.of(fetchProfile.attributes()));
+    }
+
+    /**
+     * Returns every path loaded by this profile, including the parents of nested paths
+     * ({@code "lines.product"} also loads {@code "lines"}).
+     *
+     * @return the loaded paths
+     */
+    public Set<String> paths() {
+        Set<String> paths = new LinkedHashSet<>();
+        for (String attribute : attributes) {
+            int dot = attribute.indexOf('.');
+            while (dot > 0) {
+                paths.add(attribute.substring(0, dot));
+                dot = attribute.indexOf('.', dot + 1);
+            }
+            paths.add(attribute);
+        }
+        return paths;
+    }
+
+    /**
+     * Builds the entity graph of this profile.
+     *
+     * @param entityManager the EntityManager creating the graph
+     * @param entityClass   the root entity class
+     * @param <T>           the entity type
+     * @return a graph with one node per path
+     * @throws IllegalArgumentException if a path does not name an attribute
+     */
+    public <T> EntityGraph<T> toEntityGraph(EntityManager entityManager, Class<T> entityClass) {
+        EntityGraph<T> graph = entityManager.createEntityGraph(entityClass);
+        for (String attribute : attributes) {
+            String[] parts = attribute.split("\\.");
+            if (parts.length == 1) {
+                graph.addAttributeNodes(parts[0]);
+                continue;
+            }
+            Subgraph<?> subgraph = graph.addSubgraph(parts[0]);
+            for (int i = 1; i < parts.length - 1; i++) {
+                subgraph = subgraph.addSubgraph(parts[i]);
+            }
+            subgraph.addAttributeNodes(parts[parts.length - 1]);
+        }
+        return graph;
+    }
+
+    /**
+     * Whether a path goes through a collection, in which case loading the graph multiplies
+     * the rows per root entity and the page must be selected by ID first.
+     *
+     * @param metamodel   the JPA metamodel
+     * @param entityClass the root entity class
+     * @return true if any path contains a collection attribute
+     * @throws IllegalArgumentException if a path does not name an attribute
+     */
+    public boolean fetchesCollection(Metamodel metamodel, Class<?> entityClass) {
+        for (String attribute : attributes) {
+            ManagedType<?> type = metamodel.managedType(entityClass);
+            for (String part : attribute.split("\\.")) {
+                Attribute<?, ?> node = type.getAttribute(part);
+                if (node.isCollection()) {
+                    return true;
+                }
+                if (!(node instanceof SingularAttribute<?, ?> singular) || !(singular.getType() instanceof ManagedType<?> next)) {
+                    break;
+                }
+                type = next;
+            }
+        }
+        return false;
+    }
+}
@@ -1,6 +1,7 @@
 package io.springflow.core.metadata;
 
 import io.springflow.annotations.Filterable;
+import io.springflow.annotations.Searchable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.Collections;
@@ -41,4 +42,39 @@ public record FieldMetadata(
     public boolean isRelation() {
         return relation != null;
     }
+
+    public boolean isCollectionRelation() {
+        return relation != null && relation.isCollection();
+    }
+
+    public boolean isSearchable() {
+        return field != null && field.isAnnotationPresent(Searchable.class);
+    }
+
+    public boolean isSuggestable() {
+        return filterConfig != null && filterConfig.suggestable() && type == String.class;
+    }
+
+    /**
+     * Whether this field appears in output DTOs for the given field selection.
+     * <p>Hidden and {@code @JsonIgnore} fields are never output. A selection matches a field
+     * by name or through a nested path such as {@code category.name}.</p>
+     *
+     * @param fields the requested fields, or null/empty for all fields
+     * @return true if the mapper will output this field
+     */
+    public boolean isOutput(List<String> fields) {
+        if (hidden || jsonIgnored) {
+            return false;
+        }
+        if (fields == null || fields.isEmpty()) {
+            return true;
+        }
+        for (String selected : fields) {
+            if (selected.equals(name) || selected.startsWith(name + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
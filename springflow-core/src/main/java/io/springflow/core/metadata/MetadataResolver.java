@@ -83,7 +83,14 @@ public class MetadataResolver {
         return str.replaceAll("([a-z])([A-Z]+)", "$1_$2").toLowerCase();
     }
 
-    private List<FieldMetadata> resolveFields(Class<?> entityClass) {
+    /**
+     * Resolves the field metadata of an entity class, whether or not it is annotated with
+     * {@code @AutoApi}. Used for the related entities of relation filter paths.
+     *
+     * @param entityClass the entity class
+     * @return the field metadata, including those of mapped superclasses
+     */
+    public List<FieldMetadata> resolveFields(Class<?> entityClass) {
         List<FieldMetadata> fieldMetadataList = new ArrayList<>();
         
         Class<?> currentClass = entityClass;
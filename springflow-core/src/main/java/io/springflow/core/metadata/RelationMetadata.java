@@ -19,4 +19,13 @@ public record RelationMetadata(
         MANY_TO_ONE,
         MANY_TO_MANY
     }
+
+    /**
+     * Whether this relation maps to a collection ({@code @OneToMany} or {@code @ManyToMany}).
+     *
+     * @return true for to-many relations
+     */
+    public boolean isCollection() {
+        return type == RelationType.ONE_TO_MANY || type == RelationType.MANY_TO_MANY;
+    }
 }
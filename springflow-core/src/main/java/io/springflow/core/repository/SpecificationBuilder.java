@@ -1,48 +1,336 @@
 package io.springflow.core.repository;
 
+import io.springflow.core.dto.FilterOperator;
 import io.springflow.core.dto.SearchRequest;
+import io.springflow.core.filter.LikePatterns;
+import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.FieldMetadata;
+import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.ClassUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Compiles a {@link SearchRequest} (possibly nested {@code and}/{@code or}/{@code not} groups)
+ * into a {@link Specification}.
+ * <p>
+ * A builder instance caches one plan per distinct request shape (entity, tree structure, fields
+ * and operators, without values; field names are length-prefixed so that no field name can
+ * spell another shape): the shape is validated against the entity metadata once,
+ * later requests with the same shape only convert their values to the field types and build
+ * the predicates. The shape and the values are collected in a single walk of the request.
+ * The cache is concurrent and bounded; once full, new shapes are compiled without being cached.
+ * The static {@link #build} methods compile every request.
+ * </p>
+ */
 public class SpecificationBuilder {
 
+    /**
+     * Default maximum number of cached plans.
+     */
+    public static final int DEFAULT_MAX_CACHED_PLANS = 512;
+
+    private static final int MAX_DEPTH = 8;
+
+    private static final ConversionService conversionService = DefaultConversionService.getSharedInstance();
+
+    private final int maxCachedPlans;
+    private final ConcurrentMap<String, Plan> planCache = new ConcurrentHashMap<>();
+
+    public SpecificationBuilder() {
+        this(DEFAULT_MAX_CACHED_PLANS);
+    }
+
+    /**
+     * @param maxCachedPlans the maximum number of request shapes to cache, 0 to disable caching
+     */
+    public SpecificationBuilder(int maxCachedPlans) {
+        if (maxCachedPlans < 0) {
+            throw new IllegalArgumentException("Maximum number of cached plans cannot be negative: " + maxCachedPlans);
+        }
+        this.maxCachedPlans = maxCachedPlans;
+    }
+
     public static <T> Specification<T> build(SearchRequest request) {
-        return (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
+        return build(request, null);
+    }
+
+    /**
+     * Builds a specification, validating fields and converting values against the entity metadata.
+     *
+     * @param request  the search request
+     * @param metadata the entity metadata, or null to use fields and values as given
+     * @param <T>      the entity type
+     * @return the specification
+     * @throws IllegalArgumentException if the request references unknown fields, uses an operator
+     *                                  that does not fit the field type, or contains invalid values
+     */
+    public static <T> Specification<T> build(SearchRequest request, EntityMetadata metadata) {
+        Plan plan = Plan.of(compile(request, metadata, 0));
+        List<Object> rawValues = new ArrayList<>();
+        collectValues(request, rawValues);
+        return toSpecification(plan, rawValues);
+    }
 
-            for (SearchRequest.FilterCriteria criteria : request.criteria()) {
-                Path<?> path = root.get(criteria.field());
-                Object value = criteria.value();
-
-                Predicate predicate = switch (criteria.operator()) {
-                    case EQUALS -> cb.equal(path, value);
-                    case NOT_EQUALS -> cb.notEqual(path, value);
-                    case GREATER_THAN -> cb.greaterThan(path.as(Comparable.class), (Comparable) value);
-                    case GREATER_THAN_OR_EQUAL -> cb.greaterThanOrEqualTo(path.as(Comparable.class), (Comparable) value);
-                    case LESS_THAN -> cb.lessThan(path.as(Comparable.class), (Comparable) value);
-                    case LESS_THAN_OR_EQUAL -> cb.lessThanOrEqualTo(path.as(Comparable.class), (Comparable) value);
-                    case LIKE -> cb.like(path.as(String.class), "%" + value + "%");
-                    case IN -> path.in((Collection<?>) value);
-                    case IS_NULL -> cb.isNull(path);
-                    case IS_NOT_NULL -> cb.isNotNull(path);
-                };
-                predicates.add(predicate);
+    /**
+     * Builds a specification like {@link #build(SearchRequest, EntityMetadata)}, reusing the
+     * cached plan of requests with the same shape.
+     *
+     * @param request  the search request
+     * @param metadata the entity metadata, or null to use fields and values as given
+     * @param <T>      the entity type
+     * @return the specification
+     * @throws IllegalArgumentException if the request references unknown fields, uses an operator
+     *                                  that does not fit the field type, or contains invalid values
+     */
+    public <T> Specification<T> specification(SearchRequest request, EntityMetadata metadata) {
+        if (metadata == null || metadata.entityClass() == null) {
+            return build(request, metadata);
+        }
+        StringBuilder shape = new StringBuilder(metadata.entityClass().getName()).append(':');
+        List<Object> rawValues = new ArrayList<>();
+        appendShape(request, shape, rawValues, 0);
+        String key = shape.toString();
+
+        Plan plan = planCache.get(key);
+        if (plan == null) {
+            plan = Plan.of(compile(request, metadata, 0));
+            if (planCache.size() < maxCachedPlans) {
+                planCache.putIfAbsent(key, plan);
             }
+        }
+        return toSpecification(plan, rawValues);
+    }
 
-            if (predicates.isEmpty()) {
-                return cb.conjunction();
+    /**
+     * Returns the number of cached plans.
+     */
+    public int cachedPlans() {
+        return planCache.size();
+    }
+
+    private static <T> Specification<T> toSpecification(Plan plan, List<Object> rawValues) {
+        if (plan.leaves().size() != rawValues.size()) {
+            throw new IllegalStateException("Search plan has " + plan.leaves().size() + " criteria but the request "
+                    + rawValues.size());
+        }
+        List<Object> values = new ArrayList<>(rawValues.size());
+        for (int i = 0; i < plan.leaves().size(); i++) {
+            values.add(plan.leaves().get(i).convert(rawValues.get(i)));
+        }
+        return (root, query, cb) -> plan.root().toPredicate(root, cb, values.iterator());
+    }
+
+    private static void appendShape(SearchRequest request, StringBuilder shape, List<Object> values, int depth) {
+        checkDepth(depth);
+        shape.append(request.not() ? "!" : "").append(operatorOf(request)).append('(');
+        for (SearchRequest.FilterCriteria criteria : criteriaOf(request)) {
+            checkCriteria(criteria);
+            shape.append(criteria.field().length()).append(':').append(criteria.field())
+                    .append(' ').append(criteria.operator()).append(',');
+            values.add(criteria.value());
+        }
+        for (SearchRequest group : groupsOf(request)) {
+            checkGroup(group);
+            appendShape(group, shape, values, depth + 1);
+            shape.append(',');
+        }
+        shape.append(')');
+    }
+
+    private static Node compile(SearchRequest request, EntityMetadata metadata, int depth) {
+        checkDepth(depth);
+        List<Leaf> leaves = new ArrayList<>();
+        for (SearchRequest.FilterCriteria criteria : criteriaOf(request)) {
+            checkCriteria(criteria);
+            leaves.add(compileLeaf(criteria, metadata));
+        }
+        List<Node> groups = new ArrayList<>();
+        for (SearchRequest group : groupsOf(request)) {
+            checkGroup(group);
+            groups.add(compile(group, metadata, depth + 1));
+        }
+        return new Node(operatorOf(request), request.not(), List.copyOf(leaves), List.copyOf(groups));
+    }
+
+    private static Leaf compileLeaf(SearchRequest.FilterCriteria criteria, EntityMetadata metadata) {
+        if (metadata == null) {
+            return new Leaf(criteria.field(), criteria.operator(), null);
+        }
+
+        FieldMetadata field = metadata.getFieldByName(criteria.field())
+                .filter(f -> !f.hidden())
+                .orElseThrow(() -> new IllegalArgumentException("Unknown search field: " + criteria.field()));
+
+        Class<?> type = field.isRelation() ? null : ClassUtils.resolvePrimitiveIfNecessary(field.type());
+        switch (criteria.operator()) {
+            case GREATER_THAN, GREATER_THAN_OR_EQUAL, LESS_THAN, LESS_THAN_OR_EQUAL -> {
+                if (type == null || !Comparable.class.isAssignableFrom(type)) {
+                    throw new IllegalArgumentException("Operator " + criteria.operator()
+                            + " is not supported for field: " + criteria.field());
+                }
+            }
+            case LIKE, STARTS_WITH, ENDS_WITH, ILIKE -> {
+                if (type != String.class) {
+                    throw new IllegalArgumentException("Operator " + criteria.operator()
+                            + " is only supported for text fields: " + criteria.field());
+                }
+            }
+            default -> {
+                // Equality, IN and null checks apply to any field
+            }
+        }
+        return new Leaf(field.name(), criteria.operator(), type);
+    }
+
+    private static void collectValues(SearchRequest request, List<Object> values) {
+        for (SearchRequest.FilterCriteria criteria : criteriaOf(request)) {
+            values.add(criteria.value());
+        }
+        for (SearchRequest group : groupsOf(request)) {
+            collectValues(group, values);
+        }
+    }
+
+    private static void checkDepth(int depth) {
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Search groups cannot be nested more than " + MAX_DEPTH + " levels deep");
+        }
+    }
+
+    private static void checkCriteria(SearchRequest.FilterCriteria criteria) {
+        if (criteria == null || criteria.field() == null || criteria.operator() == null) {
+            throw new IllegalArgumentException("Search criteria require a field and an operator");
+        }
+    }
+
+    private static void checkGroup(SearchRequest group) {
+        if (group == null || (criteriaOf(group).isEmpty() && groupsOf(group).isEmpty())) {
+            throw new IllegalArgumentException("Search groups require at least one criterion or group");
+        }
+    }
+
+    private static SearchRequest.LogicalOperator operatorOf(SearchRequest request) {
+        return request.operator() == null ? SearchRequest.LogicalOperator.AND : request.operator();
+    }
+
+    private static List<SearchRequest.FilterCriteria> criteriaOf(SearchRequest request) {
+        return request.criteria() == null ? List.of() : request.criteria();
+    }
+
+    private static List<SearchRequest> groupsOf(SearchRequest request) {
+        return request.groups() == null ? List.of() : request.groups();
+    }
+
+    /**
+     * A compiled request: its root group and all its criteria in request order.
+     */
+    private record Plan(Node root, List<Leaf> leaves) {
+
+        static Plan of(Node root) {
+            List<Leaf> leaves = new ArrayList<>();
+            root.collectLeaves(leaves);
+            return new Plan(root, List.copyOf(leaves));
+        }
+    }
+
+    /**
+     * A validated group: its criteria, nested groups, logical operator and negation.
+     */
+    private record Node(SearchRequest.LogicalOperator operator, boolean negated, List<Leaf> leaves, List<Node> groups) {
+
+        void collectLeaves(List<Leaf> target) {
+            target.addAll(leaves);
+            for (Node group : groups) {
+                group.collectLeaves(target);
+            }
+        }
+
+        Predicate toPredicate(Root<?> root, CriteriaBuilder cb, Iterator<Object> values) {
+            List<Predicate> predicates = new ArrayList<>();
+            for (Leaf leaf : leaves) {
+                predicates.add(leaf.toPredicate(root, cb, values.next()));
+            }
+            for (Node group : groups) {
+                predicates.add(group.toPredicate(root, cb, values));
             }
 
-            if (request.operator() == SearchRequest.LogicalOperator.OR) {
-                return cb.or(predicates.toArray(new Predicate[0]));
+            Predicate predicate;
+            if (predicates.isEmpty()) {
+                predicate = cb.conjunction();
+            } else if (operator == SearchRequest.LogicalOperator.OR) {
+                predicate = cb.or(predicates.toArray(new Predicate[0]));
             } else {
-                return cb.and(predicates.toArray(new Predicate[0]));
+                predicate = cb.and(predicates.toArray(new Predicate[0]));
             }
-        };
+            return negated ? cb.not(predicate) : predicate;
+        }
+    }
+
+    /**
+     * A validated criterion; {@code type} is the target type for values, or null to use them as given.
+     */
+    private record Leaf(String field, FilterOperator operator, Class<?> type) {
+
+        Object convert(Object value) {
+            if (operator == FilterOperator.IS_NULL || operator == FilterOperator.IS_NOT_NULL) {
+                return null;
+            }
+            if (operator == FilterOperator.IN) {
+                Collection<?> items = value instanceof Collection<?> collection ? collection : Collections.singletonList(value);
+                List<Object> converted = new ArrayList<>(items.size());
+                for (Object item : items) {
+                    converted.add(convertSingle(item));
+                }
+                return converted;
+            }
+            return convertSingle(value);
+        }
+
+        private Object convertSingle(Object value) {
+            if (type == null || value == null || type.isInstance(value)) {
+                return value;
+            }
+            try {
+                return conversionService.convert(value, type);
+            } catch (ConversionException e) {
+                throw new IllegalArgumentException("Invalid value '" + value + "' for field: " + field, e);
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Predicate toPredicate(Root<?> root, CriteriaBuilder cb, Object value) {
+            Path<?> path = root.get(field);
+            return switch (operator) {
+                case EQUALS -> cb.equal(path, value);
+                case NOT_EQUALS -> cb.notEqual(path, value);
+                case GREATER_THAN -> cb.greaterThan(path.as(Comparable.class), (Comparable) value);
+                case GREATER_THAN_OR_EQUAL -> cb.greaterThanOrEqualTo(path.as(Comparable.class), (Comparable) value);
+                case LESS_THAN -> cb.lessThan(path.as(Comparable.class), (Comparable) value);
+                case LESS_THAN_OR_EQUAL -> cb.lessThanOrEqualTo(path.as(Comparable.class), (Comparable) value);
+                case LIKE -> cb.like(path.as(String.class), "%" + value + "%");
+                case STARTS_WITH -> cb.like(path.as(String.class), LikePatterns.startsWith(String.valueOf(value)), LikePatterns.ESCAPE_CHAR);
+                case ENDS_WITH -> cb.like(path.as(String.class), LikePatterns.endsWith(String.valueOf(value)), LikePatterns.ESCAPE_CHAR);
+                case ILIKE -> cb.like(cb.lower(path.as(String.class)),
+                        LikePatterns.lower(LikePatterns.contains(String.valueOf(value))), LikePatterns.ESCAPE_CHAR);
+                // IN () is invalid SQL: an empty list matches nothing
+                case IN -> ((Collection<?>) value).isEmpty() ? cb.disjunction() : path.in((Collection<?>) value);
+                case IS_NULL -> cb.isNull(path);
+                case IS_NOT_NULL -> cb.isNotNull(path);
+            };
+        }
     }
 }
@@ -0,0 +1,245 @@
+package io.springflow.core.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the {@code @Searchable} fields of one entity.
+ * <p>
+ * Each field keeps its own postings (term to document IDs with term frequencies), so a search
+ * can target one field or all of them. A document matches when every query term occurs in at
+ * least one searched field. Matches are ranked by a TF-IDF score multiplied by the field weight.
+ * </p>
+ * <p>
+ * The index is thread-safe: searches share a read lock, updates take the write lock.
+ * </p>
+ */
+public class FullTextIndex {
+
+    /**
+     * Default maximum number of hits returned by a search, and of IDs a full-text filter
+     * pushes into a query.
+     */
+    public static final int DEFAULT_MAX_HITS = 10_000;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(Hit::id, FullTextIndex::compareIds);
+
+    private final Map<String, Float> fieldWeights;
+    private final Map<String, Map<String, Map<Object, Integer>>> postings = new HashMap<>();
+    private final Map<Object, Map<String, Set<String>>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    /**
+     * A matching document.
+     *
+     * @param id    the entity ID
+     * @param score the relevance score, higher is better
+     */
+    public record Hit(Object id, double score) {}
+
+    /**
+     * A slice of the ranked matches.
+     *
+     * @param hits  the hits of the slice, best first
+     * @param total the number of matching documents
+     */
+    public record Hits(List<Hit> hits, int total) {}
+
+    /**
+     * @param fieldWeights the indexed field names and their weights
+     */
+    public FullTextIndex(Map<String, Float> fieldWeights) {
+        this.fieldWeights = new LinkedHashMap<>(fieldWeights);
+    }
+
+    /**
+     * Indexes (or re-indexes) a document.
+     *
+     * @param id    the entity ID
+     * @param texts the text of each indexed field; missing or null values index nothing
+     */
+    public void index(Object id, Map<String, String> texts) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            Map<String, Set<String>> documentTerms = new HashMap<>();
+            for (String field : fieldWeights.keySet()) {
+                Map<String, Integer> frequencies = new HashMap<>();
+                for (String term : TextAnalyzer.tokenize(texts.get(field))) {
+                    frequencies.merge(term, 1, Integer::sum);
+                }
+                if (frequencies.isEmpty()) {
+                    continue;
+                }
+                Map<String, Map<Object, Integer>> fieldPostings = postings.computeIfAbsent(field, k -> new HashMap<>());
+                frequencies.forEach((term, frequency) ->
+                        fieldPostings.computeIfAbsent(term, k -> new HashMap<>()).put(id, frequency));
+                documentTerms.put(field, frequencies.keySet());
+            }
+            if (!documentTerms.isEmpty()) {
+                documents.put(id, documentTerms);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document from the index.
+     *
+     * @param id the entity ID
+     */
+    public void remove(Object id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the index.
+     *
+     * @param query the query text, tokenized like the indexed text
+     * @param field the field to search, or null to search all indexed fields
+     * @param limit the maximum number of hits
+     * @return the hits, best first
+     */
+    public List<Hit> search(String query, String field, int limit) {
+        return search(query, field, 0, limit).hits();
+    }
+
+    /**
+     * Searches the index, returning one slice of the ranked matches and their total number.
+     *
+     * @param query  the query text, tokenized like the indexed text
+     * @param field  the field to search, or null to search all indexed fields
+     * @param offset the number of best hits to skip
+     * @param limit  the maximum number of hits
+     * @return the hits of the slice and the number of matching documents
+     */
+    public Hits search(String query, String field, long offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.tokenize(query));
+        Collection<String> fields = field == null ? fieldWeights.keySet()
+                : fieldWeights.containsKey(field) ? List.of(field) : List.of();
+        if (terms.isEmpty() || fields.isEmpty()) {
+            return new Hits(List.of(), 0);
+        }
+
+        Map<Object, Double> scores = null;
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            for (String term : terms) {
+                Map<Object, Double> termScores = scoreTerm(term, fields, documentCount);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return new Hits(List.of(), 0);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> hits = new ArrayList<>(scores.size());
+        scores.forEach((id, score) -> hits.add(new Hit(id, score)));
+        hits.sort(RANKING);
+        int from = (int) Math.min(offset, hits.size());
+        int to = (int) Math.min((long) from + limit, hits.size());
+        return new Hits(List.copyOf(hits.subList(from, to)), hits.size());
+    }
+
+    /**
+     * Whether the index holds all existing rows, i.e. the initial build completed.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * Removes all documents and marks the index as not ready.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of indexed documents
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Object, Double> scoreTerm(String term, Collection<String> fields, int documentCount) {
+        Map<Object, Double> termScores = new HashMap<>();
+        for (String field : fields) {
+            Map<Object, Integer> matches = postings.getOrDefault(field, Map.of()).get(term);
+            if (matches == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (double) documentCount / matches.size());
+            double weight = fieldWeights.get(field);
+            matches.forEach((id, frequency) ->
+                    termScores.merge(id, weight * (1 + Math.log(frequency)) * idf, Double::sum));
+        }
+        return termScores;
+    }
+
+    private void removeDocument(Object id) {
+        Map<String, Set<String>> documentTerms = documents.remove(id);
+        if (documentTerms == null) {
+            return;
+        }
+        documentTerms.forEach((field, terms) -> {
+            Map<String, Map<Object, Integer>> fieldPostings = postings.get(field);
+            for (String term : terms) {
+                Map<Object, Integer> matches = fieldPostings.get(term);
+                matches.remove(id);
+                if (matches.isEmpty()) {
+                    fieldPostings.remove(term);
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareIds(Object first, Object second) {
+        if (first instanceof Comparable comparable && first.getClass() == second.getClass()) {
+            return comparable.compareTo(second);
+        }
+        return String.valueOf(first).compareTo(String.valueOf(second));
+    }
+}
@@ -0,0 +1,53 @@
+package io.springflow.core.search;
+
+import io.springflow.annotations.Searchable;
+import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.FieldMetadata;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link FullTextIndex} of every entity with {@code @Searchable} fields.
+ * <p>
+ * Shared by the generated services, which maintain the indexes, and the
+ * {@link io.springflow.core.filter.FilterResolver}, which queries them.
+ * </p>
+ */
+public class FullTextIndexRegistry {
+
+    private final Map<Class<?>, FullTextIndex> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the index of an entity, creating it on first use.
+     *
+     * @param metadata the entity metadata
+     * @return the index, or empty if the entity has no {@code @Searchable} field
+     */
+    public Optional<FullTextIndex> forEntity(EntityMetadata metadata) {
+        List<FieldMetadata> searchableFields = metadata.getSearchableFields();
+        if (searchableFields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(indexes.computeIfAbsent(metadata.entityClass(), entityClass -> {
+            Map<String, Float> weights = new LinkedHashMap<>();
+            for (FieldMetadata field : searchableFields) {
+                weights.put(field.name(), field.field().getAnnotation(Searchable.class).weight());
+            }
+            return new FullTextIndex(weights);
+        }));
+    }
+
+    /**
+     * Returns the index of an entity if it has been created.
+     *
+     * @param entityClass the entity class
+     * @return the index, or empty
+     */
+    public Optional<FullTextIndex> find(Class<?> entityClass) {
+        return Optional.ofNullable(indexes.get(entityClass));
+    }
+}
@@ -0,0 +1,49 @@
+package io.springflow.core.search;
+
+import io.springflow.core.service.GenericCrudService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * Builds the full-text and suggestion indexes from the database once all services are available.
+ * <p>
+ * The build runs on a background thread so that startup is not delayed by large tables. Until
+ * an index is built, {@code FULL_TEXT} filters fall back to {@code LIKE} and suggestions are
+ * counted in the database. A failure is logged and leaves that index in the fallback mode.
+ * </p>
+ */
+public class SearchIndexInitializer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    private final ListableBeanFactory beanFactory;
+
+    public SearchIndexInitializer(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Thread.ofPlatform()
+                .name("springflow-search-index")
+                .daemon(true)
+                .start(this::rebuildAll);
+    }
+
+    /**
+     * Rebuilds the indexes of every service, one entity after the other.
+     */
+    @SuppressWarnings("rawtypes")
+    public void rebuildAll() {
+        for (GenericCrudService service : beanFactory.getBeansOfType(GenericCrudService.class).values()) {
+            try {
+                service.rebuildFullTextIndex();
+                service.rebuildSuggestIndex();
+            } catch (RuntimeException e) {
+                log.warn("Could not build search indexes: {}", e.getMessage());
+            }
+        }
+    }
+}
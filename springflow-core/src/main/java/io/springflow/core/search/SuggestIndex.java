@@ -0,0 +1,206 @@
+package io.springflow.core.search;
+
+import io.springflow.core.dto.FacetValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix index of the distinct values of an entity's suggestable fields.
+ * <p>
+ * Each field keeps a sorted map from the normalized value (lower case, no accents) to the
+ * value as first seen and the number of entities having it, so a prefix is a sub-map range.
+ * Suggestions are the {@code limit} most frequent values in that range.
+ * </p>
+ * <p>
+ * Memory is capped by a maximum number of distinct values per field: once reached, new
+ * values are not indexed until others disappear. The index is thread-safe.
+ * </p>
+ */
+public class SuggestIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestIndex.class);
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong((Entry entry) -> entry.count).reversed()
+            .thenComparing(entry -> entry.value);
+
+    private final int maxValuesPerField;
+    private final Map<String, NavigableMap<String, Entry>> fields = new HashMap<>();
+    private final Set<String> fullFields = ConcurrentHashMap.newKeySet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    private static final class Entry {
+        private final String value;
+        private long count;
+
+        private Entry(String value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * @param fieldNames        the indexed fields
+     * @param maxValuesPerField the maximum number of distinct values kept per field
+     */
+    public SuggestIndex(Collection<String> fieldNames, int maxValuesPerField) {
+        this.maxValuesPerField = maxValuesPerField;
+        for (String fieldName : fieldNames) {
+            fields.put(fieldName, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Whether a field is indexed.
+     *
+     * @param field the field name
+     * @return true if the field is suggestable
+     */
+    public boolean isIndexed(String field) {
+        return fields.containsKey(field);
+    }
+
+    /**
+     * Counts the values of a new entity.
+     *
+     * @param values the value of each field; null values are ignored
+     */
+    public void add(Map<String, String> values) {
+        replace(Map.of(), values);
+    }
+
+    /**
+     * Uncounts the values of a removed entity.
+     *
+     * @param values the value of each field; null values are ignored
+     */
+    public void remove(Map<String, String> values) {
+        replace(values, Map.of());
+    }
+
+    /**
+     * Replaces the values of an updated entity atomically.
+     *
+     * @param previous the values before the update
+     * @param current  the values after the update
+     */
+    public void replace(Map<String, String> previous, Map<String, String> current) {
+        lock.writeLock().lock();
+        try {
+            previous.forEach(this::decrement);
+            current.forEach(this::increment);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the most frequent values of a field starting with the given prefix,
+     * ignoring case and accents.
+     *
+     * @param field  the field name
+     * @param prefix the typed prefix
+     * @param limit  the maximum number of values
+     * @return the values with their entity counts, most frequent first
+     */
+    public List<FacetValue> suggest(String field, String prefix, int limit) {
+        String key = TextAnalyzer.normalize(prefix);
+        PriorityQueue<Entry> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        List<FacetValue> suggestions = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            NavigableMap<String, Entry> values = fields.get(field);
+            if (values == null) {
+                return suggestions;
+            }
+            SortedMap<String, Entry> matches = key.isEmpty() ? values : values.subMap(key, key + Character.MAX_VALUE);
+            for (Entry entry : matches.values()) {
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<Entry> ranked = new ArrayList<>(top);
+            ranked.sort(RANKING);
+            for (Entry entry : ranked) {
+                suggestions.add(new FacetValue(entry.value, entry.count));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return suggestions;
+    }
+
+    /**
+     * Whether the index holds all existing rows, i.e. the initial build completed.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * Removes all values and marks the index as not ready.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            fields.values().forEach(Map::clear);
+            fullFields.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void increment(String field, String value) {
+        NavigableMap<String, Entry> values = fields.get(field);
+        if (values == null || value == null || value.isBlank()) {
+            return;
+        }
+        String key = TextAnalyzer.normalize(value);
+        Entry entry = values.get(key);
+        if (entry == null) {
+            if (values.size() >= maxValuesPerField) {
+                if (fullFields.add(field)) {
+                    log.warn("Suggestion index for field {} reached {} distinct values; new values are not suggested",
+                            field, maxValuesPerField);
+                }
+                return;
+            }
+            entry = new Entry(value);
+            values.put(key, entry);
+        }
+        entry.count++;
+    }
+
+    private void decrement(String field, String value) {
+        NavigableMap<String, Entry> values = fields.get(field);
+        if (values == null || value == null || value.isBlank()) {
+            return;
+        }
+        String key = TextAnalyzer.normalize(value);
+        Entry entry = values.get(key);
+        if (entry != null && --entry.count <= 0) {
+            values.remove(key);
+        }
+    }
+}
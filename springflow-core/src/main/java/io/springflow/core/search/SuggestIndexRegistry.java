@@ -0,0 +1,49 @@
+package io.springflow.core.search;
+
+import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.FieldMetadata;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link SuggestIndex} of every entity with suggestable fields.
+ */
+public class SuggestIndexRegistry {
+
+    /**
+     * Default maximum number of distinct values kept per field.
+     */
+    public static final int DEFAULT_MAX_VALUES_PER_FIELD = 50_000;
+
+    private final int maxValuesPerField;
+    private final Map<Class<?>, SuggestIndex> indexes = new ConcurrentHashMap<>();
+
+    public SuggestIndexRegistry() {
+        this(DEFAULT_MAX_VALUES_PER_FIELD);
+    }
+
+    /**
+     * @param maxValuesPerField the maximum number of distinct values kept per field
+     */
+    public SuggestIndexRegistry(int maxValuesPerField) {
+        this.maxValuesPerField = maxValuesPerField;
+    }
+
+    /**
+     * Returns the index of an entity, creating it on first use.
+     *
+     * @param metadata the entity metadata
+     * @return the index, or empty if the entity has no suggestable field
+     */
+    public Optional<SuggestIndex> forEntity(EntityMetadata metadata) {
+        List<FieldMetadata> suggestableFields = metadata.getSuggestableFields();
+        if (suggestableFields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(indexes.computeIfAbsent(metadata.entityClass(), entityClass ->
+                new SuggestIndex(suggestableFields.stream().map(FieldMetadata::name).toList(), maxValuesPerField)));
+    }
+}
@@ -0,0 +1,76 @@
+package io.springflow.core.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text into search terms.
+ * <p>
+ * Text is lower-cased, stripped of accents (so that "Café" matches "cafe") and split on
+ * anything that is not a letter or a digit. Single-character terms are dropped.
+ * </p>
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Normalizes a whole value for case- and accent-insensitive comparison, without splitting it.
+     *
+     * @param text the text
+     * @return the lower-cased text without diacritics
+     */
+    public static String normalize(String text) {
+        return DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Splits a text like {@link #tokenize}, lower-casing it but keeping its accents, for
+     * matching stored values that were not normalized. Each word yields the term
+     * {@link #normalize} gives for it.
+     *
+     * @param text the text, may be null
+     * @return the words in text order, possibly with duplicates
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        for (String word : SEPARATORS.split(composed)) {
+            if (normalize(word).length() >= MIN_TERM_LENGTH) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Tokenizes a text.
+     *
+     * @param text the text, may be null
+     * @return the terms in text order, possibly with duplicates
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        for (String term : SEPARATORS.split(normalize(text))) {
+            if (term.length() >= MIN_TERM_LENGTH) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,22 @@
+/**
+ * In-process full-text search and typeahead suggestions.
+ *
+ * <p>{@code @Searchable} field values are tokenized into a per-entity inverted index kept in
+ * memory; text queries resolve to a ranked set of IDs that is pushed into the JPA query.
+ * Suggestable field values are counted in a prefix index. Generated services update both
+ * after each committed write, and a background pass loads the existing rows at startup.
+ *
+ * <h2>Main Components</h2>
+ * <ul>
+ *   <li>{@link io.springflow.core.search.TextAnalyzer} - Splits text into normalized terms</li>
+ *   <li>{@link io.springflow.core.search.FullTextIndex} - Inverted index of one entity</li>
+ *   <li>{@link io.springflow.core.search.FullTextIndexRegistry} - Indexes of all searchable entities</li>
+ *   <li>{@link io.springflow.core.search.SuggestIndex} - Prefix index of the values of one entity</li>
+ *   <li>{@link io.springflow.core.search.SuggestIndexRegistry} - Prefix indexes of all suggestable entities</li>
+ *   <li>{@link io.springflow.core.search.SearchIndexInitializer} - Builds the indexes at startup</li>
+ * </ul>
+ *
+ * @author SpringFlow
+ * @since 0.6.0
+ */
+package io.springflow.core.search;
@@ -111,12 +111,17 @@ public class SecurityExpressionBuilder {
     }
 
     private boolean isReadMethod(String methodName) {
-        return methodName.equals("findAll") || methodName.equals("findById") || methodName.equals("search");
+        return methodName.equals("findAll") || methodName.equals("findById") || methodName.equals("search") ||
+               methodName.equals("aggregate") || methodName.equals("facets") || methodName.equals("suggest") ||
+               methodName.equals("findByIds") || methodName.equals("findByIdsInBody") ||
+               methodName.equals("writeBehindOutcome") || methodName.equals("searchText");
     }
 
     private boolean isWriteMethod(String methodName) {
         return methodName.equals("create") || methodName.equals("update") || 
                methodName.equals("patch") || methodName.equals("delete") || 
-               methodName.equals("restore") || methodName.equals("hardDelete");
+               methodName.equals("restore") || methodName.equals("hardDelete") ||
+               methodName.equals("createBatch") || methodName.equals("patchBatch") ||
+               methodName.equals("deleteBatch") || methodName.equals("deleteByFilter");
     }
 }
@@ -1,24 +1,94 @@
 package io.springflow.core.service;
 
+import io.springflow.core.config.BatchProperties;
+import io.springflow.core.dto.Aggregation;
+import io.springflow.core.dto.BatchItemResult;
+import io.springflow.core.dto.FacetBucket;
+import io.springflow.core.dto.FacetValue;
+import io.springflow.core.dto.SearchRequest;
+import io.springflow.core.exception.BatchOperationException;
 import io.springflow.core.exception.EntityNotFoundException;
+import io.springflow.core.exception.PreconditionFailedException;
+import io.springflow.core.exception.ServiceOverloadedException;
+import io.springflow.core.filter.InListStrategy;
+import io.springflow.core.filter.LikePatterns;
+import io.springflow.core.filter.QueryLimits;
+import io.springflow.core.index.QueryUsageRecorder;
 import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.FetchProfileMetadata;
 import io.springflow.core.metadata.FieldMetadata;
+import io.springflow.core.metadata.RelationMetadata;
+import io.springflow.core.repository.SpecificationBuilder;
+import io.springflow.core.search.FullTextIndex;
+import io.springflow.core.search.FullTextIndexRegistry;
+import io.springflow.core.search.SuggestIndex;
+import io.springflow.core.search.SuggestIndexRegistry;
 import io.springflow.core.security.SecurityUtils;
+import io.springflow.core.utils.EntityUtils;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.EntityType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Generic CRUD service providing common operations for entities.
@@ -39,10 +109,34 @@ public abstract class GenericCrudService<T, ID> {
 
     private static final Logger log = LoggerFactory.getLogger(GenericCrudService.class);
 
+    private static final boolean HIBERNATE_PRESENT =
+            ClassUtils.isPresent("org.hibernate.Session", GenericCrudService.class.getClassLoader());
+
+    private static final int SEARCH_REBUILD_BATCH_SIZE = 500;
+
     protected final JpaRepository<T, ID> repository;
     protected final Class<T> entityClass;
     protected final EntityMetadata metadata;
 
+    @PersistenceContext
+    protected EntityManager entityManager;
+
+    protected FullTextIndexRegistry fullTextIndexRegistry;
+
+    protected SuggestIndexRegistry suggestIndexRegistry;
+
+    protected QueryLimits queryLimits = QueryLimits.UNLIMITED;
+
+    protected QueryUsageRecorder usageRecorder;
+
+    protected BatchProperties batchProperties = new BatchProperties();
+
+    protected InListStrategy inListStrategy = InListStrategy.DEFAULT;
+
+    protected SpecificationBuilder specificationBuilder = new SpecificationBuilder();
+
+    private volatile Boolean updateLifecycle;
+
     protected GenericCrudService(JpaRepository<T, ID> repository, Class<T> entityClass, EntityMetadata metadata) {
         this.repository = repository;
         this.entityClass = entityClass;
@@ -53,6 +147,92 @@ public abstract class GenericCrudService<T, ID> {
         this(repository, entityClass, null);
     }
 
+    /**
+     * Sets the EntityManager used for queries that cannot be expressed through the repository.
+     * <p>Injected automatically for services declared as Spring beans; generated services
+     * receive it from their factory bean.</p>
+     *
+     * @param entityManager the shared EntityManager
+     */
+    public void setEntityManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Sets the registry holding the full-text index of {@code @Searchable} fields.
+     * <p>Without a registry, writes do not maintain any index and {@link #searchText} is unavailable.</p>
+     *
+     * @param fullTextIndexRegistry the shared registry
+     */
+    @Autowired(required = false)
+    public void setFullTextIndexRegistry(FullTextIndexRegistry fullTextIndexRegistry) {
+        this.fullTextIndexRegistry = fullTextIndexRegistry;
+    }
+
+    /**
+     * Sets the registry holding the typeahead index of suggestable fields.
+     * <p>Without a registry, {@link #suggest} always queries the database.</p>
+     *
+     * @param suggestIndexRegistry the shared registry
+     */
+    @Autowired(required = false)
+    public void setSuggestIndexRegistry(SuggestIndexRegistry suggestIndexRegistry) {
+        this.suggestIndexRegistry = suggestIndexRegistry;
+    }
+
+    /**
+     * Sets the global query limits, overridden per entity by {@code @AutoApi(budget = ...)}.
+     * <p>List and aggregate reads check the page offset and apply the query timeout before
+     * running any SQL.</p>
+     *
+     * @param queryLimits the global limits
+     */
+    @Autowired(required = false)
+    public void setQueryLimits(QueryLimits queryLimits) {
+        this.queryLimits = queryLimits;
+    }
+
+    /**
+     * Sets the recorder that counts sort properties and times paged list queries.
+     * <p>Without a recorder, nothing is recorded.</p>
+     *
+     * @param usageRecorder the shared recorder
+     */
+    @Autowired(required = false)
+    public void setUsageRecorder(QueryUsageRecorder usageRecorder) {
+        this.usageRecorder = usageRecorder;
+    }
+
+    /**
+     * Sets the chunk size and item limit of batch writes.
+     *
+     * @param batchProperties the batch settings
+     */
+    @Autowired(required = false)
+    public void setBatchProperties(BatchProperties batchProperties) {
+        this.batchProperties = batchProperties;
+    }
+
+    /**
+     * Sets how the ID lists of batch loads are deduplicated, padded and chunked.
+     *
+     * @param inListStrategy the shared strategy
+     */
+    @Autowired(required = false)
+    public void setInListStrategy(InListStrategy inListStrategy) {
+        this.inListStrategy = inListStrategy;
+    }
+
+    /**
+     * Sets the builder compiling search requests, which caches one plan per request shape.
+     *
+     * @param specificationBuilder the shared builder
+     */
+    @Autowired(required = false)
+    public void setSpecificationBuilder(SpecificationBuilder specificationBuilder) {
+        this.specificationBuilder = specificationBuilder;
+    }
+
     /**
      * Find all entities with pagination support.
      * <p>Filters out soft-deleted records if enabled and includeDeleted is false.</p>
@@ -67,7 +247,11 @@ public abstract class GenericCrudService<T, ID> {
         if (metadata != null && metadata.isSoftDeleteEnabled()) {
             return findAll(null, pageable, includeDeleted);
         }
-        return repository.findAll(pageable);
+        checkQueryLimits(pageable);
+        if (entityManager != null) {
+            return recordUsage(pageable, () -> findPage(null, pageable));
+        }
+        return recordUsage(pageable, () -> repository.findAll(pageable));
     }
 
     /**
@@ -101,20 +285,20 @@ public abstract class GenericCrudService<T, ID> {
         log.debug("Finding all {} with specification and pagination, includeDeleted: {}", 
                 entityClass.getSimpleName(), includeDeleted);
         
-        Specification<T> effectiveSpec = spec;
-        if (metadata != null && metadata.isSoftDeleteEnabled()) {
-            Specification<T> softDeleteSpec = buildSoftDeleteSpecification(includeDeleted);
-            effectiveSpec = spec == null ? softDeleteSpec : spec.and(softDeleteSpec);
-        }
+        Specification<T> effectiveSpec = applySoftDelete(spec, includeDeleted);
+        checkQueryLimits(pageable);
 
+        if (entityManager != null) {
+            return recordUsage(pageable, () -> findPage(effectiveSpec, pageable));
+        }
         if (repository instanceof JpaSpecificationExecutor) {
             @SuppressWarnings("unchecked")
             JpaSpecificationExecutor<T> specExecutor = (JpaSpecificationExecutor<T>) repository;
-            return specExecutor.findAll((Specification<T>) effectiveSpec, pageable);
+            return recordUsage(pageable, () -> specExecutor.findAll((Specification<T>) effectiveSpec, pageable));
         }
 
         if (spec == null && (metadata == null || !metadata.isSoftDeleteEnabled())) {
-            return repository.findAll(pageable);
+            return recordUsage(pageable, () -> repository.findAll(pageable));
         }
 
         throw new UnsupportedOperationException(
@@ -122,6 +306,145 @@ public abstract class GenericCrudService<T, ID> {
         );
     }
 
+    /**
+     * Find all entities in two phases: a page of IDs first, then the entities for those IDs.
+     * <p>
+     * Use this when the specification fetch-joins a collection relation. A single query would
+     * return one row per collection element, so Hibernate would load the whole result set and
+     * paginate in memory (HHH90003004). Paging over IDs keeps LIMIT/OFFSET in the database;
+     * the second query loads the requested graph for the page only.
+     * </p>
+     * <p>Falls back to {@link #findAll(Specification, Pageable, boolean)} when no EntityManager
+     * or metadata is available.</p>
+     *
+     * @param spec     the specification to apply (filters and fetch joins)
+     * @param pageable pagination information
+     * @param includeDeleted whether to include soft-deleted records
+     * @return a page of entities in the requested order
+     */
+    @Transactional(readOnly = true)
+    public Page<T> findAllTwoPhase(Specification<T> spec, Pageable pageable, boolean includeDeleted) {
+        if (entityManager == null || metadata == null || metadata.idType() == null
+                || !(repository instanceof JpaSpecificationExecutor)) {
+            return findAll(spec, pageable, includeDeleted);
+        }
+        log.debug("Finding all {} in two phases (IDs then graph), includeDeleted: {}",
+                entityClass.getSimpleName(), includeDeleted);
+
+        Specification<T> effectiveSpec = applySoftDelete(spec, includeDeleted);
+        checkQueryLimits(pageable);
+
+        return recordUsage(pageable, () -> {
+            List<ID> ids = findIdPage(effectiveSpec, pageable);
+            List<T> content = ids.isEmpty() ? List.of() : findAllByIdsInOrder(effectiveSpec, ids);
+
+            return PageableExecutionUtils.getPage(content, pageable, () -> countMatching(effectiveSpec));
+        });
+    }
+
+    /**
+     * Find all entities loading exactly the relations of a fetch profile.
+     * <p>
+     * The profile is applied as a {@code jakarta.persistence.fetchgraph} hint, so the
+     * specification should only hold filters. When the profile goes through a collection,
+     * a page of IDs is selected first and the graph loaded for those IDs only, as in
+     * {@link #findAllTwoPhase}; otherwise a single paged query loads the graph.
+     * </p>
+     * <p>Falls back to {@link #findAll(Specification, Pageable, boolean)} when no EntityManager
+     * or metadata is available.</p>
+     *
+     * @param spec           the filters to apply
+     * @param pageable       pagination information
+     * @param includeDeleted whether to include soft-deleted records
+     * @param profile        the fetch profile
+     * @return a page of entities in the requested order
+     */
+    @Transactional(readOnly = true)
+    public Page<T> findAll(Specification<T> spec, Pageable pageable, boolean includeDeleted, FetchProfileMetadata profile) {
+        if (entityManager == null || metadata == null || metadata.idType() == null
+                || !(repository instanceof JpaSpecificationExecutor)) {
+            return findAll(spec, pageable, includeDeleted);
+        }
+        log.debug("Finding all {} with fetch profile {}, includeDeleted: {}",
+                entityClass.getSimpleName(), profile.name(), includeDeleted);
+
+        Specification<T> effectiveSpec = applySoftDelete(spec, includeDeleted);
+        checkQueryLimits(pageable);
+        EntityGraph<T> graph = profile.toEntityGraph(entityManager, entityClass);
+
+        boolean twoPhase = profile.fetchesCollection(entityManager.getMetamodel(), entityClass);
+
+        return recordUsage(pageable, () -> {
+            List<T> content;
+            if (twoPhase) {
+                List<ID> ids = findIdPage(effectiveSpec, pageable);
+                content = ids.isEmpty() ? List.of() : findAllByIdsInOrder(effectiveSpec, ids, graph);
+            } else {
+                content = findPageWithGraph(effectiveSpec, pageable, graph);
+            }
+
+            return PageableExecutionUtils.getPage(content, pageable, () -> countMatching(effectiveSpec));
+        });
+    }
+
+    /**
+     * Batch-load collection relations for already loaded entities.
+     * <p>
+     * Issues one {@code LEFT JOIN FETCH ... WHERE id IN (...)} query per relation instead of one
+     * lazy query per entity and relation; the IDs are shaped by the {@link InListStrategy}, one
+     * query per chunk, so large pages stay under the database parameter limits. Relations that are already initialized (for example
+     * because they were fetch-joined by the page query) are skipped. When the entities are no
+     * longer attached to the current persistence context, the loaded collections are copied
+     * onto the given instances.
+     * </p>
+     *
+     * @param entities      the entities to initialize (typically the content of a page)
+     * @param relationNames names of {@code @OneToMany}/{@code @ManyToMany} fields to load;
+     *                      other names are ignored
+     */
+    @Transactional(readOnly = true)
+    public void loadCollections(List<T> entities, Collection<String> relationNames) {
+        if (entityManager == null || metadata == null || entities == null || entities.isEmpty()
+                || relationNames == null || relationNames.isEmpty()) {
+            return;
+        }
+        PersistenceUnitUtil unitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        String idFieldName = getIdFieldName();
+
+        for (String relationName : relationNames) {
+            if (metadata.getFieldByName(relationName).filter(FieldMetadata::isCollectionRelation).isEmpty()) {
+                continue;
+            }
+
+            Map<Object, T> pending = new LinkedHashMap<>();
+            for (T entity : entities) {
+                Object id = EntityUtils.getEntityId(entity, metadata);
+                if (id != null && !unitUtil.isLoaded(entity, relationName)) {
+                    pending.putIfAbsent(id, entity);
+                }
+            }
+            if (pending.isEmpty()) {
+                continue;
+            }
+
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            for (List<Object> chunk : inListStrategy.prepare(pending.keySet())) {
+                CriteriaQuery<T> query = cb.createQuery(entityClass);
+                Root<T> root = query.from(entityClass);
+                root.fetch(relationName, JoinType.LEFT);
+                query.select(root).distinct(true).where(root.get(idFieldName).in(chunk));
+
+                for (T loadedEntity : withQueryTimeout(entityManager.createQuery(query)).getResultList()) {
+                    T original = pending.get(EntityUtils.getEntityId(loadedEntity, metadata));
+                    if (original != null && original != loadedEntity) {
+                        copyFieldValue(loadedEntity, original, relationName);
+                    }
+                }
+            }
+            log.debug("Batch-loaded {}.{} for {} entities", entityClass.getSimpleName(), relationName, pending.size());
+        }
+    }
+
     @Transactional(readOnly = true)
     public Page<T> findAll(Pageable pageable) {
         return findAll(pageable, false);
@@ -147,10 +470,158 @@ public abstract class GenericCrudService<T, ID> {
     @Transactional(readOnly = true)
     public Page<T> search(io.springflow.core.dto.SearchRequest request, Pageable pageable) {
         log.debug("Searching {} with request: {} and pagination: {}", entityClass.getSimpleName(), request, pageable);
-        Specification<T> spec = io.springflow.core.repository.SpecificationBuilder.build(request);
+        if (request != null) {
+            QueryLimits limits = queryLimits.forEntity(metadata);
+            limits.checkFilterCount(countCriteria(request, limits));
+        }
+        Specification<T> spec = specificationBuilder.specification(request, metadata);
         return findAll(spec, pageable, false);
     }
 
+    /**
+     * Compute aggregates in the database, optionally grouped by fields.
+     * <p>
+     * Only the aggregated rows are returned; entities are never loaded. Each row contains the
+     * group-by values under their field names followed by each aggregate under its
+     * {@link Aggregation#alias() alias}. Rows are ordered by the group-by fields.
+     * Soft-deleted entities are excluded.
+     * </p>
+     *
+     * @param spec         filters to apply, may be null
+     * @param aggregations the aggregate functions to compute
+     * @param groupBy      fields to group by, may be empty
+     * @return one row per group (a single row without group-by fields)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> aggregate(Specification<T> spec, List<Aggregation> aggregations, List<String> groupBy) {
+        if (entityManager == null) {
+            throw new UnsupportedOperationException("Aggregation requires an EntityManager");
+        }
+        log.debug("Aggregating {} with {} grouped by {}", entityClass.getSimpleName(), aggregations, groupBy);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        List<Expression<?>> grouping = new ArrayList<>();
+        for (String field : groupBy) {
+            Path<Object> path = root.get(field);
+            selections.add(path.alias(field));
+            grouping.add(path);
+        }
+        for (Aggregation aggregation : aggregations) {
+            selections.add(toAggregateExpression(aggregation, root, cb).alias(aggregation.alias()));
+        }
+        query.multiselect(selections);
+
+        applyPredicate(query, root, cb, applySoftDelete(spec, false));
+        if (!grouping.isEmpty()) {
+            query.groupBy(grouping);
+            query.orderBy(grouping.stream().map(cb::asc).toList());
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : withQueryTimeout(entityManager.createQuery(query)).getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : groupBy) {
+                row.put(field, tuple.get(field));
+            }
+            for (Aggregation aggregation : aggregations) {
+                row.put(aggregation.alias(), tuple.get(aggregation.alias()));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Count entities per value of a field (one GROUP BY query), most frequent values first.
+     * <p>For a to-one relation, values are the IDs of the related entities.
+     * Soft-deleted entities are excluded.</p>
+     *
+     * @param spec  filters to apply, may be null
+     * @param field the facet field
+     * @param limit maximum number of values to return
+     * @return value counts ordered by count descending
+     */
+    @Transactional(readOnly = true)
+    public List<FacetValue> countBy(Specification<T> spec, String field, int limit) {
+        if (entityManager == null) {
+            throw new UnsupportedOperationException("Facet counts require an EntityManager");
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+
+        Path<Object> value = facetPath(root, field);
+        Expression<Long> count = cb.count(root);
+        query.multiselect(value, count);
+        applyPredicate(query, root, cb, applySoftDelete(spec, false));
+        query.groupBy(value);
+        query.orderBy(cb.desc(count), cb.asc(value));
+
+        List<FacetValue> values = new ArrayList<>();
+        for (Tuple tuple : withQueryTimeout(entityManager.createQuery(query)).setMaxResults(limit).getResultList()) {
+            values.add(new FacetValue(tuple.get(0), tuple.get(1, Long.class)));
+        }
+        return values;
+    }
+
+    /**
+     * Count entities per range of a field in a single query.
+     * <p>
+     * For bounds {@code b0 < b1 < ... < bn}, the buckets are {@code (-inf, b0)}, {@code [b0, b1)}, ...,
+     * {@code [bn, +inf)}. Null values are not counted. Soft-deleted entities are excluded.
+     * </p>
+     *
+     * @param spec   filters to apply, may be null
+     * @param field  the facet field (numeric or temporal)
+     * @param bounds bucket boundaries, in any order
+     * @return one bucket per range, in ascending order
+     */
+    @Transactional(readOnly = true)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<FacetBucket> countByRanges(Specification<T> spec, String field, List<? extends Comparable> bounds) {
+        if (entityManager == null) {
+            throw new UnsupportedOperationException("Facet counts require an EntityManager");
+        }
+        List<Comparable> sorted = bounds.stream().distinct().sorted().map(b -> (Comparable) b).toList();
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        Path<Comparable> path = root.get(field);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (int i = 0; i <= sorted.size(); i++) {
+            Comparable from = i > 0 ? sorted.get(i - 1) : null;
+            Comparable to = i < sorted.size() ? sorted.get(i) : null;
+            Predicate inBucket;
+            if (from == null) {
+                inBucket = cb.lessThan(path, to);
+            } else if (to == null) {
+                inBucket = cb.greaterThanOrEqualTo(path, from);
+            } else {
+                inBucket = cb.and(cb.greaterThanOrEqualTo(path, from), cb.lessThan(path, to));
+            }
+            selections.add(cb.sum(cb.<Long>selectCase().when(inBucket, 1L).otherwise(0L)));
+        }
+        query.multiselect(selections);
+        applyPredicate(query, root, cb, applySoftDelete(spec, false));
+
+        Tuple tuple = withQueryTimeout(entityManager.createQuery(query)).getSingleResult();
+        List<FacetBucket> buckets = new ArrayList<>();
+        for (int i = 0; i <= sorted.size(); i++) {
+            Object count = tuple.get(i);
+            buckets.add(new FacetBucket(
+                    i > 0 ? sorted.get(i - 1) : null,
+                    i < sorted.size() ? sorted.get(i) : null,
+                    count != null ? ((Number) count).longValue() : 0L));
+        }
+        return buckets;
+    }
+
     /**
      * Find only soft-deleted entities with pagination support.
      *
@@ -180,7 +651,11 @@ public abstract class GenericCrudService<T, ID> {
 
         Specification<T> softDeleteSpec = buildSoftDeleteSpecification(false, true);
         Specification<T> effectiveSpec = spec == null ? softDeleteSpec : spec.and(softDeleteSpec);
+        checkQueryLimits(pageable);
 
+        if (entityManager != null) {
+            return findPage(effectiveSpec, pageable);
+        }
         if (repository instanceof JpaSpecificationExecutor) {
             @SuppressWarnings("unchecked")
             JpaSpecificationExecutor<T> specExecutor = (JpaSpecificationExecutor<T>) repository;
@@ -217,10 +692,13 @@ public abstract class GenericCrudService<T, ID> {
         log.debug("Finding {} with id: {} and specification", entityClass.getSimpleName(), id);
         
         if (repository instanceof JpaSpecificationExecutor && metadata != null) {
-            String idFieldName = metadata.getIdField().map(FieldMetadata::name).orElse("id");
+            String idFieldName = getIdFieldName();
             Specification<T> idSpec = (root, query, cb) -> cb.equal(root.get(idFieldName), id);
             Specification<T> effectiveSpec = spec == null ? idSpec : spec.and(idSpec);
-            
+            if (entityManager != null) {
+                return findFirst(effectiveSpec).orElseThrow(() -> new EntityNotFoundException(entityClass, id));
+            }
+
             @SuppressWarnings("unchecked")
             JpaSpecificationExecutor<T> specExecutor = (JpaSpecificationExecutor<T>) repository;
             return specExecutor.findOne((Specification<T>) effectiveSpec)
@@ -231,6 +709,108 @@ public abstract class GenericCrudService<T, ID> {
                 .orElseThrow(() -> new EntityNotFoundException(entityClass, id));
     }
 
+    /**
+     * Find an entity by its ID, loading exactly the relations of a fetch profile.
+     *
+     * @param id      the entity ID
+     * @param spec    filters to apply, may be null
+     * @param profile the fetch profile
+     * @return the entity
+     * @throws EntityNotFoundException if entity not found
+     */
+    @Transactional(readOnly = true)
+    public T findById(ID id, Specification<T> spec, FetchProfileMetadata profile) {
+        if (entityManager == null || metadata == null || metadata.idType() == null) {
+            return findById(id, spec);
+        }
+        log.debug("Finding {} with id: {} and fetch profile {}", entityClass.getSimpleName(), id, profile.name());
+
+        List<T> found = findAllByIdsInOrder(spec, List.of(id), profile.toEntityGraph(entityManager, entityClass));
+        if (found.isEmpty()) {
+            throw new EntityNotFoundException(entityClass, id);
+        }
+        return found.get(0);
+    }
+
+    /**
+     * Loads the entities with the given IDs.
+     * <p>
+     * IDs are loaded {@link BatchProperties#getChunkSize() chunk size} at a time, one
+     * {@code WHERE id IN (...)} query per chunk applying the specification and the soft-delete
+     * filter. Without specification support, the repository's {@code findAllById} is used.
+     * </p>
+     *
+     * @param ids            the IDs, possibly repeated
+     * @param spec           filters and fetch joins to apply, may be null
+     * @param includeDeleted whether to include soft-deleted records
+     * @return the found entities by ID, in the order of the IDs; missing IDs have no entry
+     * @throws IllegalArgumentException if there are more IDs than {@link BatchProperties#getMaxItems()}
+     */
+    @Transactional(readOnly = true)
+    public Map<ID, T> findAllByIds(List<ID> ids, Specification<T> spec, boolean includeDeleted) {
+        checkBatchSize(ids.size());
+        log.debug("Finding {} {} by IDs, includeDeleted: {}", ids.size(), entityClass.getSimpleName(), includeDeleted);
+        List<ID> distinctIds = ids.stream().distinct().toList();
+        Specification<T> effectiveSpec = applySoftDelete(spec, includeDeleted);
+        boolean specSupported = repository instanceof JpaSpecificationExecutor && metadata != null;
+
+        Map<Object, T> loaded = new HashMap<>();
+        int chunkSize = Math.max(1, batchProperties.getChunkSize());
+        for (int start = 0; start < distinctIds.size(); start += chunkSize) {
+            List<ID> chunk = distinctIds.subList(start, Math.min(start + chunkSize, distinctIds.size()));
+            List<T> entities = specSupported ? findAllByIdsInOrder(effectiveSpec, chunk) : repository.findAllById(chunk);
+            for (T entity : entities) {
+                loaded.put(EntityUtils.getEntityId(entity, metadata), entity);
+            }
+        }
+
+        Map<ID, T> found = new LinkedHashMap<>();
+        for (ID id : distinctIds) {
+            T entity = loaded.get(id);
+            if (entity != null) {
+                found.put(id, entity);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Reads the {@code @Version} of an entity without loading it, with a single-column query.
+     * <p>Lets conditional reads ({@code If-None-Match}) skip loading and mapping unchanged entities.</p>
+     *
+     * @param id   the entity ID
+     * @param spec filters to apply, may be null
+     * @return the version, or null if the entity has no version field
+     * @throws EntityNotFoundException if entity not found
+     */
+    @Transactional(readOnly = true)
+    public Object findVersion(ID id, Specification<T> spec) {
+        FieldMetadata versionField = metadata != null ? metadata.getVersionField().orElse(null) : null;
+        if (versionField == null) {
+            return null;
+        }
+        if (entityManager == null) {
+            return EntityUtils.getEntityVersion(findById(id, spec), metadata);
+        }
+
+        // Typed on the version, so that specifications skip their fetch joins for this query
+        @SuppressWarnings("unchecked")
+        Class<Object> versionType = (Class<Object>) ClassUtils.resolvePrimitiveIfNecessary(versionField.type());
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = cb.createQuery(versionType);
+        Root<T> root = query.from(entityClass);
+        Predicate idPredicate = cb.equal(root.get(getIdFieldName()), id);
+        Predicate filters = spec != null ? spec.toPredicate(root, query, cb) : null;
+        query.select(root.get(versionField.name()))
+                .where(filters != null ? cb.and(idPredicate, filters) : idPredicate);
+
+        List<Object> versions = withQueryTimeout(entityManager.createQuery(query)).setMaxResults(1).getResultList();
+        if (versions.isEmpty()) {
+            throw new EntityNotFoundException(entityClass, id);
+        }
+        return versions.get(0);
+    }
+
     /**
      * Find an entity by its ID, returning an Optional.
      *
@@ -271,12 +851,19 @@ public abstract class GenericCrudService<T, ID> {
         beforeCreate(entity);
         T saved = repository.save(entity);
         afterCreate(saved);
+        indexForSearch(null, saved);
         log.info("Created new {} with result: {}", entityClass.getSimpleName(), saved);
         return saved;
     }
 
     /**
      * Update an existing entity.
+     * <p>
+     * The given entity replaces the stored state, null fields and collections included, so it is
+     * merged rather than applied in place. The merge targets the entity loaded just before in the
+     * same transaction and does not read it again; use {@link #update(Object, Consumer)} to
+     * change some fields only.
+     * </p>
      *
      * @param id     the entity ID
      * @param entity the entity with updated data
@@ -285,6 +872,8 @@ public abstract class GenericCrudService<T, ID> {
     public T update(ID id, T entity) {
         log.debug("Updating {} with id: {}", entityClass.getSimpleName(), id);
         T existing = findById(id);
+        // Read before saving: the save merges the new state into the managed instance
+        Map<String, String> previousSuggestions = suggestValues(existing);
         
         if (metadata != null && metadata.isAuditable()) {
             handleAuditing(entity, false);
@@ -293,10 +882,155 @@ public abstract class GenericCrudService<T, ID> {
         beforeUpdate(existing, entity);
         T updated = repository.save(entity);
         afterUpdate(updated);
+        indexForSearch(previousSuggestions, updated);
         log.info("Updated {} with id: {}", entityClass.getSimpleName(), id);
         return updated;
     }
 
+    /**
+     * Updates an entity in place.
+     * <p>
+     * The entity is loaded once in the current transaction and changed by the callback; Hibernate's
+     * dirty checking then writes the changed entity, without a merge or a second read. The
+     * persistence context is flushed before returning, so the version and generated values of the
+     * returned entity are current. An exception thrown by the callback, such as a validation
+     * error, rolls the change back.
+     * </p>
+     *
+     * @param id      the entity ID
+     * @param changes applies the changes to the managed entity
+     * @return the updated entity
+     * @throws EntityNotFoundException if entity not found
+     */
+    public T update(ID id, Consumer<T> changes) {
+        return update(id, null, changes);
+    }
+
+    /**
+     * Updates an entity in place if it is still at the expected version.
+     * <p>
+     * The version is checked once the entity is loaded, and the flush then writes it with
+     * {@code WHERE version = ?}: a concurrent write between the two also fails the update.
+     * </p>
+     *
+     * @param id              the entity ID
+     * @param expectedVersion the version the entity must have, or null for no check
+     * @param changes         applies the changes to the managed entity
+     * @return the updated entity
+     * @throws EntityNotFoundException     if entity not found
+     * @throws PreconditionFailedException if the entity is at another version
+     */
+    public T update(ID id, Object expectedVersion, Consumer<T> changes) {
+        log.debug("Updating {} in place with id: {}", entityClass.getSimpleName(), id);
+        T existing = findById(id);
+        checkVersion(existing, id, expectedVersion);
+        Map<String, String> previousSuggestions = suggestValues(existing);
+        T previous = snapshotForUpdateHook(existing);
+        changes.accept(existing);
+
+        if (metadata != null && metadata.isAuditable()) {
+            handleAuditing(existing, false);
+        }
+
+        beforeUpdate(previous, existing);
+        try {
+            entityManagerFlush();
+        } catch (OptimisticLockException e) {
+            if (expectedVersion == null) {
+                throw e;
+            }
+            throw new PreconditionFailedException("Entity " + entityClass.getSimpleName() + " with id " + id
+                    + " was modified concurrently");
+        }
+        afterUpdate(existing);
+        indexForSearch(previousSuggestions, existing);
+        log.info("Updated {} with id: {}", entityClass.getSimpleName(), id);
+        return existing;
+    }
+
+    /**
+     * Tells whether {@link #updateColumns} can change the given fields.
+     * <p>
+     * A column update skips the entity lifecycle, so it is only possible when nothing depends on
+     * it: no overridden {@link #beforeUpdate}/{@link #afterUpdate} hook, no auditing, no JPA
+     * callback or entity listener, and no search index on the fields. Every field must be a
+     * plain, writable column: not the ID, the version, or a relation.
+     * </p>
+     *
+     * @param fields the names of the fields to change
+     * @return true if the fields can be written with a single {@code UPDATE}
+     */
+    public boolean supportsColumnUpdate(Collection<String> fields) {
+        if (entityManager == null || metadata == null || fields.isEmpty() || hasUpdateLifecycle()) {
+            return false;
+        }
+        for (String name : fields) {
+            FieldMetadata field = metadata.getFieldByName(name).orElse(null);
+            if (field == null || field.isId() || field.isVersion() || field.isRelation() || field.hidden()
+                    || field.readOnly() || field.jsonIgnored()) {
+                return false;
+            }
+            if ((fullTextIndex() != null && field.isSearchable())
+                    || (suggestIndex() != null && metadata.getSuggestableFields().contains(field))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the given fields of an entity with a single {@code UPDATE ... SET} of those columns,
+     * without loading the entity, and increments its version.
+     * <p>Callers check {@link #supportsColumnUpdate} first; hooks and auditing are not applied.</p>
+     *
+     * @param id     the entity ID
+     * @param values the new value of each field, already converted to the field type
+     * @throws EntityNotFoundException if no row has this ID
+     */
+    public void updateColumns(ID id, Map<String, Object> values) {
+        updateColumns(id, null, values);
+    }
+
+    /**
+     * Writes the given fields of an entity with a single {@code UPDATE ... SET} of those columns,
+     * if the entity is still at the expected version.
+     * <p>The statement bypasses the persistence context: pending changes are flushed first, and
+     * the updated entity, if it was loaded, is detached afterwards so that later reads see the
+     * new row. Other entities of the transaction stay managed.</p>
+     *
+     * @param id              the entity ID
+     * @param expectedVersion the version the entity must have, or null for no check
+     * @param values          the new value of each field, already converted to the field type
+     * @throws EntityNotFoundException     if no row has this ID
+     * @throws PreconditionFailedException if the entity is at another version
+     */
+    public void updateColumns(ID id, Object expectedVersion, Map<String, Object> values) {
+        log.debug("Updating columns {} of {} with id: {}", values.keySet(), entityClass.getSimpleName(), id);
+        FieldMetadata versionField = expectedVersion != null ? metadata.getVersionField().orElseThrow(
+                () -> new IllegalArgumentException(entityClass.getSimpleName() + " has no version to check")) : null;
+        // The statement bypasses the persistence context: write pending changes first, drop the stale entity after
+        entityManager.flush();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityClass);
+        Root<T> root = update.from(entityClass);
+        values.forEach((field, value) -> update.set(root.get(field), value));
+        incrementVersion(update, root, cb);
+        Predicate idPredicate = cb.equal(root.get(getIdFieldName()), id);
+        update.where(versionField != null
+                ? cb.and(idPredicate, cb.equal(root.get(versionField.name()), expectedVersion))
+                : idPredicate);
+        int affected = entityManager.createQuery(update).executeUpdate();
+        if (affected == 0) {
+            if (versionField != null && existsById(id)) {
+                throw new PreconditionFailedException(entityClass, id, expectedVersion, findVersion(id, null));
+            }
+            throw new EntityNotFoundException(entityClass, id);
+        }
+        // The loaded instance if there is one, otherwise an uninitialized proxy: no query either way
+        entityManager.detach(entityManager.getReference(entityClass, id));
+        log.info("Updated columns {} of {} with id: {}", values.keySet(), entityClass.getSimpleName(), id);
+    }
+
     /**
      * Delete an entity by its ID.
      * <p>Performs a soft delete if {@code @SoftDelete} is present on the entity.</p>
@@ -305,8 +1039,23 @@ public abstract class GenericCrudService<T, ID> {
      * @throws EntityNotFoundException if entity not found
      */
     public void deleteById(ID id) {
+        deleteById(id, null);
+    }
+
+    /**
+     * Delete an entity by its ID if it is still at the expected version.
+     * <p>Performs a soft delete if {@code @SoftDelete} is present on the entity.</p>
+     *
+     * @param id              the entity ID
+     * @param expectedVersion the version the entity must have, or null for no check
+     * @throws EntityNotFoundException     if entity not found
+     * @throws PreconditionFailedException if the entity is at another version
+     */
+    public void deleteById(ID id, Object expectedVersion) {
         log.debug("Deleting {} with id: {}", entityClass.getSimpleName(), id);
         T entity = findById(id);
+        checkVersion(entity, id, expectedVersion);
+        Map<String, String> suggestions = suggestValues(entity);
         beforeDelete(id);
 
         if (metadata != null && metadata.isSoftDeleteEnabled()) {
@@ -316,6 +1065,7 @@ public abstract class GenericCrudService<T, ID> {
         }
 
         afterDelete(id);
+        removeFromSearch(id, suggestions);
         log.info("Deleted {} with id: {}", entityClass.getSimpleName(), id);
     }
 
@@ -326,10 +1076,17 @@ public abstract class GenericCrudService<T, ID> {
      */
     public void hardDeleteById(ID id) {
         log.debug("Hard deleting {} with id: {}", entityClass.getSimpleName(), id);
-        if (!existsById(id)) {
+        Map<String, String> suggestions = null;
+        if (suggestIndex() != null) {
+            T entity = repository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException(entityClass, id));
+            // A soft-deleted entity no longer counts in the suggestions
+            suggestions = isSoftDeleted(entity) ? null : suggestValues(entity);
+        } else if (!existsById(id)) {
             throw new EntityNotFoundException(entityClass, id);
         }
         repository.deleteById(id);
+        removeFromSearch(id, suggestions);
     }
 
     /**
@@ -347,63 +1104,450 @@ public abstract class GenericCrudService<T, ID> {
         T entity = repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(entityClass, id));
         
+        // Restoring an active entity must not count its suggestions twice
+        Map<String, String> previousSuggestions = isSoftDeleted(entity) ? null : suggestValues(entity);
         performRestore(entity);
-        return repository.save(entity);
+        T restored = repository.save(entity);
+        indexForSearch(previousSuggestions, restored);
+        return restored;
     }
 
-    private void handleAuditing(T entity, boolean isCreate) {
-        // Skip manual auditing if the entity has Spring Data JPA auditing annotations
-        if (hasSpringDataAuditingAnnotations(entity)) {
-            log.debug("Skipping manual auditing for {} as it has Spring Data JPA auditing annotations", 
-                    entityClass.getSimpleName());
-            return;
-        }
-
-        String currentUser = SecurityUtils.getCurrentUserLogin().orElse("system");
-        LocalDateTime now = LocalDateTime.now();
-
+    /**
+     * Creates entities in one transaction.
+     * <p>
+     * Each entity goes through {@link #save}, so auditing and hooks apply. Every
+     * {@link BatchProperties#getChunkSize() chunk size} entities, the persistence context is
+     * flushed and cleared: inserts are sent as JDBC batches and memory stays bounded. Identity
+     * generated IDs force Hibernate to insert row by row; sequences keep batching.
+     * </p>
+     *
+     * @param entities the entities to create
+     * @return the created entities, detached once their chunk is cleared
+     * @throws IllegalArgumentException if there are more entities than allowed per batch
+     */
+    public List<T> createAll(List<T> entities) {
+        checkBatchSize(entities.size());
+        log.debug("Creating {} {} in chunks of {}", entities.size(), entityClass.getSimpleName(), batchProperties.getChunkSize());
+        Integer previousBatchSize = enableJdbcBatching();
         try {
-            if (isCreate) {
-                setFieldValueSafely(entity, metadata.auditableConfig().createdAtField(), now);
-                setFieldValueSafely(entity, metadata.auditableConfig().createdByField(), currentUser);
+            List<T> created = new ArrayList<>(entities.size());
+            for (int i = 0; i < entities.size(); i++) {
+                created.add(save(entities.get(i)));
+                flushChunk(i + 1);
             }
-            setFieldValueSafely(entity, metadata.auditableConfig().updatedAtField(), now);
-            setFieldValueSafely(entity, metadata.auditableConfig().updatedByField(), currentUser);
-        } catch (Exception e) {
-            log.warn("Failed to apply auditing to {}", entityClass.getSimpleName());
+            entityManagerFlush();
+            return created;
+        } finally {
+            restoreJdbcBatching(previousBatchSize);
         }
     }
 
-    private boolean hasSpringDataAuditingAnnotations(T entity) {
-        for (Field field : entityClass.getDeclaredFields()) {
-            if (field.isAnnotationPresent(org.springframework.data.annotation.CreatedDate.class) ||
-                field.isAnnotationPresent(org.springframework.data.annotation.LastModifiedDate.class) ||
-                field.isAnnotationPresent(org.springframework.data.annotation.CreatedBy.class) ||
-                field.isAnnotationPresent(org.springframework.data.annotation.LastModifiedBy.class)) {
-                return true;
-            }
-        }
-        // Also check superclasses
-        Class<?> superclass = entityClass.getSuperclass();
-        while (superclass != null && superclass != Object.class) {
-            for (Field field : superclass.getDeclaredFields()) {
-                if (field.isAnnotationPresent(org.springframework.data.annotation.CreatedDate.class) ||
-                    field.isAnnotationPresent(org.springframework.data.annotation.LastModifiedDate.class) ||
-                    field.isAnnotationPresent(org.springframework.data.annotation.CreatedBy.class) ||
-                    field.isAnnotationPresent(org.springframework.data.annotation.LastModifiedBy.class)) {
-                    return true;
+    /**
+     * Updates entities in one transaction.
+     * <p>
+     * Entities are loaded one chunk at a time with a single {@code IN} query, changed by the
+     * callback, then flushed and cleared as in {@link #createAll}. Soft-deleted entities are not
+     * loaded, as by {@link #findAll}, so they are reported missing; unlike the single
+     * {@link #update(Object, Consumer)}, which loads the entity by ID only. Missing IDs and exceptions
+     * thrown by the callback (validation errors) are collected; if any item failed, a
+     * {@link BatchOperationException} rolls back the whole batch. {@link #afterUpdate} runs once
+     * every chunk is flushed, so it only sees rows the database accepted.
+     * </p>
+     *
+     * @param ids    the IDs of the entities to update, in request order
+     * @param change applies the changes of the item at the given index to the loaded entity
+     * @return one result per item
+     * @throws BatchOperationException if any item failed
+     */
+    public List<BatchItemResult> updateAll(List<ID> ids, BiConsumer<Integer, T> change) {
+        checkBatchSize(ids.size());
+        log.debug("Updating {} {} in chunks of {}", ids.size(), entityClass.getSimpleName(), batchProperties.getChunkSize());
+        Integer previousBatchSize = enableJdbcBatching();
+        try {
+            return forEachLoadedChunk(ids, (index, entity) -> {
+                Map<String, String> previousSuggestions = suggestValues(entity);
+                T previous = snapshotForUpdateHook(entity);
+                change.accept(index, entity);
+                if (metadata != null && metadata.isAuditable()) {
+                    handleAuditing(entity, false);
                 }
+                beforeUpdate(previous, entity);
+                // The entity is managed: the chunk flush writes it
+                indexForSearch(previousSuggestions, entity);
+                return BatchItemResult.Status.UPDATED;
+            }, (id, entity) -> afterUpdate(entity));
+        } finally {
+            restoreJdbcBatching(previousBatchSize);
+        }
+    }
+
+    /**
+     * Deletes entities in one transaction, soft-deleting them if {@code @SoftDelete} is present.
+     * <p>Entities are loaded and deleted one chunk at a time; soft-deleted entities count as
+     * missing. If any ID is missing, a {@link BatchOperationException} rolls back the whole batch.
+     * {@link #afterDelete} runs once every chunk is flushed.</p>
+     *
+     * @param ids the IDs of the entities to delete, in request order
+     * @return one result per item
+     * @throws BatchOperationException if any item failed
+     */
+    public List<BatchItemResult> deleteAllById(List<ID> ids) {
+        checkBatchSize(ids.size());
+        log.debug("Deleting {} {} in chunks of {}", ids.size(), entityClass.getSimpleName(), batchProperties.getChunkSize());
+        Integer previousBatchSize = enableJdbcBatching();
+        try {
+            return forEachLoadedChunk(ids, (index, entity) -> {
+                ID id = ids.get(index);
+                Map<String, String> suggestions = suggestValues(entity);
+                beforeDelete(id);
+                if (metadata != null && metadata.isSoftDeleteEnabled()) {
+                    performSoftDelete(entity);
+                } else {
+                    repository.delete(entity);
+                }
+                removeFromSearch(id, suggestions);
+                return BatchItemResult.Status.DELETED;
+            }, (id, entity) -> afterDelete(id));
+        } finally {
+            restoreJdbcBatching(previousBatchSize);
+        }
+    }
+
+    /**
+     * Deletes the entities matching a specification with a single statement, soft-deleting them
+     * if {@code @SoftDelete} is present.
+     * <p>
+     * Entities are not loaded: a {@code CriteriaDelete}, or a {@code CriteriaUpdate} setting the
+     * deleted flag and date, runs in the database, so the {@link #beforeDelete} and
+     * {@link #afterDelete} hooks are not called. The matching rows are counted first and the
+     * delete is rejected beyond {@link BatchProperties#getMaxAffectedRows()}; only then are the
+     * IDs to remove from the search indexes read, one chunk at a time.
+     * </p>
+     * <p>
+     * A {@code CriteriaDelete} does not apply JPA cascades, orphan removal or the cleanup of
+     * owned join tables, so a hard delete is rejected for entities that rely on them; the
+     * soft delete, which only updates the row, is always possible.
+     * </p>
+     *
+     * @param spec the filters; their {@code CriteriaQuery} argument is null
+     * @return the number of deleted rows
+     * @throws IllegalArgumentException if more rows match than allowed, or the entity cascades
+     *                                  its delete to other rows
+     */
+    public long deleteAll(Specification<T> spec) {
+        boolean softDelete = metadata != null && metadata.isSoftDeleteEnabled();
+        Specification<T> effectiveSpec = applySoftDelete(spec, false);
+        log.debug("Bulk {} of {} by filter", softDelete ? "soft delete" : "delete", entityClass.getSimpleName());
+
+        if (!softDelete) {
+            String cascading = deleteCascadingField();
+            if (cascading != null) {
+                throw new IllegalArgumentException("A bulk delete would skip the cascade of "
+                        + entityClass.getSimpleName() + "." + cascading + "; delete these entities by ID");
             }
-            superclass = superclass.getSuperclass();
         }
-        return false;
+        long maxAffectedRows = batchProperties.getMaxAffectedRows();
+        if (maxAffectedRows > 0) {
+            long matching = countMatching(effectiveSpec);
+            if (matching > maxAffectedRows) {
+                throw new IllegalArgumentException("Bulk delete would affect " + matching + " "
+                        + entityClass.getSimpleName() + " rows, more than the limit of " + maxAffectedRows);
+            }
+        }
+        List<SearchEntry> searchEntries = fullTextIndex() != null || suggestIndex() != null
+                ? findSearchEntries(effectiveSpec) : null;
+
+        // The statement bypasses the persistence context: write pending changes first, drop stale entities after
+        entityManager.flush();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        int affected;
+        if (softDelete) {
+            CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityClass);
+            Root<T> root = update.from(entityClass);
+            setSoftDeleted(update, root, cb);
+            update.where(effectiveSpec.toPredicate(root, null, cb));
+            affected = entityManager.createQuery(update).executeUpdate();
+        } else {
+            CriteriaDelete<T> delete = cb.createCriteriaDelete(entityClass);
+            Root<T> root = delete.from(entityClass);
+            if (effectiveSpec != null) {
+                delete.where(effectiveSpec.toPredicate(root, null, cb));
+            }
+            affected = entityManager.createQuery(delete).executeUpdate();
+        }
+        entityManager.clear();
+
+        if (searchEntries != null) {
+            FullTextIndex index = fullTextIndex();
+            SuggestIndex suggestIndex = suggestIndex();
+            afterCommit(() -> {
+                for (SearchEntry entry : searchEntries) {
+                    if (index != null) {
+                        index.remove(entry.id());
+                    }
+                    if (suggestIndex != null) {
+                        suggestIndex.remove(entry.suggestions());
+                    }
+                }
+            });
+        }
+        log.info("Deleted {} {} by filter", affected, entityClass.getSimpleName());
+        return affected;
+    }
+
+    /**
+     * Searches the {@code @Searchable} fields and returns matches by relevance.
+     * <p>The query is resolved against the in-process full-text index; only the entities of the
+     * requested page are then loaded, with a single {@code IN} query. The total counts every
+     * match of the index. Sorting of the pageable is ignored: results are always ranked.</p>
+     *
+     * @param query    the search text
+     * @param pageable pagination information
+     * @return a page of matching entities, best match first
+     * @throws IllegalArgumentException    if the entity has no searchable field or no index, or
+     *                                     the offset exceeds the query limits
+     * @throws ServiceOverloadedException if the index is still being built
+     */
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public Page<T> searchText(String query, Pageable pageable) {
+        FullTextIndex index = fullTextIndex();
+        if (index == null) {
+            throw new IllegalArgumentException("Full-text search is not enabled for " + entityClass.getSimpleName());
+        }
+        if (!index.isReady()) {
+            throw new ServiceOverloadedException("The full-text index of " + entityClass.getSimpleName()
+                    + " is being built", 1);
+        }
+        checkQueryLimits(pageable);
+
+        FullTextIndex.Hits hits = pageable.isPaged()
+                ? index.search(query, null, pageable.getOffset(), pageable.getPageSize())
+                : index.search(query, null, 0, Integer.MAX_VALUE);
+        List<ID> ids = new ArrayList<>(hits.hits().size());
+        for (FullTextIndex.Hit hit : hits.hits()) {
+            ids.add((ID) hit.id());
+        }
+
+        List<T> content = ids.isEmpty() ? List.of() : findAllByIdsInOrder(applySoftDelete(null, false), ids);
+        return new PageImpl<>(content, pageable, hits.total());
+    }
+
+    /**
+     * Rebuilds the full-text index of this entity from the database, in batches.
+     * <p>Soft-deleted records are not indexed. Does nothing if the entity has no
+     * {@code @Searchable} field.</p>
+     *
+     * @return the number of indexed entities
+     */
+    @Transactional(readOnly = true)
+    public int rebuildFullTextIndex() {
+        FullTextIndex index = fullTextIndex();
+        if (index == null) {
+            return 0;
+        }
+
+        index.clear();
+        int count = forEachActiveEntity(entity ->
+                index.index(EntityUtils.getEntityId(entity, metadata), searchableTexts(entity)));
+        index.markReady();
+        log.info("Built full-text index for {} with {} entities", entityClass.getSimpleName(), count);
+        return count;
     }
 
-    private void setFieldValueSafely(T entity, String fieldName, Object value) {
+    /**
+     * Returns the most frequent values of a field starting with the given prefix, for typeahead.
+     * <p>Served from the in-memory suggestion index once it is built; until then, or for a field
+     * that is not suggestable, the values are counted in the database.</p>
+     *
+     * @param field  the field name
+     * @param prefix the typed prefix
+     * @param limit  the maximum number of values
+     * @return the values with their entity counts, most frequent first
+     */
+    @Transactional(readOnly = true)
+    public List<FacetValue> suggest(String field, String prefix, int limit) {
+        SuggestIndex index = suggestIndex();
+        if (index != null && index.isReady() && index.isIndexed(field)) {
+            return index.suggest(field, prefix, limit);
+        }
+        Specification<T> spec = (root, query, cb) -> cb.like(cb.lower(root.get(field)),
+                LikePatterns.lower(LikePatterns.startsWith(prefix)), LikePatterns.ESCAPE_CHAR);
+        return countBy(spec, field, limit);
+    }
+
+    /**
+     * Rebuilds the suggestion index of this entity from the database, in batches.
+     * <p>Soft-deleted records are not counted. Does nothing if the entity has no suggestable field.</p>
+     *
+     * @return the number of indexed entities
+     */
+    @Transactional(readOnly = true)
+    public int rebuildSuggestIndex() {
+        SuggestIndex index = suggestIndex();
+        if (index == null) {
+            return 0;
+        }
+
+        index.clear();
+        int count = forEachActiveEntity(entity -> index.add(suggestValues(entity)));
+        index.markReady();
+        log.info("Built suggestion index for {} with {} entities", entityClass.getSimpleName(), count);
+        return count;
+    }
+
+    private void handleAuditing(T entity, boolean isCreate) {
+        // Entities with Spring Data JPA auditing annotations are audited by Spring Data
+        if (metadata.usesSpringDataAuditing()) {
+            return;
+        }
+
+        String currentUser = SecurityUtils.getCurrentUserLogin().orElse("system");
         try {
-            setFieldValue(entity, fieldName, value);
+            metadata.auditing().apply(entity, isCreate, currentUser, LocalDateTime.now());
         } catch (Exception e) {
-            // Ignore if field doesn't exist
+            log.warn("Failed to apply auditing to {}", entityClass.getSimpleName());
+        }
+    }
+
+    private FullTextIndex fullTextIndex() {
+        if (fullTextIndexRegistry == null || metadata == null) {
+            return null;
+        }
+        return fullTextIndexRegistry.forEntity(metadata).orElse(null);
+    }
+
+    private SuggestIndex suggestIndex() {
+        if (suggestIndexRegistry == null || metadata == null) {
+            return null;
+        }
+        return suggestIndexRegistry.forEntity(metadata).orElse(null);
+    }
+
+    /**
+     * Updates the search indexes with a written entity once the transaction commits.
+     *
+     * @param previousSuggestions the suggestable values before the write, or null for a new entity
+     */
+    private void indexForSearch(Map<String, String> previousSuggestions, T entity) {
+        FullTextIndex index = fullTextIndex();
+        SuggestIndex suggestIndex = suggestIndex();
+        if (entity == null || (index == null && suggestIndex == null)) {
+            return;
+        }
+        Object id = EntityUtils.getEntityId(entity, metadata);
+        Map<String, String> texts = index != null ? searchableTexts(entity) : null;
+        Map<String, String> suggestions = suggestIndex != null ? suggestValues(entity) : null;
+        afterCommit(() -> {
+            if (index != null) {
+                index.index(id, texts);
+            }
+            if (suggestIndex != null) {
+                suggestIndex.replace(previousSuggestions != null ? previousSuggestions : Map.of(), suggestions);
+            }
+        });
+    }
+
+    /**
+     * Removes a deleted entity from the search indexes once the transaction commits.
+     *
+     * @param suggestions the suggestable values of the entity, or null if they are not counted
+     */
+    private void removeFromSearch(ID id, Map<String, String> suggestions) {
+        FullTextIndex index = fullTextIndex();
+        SuggestIndex suggestIndex = suggestIndex();
+        afterCommit(() -> {
+            if (index != null) {
+                index.remove(id);
+            }
+            if (suggestIndex != null && suggestions != null) {
+                suggestIndex.remove(suggestions);
+            }
+        });
+    }
+
+    private Map<String, String> searchableTexts(T entity) {
+        return readTextValues(entity, metadata.getSearchableFields());
+    }
+
+    private Map<String, String> suggestValues(T entity) {
+        if (suggestIndex() == null || entity == null) {
+            return Map.of();
+        }
+        return readTextValues(entity, metadata.getSuggestableFields());
+    }
+
+    private Map<String, String> readTextValues(T entity, List<FieldMetadata> fields) {
+        Map<String, String> values = new HashMap<>();
+        for (FieldMetadata field : fields) {
+            try {
+                field.field().setAccessible(true);
+                Object value = field.field().get(entity);
+                if (value != null) {
+                    values.put(field.name(), value.toString());
+                }
+            } catch (IllegalAccessException e) {
+                log.warn("Failed to read field {} on {}", field.name(), entityClass.getSimpleName());
+            }
+        }
+        return values;
+    }
+
+    private boolean isSoftDeleted(T entity) {
+        if (metadata == null || !metadata.isSoftDeleteEnabled()) {
+            return false;
+        }
+        return metadata.getFieldByName(metadata.softDeleteConfig().deletedField())
+                .map(field -> {
+                    try {
+                        field.field().setAccessible(true);
+                        return Boolean.TRUE.equals(field.field().get(entity));
+                    } catch (IllegalAccessException e) {
+                        return false;
+                    }
+                })
+                .orElse(false);
+    }
+
+    /**
+     * Visits all non-deleted entities in ID order, one page at a time, clearing the persistence
+     * context between pages.
+     *
+     * @return the number of visited entities
+     */
+    private int forEachActiveEntity(Consumer<T> action) {
+        int count = 0;
+        Pageable pageable = PageRequest.of(0, SEARCH_REBUILD_BATCH_SIZE, Sort.by(getIdFieldName()));
+        Page<T> page;
+        do {
+            page = findAll(pageable, false);
+            for (T entity : page.getContent()) {
+                action.accept(entity);
+                count++;
+            }
+            if (entityManager != null) {
+                // Visited entities are no longer needed in the persistence context
+                entityManager.clear();
+            }
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+        return count;
+    }
+
+    /**
+     * Runs the action once the current transaction commits, so that rolled back writes never
+     * reach the index; runs it immediately outside a transaction.
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
         }
     }
 
@@ -434,6 +1578,601 @@ public abstract class GenericCrudService<T, ID> {
         }
     }
 
+    /**
+     * Checks the page offset against this entity's query limits, before any SQL runs.
+     *
+     * @throws IllegalArgumentException if the page starts beyond the maximum offset
+     */
+    private void checkQueryLimits(Pageable pageable) {
+        if (pageable.isPaged()) {
+            queryLimits.forEntity(metadata).checkOffset(pageable.getOffset());
+        }
+    }
+
+    /**
+     * Sets this entity's query timeout on one query. The hint is set per query rather than on
+     * the EntityManager, which is shared by the whole transaction: hooks, lazy loads and custom
+     * code running later in it keep their own timeout.
+     */
+    private <R> TypedQuery<R> withQueryTimeout(TypedQuery<R> query) {
+        QueryLimits limits = queryLimits.forEntity(metadata);
+        if (limits.hasTimeout()) {
+            query.setHint(QueryLimits.TIMEOUT_HINT, limits.timeoutMs());
+        }
+        return query;
+    }
+
+    /**
+     * Selects one page of the entities matching the specification, and counts them when the page
+     * is not the last one, as {@code JpaSpecificationExecutor.findAll(spec, pageable)} does, with
+     * the query timeout set on both queries.
+     */
+    private Page<T> findPage(Specification<T> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+        query.select(root);
+        applyPredicate(query, root, cb, spec);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<T> typedQuery = withQueryTimeout(entityManager.createQuery(query));
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> countMatching(spec));
+    }
+
+    /**
+     * Selects the first entity matching the specification, with the query timeout set.
+     */
+    private Optional<T> findFirst(Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+        query.select(root);
+        applyPredicate(query, root, cb, spec);
+        return withQueryTimeout(entityManager.createQuery(query)).getResultStream().findFirst();
+    }
+
+    /**
+     * Loads the entities of each chunk of IDs with one query and applies the action to them, in
+     * request order. Entities are loaded through the soft-delete filter, as by {@link #findAll}.
+     * Missing entities and non-persistence exceptions of the action are collected as failures;
+     * persistence errors propagate, since the transaction cannot continue after them. Once an
+     * item has failed, chunks are no longer flushed but cleared, so that the changes of the
+     * batch, which is rolled back, are not auto-flushed by the query of the next chunk. Once
+     * every chunk is flushed without failure, {@code afterFlush} runs for each item.
+     */
+    private List<BatchItemResult> forEachLoadedChunk(List<ID> ids, BatchAction<T> action, BiConsumer<ID, T> afterFlush) {
+        int chunkSize = Math.max(1, batchProperties.getChunkSize());
+        Specification<T> notDeleted = applySoftDelete(null, false);
+        boolean specSupported = repository instanceof JpaSpecificationExecutor && metadata != null;
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+        List<BatchItemResult> failures = new ArrayList<>();
+        List<T> processed = new ArrayList<>(ids.size());
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            List<ID> chunk = ids.subList(start, Math.min(start + chunkSize, ids.size()));
+            Map<Object, T> loaded = new HashMap<>();
+            for (T entity : specSupported ? findAllByIdsInOrder(notDeleted, chunk) : repository.findAllById(chunk)) {
+                loaded.put(EntityUtils.getEntityId(entity, metadata), entity);
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                int index = start + i;
+                ID id = chunk.get(i);
+                T entity = loaded.get(id);
+                try {
+                    if (entity == null) {
+                        throw new EntityNotFoundException(entityClass, id);
+                    }
+                    results.add(BatchItemResult.success(index, id, action.apply(index, entity)));
+                    processed.add(entity);
+                } catch (DataAccessException | PersistenceException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    failures.add(BatchItemResult.failure(index, id, e));
+                }
+            }
+            if (failures.isEmpty()) {
+                entityManagerFlush();
+            }
+            entityManagerClear();
+        }
+        if (!failures.isEmpty()) {
+            throw new BatchOperationException(ids.size(), failures);
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            afterFlush.accept(ids.get(i), processed.get(i));
+        }
+        return results;
+    }
+
+    /**
+     * Sets the deleted flag and date of a bulk soft delete, and increments the version.
+     */
+    private void setSoftDeleted(CriteriaUpdate<T> update, Root<T> root, CriteriaBuilder cb) {
+        update.set(root.<Boolean>get(metadata.softDeleteConfig().deletedField()), true);
+        String deletedAtField = metadata.softDeleteConfig().deletedAtField();
+        if (metadata.getFieldByName(deletedAtField).isPresent()) {
+            update.set(root.<LocalDateTime>get(deletedAtField), LocalDateTime.now());
+        }
+        incrementVersion(update, root, cb);
+    }
+
+    private void checkVersion(T entity, ID id, Object expectedVersion) {
+        if (expectedVersion == null) {
+            return;
+        }
+        Object version = EntityUtils.getEntityVersion(entity, metadata);
+        if (!Objects.equals(version, expectedVersion)) {
+            throw new PreconditionFailedException(entityClass, id, expectedVersion, version);
+        }
+    }
+
+    /**
+     * Increments the numeric version of a bulk update, so that concurrent updates of the changed
+     * entities fail their optimistic lock check.
+     */
+    private void incrementVersion(CriteriaUpdate<T> update, Root<T> root, CriteriaBuilder cb) {
+        metadata.fields().stream()
+                .filter(FieldMetadata::isVersion)
+                .filter(field -> field.type().isPrimitive() || Number.class.isAssignableFrom(field.type()))
+                .findFirst()
+                .ifPresent(field -> {
+                    Path<Number> version = root.get(field.name());
+                    update.set(version, cb.sum(version, 1));
+                });
+    }
+
+    /**
+     * Tells whether the entity's updates run code a column update would skip: overridden update
+     * hooks, auditing, or JPA callbacks. Resolved once, since it depends on classes only.
+     */
+    private boolean hasUpdateLifecycle() {
+        Boolean lifecycle = updateLifecycle;
+        if (lifecycle == null) {
+            lifecycle = metadata.isAuditable() || overridesUpdateHooks()
+                    || metadata.usesSpringDataAuditing() || hasUpdateCallbacks();
+            updateLifecycle = lifecycle;
+        }
+        return lifecycle;
+    }
+
+    /**
+     * Copies the state of a loaded entity before an in-place update, so that
+     * {@link #beforeUpdate} receives the previous state apart from the changed entity. The copy
+     * is shallow (relations and collections are shared) and only made when the hook is overridden.
+     */
+    private T snapshotForUpdateHook(T entity) {
+        Method beforeUpdate = ReflectionUtils.findMethod(getClass(), "beforeUpdate", Object.class, Object.class);
+        // A lazy proxy subclass is not itself annotated with @Entity, and cannot be copied
+        if (beforeUpdate.getDeclaringClass() == GenericCrudService.class
+                || !entity.getClass().isAnnotationPresent(Entity.class)) {
+            return entity;
+        }
+        @SuppressWarnings("unchecked")
+        T snapshot = (T) BeanUtils.instantiateClass(entity.getClass());
+        ReflectionUtils.shallowCopyFieldState(entity, snapshot);
+        return snapshot;
+    }
+
+    private boolean overridesUpdateHooks() {
+        // Overrides in a subclass of GenericCrudService<E, ID> are found through their erased bridge methods
+        Method beforeUpdate = ReflectionUtils.findMethod(getClass(), "beforeUpdate", Object.class, Object.class);
+        Method afterUpdate = ReflectionUtils.findMethod(getClass(), "afterUpdate", Object.class);
+        return beforeUpdate.getDeclaringClass() != GenericCrudService.class
+                || afterUpdate.getDeclaringClass() != GenericCrudService.class;
+    }
+
+    /**
+     * Tells whether JPA would run code on update: {@code @PreUpdate}/{@code @PostUpdate} methods or
+     * entity listeners on the entity or its superclasses.
+     */
+    private boolean hasUpdateCallbacks() {
+        for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            if (type.isAnnotationPresent(EntityListeners.class)) {
+                return true;
+            }
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(PreUpdate.class) || method.isAnnotationPresent(PostUpdate.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private long countMatching(Specification<T> spec) {
+        if (entityManager != null) {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaQuery<Long> query = cb.createQuery(Long.class);
+            Root<T> root = query.from(entityClass);
+            applyPredicate(query, root, cb, spec);
+            query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+            return withQueryTimeout(entityManager.createQuery(query)).getSingleResult();
+        }
+        if (spec == null) {
+            return repository.count();
+        }
+        if (repository instanceof JpaSpecificationExecutor) {
+            @SuppressWarnings("unchecked")
+            JpaSpecificationExecutor<T> specExecutor = (JpaSpecificationExecutor<T>) repository;
+            return specExecutor.count(spec);
+        }
+        throw new UnsupportedOperationException(
+                "Repository does not support JpaSpecificationExecutor for dynamic filtering"
+        );
+    }
+
+    /**
+     * Reads the ID and suggestion values of the rows a bulk delete removes, without loading the
+     * entities, so that they leave the search indexes once the delete commits. Rows are read
+     * {@link BatchProperties#getChunkSize() chunk size} at a time, in ID order from the last ID
+     * read, so that no single result set holds every row.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<SearchEntry> findSearchEntries(Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        List<FieldMetadata> suggestable = suggestIndex() != null ? metadata.getSuggestableFields() : List.of();
+        int chunkSize = Math.max(1, batchProperties.getChunkSize());
+
+        List<SearchEntry> entries = new ArrayList<>();
+        Object lastId = null;
+        while (true) {
+            CriteriaQuery<Tuple> query = cb.createTupleQuery();
+            Root<T> root = query.from(entityClass);
+            Path<Comparable> idPath = root.get(getIdFieldName());
+            List<Selection<?>> selections = new ArrayList<>();
+            selections.add(idPath);
+            for (FieldMetadata field : suggestable) {
+                selections.add(root.get(field.name()));
+            }
+            query.multiselect(selections);
+            Specification<T> chunkSpec = spec;
+            if (lastId != null) {
+                Comparable after = (Comparable) lastId;
+                Specification<T> afterLastId = (r, q, b) -> b.greaterThan(r.<Comparable>get(getIdFieldName()), after);
+                chunkSpec = spec == null ? afterLastId : spec.and(afterLastId);
+            }
+            applyPredicate(query, root, cb, chunkSpec);
+            query.orderBy(cb.asc(idPath));
+
+            List<Tuple> chunk = withQueryTimeout(entityManager.createQuery(query)).setMaxResults(chunkSize).getResultList();
+            for (Tuple tuple : chunk) {
+                Map<String, String> suggestions = new HashMap<>();
+                for (int i = 0; i < suggestable.size(); i++) {
+                    Object value = tuple.get(i + 1);
+                    if (value != null) {
+                        suggestions.put(suggestable.get(i).name(), value.toString());
+                    }
+                }
+                entries.add(new SearchEntry(tuple.get(0), suggestions));
+            }
+            if (chunk.size() < chunkSize) {
+                return entries;
+            }
+            lastId = chunk.getLast().get(0);
+        }
+    }
+
+    /**
+     * Returns the first relation whose delete JPA cascades to other rows: a cascaded remove, an
+     * orphan removal, or an owned many-to-many join table. A {@code CriteriaDelete} would skip it.
+     */
+    private String deleteCascadingField() {
+        if (metadata == null) {
+            return null;
+        }
+        for (FieldMetadata field : metadata.fields()) {
+            RelationMetadata relation = field.relation();
+            if (relation == null) {
+                continue;
+            }
+            if (relation.cascadeTypes() != null) {
+                for (CascadeType cascade : relation.cascadeTypes()) {
+                    if (cascade == CascadeType.ALL || cascade == CascadeType.REMOVE) {
+                        return field.name();
+                    }
+                }
+            }
+            OneToMany oneToMany = field.field() != null ? field.field().getAnnotation(OneToMany.class) : null;
+            OneToOne oneToOne = field.field() != null ? field.field().getAnnotation(OneToOne.class) : null;
+            if ((oneToMany != null && oneToMany.orphanRemoval()) || (oneToOne != null && oneToOne.orphanRemoval())) {
+                return field.name();
+            }
+            if (relation.type() == RelationMetadata.RelationType.MANY_TO_MANY
+                    && (relation.mappedBy() == null || relation.mappedBy().isEmpty())) {
+                return field.name();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The ID and suggestion values of a row removed by a bulk delete.
+     */
+    private record SearchEntry(Object id, Map<String, String> suggestions) {
+    }
+
+    /**
+     * An action applied to one loaded entity of a batch.
+     */
+    @FunctionalInterface
+    private interface BatchAction<T> {
+        BatchItemResult.Status apply(int index, T entity);
+    }
+
+    private void checkBatchSize(int size) {
+        if (batchProperties.getMaxItems() > 0 && size > batchProperties.getMaxItems()) {
+            throw new IllegalArgumentException("A batch cannot contain more than " + batchProperties.getMaxItems()
+                    + " items, got " + size);
+        }
+    }
+
+    /**
+     * Flushes and clears the persistence context after each full chunk.
+     */
+    private void flushChunk(int processed) {
+        if (processed % Math.max(1, batchProperties.getChunkSize()) == 0) {
+            entityManagerFlush();
+            entityManagerClear();
+        }
+    }
+
+    private void entityManagerFlush() {
+        if (entityManager != null) {
+            entityManager.flush();
+        }
+    }
+
+    private void entityManagerClear() {
+        if (entityManager != null) {
+            entityManager.clear();
+        }
+    }
+
+    /**
+     * Sets the JDBC batch size of the current Hibernate session to the chunk size, so that
+     * batching works without {@code hibernate.jdbc.batch_size} in the configuration.
+     *
+     * @return the previous session batch size, to restore
+     */
+    private Integer enableJdbcBatching() {
+        if (entityManager == null || !HIBERNATE_PRESENT) {
+            return null;
+        }
+        org.hibernate.Session session = entityManager.unwrap(org.hibernate.Session.class);
+        if (session == null) {
+            return null;
+        }
+        Integer previous = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchProperties.getChunkSize());
+        return previous;
+    }
+
+    private void restoreJdbcBatching(Integer previousBatchSize) {
+        if (entityManager != null && HIBERNATE_PRESENT) {
+            org.hibernate.Session session = entityManager.unwrap(org.hibernate.Session.class);
+            if (session != null) {
+                session.setJdbcBatchSize(previousBatchSize);
+            }
+        }
+    }
+
+    /**
+     * Records the sort properties of a page request and the duration of its queries.
+     * Properties that are not fields of the entity, such as relevance sorts, are skipped.
+     */
+    private <R> R recordUsage(Pageable pageable, Supplier<R> query) {
+        if (usageRecorder == null || metadata == null) {
+            return query.get();
+        }
+        String entityName = metadata.entityName();
+        for (Sort.Order order : pageable.getSort()) {
+            if (metadata.getFieldByName(order.getProperty()).isPresent()) {
+                usageRecorder.recordSort(entityName, order.getProperty());
+            }
+        }
+        long start = System.nanoTime();
+        try {
+            return query.get();
+        } finally {
+            usageRecorder.recordQuery(entityName, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Counts the criteria of a search request, including nested groups, and checks the size
+     * of its {@code IN} values.
+     */
+    private int countCriteria(SearchRequest request, QueryLimits limits) {
+        int count = 0;
+        if (request.criteria() != null) {
+            for (SearchRequest.FilterCriteria criteria : request.criteria()) {
+                count++;
+                if (criteria.value() instanceof Collection<?> values) {
+                    limits.checkInSize(criteria.field(), values.size());
+                }
+            }
+        }
+        if (request.groups() != null) {
+            for (SearchRequest group : request.groups()) {
+                count += countCriteria(group, limits);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Selects one page of IDs matching the specification, ordered like the requested page.
+     */
+    @SuppressWarnings("unchecked")
+    private List<ID> findIdPage(Specification<T> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Class<ID> idType = (Class<ID>) ClassUtils.resolvePrimitiveIfNecessary(metadata.idType());
+        CriteriaQuery<ID> query = cb.createQuery(idType);
+        Root<T> root = query.from(entityClass);
+        query.select(root.<ID>get(getIdFieldName()));
+
+        applyPredicate(query, root, cb, spec);
+
+        query.orderBy(stableOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<ID> typedQuery = withQueryTimeout(entityManager.createQuery(query));
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList();
+    }
+
+    /**
+     * Returns the requested orders followed by the ID, unless the sort already includes it.
+     * OFFSET pages need a total order: rows sharing a sort key (status, date...) could
+     * otherwise repeat or be skipped from one page to the next.
+     */
+    private List<Order> stableOrders(Sort sort, Root<T> root, CriteriaBuilder cb) {
+        String idFieldName = getIdFieldName();
+        List<Order> orders = new ArrayList<>(QueryUtils.toOrders(sort, root, cb));
+        if (sort.getOrderFor(idFieldName) == null) {
+            orders.add(cb.asc(root.get(idFieldName)));
+        }
+        return orders;
+    }
+
+    /**
+     * Loads the entities for the given IDs with a single query and returns them in ID order.
+     */
+    private List<T> findAllByIdsInOrder(Specification<T> spec, List<ID> ids) {
+        if (entityManager != null) {
+            return findAllByIdsInOrder(spec, ids, null);
+        }
+        String idFieldName = getIdFieldName();
+        Specification<T> idSpec = (root, query, cb) -> root.get(idFieldName).in(ids);
+
+        @SuppressWarnings("unchecked")
+        JpaSpecificationExecutor<T> specExecutor = (JpaSpecificationExecutor<T>) repository;
+        return orderByIds(specExecutor.findAll(spec == null ? idSpec : spec.and(idSpec)), ids);
+    }
+
+    /**
+     * Loads the entities for the given IDs with a single query applying the entity graph, if
+     * any, as a fetch graph, and returns them in ID order.
+     */
+    private List<T> findAllByIdsInOrder(Specification<T> spec, List<ID> ids, EntityGraph<T> graph) {
+        String idFieldName = getIdFieldName();
+        Specification<T> idSpec = (root, query, cb) -> root.get(idFieldName).in(ids);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+        query.select(root);
+        applyPredicate(query, root, cb, spec == null ? idSpec : spec.and(idSpec));
+
+        TypedQuery<T> typedQuery = withQueryTimeout(entityManager.createQuery(query));
+        if (graph != null) {
+            typedQuery.setHint(FetchProfileMetadata.FETCH_GRAPH_HINT, graph);
+        }
+        return orderByIds(typedQuery.getResultList(), ids);
+    }
+
+    /**
+     * Selects one page of entities, applying the entity graph as a fetch graph. The graph must
+     * not contain collections, which would multiply the rows the page is cut from.
+     */
+    private List<T> findPageWithGraph(Specification<T> spec, Pageable pageable, EntityGraph<T> graph) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+        query.select(root);
+        applyPredicate(query, root, cb, spec);
+        query.orderBy(stableOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<T> typedQuery = withQueryTimeout(entityManager.createQuery(query))
+                .setHint(FetchProfileMetadata.FETCH_GRAPH_HINT, graph);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList();
+    }
+
+    private List<T> orderByIds(List<T> entities, List<ID> ids) {
+        Map<Object, T> entitiesById = new HashMap<>();
+        for (T entity : entities) {
+            entitiesById.putIfAbsent(EntityUtils.getEntityId(entity, metadata), entity);
+        }
+
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (ID id : ids) {
+            T entity = entitiesById.get(id);
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+
+    private Expression<?> toAggregateExpression(Aggregation aggregation, Root<T> root, CriteriaBuilder cb) {
+        if (aggregation.field() == null) {
+            return cb.count(root);
+        }
+        Path<Number> path = root.get(aggregation.field());
+        return switch (aggregation.function()) {
+            case COUNT -> cb.count(path);
+            case SUM -> cb.sum(path);
+            case AVG -> cb.avg(path);
+            case MIN -> cb.min(path);
+            case MAX -> cb.max(path);
+        };
+    }
+
+    private void applyPredicate(CriteriaQuery<?> query, Root<T> root, CriteriaBuilder cb, Specification<T> spec) {
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+    }
+
+    /**
+     * Path to group a facet on: the field itself, or the related ID for a to-one relation.
+     */
+    private Path<Object> facetPath(Root<T> root, String field) {
+        FieldMetadata fieldMetadata = metadata != null ? metadata.getFieldByName(field).orElse(null) : null;
+        if (fieldMetadata != null && fieldMetadata.isRelation()) {
+            EntityType<?> target = entityManager.getMetamodel().entity(fieldMetadata.relation().targetEntity());
+            String idName = target.getId(target.getIdType().getJavaType()).getName();
+            return root.get(field).get(idName);
+        }
+        return root.get(field);
+    }
+
+    private void copyFieldValue(T source, T target, String fieldName) {
+        try {
+            Field field = metadata.getFieldByName(fieldName).map(FieldMetadata::field).orElseThrow();
+            field.setAccessible(true);
+            field.set(target, field.get(source));
+        } catch (Exception e) {
+            log.warn("Failed to copy field {} on {}: {}", fieldName, entityClass.getSimpleName(), e.getMessage());
+        }
+    }
+
+    private String getIdFieldName() {
+        return metadata.getIdField().map(FieldMetadata::name).orElse("id");
+    }
+
+    private Specification<T> applySoftDelete(Specification<T> spec, boolean includeDeleted) {
+        if (metadata != null && metadata.isSoftDeleteEnabled()) {
+            Specification<T> softDeleteSpec = buildSoftDeleteSpecification(includeDeleted);
+            return spec == null ? softDeleteSpec : spec.and(softDeleteSpec);
+        }
+        return spec;
+    }
+
     private Specification<T> buildSoftDeleteSpecification(boolean includeDeleted) {
         return buildSoftDeleteSpecification(includeDeleted, false);
     }
@@ -448,6 +2187,10 @@ public abstract class GenericCrudService<T, ID> {
                 return cb.conjunction();
             }
             String deletedField = metadata.softDeleteConfig().deletedField();
+            if (!metadata.isSoftDeleteFlagNullable()) {
+                // Single equality keeps the predicate sargable
+                return cb.equal(root.get(deletedField), false);
+            }
             return cb.or(
                 cb.equal(root.get(deletedField), false),
                 cb.isNull(root.get(deletedField))
@@ -504,6 +2247,8 @@ public abstract class GenericCrudService<T, ID> {
     /**
      * Hook called before updating an entity.
      * Override this method to add custom business logic.
+     * <p>For in-place updates, {@code existing} is a shallow copy of the entity as loaded, taken
+     * before the changes, and {@code updated} the managed entity holding them.</p>
      *
      * @param existing the existing entity
      * @param updated  the entity with updated data
@@ -1,8 +1,18 @@
 package io.springflow.core.service.support;
 
+import io.springflow.core.config.BatchProperties;
+import io.springflow.core.filter.InListStrategy;
+import io.springflow.core.filter.QueryLimits;
+import io.springflow.core.index.QueryUsageRecorder;
 import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.repository.SpecificationBuilder;
+import io.springflow.core.search.FullTextIndexRegistry;
+import io.springflow.core.search.SuggestIndexRegistry;
 import io.springflow.core.service.GenericCrudService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
@@ -21,6 +31,17 @@ public class SpringFlowServiceFactoryBean<T, ID> implements FactoryBean<GenericC
     private JpaRepository<T, ID> repository;
     private EntityMetadata metadata;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private FullTextIndexRegistry fullTextIndexRegistry;
+    private SuggestIndexRegistry suggestIndexRegistry;
+    private QueryLimits queryLimits = QueryLimits.UNLIMITED;
+    private QueryUsageRecorder usageRecorder;
+    private BatchProperties batchProperties = new BatchProperties();
+    private InListStrategy inListStrategy = InListStrategy.DEFAULT;
+    private SpecificationBuilder specificationBuilder = new SpecificationBuilder();
+
     public void setEntityClass(Class<T> entityClass) {
         this.entityClass = entityClass;
     }
@@ -33,12 +54,61 @@ public class SpringFlowServiceFactoryBean<T, ID> implements FactoryBean<GenericC
         this.metadata = metadata;
     }
 
+    public void setEntityManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Autowired(required = false)
+    public void setFullTextIndexRegistry(FullTextIndexRegistry fullTextIndexRegistry) {
+        this.fullTextIndexRegistry = fullTextIndexRegistry;
+    }
+
+    @Autowired(required = false)
+    public void setSuggestIndexRegistry(SuggestIndexRegistry suggestIndexRegistry) {
+        this.suggestIndexRegistry = suggestIndexRegistry;
+    }
+
+    @Autowired(required = false)
+    public void setQueryLimits(QueryLimits queryLimits) {
+        this.queryLimits = queryLimits;
+    }
+
+    @Autowired(required = false)
+    public void setUsageRecorder(QueryUsageRecorder usageRecorder) {
+        this.usageRecorder = usageRecorder;
+    }
+
+    @Autowired(required = false)
+    public void setBatchProperties(BatchProperties batchProperties) {
+        this.batchProperties = batchProperties;
+    }
+
+    @Autowired(required = false)
+    public void setInListStrategy(InListStrategy inListStrategy) {
+        this.inListStrategy = inListStrategy;
+    }
+
+    @Autowired(required = false)
+    public void setSpecificationBuilder(SpecificationBuilder specificationBuilder) {
+        this.specificationBuilder = specificationBuilder;
+    }
+
     @Override
     public GenericCrudService<T, ID> getObject() {
-        return new GenericCrudService<T, ID>(repository, entityClass, metadata) {
+        GenericCrudService<T, ID> service = new GenericCrudService<T, ID>(repository, entityClass, metadata) {
             // Anonymous concrete implementation
             // Inherits all methods from GenericCrudService
         };
+        // Factory bean products are not post-processed, so pass the shared EntityManager along
+        service.setEntityManager(entityManager);
+        service.setFullTextIndexRegistry(fullTextIndexRegistry);
+        service.setSuggestIndexRegistry(suggestIndexRegistry);
+        service.setQueryLimits(queryLimits);
+        service.setUsageRecorder(usageRecorder);
+        service.setBatchProperties(batchProperties);
+        service.setInListStrategy(inListStrategy);
+        service.setSpecificationBuilder(specificationBuilder);
+        return service;
     }
 
     @Override
@@ -46,4 +46,29 @@ public class EntityUtils {
             throw new RuntimeException("Failed to extract ID from entity: " + entity.getClass().getName(), e);
         }
     }
+
+    /**
+     * Extract the {@code @Version} value from an entity using metadata.
+     *
+     * @param entity   the entity instance
+     * @param metadata the entity metadata
+     * @return the version, or null if the entity has no version field or none was assigned yet
+     */
+    public static Object getEntityVersion(Object entity, EntityMetadata metadata) {
+        if (entity == null || metadata == null) {
+            return null;
+        }
+        FieldMetadata versionField = metadata.getVersionField().orElse(null);
+        if (versionField == null) {
+            return null;
+        }
+
+        try {
+            Field field = versionField.field();
+            field.setAccessible(true);
+            return field.get(entity);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Failed to extract version from entity: " + entity.getClass().getName(), e);
+        }
+    }
 }
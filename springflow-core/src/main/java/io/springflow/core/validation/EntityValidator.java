@@ -97,4 +97,15 @@ public class EntityValidator {
             throw new ConstraintViolationException(violations);
         }
     }
+
+    /**
+     * Tells whether a type declares class-level constraints, which need the whole entity to be
+     * validated rather than single properties.
+     *
+     * @param type the entity type
+     * @return true if the type has class-level constraints
+     */
+    public boolean hasClassConstraints(Class<?> type) {
+        return !validator.getConstraintsForClass(type).getConstraintDescriptors().isEmpty();
+    }
 }
@@ -1,9 +1,27 @@
 package io.springflow.core.controller;
 
+import io.springflow.annotations.AutoApi;
+import io.springflow.annotations.Filterable;
+import io.springflow.annotations.Searchable;
+import io.springflow.annotations.WriteBehind;
+import io.springflow.core.config.BatchProperties;
+import io.springflow.core.dto.BatchItemResult;
+import io.springflow.core.dto.BatchResponse;
+import io.springflow.core.dto.FacetValue;
+import io.springflow.core.exception.BatchOperationException;
+import io.springflow.core.exception.ValidationException;
+import io.springflow.core.execution.WriteBehindRegistry;
+import io.springflow.core.execution.WriteBehindSettings;
 import io.springflow.core.filter.FilterResolver;
 import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.FieldMetadata;
 import io.springflow.core.exception.EntityNotFoundException;
+import io.springflow.core.exception.ServiceOverloadedException;
 import io.springflow.core.mapper.DtoMapper;
+import io.springflow.core.search.FullTextIndex;
+import io.springflow.core.search.FullTextIndexRegistry;
+import io.springflow.core.search.SuggestIndex;
+import io.springflow.core.search.SuggestIndexRegistry;
 import io.springflow.core.service.GenericCrudService;
 import io.springflow.core.validation.EntityValidator;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,7 +36,11 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +49,7 @@ import java.util.HashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -102,6 +125,15 @@ class GenericCrudControllerTest {
             return new TestEntity(id, (String) m.get("name"));
         });
 
+        doAnswer(inv -> {
+            TestEntity e = inv.getArgument(0);
+            Map<String, Object> m = inv.getArgument(1);
+            if (m.containsKey("name")) {
+                e.setName((String) m.get("name"));
+            }
+            return null;
+        }).when(dtoMapper).updateEntity(any(TestEntity.class), any(Map.class));
+
         // Create the controller
         controller = new GenericCrudController<>(service, dtoMapper, filterResolver, metadata, TestEntity.class, entityValidator) {
             @Override
@@ -162,6 +194,33 @@ class GenericCrudControllerTest {
         verify(((JpaSpecificationExecutor<TestEntity>) repository)).findOne(any(Specification.class));
     }
 
+    @Test
+    void findById_withMatchingIfNoneMatch_shouldReturnNotModified() {
+        TestEntity entity = new TestEntity(1L, "Test Entity");
+        when(((JpaSpecificationExecutor<TestEntity>) repository).findOne(any(Specification.class))).thenReturn(Optional.of(entity));
+        String eTag = controller.findById(1L, new MockHttpServletRequest()).getHeaders().getETag();
+        assertThat(eTag).startsWith("W/\"");
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("If-None-Match", eTag);
+        ResponseEntity<Map<String, Object>> response = controller.findById(1L, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void update_withIfMatchOnUnversionedEntity_shouldBeRejected() {
+        Map<String, Object> inputDto = new HashMap<>();
+        inputDto.put("name", "Updated Entity");
+
+        assertThatThrownBy(() -> controller.update(1L, inputDto, "\"1\""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("If-Match requires a @Version field");
+        verify(repository, never()).findById(any());
+    }
+
     @Test
     void create_shouldReturnCreatedEntity() {
         // Given
@@ -197,21 +256,20 @@ class GenericCrudControllerTest {
     void update_shouldReturnUpdatedEntity() {
         // Given
         TestEntity existing = new TestEntity(1L, "Old Entity");
-        TestEntity updated = new TestEntity(1L, "Updated Entity");
         Map<String, Object> inputDto = new HashMap<>();
         inputDto.put("name", "Updated Entity");
 
         when(((JpaSpecificationExecutor<TestEntity>) repository).findOne(any(Specification.class))).thenReturn(Optional.of(existing));
-        when(repository.save(any(TestEntity.class))).thenReturn(updated);
 
         // When
-        ResponseEntity<Map<String, Object>> response = controller.update(1L, inputDto);
+        ResponseEntity<Map<String, Object>> response = controller.update(1L, inputDto, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody().get("name")).isEqualTo("Updated Entity");
         verify(((JpaSpecificationExecutor<TestEntity>) repository)).findOne(any(Specification.class));
-        verify(repository).save(any(TestEntity.class));
+        // The managed entity is written by dirty checking, not merged again
+        verify(repository, never()).save(any());
     }
 
     @Test
@@ -223,7 +281,7 @@ class GenericCrudControllerTest {
         when(((JpaSpecificationExecutor<TestEntity>) repository).findOne(any(Specification.class))).thenReturn(Optional.empty());
 
         // When/Then
-        assertThatThrownBy(() -> controller.update(999L, inputDto))
+        assertThatThrownBy(() -> controller.update(999L, inputDto, null))
                 .isInstanceOf(EntityNotFoundException.class);
         verify(((JpaSpecificationExecutor<TestEntity>) repository)).findOne(any(Specification.class));
         verify(repository, never()).save(any());
@@ -237,7 +295,7 @@ class GenericCrudControllerTest {
         doNothing().when(repository).deleteById(1L);
 
         // When
-        ResponseEntity<Void> response = controller.delete(1L);
+        ResponseEntity<Void> response = controller.delete(1L, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
@@ -252,7 +310,7 @@ class GenericCrudControllerTest {
         when(((JpaSpecificationExecutor<TestEntity>) repository).findOne(any(Specification.class))).thenReturn(Optional.empty());
 
         // When/Then
-        assertThatThrownBy(() -> controller.delete(999L))
+        assertThatThrownBy(() -> controller.delete(999L, null))
                 .isInstanceOf(EntityNotFoundException.class);
         verify(((JpaSpecificationExecutor<TestEntity>) repository)).findOne(any(Specification.class));
         verify(repository, never()).deleteById(any());
@@ -262,22 +320,20 @@ class GenericCrudControllerTest {
     void patch_shouldPartiallyUpdateEntity() {
         // Given
         TestEntity existing = new TestEntity(1L, "Old Name");
-        TestEntity updated = new TestEntity(1L, "Patched Name");
         Map<String, Object> inputDto = new HashMap<>();
         inputDto.put("name", "Patched Name"); // Only update name
 
         when(((JpaSpecificationExecutor<TestEntity>) repository).findOne(any(Specification.class))).thenReturn(Optional.of(existing));
-        when(repository.save(any(TestEntity.class))).thenReturn(updated);
         when(metadata.fields()).thenReturn(List.of()); // No field restrictions
 
         // When
-        ResponseEntity<Map<String, Object>> response = controller.patch(1L, inputDto);
+        ResponseEntity<Map<String, Object>> response = controller.patch(1L, inputDto, null, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody().get("name")).isEqualTo("Patched Name");
         verify(((JpaSpecificationExecutor<TestEntity>) repository)).findOne(any(Specification.class));
-        verify(repository).save(any(TestEntity.class));
+        verify(repository, never()).save(any());
         verify(dtoMapper).updateEntity(eq(existing), eq(inputDto));
     }
 
@@ -291,7 +347,7 @@ class GenericCrudControllerTest {
         when(metadata.fields()).thenReturn(List.of());
 
         // When/Then
-        assertThatThrownBy(() -> controller.patch(999L, inputDto))
+        assertThatThrownBy(() -> controller.patch(999L, inputDto, null, null))
                 .isInstanceOf(EntityNotFoundException.class);
         verify(((JpaSpecificationExecutor<TestEntity>) repository)).findOne(any(Specification.class));
         verify(repository, never()).save(any());
@@ -310,7 +366,7 @@ class GenericCrudControllerTest {
             .when(dtoMapper).validateUpdatableFields(inputDto);
 
         // When/Then
-        assertThatThrownBy(() -> controller.patch(1L, inputDto))
+        assertThatThrownBy(() -> controller.patch(1L, inputDto, null, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Cannot update hidden field: password");
         verify(repository, never()).save(any());
@@ -329,7 +385,7 @@ class GenericCrudControllerTest {
             .when(dtoMapper).validateUpdatableFields(inputDto);
 
         // When/Then
-        assertThatThrownBy(() -> controller.patch(1L, inputDto))
+        assertThatThrownBy(() -> controller.patch(1L, inputDto, null, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Cannot update read-only field: createdAt");
         verify(repository, never()).save(any());
@@ -339,22 +395,21 @@ class GenericCrudControllerTest {
     void patch_withMultipleFields_shouldUpdateAll() {
         // Given
         TestEntity existing = new TestEntity(1L, "Old Name");
-        TestEntity updated = new TestEntity(1L, "New Name");
         Map<String, Object> inputDto = new HashMap<>();
         inputDto.put("name", "New Name");
         inputDto.put("description", "New Description"); // Multiple fields
 
         when(((JpaSpecificationExecutor<TestEntity>) repository).findOne(any(Specification.class))).thenReturn(Optional.of(existing));
-        when(repository.save(any(TestEntity.class))).thenReturn(updated);
         when(metadata.fields()).thenReturn(List.of()); // No restrictions
 
         // When
-        ResponseEntity<Map<String, Object>> response = controller.patch(1L, inputDto);
+        ResponseEntity<Map<String, Object>> response = controller.patch(1L, inputDto, null, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().get("name")).isEqualTo("New Name");
         verify(dtoMapper).updateEntity(eq(existing), eq(inputDto));
-        verify(repository).save(any(TestEntity.class));
+        verify(repository, never()).save(any());
     }
 
     @Test
@@ -380,9 +435,380 @@ class GenericCrudControllerTest {
         assertThat(response.getBody().getContent().get(0).get("name")).isEqualTo("Found Entity");
     }
 
+    @Test
+    void aggregate_withUnknownFunction_shouldThrowException() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("fn", "median:name");
+
+        // When/Then
+        assertThatThrownBy(() -> controller.aggregate(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown aggregate function");
+    }
+
+    @Test
+    void aggregate_withUnknownField_shouldThrowException() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("fn", "sum:unknown");
+        when(metadata.getFieldByName("unknown")).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> controller.aggregate(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid aggregate field");
+    }
+
+    @Test
+    void aggregate_withNonFilterableGroupBy_shouldThrowException() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("fn", "count");
+        request.addParameter("groupBy", "name");
+        when(metadata.getFieldByName("name")).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> controller.aggregate(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid group-by field");
+    }
+
+    @Test
+    void facets_withoutFacetParameter_shouldThrowException() {
+        assertThatThrownBy(() -> controller.facets(new MockHttpServletRequest()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("facet");
+    }
+
+    @Test
+    void facets_withNonFilterableField_shouldThrowException() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("facet", "name");
+        when(metadata.getFieldByName("name")).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> controller.facets(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid facet field");
+    }
+
+    @Test
+    void findById_withUnknownFetchProfile_shouldThrowException() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("profile", "export");
+        when(metadata.getFetchProfile("export")).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> controller.findById(1L, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown fetch profile");
+    }
+
+    @Test
+    void suggest_withNonSuggestableField_shouldThrowException() {
+        // Given
+        when(metadata.getFieldByName("name")).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> controller.suggest("name", "ent", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not suggestable");
+    }
+
+    @Test
+    void suggest_withReadyIndex_shouldReturnMostFrequentValues() throws Exception {
+        // Given
+        Filterable filterable = mock(Filterable.class);
+        when(filterable.suggestable()).thenReturn(true);
+        FieldMetadata nameField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("name"), "name", String.class,
+                true, false, false, false, false, null, List.of(), filterable, null, false
+        );
+        when(metadata.getFieldByName("name")).thenReturn(Optional.of(nameField));
+        when(metadata.getSuggestableFields()).thenReturn(List.of(nameField));
+        when(metadata.entityClass()).thenReturn(TestEntity.class);
+
+        SuggestIndexRegistry registry = new SuggestIndexRegistry();
+        SuggestIndex index = registry.forEntity(metadata).orElseThrow();
+        index.add(Map.of("name", "Entity 1"));
+        index.add(Map.of("name", "Entity 2"));
+        index.add(Map.of("name", "Entity 2"));
+        index.add(Map.of("name", "Other"));
+        index.markReady();
+        service.setSuggestIndexRegistry(registry);
+
+        // When
+        ResponseEntity<List<FacetValue>> response = controller.suggest("name", "ent", null);
+
+        // Then
+        assertThat(response.getBody()).containsExactly(
+                new FacetValue("Entity 2", 2),
+                new FacetValue("Entity 1", 1)
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchText_shouldReturnMatchesByRelevance() throws Exception {
+        // Given
+        stubIdField();
+        FieldMetadata nameField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("name"), "name", String.class,
+                true, false, false, false, false, null, List.of(), null, null, false
+        );
+        when(metadata.getSearchableFields()).thenReturn(List.of(nameField));
+        when(metadata.entityClass()).thenReturn((Class) TestEntity.class);
+        FullTextIndexRegistry registry = new FullTextIndexRegistry();
+        FullTextIndex index = registry.forEntity(metadata).orElseThrow();
+        index.index(1L, Map.of("name", "Mouse pad"));
+        index.index(2L, Map.of("name", "Mouse mouse"));
+        index.index(3L, Map.of("name", "Keyboard"));
+        service.setFullTextIndexRegistry(registry);
+        when(((JpaSpecificationExecutor<TestEntity>) repository).findAll(any(Specification.class)))
+                .thenReturn(List.of(new TestEntity(1L, "Mouse pad"), new TestEntity(2L, "Mouse mouse")));
+
+        assertThatThrownBy(() -> controller.searchText("mouse", PageRequest.of(0, 20), null))
+                .isInstanceOf(ServiceOverloadedException.class);
+        index.markReady();
+
+        // When
+        ResponseEntity<PageResponse<Map<String, Object>>> response = controller.searchText("mouse", PageRequest.of(0, 20), null);
+
+        // Then
+        assertThat(response.getBody().getContent()).extracting(dto -> dto.get("id")).containsExactly(2L, 1L);
+        assertThat(response.getBody().getPage().getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void create_inWriteBehindMode_shouldQueueTheEntityAndReturnATicket() {
+        // Given
+        WriteBehind writeBehind = mock(WriteBehind.class);
+        when(writeBehind.enabled()).thenReturn(true);
+        when(writeBehind.queueCapacity()).thenReturn(-1);
+        when(writeBehind.batchSize()).thenReturn(-1);
+        when(writeBehind.maxDelayMs()).thenReturn(-1L);
+        when(writeBehind.offerTimeoutMs()).thenReturn(-1L);
+        AutoApi autoApi = mock(AutoApi.class);
+        when(autoApi.writeBehind()).thenReturn(writeBehind);
+        when(metadata.autoApiConfig()).thenReturn(autoApi);
+        when(metadata.entityName()).thenReturn("TestEntity");
+        when(repository.save(any(TestEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+        WriteBehindRegistry registry = new WriteBehindRegistry(new WriteBehindSettings(false, 100, 10, 0, 0), Duration.ofSeconds(5));
+        controller.setWriteBehindRegistry(registry);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+                new MockHttpServletRequest("POST", "/api/testEntities")));
+
+        // When
+        ResponseEntity<Map<String, Object>> response;
+        try {
+            response = controller.create(Map.of("name", "Queued"));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            registry.stop();
+        }
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).containsKey("ticket");
+        assertThat(response.getHeaders().getLocation()).hasToString(
+                "http://localhost/api/testEntities/write-behind/" + response.getBody().get("ticket"));
+        verify(repository).save(argThat((TestEntity e) -> "Queued".equals(e.getName())));
+    }
+
+    @Test
+    void createBatch_shouldCreateAllItems() {
+        // Given
+        stubIdField();
+        long[] nextId = {1};
+        when(repository.save(any(TestEntity.class))).thenAnswer(inv -> {
+            TestEntity e = inv.getArgument(0);
+            e.setId(nextId[0]++);
+            return e;
+        });
+
+        // When
+        ResponseEntity<BatchResponse> response = controller.createBatch(List.of(Map.of("name", "A"), Map.of("name", "B")));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().succeeded()).isEqualTo(2);
+        assertThat(response.getBody().items())
+                .extracting(BatchItemResult::id, BatchItemResult::status)
+                .containsExactly(
+                        tuple(1L, BatchItemResult.Status.CREATED),
+                        tuple(2L, BatchItemResult.Status.CREATED));
+        verify(repository, times(2)).save(any(TestEntity.class));
+    }
+
+    @Test
+    void createBatch_withInvalidItem_shouldRejectWholeBatch() {
+        // Given
+        doThrow(new ValidationException(Map.of("name", "must not be blank")))
+                .when(entityValidator).validateForCreate(argThat(e -> ((TestEntity) e).getName().isEmpty()));
+
+        // When/Then
+        assertThatThrownBy(() -> controller.createBatch(List.of(Map.of("name", "A"), Map.of("name", ""))))
+                .isInstanceOfSatisfying(BatchOperationException.class, e -> {
+                    assertThat(e.getTotal()).isEqualTo(2);
+                    assertThat(e.getFailures()).singleElement().satisfies(failure -> {
+                        assertThat(failure.index()).isEqualTo(1);
+                        assertThat(failure.status()).isEqualTo(BatchItemResult.Status.INVALID);
+                        assertThat(failure.fieldErrors()).containsEntry("name", "must not be blank");
+                    });
+                });
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void createBatch_overMaxItems_shouldThrowException() {
+        // Given
+        BatchProperties batchProperties = new BatchProperties();
+        batchProperties.setMaxItems(1);
+        service.setBatchProperties(batchProperties);
+
+        // When/Then
+        assertThatThrownBy(() -> controller.createBatch(List.of(Map.of("name", "A"), Map.of("name", "B"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("more than 1 items");
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void patchBatch_shouldLoadAllEntitiesInOneQuery() {
+        // Given
+        stubIdField();
+        TestEntity first = new TestEntity(1L, "A");
+        TestEntity second = new TestEntity(2L, "B");
+        when(((JpaSpecificationExecutor<TestEntity>) repository).findAll(any(Specification.class)))
+                .thenReturn(List.of(second, first));
+        when(repository.save(any(TestEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        ResponseEntity<BatchResponse> response = controller.patchBatch(List.of(
+                Map.of("id", 1L, "name", "A2"),
+                Map.of("id", 2L, "name", "B2")));
+
+        // Then
+        assertThat(response.getBody().items())
+                .extracting(BatchItemResult::id)
+                .containsExactly(1L, 2L);
+        verify((JpaSpecificationExecutor<TestEntity>) repository, times(1)).findAll(any(Specification.class));
+        verify(dtoMapper).updateEntity(first, Map.of("name", "A2"));
+        verify(dtoMapper).updateEntity(second, Map.of("name", "B2"));
+        verify(entityValidator, times(2)).validateForUpdate(any());
+    }
+
+    @Test
+    void patchBatch_withMissingEntity_shouldRejectWholeBatch() {
+        // Given
+        stubIdField();
+        when(((JpaSpecificationExecutor<TestEntity>) repository).findAll(any(Specification.class)))
+                .thenReturn(List.of(new TestEntity(1L, "A")));
+        when(repository.save(any(TestEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // When/Then
+        assertThatThrownBy(() -> controller.patchBatch(List.of(
+                Map.of("id", 1L, "name", "A2"),
+                Map.of("id", 2L, "name", "B2"))))
+                .isInstanceOfSatisfying(BatchOperationException.class, e ->
+                        assertThat(e.getFailures()).singleElement().satisfies(failure -> {
+                            assertThat(failure.index()).isEqualTo(1);
+                            assertThat(failure.id()).isEqualTo(2L);
+                            assertThat(failure.status()).isEqualTo(BatchItemResult.Status.NOT_FOUND);
+                        }));
+    }
+
+    @Test
+    void patchBatch_withoutId_shouldThrowException() {
+        // Given
+        stubIdField();
+
+        // When/Then
+        assertThatThrownBy(() -> controller.patchBatch(List.of(Map.of("name", "A2"))))
+                .isInstanceOfSatisfying(BatchOperationException.class, e ->
+                        assertThat(e.getFailures()).singleElement().satisfies(failure ->
+                                assertThat(failure.error()).contains("entity ID")));
+        verify((JpaSpecificationExecutor<TestEntity>) repository, never()).findAll(any(Specification.class));
+    }
+
+    @Test
+    void deleteBatch_shouldDeleteAllEntities() {
+        // Given
+        stubIdField();
+        TestEntity first = new TestEntity(1L, "A");
+        TestEntity second = new TestEntity(2L, "B");
+        when(((JpaSpecificationExecutor<TestEntity>) repository).findAll(any(Specification.class)))
+                .thenReturn(List.of(first, second));
+
+        // When
+        ResponseEntity<BatchResponse> response = controller.deleteBatch(List.of(1L, 2L));
+
+        // Then
+        assertThat(response.getBody().items())
+                .extracting(BatchItemResult::status)
+                .containsOnly(BatchItemResult.Status.DELETED);
+        verify(repository).delete(first);
+        verify(repository).delete(second);
+        verify(repository, never()).deleteById(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findByIds_shouldReturnEntitiesInRequestOrderWithMissingMarkers() {
+        // Given
+        stubIdField();
+        when(filterResolver.convert(anyString(), eq(Long.class))).thenAnswer(inv -> Long.valueOf(inv.<String>getArgument(0)));
+        when(((JpaSpecificationExecutor<TestEntity>) repository).findAll(any(Specification.class)))
+                .thenReturn(List.of(new TestEntity(1L, "A"), new TestEntity(3L, "C")));
+
+        // When
+        ResponseEntity<Map<String, Object>> response =
+                controller.findByIds(List.of("3", "1", "2", "1"), new MockHttpServletRequest());
+
+        // Then
+        List<Map<String, Object>> content = (List<Map<String, Object>>) response.getBody().get("content");
+        assertThat(content).hasSize(4);
+        assertThat(content.get(0).get("name")).isEqualTo("C");
+        assertThat(content.get(1).get("name")).isEqualTo("A");
+        assertThat(content.get(2)).isNull();
+        assertThat(content.get(3).get("name")).isEqualTo("A");
+        assertThat((Iterable<Object>) response.getBody().get("missing")).containsExactly(2L);
+        verify((JpaSpecificationExecutor<TestEntity>) repository, times(1)).findAll(any(Specification.class));
+    }
+
+    @Test
+    void findByIdsInBody_withEmptyId_shouldBeRejected() {
+        List<Object> ids = new ArrayList<>();
+        ids.add(1L);
+        ids.add(null);
+
+        assertThatThrownBy(() -> controller.findByIdsInBody(ids, new MockHttpServletRequest()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("IDs must not be empty");
+    }
+
+    private void stubIdField() {
+        try {
+            FieldMetadata idField = new FieldMetadata(
+                    TestEntity.class.getDeclaredField("id"), "id", Long.class,
+                    false, false, false, true, false, null, List.of(), null, null, false
+            );
+            when(metadata.fields()).thenReturn(List.of(idField));
+            when(metadata.getIdField()).thenReturn(Optional.of(idField));
+            when(metadata.idType()).thenReturn((Class) Long.class);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     // Test entity class
     static class TestEntity {
         private Long id;
+        @Searchable
         private String name;
 
         public TestEntity(Long id, String name) {
@@ -1,9 +1,14 @@
 package io.springflow.core.controller;
 
+import io.springflow.core.exception.ConcurrencyLimitExceededException;
 import io.springflow.core.exception.EntityNotFoundException;
+import io.springflow.core.exception.PreconditionFailedException;
+import io.springflow.core.exception.ServiceOverloadedException;
+import jakarta.persistence.QueryTimeoutException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -206,4 +211,69 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getError()).isEqualTo("Bad Request");
         assertThat(response.getBody().getMessage()).isEqualTo("Invalid argument");
     }
+
+    @Test
+    void handlePreconditionFailed_shouldReturnPreconditionFailed() {
+        // Given
+        PreconditionFailedException ex = new PreconditionFailedException(Object.class, 1L, 2L, 3L);
+        request.setRequestURI("/api/test/1");
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handlePreconditionFailed(ex, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(412);
+        assertThat(response.getBody().getMessage()).isEqualTo("Entity Object with id 1 is at version 3, not 2");
+    }
+
+    @Test
+    void handleServiceOverloaded_shouldReturnServiceUnavailableWithRetryAfter() {
+        // Given
+        ServiceOverloadedException ex = new ServiceOverloadedException("Too many concurrent requests", 30);
+        request.setRequestURI("/api/test");
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleServiceOverloaded(ex, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    void handleQueryTimeout_shouldReturnServiceUnavailableWithoutTheSql() {
+        // Given
+        QueryTimeoutException ex = new QueryTimeoutException("select * from report where ... timed out");
+        request.setRequestURI("/api/reports");
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleQueryTimeout(ex, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("The query took longer than its timeout");
+    }
+
+    @Test
+    void handleConcurrencyLimitExceeded_shouldReturnTooManyRequests() {
+        // Given
+        ConcurrencyLimitExceededException ex = new ConcurrencyLimitExceededException("Report", "findAll", 4);
+        request.setRequestURI("/api/reports");
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleConcurrencyLimitExceeded(ex, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage())
+                .isEqualTo("Too many concurrent findAll requests on Report, at most 4 are served at once");
+    }
 }
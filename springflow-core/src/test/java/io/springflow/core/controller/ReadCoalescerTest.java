@@ -0,0 +1,112 @@
+package io.springflow.core.controller;
+
+import io.springflow.core.exception.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadCoalescerTest {
+
+    private final ReadCoalescer coalescer = new ReadCoalescer();
+
+    @Test
+    void execute_shouldShareOneReadBetweenConcurrentIdenticalRequests() throws Exception {
+        int callers = 5;
+        AtomicInteger reads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            Future<Object> leader = executor.submit(() -> coalescer.execute("Product", "findById", 1L, Map.of(), () -> {
+                reads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "product-1";
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<Object>> followers = new ArrayList<>();
+            for (int i = 1; i < callers; i++) {
+                followers.add(executor.submit(() -> coalescer.execute("Product", "findById", 1L, Map.of(), () -> {
+                    reads.incrementAndGet();
+                    return "unexpected";
+                })));
+            }
+            while (coalescer.coalescedReads() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("product-1");
+            for (Future<Object> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("product-1");
+            }
+            assertThat(reads).hasValue(1);
+            assertThat(coalescer.executedReads()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_shouldNotKeepResultsOnceTheReadCompletes() {
+        AtomicInteger reads = new AtomicInteger();
+
+        coalescer.execute("Product", "findById", 1L, Map.of(), reads::incrementAndGet);
+        coalescer.execute("Product", "findById", 1L, Map.of(), reads::incrementAndGet);
+
+        assertThat(reads).hasValue(2);
+        assertThat(coalescer.coalescedReads()).isZero();
+    }
+
+    @Test
+    void execute_shouldKeyOnParametersRegardlessOfTheirOrder() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> coalescer.execute("Product", "findAll", null,
+                    Map.of("page", new String[]{"0"}, "name", new String[]{"A"}), () -> {
+                        started.countDown();
+                        await(release);
+                        return "page";
+                    }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            String other = coalescer.execute("Product", "findAll", null,
+                    Map.of("page", new String[]{"1"}, "name", new String[]{"A"}), () -> "other page");
+            assertThat(other).isEqualTo("other page");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_shouldRethrowTheFailureOfTheRead() {
+        assertThatThrownBy(() -> coalescer.execute("Product", "findById", 9L, Map.of(), () -> {
+            throw new EntityNotFoundException(Object.class, 9L);
+        })).isInstanceOf(EntityNotFoundException.class);
+
+        assertThat(coalescer.execute("Product", "findById", 9L, Map.of(), () -> "found")).isEqualTo("found");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
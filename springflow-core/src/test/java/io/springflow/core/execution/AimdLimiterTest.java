@@ -0,0 +1,103 @@
+package io.springflow.core.execution;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AimdLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final ConcurrencyLimits limits = new ConcurrencyLimits(4, 2, 8, 100, 0.5);
+
+    @Test
+    void tryAcquire_shouldRejectCallsBeyondTheLimit() {
+        AimdLimiter limiter = new AimdLimiter(limits);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.rejectedCalls()).isEqualTo(1);
+
+        limiter.release(FAST);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+    }
+
+    @Test
+    void release_shouldGrowAUsedLimitUpToTheMaximum() {
+        AimdLimiter limiter = new AimdLimiter(limits);
+
+        for (int round = 0; round < 200; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(FAST);
+            }
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    void release_shouldNotGrowAnIdleLimit() {
+        AimdLimiter limiter = new AimdLimiter(limits);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void release_shouldShrinkTheLimitOnSlowCallsDownToTheMinimum() {
+        AimdLimiter limiter = new AimdLimiter(limits);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void release_shouldBackOffOncePerBurstOfSlowCalls() {
+        AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(10));
+        AimdLimiter limiter = new AimdLimiter(new ConcurrencyLimits(8, 1, 8, 100, 0.5), clock::get);
+        for (int i = 0; i < 8; i++) {
+            limiter.tryAcquire();
+        }
+
+        // The eight calls of the same spike complete slowly, one after the other
+        clock.addAndGet(SLOW);
+        for (int i = 0; i < 8; i++) {
+            limiter.release(SLOW + i);
+            clock.incrementAndGet();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        // A call started after the backoff may back off again
+        limiter.tryAcquire();
+        clock.addAndGet(SLOW);
+        limiter.release(SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrencyLimits_shouldRejectInconsistentBounds() {
+        assertThatThrownBy(() -> new ConcurrencyLimits(4, 10, 8, 100, 0.9)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConcurrencyLimits(4, 1, 8, 100, 1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
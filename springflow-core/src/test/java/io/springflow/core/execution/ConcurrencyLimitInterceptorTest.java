@@ -0,0 +1,97 @@
+package io.springflow.core.execution;
+
+import io.springflow.annotations.AutoApi;
+import io.springflow.annotations.ConcurrencyLimit;
+import io.springflow.core.controller.GenericCrudController;
+import io.springflow.core.exception.ConcurrencyLimitExceededException;
+import io.springflow.core.metadata.EntityMetadata;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitInterceptorTest {
+
+    private final ConcurrencyLimiterRegistry registry =
+            new ConcurrencyLimiterRegistry(new ConcurrencyLimits(1, 1, 10, 1000, 0.9));
+    private final ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(registry);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void preHandle_shouldRejectAnOperationAtItsLimitOnly() throws Exception {
+        GenericCrudController<?, ?> controller = controllerFor(new EntityMetadata(Object.class, Long.class, "Report", "reports", null, List.of()));
+        HandlerMethod findAll = handler(controller, "findAll");
+        HandlerMethod findById = handler(controller, "findById");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        assertThat(interceptor.preHandle(request, response, findAll)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, findAll))
+                .isInstanceOf(ConcurrencyLimitExceededException.class)
+                .hasMessageContaining("findAll requests on Report");
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, findById)).isTrue();
+
+        interceptor.afterCompletion(request, response, findAll, null);
+        assertThat(registry.getLimiters().get("Report.findAll").getInFlight()).isZero();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, findAll)).isTrue();
+    }
+
+    @Test
+    void preHandle_shouldApplyTheAutoApiOverrides() throws Exception {
+        ConcurrencyLimit limit = mock(ConcurrencyLimit.class);
+        when(limit.initialLimit()).thenReturn(-1);
+        when(limit.minLimit()).thenReturn(-1);
+        when(limit.maxLimit()).thenReturn(0);
+        when(limit.latencyThresholdMs()).thenReturn(-1L);
+        AutoApi autoApi = mock(AutoApi.class);
+        when(autoApi.concurrency()).thenReturn(limit);
+        GenericCrudController<?, ?> controller = controllerFor(new EntityMetadata(Object.class, Long.class, "Log", "logs", autoApi, List.of()));
+        HandlerMethod findAll = handler(controller, "findAll");
+
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, findAll)).isTrue();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, findAll)).isTrue();
+        assertThat(registry.getLimiters()).isEmpty();
+    }
+
+    @Test
+    void afterSingletonsInstantiated_withInvalidOverrides_shouldFailTheStartup() {
+        ConcurrencyLimit limit = mock(ConcurrencyLimit.class);
+        when(limit.initialLimit()).thenReturn(-1);
+        when(limit.minLimit()).thenReturn(20);
+        when(limit.maxLimit()).thenReturn(4);
+        when(limit.latencyThresholdMs()).thenReturn(-1L);
+        AutoApi autoApi = mock(AutoApi.class);
+        when(autoApi.concurrency()).thenReturn(limit);
+        GenericCrudController<?, ?> controller = controllerFor(new EntityMetadata(Object.class, Long.class, "Export", "exports", autoApi, List.of()));
+        ApplicationContext context = mock(ApplicationContext.class);
+        when(context.getBeansOfType(GenericCrudController.class)).thenReturn(Map.<String, GenericCrudController>of("exportController", controller));
+        registry.setApplicationContext(context);
+
+        assertThatThrownBy(registry::afterSingletonsInstantiated)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Invalid @ConcurrencyLimit on Export");
+    }
+
+    private static GenericCrudController<?, ?> controllerFor(EntityMetadata metadata) {
+        GenericCrudController<?, ?> controller = mock(GenericCrudController.class);
+        when(controller.getMetadata()).thenReturn(metadata);
+        return controller;
+    }
+
+    private static HandlerMethod handler(Object bean, String name) throws NoSuchMethodException {
+        return new HandlerMethod(bean, Named.class.getMethod(name));
+    }
+
+    interface Named {
+        void findAll();
+
+        void findById();
+    }
+}
@@ -0,0 +1,85 @@
+package io.springflow.core.execution;
+
+import io.springflow.core.controller.GenericCrudController;
+import io.springflow.core.controller.ErrorResponse;
+import io.springflow.core.controller.GlobalExceptionHandler;
+import io.springflow.core.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+
+class ExecutionGateInterceptorTest {
+
+    private final ExecutionGate gate = new ExecutionGate(1, Duration.ofMillis(10));
+    private final ExecutionGateInterceptor interceptor = new ExecutionGateInterceptor(gate);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void preHandle_shouldHoldASlotUntilTheRequestCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        HandlerMethod handler = handlerOf(mock(GenericCrudController.class));
+
+        assertThat(interceptor.preHandle(request, response, handler)).isTrue();
+        assertThat(gate.activeCalls()).isEqualTo(1);
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, handler))
+                .isInstanceOf(ServiceOverloadedException.class);
+
+        interceptor.afterCompletion(request, response, handler, null);
+        interceptor.afterCompletion(request, response, handler, null);
+        assertThat(gate.activeCalls()).isZero();
+    }
+
+    @Test
+    void preHandle_whenEverySlotIsTaken_shouldAnswer503WithRetryAfter() throws Exception {
+        HandlerMethod handler = handlerOf(mock(GenericCrudController.class));
+        interceptor.preHandle(new MockHttpServletRequest(), response, handler);
+        MockHttpServletRequest rejected = new MockHttpServletRequest("GET", "/api/products");
+
+        Throwable ex = catchThrowable(() -> interceptor.preHandle(rejected, response, handler));
+        assertThat(ex).isInstanceOf(ServiceOverloadedException.class);
+        ResponseEntity<ErrorResponse> answer = new GlobalExceptionHandler()
+                .handleServiceOverloaded((ServiceOverloadedException) ex, rejected);
+
+        assertThat(answer.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(answer.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(gate.activeCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void afterCompletion_whenTheHandlerThrew_shouldReleaseTheSlot() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        HandlerMethod handler = handlerOf(mock(GenericCrudController.class));
+
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, new IllegalStateException("failed"));
+
+        assertThat(gate.activeCalls()).isZero();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, handler)).isTrue();
+    }
+
+    @Test
+    void preHandle_shouldNotLimitOtherControllers() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        HandlerMethod handler = handlerOf(new Object());
+
+        assertThat(interceptor.preHandle(request, response, handler)).isTrue();
+        assertThat(gate.activeCalls()).isZero();
+        interceptor.afterCompletion(request, response, handler, null);
+        assertThat(gate.activeCalls()).isZero();
+    }
+
+    private static HandlerMethod handlerOf(Object bean) throws NoSuchMethodException {
+        return new HandlerMethod(bean, Object.class.getMethod("toString"));
+    }
+}
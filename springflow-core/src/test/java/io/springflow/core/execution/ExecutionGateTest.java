@@ -0,0 +1,114 @@
+package io.springflow.core.execution;
+
+import io.springflow.core.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for {@link ExecutionGate} on virtual threads.
+ *
+ * @author SpringFlow
+ * @since 0.6.0
+ */
+@DisplayName("ExecutionGate Tests")
+class ExecutionGateTest {
+
+    @Test
+    @DisplayName("Should bound concurrent calls of many virtual threads")
+    void testConcurrencyBound() throws Exception {
+        // Given
+        ExecutionGate gate = new ExecutionGate(10, Duration.ofSeconds(30));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // When
+        try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> calls = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                calls.add(virtual.submit(() -> gate.execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(Duration.ofMillis(2));
+                    return running.decrementAndGet();
+                })));
+            }
+            for (Future<Integer> call : calls) {
+                call.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        // Then
+        assertThat(maxRunning.get()).isBetween(1, 10);
+        assertThat(gate.activeCalls()).isZero();
+        assertThat(gate.rejectedCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject calls that wait longer than the acquire timeout")
+    void testRejection() throws Exception {
+        // Given
+        ExecutionGate gate = new ExecutionGate(1, Duration.ofMillis(50));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+            virtual.submit(() -> gate.execute(() -> {
+                holding.countDown();
+                await(release);
+                return null;
+            }));
+            assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When/Then
+            assertThatThrownBy(() -> gate.execute(() -> "late"))
+                    .isInstanceOf(ServiceOverloadedException.class)
+                    .hasMessageContaining("at most 1");
+            assertThat(gate.rejectedCalls()).isEqualTo(1);
+            release.countDown();
+        }
+        assertThat(gate.execute(() -> "served")).isEqualTo("served");
+    }
+
+    @Test
+    @DisplayName("Should release the slot when the call throws")
+    void testReleaseOnException() {
+        // Given
+        ExecutionGate gate = new ExecutionGate(1, Duration.ZERO);
+
+        // When
+        assertThatThrownBy(() -> gate.execute(() -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(gate.activeCalls()).isZero();
+        assertThat(gate.execute(() -> "served")).isEqualTo("served");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package io.springflow.core.execution;
+
+import io.springflow.core.exception.ServiceOverloadedException;
+import io.springflow.core.metadata.EntityMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteBehindWriterTest {
+
+    private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void enqueue_shouldWriteInBatchesAndFlushOnStop() {
+        WriteBehindWriter<String> writer = new WriteBehindWriter<>("Measurement",
+                new WriteBehindSettings(true, 100, 4, 1000, 0), batches::add);
+        writer.start();
+
+        List<String> tickets = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String entity = "m" + i;
+            tickets.add(writer.enqueue(entity, () -> entity));
+        }
+        writer.stop(Duration.ofSeconds(5));
+
+        assertThat(tickets).doesNotHaveDuplicates();
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(4));
+        assertThat(batches.stream().flatMap(List::stream)).containsExactly("m0", "m1", "m2", "m3", "m4", "m5", "m6", "m7", "m8", "m9");
+        assertThat(writer.writtenEntities()).isEqualTo(10);
+        assertThat(writer.queued()).isZero();
+        assertThatThrownBy(() -> writer.enqueue("late", () -> "late")).isInstanceOf(ServiceOverloadedException.class);
+    }
+
+    @Test
+    void enqueue_shouldRejectWhenTheQueueStaysFull() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WriteBehindWriter<String> writer = new WriteBehindWriter<>("Measurement",
+                new WriteBehindSettings(true, 2, 1, 0, 10), batch -> {
+                    writing.countDown();
+                    await(release);
+                    batches.add(batch);
+                });
+        writer.start();
+
+        writer.enqueue("m0", () -> "m0");
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.enqueue("m1", () -> "m1");
+        writer.enqueue("m2", () -> "m2");
+
+        assertThatThrownBy(() -> writer.enqueue("m3", () -> "m3"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("queue is full");
+
+        release.countDown();
+        writer.stop(Duration.ofSeconds(5));
+        assertThat(writer.acceptedEntities()).isEqualTo(3);
+        assertThat(writer.writtenEntities()).isEqualTo(3);
+    }
+
+    @Test
+    void write_shouldRetryAFailedBatchOneEntityAtATime() {
+        WriteBehindWriter<String> writer = new WriteBehindWriter<>("Measurement",
+                new WriteBehindSettings(true, 100, 10, 1000, 0), batch -> {
+                    if (batch.contains("invalid")) {
+                        throw new IllegalStateException("constraint violation");
+                    }
+                    batches.add(batch);
+                });
+        writer.start();
+
+        String written = writer.enqueue("m0", () -> "m0");
+        String failed = writer.enqueue("invalid", () -> "invalid");
+        writer.enqueue("m1", () -> "m1");
+        writer.stop(Duration.ofSeconds(5));
+
+        assertThat(batches.stream().flatMap(List::stream)).containsExactly("m0", "m1");
+        assertThat(writer.writtenEntities()).isEqualTo(2);
+        assertThat(writer.failedEntities()).isEqualTo(1);
+        assertThat(writer.outcome(written)).hasValueSatisfying(outcome ->
+                assertThat(outcome.status()).isEqualTo(WriteBehindWriter.TicketStatus.WRITTEN));
+        assertThat(writer.outcome(failed)).hasValueSatisfying(outcome -> {
+            assertThat(outcome.status()).isEqualTo(WriteBehindWriter.TicketStatus.FAILED);
+            assertThat(outcome.error()).isEqualTo(WriteBehindWriter.ERROR_WRITE_FAILED);
+        });
+        assertThat(writer.outcome("unknown")).isEmpty();
+    }
+
+    @Test
+    void write_shouldFailTheTicketWhenTheRecreatedEntityIsInvalid() {
+        WriteBehindWriter<String> writer = new WriteBehindWriter<>("Measurement",
+                new WriteBehindSettings(true, 100, 10, 1000, 0), batch -> {
+                    if (batch.size() > 1) {
+                        throw new IllegalStateException("batch failed");
+                    }
+                    batches.add(batch);
+                });
+        writer.start();
+
+        String valid = writer.enqueue("m0", () -> "m0");
+        String invalid = writer.enqueue("m1", () -> {
+            throw new IllegalArgumentException("value must be positive");
+        });
+        writer.stop(Duration.ofSeconds(5));
+
+        assertThat(batches).containsExactly(List.of("m0"));
+        assertThat(writer.outcome(valid)).hasValueSatisfying(outcome ->
+                assertThat(outcome.status()).isEqualTo(WriteBehindWriter.TicketStatus.WRITTEN));
+        assertThat(writer.outcome(invalid)).hasValueSatisfying(outcome -> {
+            assertThat(outcome.status()).isEqualTo(WriteBehindWriter.TicketStatus.FAILED);
+            assertThat(outcome.error()).isEqualTo(WriteBehindWriter.ERROR_INVALID);
+        });
+    }
+
+    @Test
+    void registry_shouldOnlyCreateWritersForEnabledEntities() {
+        WriteBehindRegistry registry = new WriteBehindRegistry(new WriteBehindSettings(false, 100, 10, 0, 0), Duration.ofSeconds(5));
+        EntityMetadata metadata = new EntityMetadata(Object.class, Long.class, "Order", "orders", null, List.of());
+
+        registry.start();
+        WriteBehindWriter<Object> writer = registry.writerFor(metadata, batch -> { });
+        registry.stop();
+
+        assertThat(writer).isNull();
+        assertThat(registry.getWriters()).isEmpty();
+        assertThat(registry.isRunning()).isFalse();
+    }
+
+    @Test
+    void settings_shouldClampTheBatchSizeToTheMaxBatchItems() {
+        WriteBehindSettings settings = new WriteBehindSettings(true, 100, 500, 0, 0);
+
+        assertThat(settings.limitBatchSize(200).batchSize()).isEqualTo(200);
+        assertThat(settings.limitBatchSize(1000)).isSameAs(settings);
+        assertThat(settings.limitBatchSize(0)).isSameAs(settings);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,8 +2,12 @@ package io.springflow.core.filter;
 
 import io.springflow.annotations.FilterType;
 import io.springflow.annotations.Filterable;
+import io.springflow.annotations.Searchable;
+import io.springflow.core.index.QueryUsageRecorder;
 import io.springflow.core.metadata.EntityMetadata;
 import io.springflow.core.metadata.FieldMetadata;
+import io.springflow.core.search.FullTextIndex;
+import io.springflow.core.search.FullTextIndexRegistry;
 import jakarta.persistence.criteria.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +20,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -116,6 +123,214 @@ class FilterResolverTest {
         verify(cb).like(stringPath, "%John%");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void buildSpecification_withStartsWithFilter_shouldEscapeWildcards() throws Exception {
+        // Given
+        when(filterable.types()).thenReturn(new FilterType[]{FilterType.STARTS_WITH});
+        when(filterable.caseSensitive()).thenReturn(true);
+
+        FieldMetadata fieldMetadata = new FieldMetadata(
+                TestEntity.class.getDeclaredField("name"),
+                "name",
+                String.class,
+                true, false, false, false, false, null,
+                Collections.emptyList(),
+                filterable,
+                null,
+                false
+        );
+
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                Collections.singletonList(fieldMetadata)
+        );
+
+        Map<String, String[]> params = new HashMap<>();
+        params.put("name[starts_with]", new String[]{"50%_off"});
+
+        // When
+        Specification<TestEntity> spec = filterResolver.buildSpecification(params, metadata);
+        when(root.get("name")).thenReturn((Path) stringPath);
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verify(cb).like(stringPath, "50\\%\\_off%", '\\');
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void buildSpecification_withCaseInsensitiveStartsWith_shouldCompareLowerColumn() throws Exception {
+        // Given
+        when(filterable.types()).thenReturn(new FilterType[]{FilterType.STARTS_WITH});
+        when(filterable.caseSensitive()).thenReturn(false);
+
+        FieldMetadata fieldMetadata = new FieldMetadata(
+                TestEntity.class.getDeclaredField("name"),
+                "name",
+                String.class,
+                true, false, false, false, false, null,
+                Collections.emptyList(),
+                filterable,
+                null,
+                false
+        );
+
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                Collections.singletonList(fieldMetadata)
+        );
+
+        Map<String, String[]> params = new HashMap<>();
+        params.put("name_starts_with", new String[]{"Jo"});
+        Expression<String> lowerName = mock(Expression.class);
+
+        // When
+        Specification<TestEntity> spec = filterResolver.buildSpecification(params, metadata);
+        when(root.get("name")).thenReturn((Path) stringPath);
+        when(cb.lower(stringPath)).thenReturn(lowerName);
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verify(cb).like(lowerName, "jo%", '\\');
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void buildSpecification_withFullTextWithoutIndex_shouldFallBackToLikePerTerm() throws Exception {
+        // Given
+        when(filterable.types()).thenReturn(new FilterType[]{FilterType.FULL_TEXT});
+        when(filterable.caseSensitive()).thenReturn(true);
+
+        FieldMetadata fieldMetadata = new FieldMetadata(
+                TestEntity.class.getDeclaredField("name"),
+                "name",
+                String.class,
+                true, false, false, false, false, null,
+                Collections.emptyList(),
+                filterable,
+                null,
+                false
+        );
+
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                Collections.singletonList(fieldMetadata)
+        );
+
+        Map<String, String[]> params = new HashMap<>();
+        params.put("name[search]", new String[]{"Wireless Mouse"});
+        Expression<String> lowerName = mock(Expression.class);
+
+        // When
+        Specification<TestEntity> spec = filterResolver.buildSpecification(params, metadata);
+        when(root.get("name")).thenReturn((Path) stringPath);
+        when(cb.lower(stringPath)).thenReturn(lowerName);
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verify(cb).like(lowerName, "%wireless%", '\\');
+        verify(cb).like(lowerName, "%mouse%", '\\');
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void buildSpecification_withAccentedFullTextWithoutIndex_shouldMatchTheTermAsWrittenOrWithoutAccents() throws Exception {
+        when(filterable.types()).thenReturn(new FilterType[]{FilterType.FULL_TEXT});
+        EntityMetadata metadata = fullTextMetadata("name");
+        Expression<String> lowerName = mock(Expression.class);
+        when(root.get("name")).thenReturn((Path) stringPath);
+        when(cb.lower(stringPath)).thenReturn(lowerName);
+
+        Specification<TestEntity> spec = filterResolver.buildSpecification(Map.of("name[search]", new String[]{"Café"}), metadata);
+        spec.toPredicate(root, query, cb);
+
+        verify(cb).like(lowerName, "%café%", '\\');
+        verify(cb).like(lowerName, "%cafe%", '\\');
+        verify(cb).or(any(), any());
+    }
+
+    @Test
+    void buildSpecification_withFullTextWithoutTerms_shouldMatchNothingOnBothPaths() throws Exception {
+        when(filterable.types()).thenReturn(new FilterType[]{FilterType.FULL_TEXT});
+        FullTextIndex index = readyIndex();
+        when(index.search("a !", "description", 0, FullTextIndex.DEFAULT_MAX_HITS))
+                .thenReturn(new FullTextIndex.Hits(java.util.List.of(), 0));
+        filterResolver.setFullTextIndexRegistry(registryWith(index));
+        Map<String, String[]> params = Map.of("description[search]", new String[]{"a !"}, "name[search]", new String[]{"a !"});
+
+        Specification<TestEntity> spec = filterResolver.buildSpecification(params, fullTextMetadata("name", "description"));
+        spec.toPredicate(root, query, cb);
+
+        verify(cb, times(2)).disjunction();
+        verify(cb, never()).like(any(), anyString(), anyChar());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void buildSpecification_withFullTextIndex_shouldSearchOncePerSpecification() throws Exception {
+        when(filterable.types()).thenReturn(new FilterType[]{FilterType.FULL_TEXT});
+        FullTextIndex index = readyIndex();
+        when(index.search("mouse", "description", 0, FullTextIndex.DEFAULT_MAX_HITS))
+                .thenReturn(new FullTextIndex.Hits(java.util.List.of(new FullTextIndex.Hit(1L, 1.0)), 1));
+        filterResolver.setFullTextIndexRegistry(registryWith(index));
+
+        jakarta.persistence.metamodel.EntityType entityType = mock(jakarta.persistence.metamodel.EntityType.class);
+        jakarta.persistence.metamodel.Type idType = mock(jakarta.persistence.metamodel.Type.class);
+        jakarta.persistence.metamodel.SingularAttribute idAttribute = mock(jakarta.persistence.metamodel.SingularAttribute.class);
+        when(root.getModel()).thenReturn(entityType);
+        when(entityType.getIdType()).thenReturn(idType);
+        when(idType.getJavaType()).thenReturn(Long.class);
+        when(entityType.getId(Long.class)).thenReturn(idAttribute);
+        when(idAttribute.getName()).thenReturn("id");
+        when(root.get("id")).thenReturn((Path) path);
+        CriteriaBuilder.In<Object> inMock = mock(CriteriaBuilder.In.class);
+        when(cb.in(any())).thenReturn(inMock);
+
+        Specification<TestEntity> spec = filterResolver.buildSpecification(
+                Map.of("description[search]", new String[]{"mouse"}), fullTextMetadata("description"));
+        spec.toPredicate(root, query, cb);
+        spec.toPredicate(root, query, cb);
+
+        verify(index, times(1)).search("mouse", "description", 0, FullTextIndex.DEFAULT_MAX_HITS);
+        verify(inMock, times(2)).value(1L);
+    }
+
+    @Test
+    void buildSpecification_withFullTextBeyondMaxHits_shouldBeRejected() throws Exception {
+        when(filterable.types()).thenReturn(new FilterType[]{FilterType.FULL_TEXT});
+        FullTextIndex index = readyIndex();
+        when(index.search("mouse", "description", 0, FullTextIndex.DEFAULT_MAX_HITS))
+                .thenReturn(new FullTextIndex.Hits(java.util.List.of(), FullTextIndex.DEFAULT_MAX_HITS + 1));
+        filterResolver.setFullTextIndexRegistry(registryWith(index));
+        EntityMetadata metadata = fullTextMetadata("description");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                filterResolver.buildSpecification(Map.of("description[search]", new String[]{"mouse"}), metadata));
+        assertTrue(exception.getMessage().contains("more than the maximum"));
+    }
+
+    private EntityMetadata fullTextMetadata(String... fieldNames) throws Exception {
+        java.util.List<FieldMetadata> fields = new java.util.ArrayList<>();
+        for (String fieldName : fieldNames) {
+            fields.add(new FieldMetadata(TestEntity.class.getDeclaredField(fieldName), fieldName, String.class,
+                    true, false, false, false, false, null, Collections.emptyList(), filterable, null, false));
+        }
+        return new EntityMetadata(TestEntity.class, Long.class, "TestEntity", "test_entity", null, fields);
+    }
+
+    private static FullTextIndex readyIndex() {
+        FullTextIndex index = mock(FullTextIndex.class);
+        when(index.isReady()).thenReturn(true);
+        return index;
+    }
+
+    private static FullTextIndexRegistry registryWith(FullTextIndex index) {
+        FullTextIndexRegistry registry = mock(FullTextIndexRegistry.class);
+        when(registry.find(TestEntity.class)).thenReturn(java.util.Optional.of(index));
+        return registry;
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void buildSpecification_withGtFilter_shouldCreatePredicate() throws Exception {
@@ -340,14 +555,14 @@ class FilterResolverTest {
 
         // Then
         verify(root).fetch(eq("category"), any(jakarta.persistence.criteria.JoinType.class));
-        verify(query).distinct(true);
+        verify(query, never()).distinct(anyBoolean());
     }
 
     @Test
     void buildSpecification_withoutFetchFields_shouldAddDefaultFetchJoins() throws Exception {
         // Given
-        io.springflow.core.metadata.RelationMetadata relationMetadata = mock(io.springflow.core.metadata.RelationMetadata.class);
-        when(relationMetadata.type()).thenReturn(io.springflow.core.metadata.RelationMetadata.RelationType.MANY_TO_ONE);
+        io.springflow.core.metadata.RelationMetadata relationMetadata = new io.springflow.core.metadata.RelationMetadata(
+                io.springflow.core.metadata.RelationMetadata.RelationType.MANY_TO_ONE, null, null, Object.class, null);
 
         FieldMetadata relationField = new FieldMetadata(
                 TestEntity.class.getDeclaredField("category"),
@@ -369,12 +584,482 @@ class FilterResolverTest {
 
         // Then
         verify(root).fetch(eq("category"), any(jakarta.persistence.criteria.JoinType.class));
+        verify(query, never()).distinct(anyBoolean());
+    }
+
+    @Test
+    void buildSpecification_withoutFetchFields_shouldSkipRelationsNotOutput() throws Exception {
+        // Given
+        io.springflow.core.metadata.RelationMetadata toOne = new io.springflow.core.metadata.RelationMetadata(
+                io.springflow.core.metadata.RelationMetadata.RelationType.MANY_TO_ONE, null, null, Object.class, null);
+
+        FieldMetadata hiddenField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("category"),
+                "category", Object.class, true, true, false, false, false, null,
+                Collections.emptyList(), null, toOne, false
+        );
+        FieldMetadata jsonIgnoredField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("name"),
+                "name", Object.class, true, false, false, false, false, null,
+                Collections.emptyList(), null, toOne, true, false
+        );
+
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                java.util.List.of(hiddenField, jsonIgnoredField)
+        );
+
+        // When
+        Specification<TestEntity> spec = filterResolver.buildSpecification(new HashMap<>(), metadata);
+        doReturn(TestEntity.class).when(query).getResultType();
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verify(root, never()).fetch(anyString(), any(jakarta.persistence.criteria.JoinType.class));
+        verify(query, never()).distinct(anyBoolean());
+    }
+
+    @Test
+    void buildSpecificationExcluding_shouldIgnoreFiltersOfExcludedField() throws Exception {
+        // Given
+        FieldMetadata fieldMetadata = new FieldMetadata(
+                TestEntity.class.getDeclaredField("name"),
+                "name", String.class, true, false, false, false, false, null,
+                Collections.emptyList(), filterable, null, false
+        );
+
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                Collections.singletonList(fieldMetadata)
+        );
+
+        Map<String, String[]> params = new HashMap<>();
+        params.put("name", new String[]{"John"});
+
+        // When
+        Specification<TestEntity> spec = filterResolver.buildSpecificationExcluding(params, metadata, "name");
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verify(cb, never()).equal(any(), any(Object.class));
+        verify(cb).conjunction();
+    }
+
+    @Test
+    void requiresCollectionFetch_shouldDetectToManyFetchFields() throws Exception {
+        // Given
+        io.springflow.core.metadata.RelationMetadata toMany = new io.springflow.core.metadata.RelationMetadata(
+                io.springflow.core.metadata.RelationMetadata.RelationType.ONE_TO_MANY, null, null, Object.class, "owner");
+        io.springflow.core.metadata.RelationMetadata toOne = new io.springflow.core.metadata.RelationMetadata(
+                io.springflow.core.metadata.RelationMetadata.RelationType.MANY_TO_ONE, null, null, Object.class, null);
+
+        FieldMetadata categoryField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("category"),
+                "category", Object.class, true, false, false, false, false, null,
+                Collections.emptyList(), null, toOne, false
+        );
+        FieldMetadata tagsField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("tags"),
+                "tags", java.util.List.class, true, false, false, false, false, null,
+                Collections.emptyList(), null, toMany, false
+        );
+
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                java.util.List.of(categoryField, tagsField)
+        );
+
+        // Then
+        org.assertj.core.api.Assertions.assertThat(filterResolver.requiresCollectionFetch(metadata, null)).isFalse();
+        org.assertj.core.api.Assertions.assertThat(
+                filterResolver.requiresCollectionFetch(metadata, java.util.List.of("category"))).isFalse();
+        org.assertj.core.api.Assertions.assertThat(
+                filterResolver.requiresCollectionFetch(metadata, java.util.List.of("category", "tags"))).isTrue();
+    }
+
+    @Test
+    void buildSpecification_withSeveralCollectionFetchFields_shouldFetchOnlyFirstCollection() throws Exception {
+        // Given
+        io.springflow.core.metadata.RelationMetadata toMany = new io.springflow.core.metadata.RelationMetadata(
+                io.springflow.core.metadata.RelationMetadata.RelationType.MANY_TO_MANY, null, null, Object.class, null);
+
+        FieldMetadata tagsField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("tags"),
+                "tags", java.util.List.class, true, false, false, false, false, null,
+                Collections.emptyList(), null, toMany, false
+        );
+        FieldMetadata labelsField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("labels"),
+                "labels", java.util.List.class, true, false, false, false, false, null,
+                Collections.emptyList(), null, toMany, false
+        );
+
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                java.util.List.of(tagsField, labelsField)
+        );
+
+        // When
+        Specification<TestEntity> spec = filterResolver.buildSpecification(
+                new HashMap<>(), metadata, java.util.List.of("tags", "labels"));
+        doReturn(TestEntity.class).when(query).getResultType();
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verify(root).fetch(eq("tags"), any(jakarta.persistence.criteria.JoinType.class));
+        verify(root, never()).fetch(eq("labels"), any(jakarta.persistence.criteria.JoinType.class));
         verify(query).distinct(true);
     }
 
+    @Test
+    void buildSpecification_forIdQuery_shouldNotAddFetchJoins() throws Exception {
+        // Given
+        FieldMetadata relationField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("category"),
+                "category", Object.class, true, false, false, false, false, null,
+                Collections.emptyList(), null, mock(io.springflow.core.metadata.RelationMetadata.class), false
+        );
+
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                Collections.singletonList(relationField)
+        );
+
+        // When
+        Specification<TestEntity> spec = filterResolver.buildSpecification(
+                new HashMap<>(), metadata, java.util.List.of("category"));
+        doReturn(java.util.UUID.class).when(query).getResultType();
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verify(root, never()).fetch(anyString(), any(jakarta.persistence.criteria.JoinType.class));
+    }
+
+    @Test
+    void buildSpecification_withTooManyFilters_shouldRejectBeforeQuerying() throws Exception {
+        // Given
+        when(filterable.types()).thenReturn(new FilterType[]{FilterType.EQUALS, FilterType.LIKE});
+
+        FieldMetadata fieldMetadata = new FieldMetadata(
+                TestEntity.class.getDeclaredField("name"),
+                "name", String.class, true, false, false, false, false, null,
+                Collections.emptyList(), filterable, null, false
+        );
+
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                Collections.singletonList(fieldMetadata)
+        );
+
+        Map<String, String[]> params = new HashMap<>();
+        params.put("name", new String[]{"John"});
+        params.put("name_like", new String[]{"Jo"});
+        params.put("page", new String[]{"0"});
+
+        filterResolver.setQueryLimits(new QueryLimits(0, 1, 0, 0, 0));
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> filterResolver.buildSpecification(params, metadata));
+        verifyNoInteractions(cb);
+    }
+
+    @Test
+    void buildSpecification_withTooManyInValues_shouldRejectBeforeQuerying() throws Exception {
+        // Given
+        when(filterable.types()).thenReturn(new FilterType[]{FilterType.IN});
+
+        FieldMetadata fieldMetadata = new FieldMetadata(
+                TestEntity.class.getDeclaredField("name"),
+                "name", String.class, true, false, false, false, false, null,
+                Collections.emptyList(), filterable, null, false
+        );
+
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                Collections.singletonList(fieldMetadata)
+        );
+
+        Map<String, String[]> params = new HashMap<>();
+        params.put("name[in]", new String[]{"John,Jane,Jack"});
+
+        filterResolver.setQueryLimits(new QueryLimits(0, 0, 2, 0, 0));
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> filterResolver.buildSpecification(params, metadata));
+    }
+
+    @Test
+    void buildSpecification_withUsageRecorder_shouldRecordFiltersButNotFacets() throws Exception {
+        // Given
+        when(filterable.types()).thenReturn(new FilterType[]{FilterType.EQUALS, FilterType.LIKE});
+
+        FieldMetadata fieldMetadata = new FieldMetadata(
+                TestEntity.class.getDeclaredField("name"),
+                "name", String.class, true, false, false, false, false, null,
+                Collections.emptyList(), filterable, null, false
+        );
+
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                Collections.singletonList(fieldMetadata)
+        );
+
+        Map<String, String[]> params = new HashMap<>();
+        params.put("name", new String[]{"John"});
+        params.put("name_like", new String[]{"Jo"});
+
+        QueryUsageRecorder recorder = new QueryUsageRecorder();
+        filterResolver.setUsageRecorder(recorder);
+
+        // When
+        filterResolver.buildSpecification(params, metadata);
+        filterResolver.buildSpecificationExcluding(params, metadata, "name");
+
+        // Then
+        QueryUsageRecorder.FieldUsage usage = recorder.snapshot().get("TestEntity").fields().get("name");
+        assertEquals(Map.of(FilterType.EQUALS, 1L, FilterType.LIKE, 1L), usage.filters());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void buildSpecification_withToOnePath_shouldReuseFetchJoin() throws Exception {
+        // Given
+        EntityMetadata metadata = relationMetadata();
+        Join<Object, Object> categoryJoin = mock(Join.class, withSettings().extraInterfaces(Fetch.class));
+        jakarta.persistence.metamodel.Attribute<Object, Object> attribute = mock(jakarta.persistence.metamodel.Attribute.class);
+        when(attribute.getName()).thenReturn("category");
+        doReturn(attribute).when(categoryJoin).getAttribute();
+        doReturn(java.util.Set.of(categoryJoin)).when(root).getFetches();
+        doReturn(stringPath).when(categoryJoin).get("name");
+
+        Map<String, String[]> params = new HashMap<>();
+        params.put("category.name[like]", new String[]{"book"});
+
+        // When
+        Specification<TestEntity> spec = filterResolver.buildSpecification(params, metadata);
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verify(cb).like(stringPath, "%book%");
+        verify(root, never()).join(anyString(), any(jakarta.persistence.criteria.JoinType.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void buildSpecification_withToManyPath_shouldUseExistsSubquery() throws Exception {
+        // Given
+        EntityMetadata metadata = relationMetadata();
+        Subquery<Integer> subquery = mock(Subquery.class);
+        Root<TestEntity> correlated = mock(Root.class);
+        Join<Object, Object> tagsJoin = mock(Join.class);
+        Predicate exists = mock(Predicate.class);
+        doReturn(subquery).when(query).subquery(Integer.class);
+        when(subquery.correlate(root)).thenReturn(correlated);
+        doReturn(tagsJoin).when(correlated).join("tags");
+        doReturn(path).when(tagsJoin).get("label");
+        when(cb.exists(subquery)).thenReturn(exists);
+
+        Map<String, String[]> params = new HashMap<>();
+        params.put("tags.label", new String[]{"java"});
+
+        // When
+        Specification<TestEntity> spec = filterResolver.buildSpecification(params, metadata);
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verify(cb).equal(path, "java");
+        verify(cb).and(exists);
+        verify(root, never()).join(anyString(), any(jakarta.persistence.criteria.JoinType.class));
+    }
+
+    @Test
+    void buildSpecification_withUnknownPath_shouldReject() throws Exception {
+        // Given
+        EntityMetadata metadata = relationMetadata();
+        Map<String, String[]> params = new HashMap<>();
+        params.put("category.secret", new String[]{"x"});
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> filterResolver.buildSpecification(params, metadata));
+    }
+
+    @Test
+    void buildBulkSpecification_shouldBuildPredicateWithoutQuery() throws Exception {
+        // Given
+        EntityMetadata metadata = nameMetadata();
+        when(filterable.caseSensitive()).thenReturn(true);
+        when(root.get("name")).thenReturn(path);
+        Map<String, String[]> params = new HashMap<>();
+        params.put("name", new String[]{"John"});
+
+        // When
+        Specification<TestEntity> spec = filterResolver.buildBulkSpecification(params, metadata);
+        spec.toPredicate(root, null, cb);
+
+        // Then
+        verify(cb).equal(path, "John");
+    }
+
+    @Test
+    void buildBulkSpecification_withoutFilter_shouldReject() throws Exception {
+        // Given
+        EntityMetadata metadata = nameMetadata();
+        Map<String, String[]> params = new HashMap<>();
+        params.put("unknown", new String[]{"x"});
+
+        // When/Then
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> filterResolver.buildBulkSpecification(params, metadata));
+        assertEquals("A bulk operation requires at least one filter", e.getMessage());
+    }
+
+    @Test
+    void buildBulkSpecification_withMalformedBetween_shouldReject() throws Exception {
+        // Given
+        when(filterable.types()).thenReturn(new FilterType[]{FilterType.BETWEEN});
+        FieldMetadata fieldMetadata = new FieldMetadata(
+                TestEntity.class.getDeclaredField("age"),
+                "age", Integer.class, true, false, false, false, false, null,
+                Collections.emptyList(), filterable, null, false
+        );
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                Collections.singletonList(fieldMetadata)
+        );
+        Map<String, String[]> params = new HashMap<>();
+        params.put("age_between", new String[]{"garbage"});
+
+        // When/Then
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> filterResolver.buildBulkSpecification(params, metadata));
+        assertTrue(e.getMessage().contains("would match every row"));
+    }
+
+    @Test
+    void buildBulkSpecification_withBlankLike_shouldReject() throws Exception {
+        // Given
+        when(filterable.types()).thenReturn(new FilterType[]{FilterType.LIKE});
+        FieldMetadata fieldMetadata = new FieldMetadata(
+                TestEntity.class.getDeclaredField("name"),
+                "name", String.class, true, false, false, false, false, null,
+                Collections.emptyList(), filterable, null, false
+        );
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                Collections.singletonList(fieldMetadata)
+        );
+        Map<String, String[]> params = new HashMap<>();
+        params.put("name_like", new String[]{""});
+
+        // When/Then
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> filterResolver.buildBulkSpecification(params, metadata));
+        assertTrue(e.getMessage().contains("would match every row"));
+        params.put("name_like", new String[]{"%%"});
+        assertThrows(IllegalArgumentException.class, () -> filterResolver.buildBulkSpecification(params, metadata));
+    }
+
+    @Test
+    void buildBulkSpecification_withRelationPath_shouldReject() throws Exception {
+        // Given
+        EntityMetadata metadata = relationMetadata();
+        Map<String, String[]> params = new HashMap<>();
+        params.put("category.name[like]", new String[]{"book"});
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> filterResolver.buildBulkSpecification(params, metadata));
+    }
+
+    private EntityMetadata nameMetadata() throws Exception {
+        when(filterable.types()).thenReturn(new FilterType[]{FilterType.EQUALS});
+        FieldMetadata fieldMetadata = new FieldMetadata(
+                TestEntity.class.getDeclaredField("name"),
+                "name", String.class, true, false, false, false, false, null,
+                Collections.emptyList(), filterable, null, false
+        );
+        return new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                Collections.singletonList(fieldMetadata)
+        );
+    }
+
+    private EntityMetadata relationMetadata() throws Exception {
+        io.springflow.core.metadata.RelationMetadata toOne = new io.springflow.core.metadata.RelationMetadata(
+                io.springflow.core.metadata.RelationMetadata.RelationType.MANY_TO_ONE, null, null, Category.class, null);
+        io.springflow.core.metadata.RelationMetadata toMany = new io.springflow.core.metadata.RelationMetadata(
+                io.springflow.core.metadata.RelationMetadata.RelationType.ONE_TO_MANY, null, null, Tag.class, null);
+        FieldMetadata categoryField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("category"),
+                "category", Object.class, true, false, false, false, false, null,
+                Collections.emptyList(), null, toOne, false
+        );
+        FieldMetadata tagsField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("tags"),
+                "tags", java.util.List.class, true, false, false, false, false, null,
+                Collections.emptyList(), null, toMany, false
+        );
+        return new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                java.util.List.of(categoryField, tagsField)
+        );
+    }
+
+    @Test
+    void buildSpecification_withFetchJoinBudget_shouldStopFetchingAtLimit() throws Exception {
+        // Given
+        io.springflow.core.metadata.RelationMetadata toOne = new io.springflow.core.metadata.RelationMetadata(
+                io.springflow.core.metadata.RelationMetadata.RelationType.MANY_TO_ONE, null, null, Object.class, null);
+        io.springflow.core.metadata.RelationMetadata toMany = new io.springflow.core.metadata.RelationMetadata(
+                io.springflow.core.metadata.RelationMetadata.RelationType.MANY_TO_MANY, null, null, Object.class, null);
+
+        FieldMetadata categoryField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("category"),
+                "category", Object.class, true, false, false, false, false, null,
+                Collections.emptyList(), null, toOne, false
+        );
+        FieldMetadata tagsField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("tags"),
+                "tags", java.util.List.class, true, false, false, false, false, null,
+                Collections.emptyList(), null, toMany, false
+        );
+
+        EntityMetadata metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null,
+                java.util.List.of(categoryField, tagsField)
+        );
+
+        filterResolver.setQueryLimits(new QueryLimits(0, 0, 0, 0, 1));
+
+        // When
+        Specification<TestEntity> spec = filterResolver.buildSpecification(
+                new HashMap<>(), metadata, java.util.List.of("category", "tags"));
+        doReturn(TestEntity.class).when(query).getResultType();
+        spec.toPredicate(root, query, cb);
+
+        // Then
+        verify(root).fetch(eq("category"), any(jakarta.persistence.criteria.JoinType.class));
+        verify(root, never()).fetch(eq("tags"), any(jakarta.persistence.criteria.JoinType.class));
+        verify(query, never()).distinct(anyBoolean());
+    }
+
     static class TestEntity {
         private String name;
+        @Searchable
+        private String description;
         private Integer age;
         private Object category;
+        private java.util.List<Object> tags;
+        private java.util.List<Object> labels;
+    }
+
+    static class Category {
+        @Filterable(types = {FilterType.EQUALS, FilterType.LIKE}, caseSensitive = true)
+        private String name;
+        private String secret;
+    }
+
+    static class Tag {
+        @Filterable(types = FilterType.EQUALS, caseSensitive = true)
+        private String label;
     }
 }
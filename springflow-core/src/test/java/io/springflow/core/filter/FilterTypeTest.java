@@ -17,5 +17,9 @@ class FilterTypeTest {
         assertNotNull(FilterType.valueOf("LESS_THAN_OR_EQUAL"));
         assertNotNull(FilterType.valueOf("NOT_EQUALS"));
         assertNotNull(FilterType.valueOf("BETWEEN"));
+        assertNotNull(FilterType.valueOf("STARTS_WITH"));
+        assertNotNull(FilterType.valueOf("ENDS_WITH"));
+        assertNotNull(FilterType.valueOf("ILIKE"));
+        assertNotNull(FilterType.valueOf("FULL_TEXT"));
     }
 }
@@ -4,9 +4,13 @@ import io.springflow.annotations.FilterType;
 import io.springflow.core.metadata.testentities.ValidatedEntity;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -37,6 +41,35 @@ class GenericSpecificationTest {
         verify(builder).equal(path, "John");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldJoinRelationForDottedKey() {
+        SearchCriteria criteria = new SearchCriteria("category.name", FilterType.EQUALS, "Books");
+        GenericSpecification<ValidatedEntity> spec = new GenericSpecification<>(criteria);
+
+        Root<ValidatedEntity> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder builder = mock(CriteriaBuilder.class);
+        EntityType<ValidatedEntity> model = mock(EntityType.class);
+        SingularAttribute<ValidatedEntity, Object> category = mock(SingularAttribute.class);
+        EntityType<Object> categoryType = mock(EntityType.class);
+        Join<Object, Object> join = mock(Join.class);
+        Path<Object> path = mock(Path.class);
+        Predicate predicate = mock(Predicate.class);
+
+        when(root.getModel()).thenReturn(model);
+        doReturn(category).when(model).getAttribute("category");
+        when(category.getType()).thenReturn(categoryType);
+        doReturn(join).when(root).join("category", JoinType.LEFT);
+        when(join.get("name")).thenReturn(path);
+        when(builder.equal(path, "Books")).thenReturn(predicate);
+
+        Predicate result = spec.toPredicate(root, query, builder);
+
+        assertEquals(predicate, result);
+        verify(query, never()).subquery(any(Class.class));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void shouldCreatePredicateForLike() {
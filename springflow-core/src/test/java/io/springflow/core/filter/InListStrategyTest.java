@@ -0,0 +1,50 @@
+package io.springflow.core.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InListStrategyTest {
+
+    @Test
+    void prepare_shouldDeduplicateAndPadToPowerOfTwo() {
+        List<List<Integer>> chunks = InListStrategy.DEFAULT.prepare(List.of(1, 2, 2, 3, 1, 4, 5));
+
+        assertThat(chunks).containsExactly(List.of(1, 2, 3, 4, 5, 5, 5, 5));
+    }
+
+    @Test
+    void prepare_withoutPadding_shouldKeepDistinctValuesOnly() {
+        List<List<String>> chunks = new InListStrategy(false, 10).prepare(List.of("a", "b", "a", "c"));
+
+        assertThat(chunks).containsExactly(List.of("a", "b", "c"));
+    }
+
+    @Test
+    void prepare_shouldSplitIntoChunksNotExceedingChunkSize() {
+        List<List<Integer>> chunks = new InListStrategy(true, 4).prepare(List.of(1, 2, 3, 4, 5, 6));
+
+        assertThat(chunks).containsExactly(List.of(1, 2, 3, 4), List.of(5, 6));
+    }
+
+    @Test
+    void prepare_shouldNotPadBeyondChunkSize() {
+        List<List<Integer>> chunks = new InListStrategy(true, 6).prepare(List.of(1, 2, 3, 4, 5));
+
+        assertThat(chunks).containsExactly(List.of(1, 2, 3, 4, 5, 5));
+    }
+
+    @Test
+    void prepare_withNoValues_shouldReturnNoChunks() {
+        assertThat(InListStrategy.DEFAULT.prepare(List.of())).isEmpty();
+    }
+
+    @Test
+    void constructor_withInvalidChunkSize_shouldThrow() {
+        assertThatThrownBy(() -> new InListStrategy(true, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package io.springflow.core.filter;
+
+import io.springflow.annotations.AutoApi;
+import io.springflow.annotations.QueryBudget;
+import io.springflow.core.metadata.EntityMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QueryLimitsTest {
+
+    private final QueryLimits global = new QueryLimits(5000, 20, 500, 10_000, 4);
+
+    @Test
+    void forEntity_shouldKeepGlobalValuesForMinusOneAndOverrideOthers() {
+        QueryBudget budget = mock(QueryBudget.class);
+        when(budget.timeoutMs()).thenReturn(1000);
+        when(budget.maxFilters()).thenReturn(-1);
+        when(budget.maxInSize()).thenReturn(0);
+        when(budget.maxOffset()).thenReturn(-1);
+        when(budget.maxFetchJoins()).thenReturn(1);
+        AutoApi autoApi = mock(AutoApi.class);
+        when(autoApi.budget()).thenReturn(budget);
+        EntityMetadata metadata = new EntityMetadata(Object.class, Long.class, "Order", "orders", autoApi, List.of());
+
+        assertThat(global.forEntity(metadata)).isEqualTo(new QueryLimits(1000, 20, 0, 10_000, 1));
+    }
+
+    @Test
+    void forEntity_withoutAutoApi_shouldReturnGlobalLimits() {
+        EntityMetadata metadata = new EntityMetadata(Object.class, Long.class, "Order", "orders", null, List.of());
+
+        assertThat(global.forEntity(metadata)).isSameAs(global);
+        assertThat(global.forEntity(null)).isSameAs(global);
+    }
+
+    @Test
+    void checks_shouldRejectValuesAboveLimits() {
+        assertThatThrownBy(() -> global.checkFilterCount(21)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> global.checkInSize("id", 501)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> global.checkOffset(10_001)).isInstanceOf(IllegalArgumentException.class);
+
+        global.checkFilterCount(20);
+        global.checkInSize("id", 500);
+        global.checkOffset(10_000);
+    }
+
+    @Test
+    void unlimited_shouldAcceptAnything() {
+        QueryLimits.UNLIMITED.checkFilterCount(Integer.MAX_VALUE);
+        QueryLimits.UNLIMITED.checkInSize("id", Integer.MAX_VALUE);
+        QueryLimits.UNLIMITED.checkOffset(Long.MAX_VALUE);
+
+        assertThat(QueryLimits.UNLIMITED.allowsFetchJoin(100)).isTrue();
+        assertThat(QueryLimits.UNLIMITED.hasTimeout()).isFalse();
+    }
+
+    @Test
+    void allowsFetchJoin_shouldStopAtLimit() {
+        assertThat(global.allowsFetchJoin(3)).isTrue();
+        assertThat(global.allowsFetchJoin(4)).isFalse();
+    }
+}
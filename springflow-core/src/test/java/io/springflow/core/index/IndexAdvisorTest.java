@@ -0,0 +1,140 @@
+package io.springflow.core.index;
+
+import io.springflow.annotations.FilterType;
+import io.springflow.annotations.Filterable;
+import io.springflow.annotations.SoftDelete;
+import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.FieldMetadata;
+import jakarta.persistence.Column;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IndexAdvisorTest {
+
+    private EntityMetadata metadata;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SoftDelete softDelete = mock(SoftDelete.class);
+        when(softDelete.deletedField()).thenReturn("deleted");
+        when(softDelete.nullable()).thenReturn(true);
+
+        FieldMetadata idField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("id"),
+                "id", Long.class, false, false, true, true, false, null,
+                Collections.emptyList(), null, null, false
+        );
+        FieldMetadata deletedField = new FieldMetadata(
+                TestEntity.class.getDeclaredField("deleted"),
+                "deleted", boolean.class, false, false, false, false, false, null,
+                Collections.emptyList(), null, null, false
+        );
+
+        metadata = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null, softDelete,
+                List.of(idField, deletedField)
+        );
+    }
+
+    @Test
+    void suggest_onPostgres_shouldSuggestPartialIndex() {
+        List<IndexSuggestion> suggestions = new IndexAdvisor("PostgreSQL").suggest(metadata);
+
+        assertThat(suggestions).hasSize(1);
+        IndexSuggestion suggestion = suggestions.get(0);
+        assertThat(suggestion.keyColumn()).isEqualTo("is_deleted");
+        assertThat(suggestion.condition()).isEqualTo("is_deleted = false");
+        assertThat(suggestion.ddl())
+                .isEqualTo("CREATE INDEX idx_test_entity_active ON test_entity (id) WHERE is_deleted = false;");
+    }
+
+    @Test
+    void suggest_withoutPartialIndexSupport_shouldSuggestCompositeIndex() {
+        List<IndexSuggestion> suggestions = new IndexAdvisor("MySQL").suggest(metadata);
+
+        assertThat(suggestions).hasSize(1);
+        assertThat(suggestions.get(0).condition()).isNull();
+        assertThat(suggestions.get(0).ddl())
+                .isEqualTo("CREATE INDEX idx_test_entity_is_deleted ON test_entity (is_deleted, id);");
+    }
+
+    @Test
+    void suggest_withoutSoftDelete_shouldSuggestNothing() {
+        EntityMetadata plain = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null, metadata.fields()
+        );
+
+        assertThat(new IndexAdvisor().suggest(plain)).isEmpty();
+    }
+
+    @Test
+    void columnName_shouldUseColumnAnnotationOrSnakeCase() throws Exception {
+        FieldMetadata createdAt = new FieldMetadata(
+                TestEntity.class.getDeclaredField("createdAt"),
+                "createdAt", java.time.LocalDateTime.class, true, false, false, false, false, null,
+                Collections.emptyList(), null, null, false
+        );
+
+        assertThat(IndexAdvisor.columnName(metadata.getFieldByName("deleted").orElseThrow())).isEqualTo("is_deleted");
+        assertThat(IndexAdvisor.columnName(createdAt)).isEqualTo("created_at");
+    }
+
+    @Test
+    void suggest_forCaseInsensitiveFilter_shouldSuggestLowerIndex() throws Exception {
+        java.lang.reflect.Field field = TestEntity.class.getDeclaredField("displayName");
+        FieldMetadata displayName = new FieldMetadata(
+                field, "displayName", String.class, true, false, false, false, false, null,
+                Collections.emptyList(), field.getAnnotation(Filterable.class), null, false
+        );
+        EntityMetadata entity = new EntityMetadata(
+                TestEntity.class, Long.class, "TestEntity", "test_entity", null, List.of(displayName)
+        );
+
+        assertThat(new IndexAdvisor("PostgreSQL").suggest(entity))
+                .extracting(IndexSuggestion::ddl)
+                .containsExactly("CREATE INDEX idx_test_entity_display_name_lower ON test_entity (lower(display_name) text_pattern_ops);");
+        assertThat(new IndexAdvisor("MySQL").suggest(entity))
+                .extracting(IndexSuggestion::ddl)
+                .containsExactly("CREATE INDEX idx_test_entity_display_name_lower ON test_entity ((lower(display_name)));");
+    }
+
+    @Test
+    void suggestForUsage_shouldFollowTheOperatorsUsed() throws Exception {
+        java.lang.reflect.Field field = TestEntity.class.getDeclaredField("displayName");
+        FieldMetadata displayName = new FieldMetadata(
+                field, "displayName", String.class, true, false, false, false, false, null,
+                Collections.emptyList(), field.getAnnotation(Filterable.class), null, false
+        );
+        FieldMetadata createdAt = new FieldMetadata(
+                TestEntity.class.getDeclaredField("createdAt"),
+                "createdAt", java.time.LocalDateTime.class, true, false, false, false, false, null,
+                Collections.emptyList(), null, null, false
+        );
+        IndexAdvisor advisor = new IndexAdvisor();
+
+        assertThat(advisor.suggestForUsage(metadata, displayName, EnumSet.of(FilterType.STARTS_WITH), false))
+                .map(IndexSuggestion::columns).contains(List.of("lower(display_name)"));
+        assertThat(advisor.suggestForUsage(metadata, displayName, EnumSet.of(FilterType.LIKE), false)).isEmpty();
+        assertThat(advisor.suggestForUsage(metadata, createdAt, EnumSet.noneOf(FilterType.class), true))
+                .map(IndexSuggestion::ddl).contains("CREATE INDEX idx_test_entity_created_at ON test_entity (created_at);");
+        assertThat(advisor.suggestForUsage(metadata, metadata.getIdField().orElseThrow(),
+                EnumSet.of(FilterType.IN), true)).isEmpty();
+    }
+
+    static class TestEntity {
+        private Long id;
+        @Column(name = "is_deleted")
+        private boolean deleted;
+        private java.time.LocalDateTime createdAt;
+        @Filterable(types = {FilterType.EQUALS, FilterType.STARTS_WITH}, caseSensitive = false)
+        private String displayName;
+    }
+}
@@ -0,0 +1,105 @@
+package io.springflow.core.index;
+
+import io.springflow.annotations.FilterType;
+import io.springflow.annotations.Filterable;
+import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.FieldMetadata;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexRecommenderTest {
+
+    private EntityMetadata metadata;
+    private QueryUsageRecorder recorder;
+    private IndexRecommender recommender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        metadata = new EntityMetadata(
+                Product.class, Long.class, "Product", "product", null,
+                List.of(field("id", Long.class, true), field("code", String.class, false),
+                        field("price", BigDecimal.class, false), field("description", String.class, false),
+                        field("name", String.class, false))
+        );
+        recorder = new QueryUsageRecorder();
+        recommender = new IndexRecommender(new IndexAdvisor());
+    }
+
+    @Test
+    void recorder_shouldCountFiltersSortsAndQueries() {
+        recorder.recordFilter("Product", "price", FilterType.GREATER_THAN);
+        recorder.recordFilter("Product", "price", FilterType.GREATER_THAN);
+        recorder.recordFilter("Product", "price", FilterType.LESS_THAN);
+        recorder.recordSort("Product", "name");
+        recorder.recordQuery("Product", 2_000_000);
+        recorder.recordQuery("Product", 4_000_000);
+
+        QueryUsageRecorder.EntityUsage usage = recorder.snapshot().get("Product");
+
+        assertThat(usage.fields().get("price").filterCount()).isEqualTo(3);
+        assertThat(usage.fields().get("price").filters()).containsEntry(FilterType.GREATER_THAN, 2L);
+        assertThat(usage.fields().get("name").sorts()).isEqualTo(1);
+        assertThat(usage.queries()).isEqualTo(2);
+        assertThat(usage.averageQueryMillis()).isEqualTo(3.0);
+        assertThat(usage.maxQueryNanos()).isEqualTo(4_000_000);
+
+        recorder.reset();
+        assertThat(recorder.snapshot()).isEmpty();
+    }
+
+    @Test
+    void recommend_shouldRankByUsageAndSkipUnindexableOrDeclaredColumns() {
+        recorder.recordQuery("Product", 10_000_000);
+        for (int i = 0; i < 5; i++) {
+            recorder.recordFilter("Product", "price", FilterType.RANGE);
+            recorder.recordFilter("Product", "code", FilterType.EQUALS);
+            recorder.recordFilter("Product", "description", FilterType.LIKE);
+            recorder.recordFilter("Product", "id", FilterType.IN);
+        }
+        recorder.recordSort("Product", "name");
+
+        List<IndexRecommendation> recommendations = recommender.recommend(List.of(metadata), recorder.snapshot());
+
+        // code is declared in @Table(indexes), LIKE '%x%' and the primary key need no index
+        assertThat(recommendations).extracting(IndexRecommendation::field).containsExactly("price", "name");
+        IndexRecommendation first = recommendations.get(0);
+        assertThat(first.filterCount()).isEqualTo(5);
+        assertThat(first.score()).isEqualTo(50.0);
+        assertThat(first.suggestion().ddl()).isEqualTo("CREATE INDEX idx_product_price ON product (price);");
+        assertThat(recommendations.get(1).suggestion().reason()).isEqualTo("sort on name");
+    }
+
+    @Test
+    void recommend_withoutRecordedUsage_shouldRecommendNothing() {
+        assertThat(recommender.recommend(List.of(metadata), recorder.snapshot())).isEmpty();
+    }
+
+    private FieldMetadata field(String name, Class<?> type, boolean id) throws Exception {
+        java.lang.reflect.Field field = Product.class.getDeclaredField(name);
+        return new FieldMetadata(
+                field, name, type, !id, false, false, id, false, null,
+                Collections.emptyList(), field.getAnnotation(Filterable.class), null, false
+        );
+    }
+
+    @Table(name = "product", indexes = @Index(columnList = "code ASC, name"))
+    static class Product {
+        @Filterable(types = FilterType.IN)
+        private Long id;
+        @Filterable(types = FilterType.EQUALS)
+        private String code;
+        @Filterable(types = FilterType.RANGE)
+        private BigDecimal price;
+        @Filterable(types = FilterType.LIKE)
+        private String description;
+        private String name;
+    }
+}
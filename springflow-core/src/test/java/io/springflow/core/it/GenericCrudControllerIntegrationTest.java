@@ -105,6 +105,32 @@ public class GenericCrudControllerIntegrationTest extends AbstractSpringFlowInte
                 .andExpect(jsonPath("$.description", is("Original Desc")));
     }
 
+    @Test
+    void shouldPatchColumnsWithoutLoadingWhenMinimalReturnPreferred() throws Exception {
+        IntegrationTestEntity saved = repository.save(new IntegrationTestEntity(null, "Patch Me", "Original Desc"));
+
+        mockMvc.perform(patch("/api/integrationTestEntitys/{id}", saved.getId())
+                        .header("Prefer", "return=minimal")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Patched Name\"}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("Preference-Applied", "return=minimal"));
+
+        mockMvc.perform(get("/api/integrationTestEntitys/{id}", saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Patched Name")))
+                .andExpect(jsonPath("$.description", is("Original Desc")));
+    }
+
+    @Test
+    void shouldReturn404WhenPatchingColumnsOfNonExistentEntity() throws Exception {
+        mockMvc.perform(patch("/api/integrationTestEntitys/{id}", 999)
+                        .header("Prefer", "return=minimal")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Patched Name\"}"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void shouldDeleteEntity() throws Exception {
         IntegrationTestEntity saved = repository.save(new IntegrationTestEntity(null, "Delete Me", "Desc"));
@@ -115,4 +141,22 @@ public class GenericCrudControllerIntegrationTest extends AbstractSpringFlowInte
         mockMvc.perform(get("/api/integrationTestEntitys/{id}", saved.getId()))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void shouldReportEachUnreadableBatchItemInsteadOfFailingTheRequest() throws Exception {
+        IntegrationTestEntity saved = repository.save(new IntegrationTestEntity(null, "Batch", "Desc"));
+
+        mockMvc.perform(patch("/api/integrationTestEntitys/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"id\": \"abc\", \"name\": \"A\"}, {\"name\": \"B\"}, {\"id\": "
+                                + saved.getId() + ", \"name\": \"C\"}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.total", is(3)))
+                .andExpect(jsonPath("$.failed", is(2)))
+                .andExpect(jsonPath("$.items[0].index", is(0)))
+                .andExpect(jsonPath("$.items[1].index", is(1)));
+
+        mockMvc.perform(get("/api/integrationTestEntitys/{id}", saved.getId()))
+                .andExpect(jsonPath("$.name", is("Batch")));
+    }
 }
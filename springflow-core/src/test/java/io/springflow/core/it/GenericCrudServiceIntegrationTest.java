@@ -1,8 +1,13 @@
 package io.springflow.core.it;
 
+import io.springflow.core.config.BatchProperties;
+import io.springflow.core.exception.BatchOperationException;
 import io.springflow.core.exception.EntityNotFoundException;
 import io.springflow.core.it.entity.IntegrationTestEntity;
+import io.springflow.core.it.entity.IntegrationTestOrder;
 import io.springflow.core.service.GenericCrudService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +17,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,6 +29,13 @@ public class GenericCrudServiceIntegrationTest extends AbstractSpringFlowIntegra
     @Qualifier("integrationTestEntityService")
     private GenericCrudService<IntegrationTestEntity, Long> service;
 
+    @Autowired
+    @Qualifier("integrationTestOrderService")
+    private GenericCrudService<IntegrationTestOrder, Long> orderService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         // Ensure clean state (repository is cleared by H2 drop/create usually, but explicit delete is safer if context is reused)
@@ -80,4 +93,85 @@ public class GenericCrudServiceIntegrationTest extends AbstractSpringFlowIntegra
         assertThatThrownBy(() -> service.deleteById(999L))
                 .isInstanceOf(EntityNotFoundException.class);
     }
+
+    @Test
+    void deleteAll_shouldDeleteMatchingRowsInOneStatement() {
+        service.save(new IntegrationTestEntity(null, "Purge", "a"));
+        service.save(new IntegrationTestEntity(null, "Purge", "b"));
+        IntegrationTestEntity kept = service.save(new IntegrationTestEntity(null, "Keep", "c"));
+
+        long deleted = service.deleteAll((root, query, cb) -> cb.equal(root.get("name"), "Purge"));
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(service.findAll()).extracting(IntegrationTestEntity::getId).containsExactly(kept.getId());
+    }
+
+    @Test
+    void deleteAll_beyondMaxAffectedRows_shouldRejectWithoutDeleting() {
+        service.save(new IntegrationTestEntity(null, "Purge", "a"));
+        service.save(new IntegrationTestEntity(null, "Purge", "b"));
+        BatchProperties limited = new BatchProperties();
+        limited.setMaxAffectedRows(1);
+        service.setBatchProperties(limited);
+
+        try {
+            assertThatThrownBy(() -> service.deleteAll((root, query, cb) -> cb.equal(root.get("name"), "Purge")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("more than the limit of 1");
+        } finally {
+            service.setBatchProperties(new BatchProperties());
+        }
+        assertThat(service.findAll()).hasSize(2);
+    }
+
+    @Test
+    void updateColumns_shouldOnlyDetachTheUpdatedEntity() {
+        IntegrationTestEntity updated = service.save(new IntegrationTestEntity(null, "Before", "a"));
+        IntegrationTestEntity other = service.save(new IntegrationTestEntity(null, "Other", "b"));
+
+        service.updateColumns(updated.getId(), Map.of("name", "After"));
+
+        assertThat(entityManager.contains(updated)).isFalse();
+        assertThat(entityManager.contains(other)).isTrue();
+        assertThat(service.findById(updated.getId()).getName()).isEqualTo("After");
+    }
+
+    @Test
+    void updateAll_withAFailureInTheFirstChunk_shouldReportItInsteadOfFlushingIt() {
+        List<Long> ids = List.of(
+                service.save(new IntegrationTestEntity(null, "Chunk", "a")).getId(),
+                service.save(new IntegrationTestEntity(null, "Chunk", "b")).getId(),
+                service.save(new IntegrationTestEntity(null, "Chunk", "c")).getId());
+        BatchProperties chunked = new BatchProperties();
+        chunked.setChunkSize(2);
+        service.setBatchProperties(chunked);
+
+        try {
+            // The invalid change exceeds the column length: flushing it would fail in the database
+            assertThatThrownBy(() -> service.updateAll(ids, (index, entity) -> {
+                entity.setName(index == 0 ? "x".repeat(300) : "Updated");
+                if (index == 0) {
+                    throw new IllegalArgumentException("name is too long");
+                }
+            }))
+                    .isInstanceOfSatisfying(BatchOperationException.class, e -> {
+                        assertThat(e.getFailures()).hasSize(1);
+                        assertThat(e.getFailures().get(0).index()).isZero();
+                    });
+        } finally {
+            service.setBatchProperties(new BatchProperties());
+        }
+    }
+
+    @Test
+    void deleteAll_ofEntityCascadingItsDelete_shouldRejectTheBulkStatement() {
+        IntegrationTestOrder order = new IntegrationTestOrder("OPEN");
+        order.addLine("product");
+        orderService.save(order);
+
+        assertThatThrownBy(() -> orderService.deleteAll((root, query, cb) -> cb.equal(root.get("status"), "OPEN")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("IntegrationTestOrder.lines");
+        assertThat(orderService.findAll()).hasSize(1);
+    }
 }
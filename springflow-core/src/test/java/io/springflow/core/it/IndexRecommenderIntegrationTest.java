@@ -0,0 +1,55 @@
+package io.springflow.core.it;
+
+import io.springflow.annotations.FilterType;
+import io.springflow.core.index.IndexAdvisor;
+import io.springflow.core.index.IndexRecommendation;
+import io.springflow.core.index.IndexRecommender;
+import io.springflow.core.index.QueryUsageRecorder;
+import io.springflow.core.it.entity.IntegrationTestEntity;
+import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.MetadataResolver;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with H2's {@code EXPLAIN} that a recommended index is the one the database then uses.
+ */
+public class IndexRecommenderIntegrationTest extends AbstractSpringFlowIntegrationTest {
+
+    private static final String QUERY = "SELECT * FROM integration_test_entity WHERE name = 'x'";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void recommendedIndex_shouldBeUsedByTheFilterQuery() {
+        EntityMetadata metadata = new MetadataResolver().resolve(IntegrationTestEntity.class);
+        QueryUsageRecorder recorder = new QueryUsageRecorder();
+        recorder.recordFilter(metadata.entityName(), "name", FilterType.EQUALS);
+        recorder.recordQuery(metadata.entityName(), 1_000_000);
+
+        List<IndexRecommendation> recommendations = new IndexRecommender(new IndexAdvisor("H2"))
+                .recommend(List.of(metadata), recorder.snapshot());
+
+        assertThat(recommendations).hasSize(1);
+        String ddl = recommendations.get(0).suggestion().ddl();
+        assertThat(explain()).doesNotContain("IDX_INTEGRATION_TEST_ENTITY_NAME");
+
+        entityManager.createNativeQuery(ddl).executeUpdate();
+        try {
+            assertThat(explain()).contains("IDX_INTEGRATION_TEST_ENTITY_NAME");
+        } finally {
+            entityManager.createNativeQuery("DROP INDEX IF EXISTS idx_integration_test_entity_name").executeUpdate();
+        }
+    }
+
+    private String explain() {
+        return entityManager.createNativeQuery("EXPLAIN " + QUERY).getSingleResult().toString().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,130 @@
+package io.springflow.core.it;
+
+import io.springflow.core.filter.InListStrategy;
+import io.springflow.core.filter.QueryLimits;
+import io.springflow.core.it.entity.IntegrationTestOrder;
+import io.springflow.core.it.entity.IntegrationTestOrderLine;
+import io.springflow.core.service.GenericCrudService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.JoinType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks {@link GenericCrudService#findAllTwoPhase} against H2: a page of IDs first, then the
+ * entities and their fetched collection for those IDs.
+ */
+public class TwoPhasePaginationIntegrationTest extends AbstractSpringFlowIntegrationTest {
+
+    @Autowired
+    @Qualifier("integrationTestOrderService")
+    private GenericCrudService<IntegrationTestOrder, Long> service;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Seven orders sharing only two statuses, with two lines each
+        for (int i = 0; i < 7; i++) {
+            IntegrationTestOrder order = new IntegrationTestOrder(i % 2 == 0 ? "OPEN" : "CLOSED");
+            order.addLine("product-" + i + "-a");
+            order.addLine("product-" + i + "-b");
+            ids.add(service.save(order).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findAllTwoPhase_withNonUniqueSortKey_shouldNeitherRepeatNorSkipRows() {
+        Sort byStatus = Sort.by("status");
+        List<Long> seen = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            service.findAllTwoPhase(null, PageRequest.of(page, 3, byStatus), false)
+                    .forEach(order -> seen.add(order.getId()));
+        }
+
+        List<Long> closed = ids.stream().filter(id -> ids.indexOf(id) % 2 == 1).toList();
+        List<Long> open = ids.stream().filter(id -> ids.indexOf(id) % 2 == 0).toList();
+        assertThat(seen).hasSize(7).doesNotHaveDuplicates();
+        assertThat(seen.subList(0, 3)).containsExactlyElementsOf(closed);
+        assertThat(seen.subList(3, 7)).containsExactlyElementsOf(open);
+    }
+
+    @Test
+    void findAllTwoPhase_shouldCountEntitiesNotJoinedRows() {
+        Page<IntegrationTestOrder> page = service.findAllTwoPhase(fetchLines(), PageRequest.of(0, 3), false);
+
+        assertThat(page.getTotalElements()).isEqualTo(7);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(page.getContent()).hasSize(3);
+    }
+
+    @Test
+    void findAllTwoPhase_withCollectionFetch_shouldPageInTheDatabaseAndLoadTheCollections() {
+        Page<IntegrationTestOrder> page = service.findAllTwoPhase(fetchLines(),
+                PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "id")), false);
+
+        assertThat(page.getContent()).extracting(IntegrationTestOrder::getId)
+                .containsExactly(ids.get(3), ids.get(2), ids.get(1));
+        for (IntegrationTestOrder order : page.getContent()) {
+            assertThat(entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(order, "lines")).isTrue();
+            assertThat(order.getLines()).extracting(IntegrationTestOrderLine::getProduct).hasSize(2);
+        }
+    }
+
+    @Test
+    void loadCollections_shouldLoadLargePagesOneInListChunkAtATime() {
+        List<IntegrationTestOrder> orders = service.findAll(PageRequest.of(0, 10)).getContent();
+        entityManager.clear();
+        service.setInListStrategy(new InListStrategy(true, 2));
+
+        try {
+            service.loadCollections(orders, List.of("lines"));
+        } finally {
+            service.setInListStrategy(InListStrategy.DEFAULT);
+        }
+
+        assertThat(orders).hasSize(7).allSatisfy(order ->
+                assertThat(order.getLines()).extracting(IntegrationTestOrderLine::getProduct)
+                        .containsExactlyInAnyOrder("product-" + ids.indexOf(order.getId()) + "-a",
+                                "product-" + ids.indexOf(order.getId()) + "-b"));
+    }
+
+    /**
+     * Fetch-joins the lines on the entity query only, as the filter resolver does.
+     */
+    private static Specification<IntegrationTestOrder> fetchLines() {
+        return (root, query, cb) -> {
+            if (IntegrationTestOrder.class.equals(query.getResultType())) {
+                root.fetch("lines", JoinType.LEFT);
+                query.distinct(true);
+            }
+            return null;
+        };
+    }
+
+    @Test
+    void queryTimeout_shouldBeSetOnEachQueryNotOnTheSharedEntityManager() {
+        service.findAll(null, PageRequest.of(0, 3, Sort.by("status")), false);
+        service.findAllTwoPhase(null, PageRequest.of(0, 3), false);
+        service.findById(ids.getFirst());
+
+        assertThat(entityManager.getProperties()).doesNotContainKey(QueryLimits.TIMEOUT_HINT);
+    }
+}
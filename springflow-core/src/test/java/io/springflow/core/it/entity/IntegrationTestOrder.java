@@ -0,0 +1,43 @@
+package io.springflow.core.it.entity;
+
+import io.springflow.annotations.AutoApi;
+import io.springflow.annotations.QueryBudget;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@AutoApi(budget = @QueryBudget(timeoutMs = 5000))
+public class IntegrationTestOrder {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String status;
+
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<IntegrationTestOrderLine> lines = new ArrayList<>();
+
+    public IntegrationTestOrder() {}
+
+    public IntegrationTestOrder(String status) {
+        this.status = status;
+    }
+
+    public void addLine(String product) {
+        lines.add(new IntegrationTestOrderLine(this, product));
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public List<IntegrationTestOrderLine> getLines() { return lines; }
+    public void setLines(List<IntegrationTestOrderLine> lines) { this.lines = lines; }
+}
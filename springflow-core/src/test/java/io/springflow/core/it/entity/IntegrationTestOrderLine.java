@@ -0,0 +1,34 @@
+package io.springflow.core.it.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+@Entity
+public class IntegrationTestOrderLine {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private IntegrationTestOrder order;
+
+    private String product;
+
+    public IntegrationTestOrderLine() {}
+
+    public IntegrationTestOrderLine(IntegrationTestOrder order, String product) {
+        this.order = order;
+        this.product = product;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public IntegrationTestOrder getOrder() { return order; }
+    public void setOrder(IntegrationTestOrder order) { this.order = order; }
+    public String getProduct() { return product; }
+    public void setProduct(String product) { this.product = product; }
+}
@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.springflow.annotations.Hidden;
 import io.springflow.annotations.ReadOnly;
 import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.FetchProfileMetadata;
 import io.springflow.core.metadata.MetadataResolver;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -45,6 +46,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
@@ -465,6 +467,58 @@ class EntityDtoMapperTest {
         assertThat(relatedDto).doesNotContainKey("id");
     }
 
+    @Test
+    void toOutputDto_withFetchProfile_shouldExpandOnlyProfileRelations() {
+        // Given
+        RelatedEntity related = new RelatedEntity();
+        related.setId(42L);
+        related.setDescription("Related Description");
+
+        TestEntity entity = new TestEntity();
+        entity.setId(1L);
+        entity.setName("Test Name");
+        entity.setRelatedEntity(related);
+        entity.setRelatedList(List.of(related));
+
+        EntityMetadata relatedMetadata = metadataResolver.resolve(RelatedEntity.class);
+        EntityDtoMapper relatedMapper = new EntityDtoMapper<>(RelatedEntity.class, relatedMetadata, entityManager, mapperFactory);
+        when(mapperFactory.getMapper(RelatedEntity.class)).thenReturn(relatedMapper);
+
+        FetchProfileMetadata profile = new FetchProfileMetadata("detail", List.of("relatedEntity"));
+
+        // When
+        Map<String, Object> outputDto = mapper.toOutputDto(entity, null, profile);
+
+        // Then
+        assertThat(outputDto.get("relatedEntity")).isEqualTo(Map.of("id", 42L, "description", "Related Description"));
+        assertThat(outputDto).doesNotContainKey("relatedList");
+        assertThat(outputDto.get("name")).isEqualTo("Test Name");
+    }
+
+    @Test
+    void toOutputDto_withFetchProfile_shouldRenderOtherToOneRelationsAsIdentifier() {
+        // Given
+        RelatedEntity related = new RelatedEntity();
+        related.setId(42L);
+
+        TestEntity entity = new TestEntity();
+        entity.setId(1L);
+        entity.setRelatedEntity(related);
+
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        PersistenceUnitUtil unitUtil = mock(PersistenceUnitUtil.class);
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.getPersistenceUnitUtil()).thenReturn(unitUtil);
+        when(unitUtil.getIdentifier(related)).thenReturn(42L);
+
+        // When
+        Map<String, Object> outputDto = mapper.toOutputDto(entity, null, new FetchProfileMetadata("list", List.of()));
+
+        // Then
+        assertThat(outputDto.get("relatedEntity")).isEqualTo(42L);
+        assertThat(outputDto).doesNotContainKey("relatedList");
+    }
+
     @Test
     void getEntityClass_shouldReturnCorrectClass() {
         // When/Then
@@ -0,0 +1,80 @@
+package io.springflow.core.metadata;
+
+import io.springflow.annotations.Auditable;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.LastModifiedDate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditingMetadataTest {
+
+    @Auditable
+    static class ManualEntity {
+        private LocalDateTime createdAt;
+        private String createdBy;
+        private Instant updatedAt;
+        private Integer updatedBy;
+    }
+
+    static class BaseEntity {
+        @LastModifiedDate
+        private LocalDateTime modifiedAt;
+    }
+
+    @Auditable
+    static class SpringDataEntity extends BaseEntity {
+        private LocalDateTime createdAt;
+    }
+
+    @Test
+    void resolve_shouldSkipFieldsThatCannotHoldTheValue() {
+        AuditingMetadata auditing = AuditingMetadata.resolve(ManualEntity.class, ManualEntity.class.getAnnotation(Auditable.class));
+
+        assertThat(auditing.mode()).isEqualTo(AuditingMetadata.Mode.MANUAL);
+        assertThat(auditing.createdAt().name()).isEqualTo("createdAt");
+        assertThat(auditing.updatedAt().name()).isEqualTo("updatedAt");
+        assertThat(auditing.updatedBy()).isNull();
+    }
+
+    @Test
+    void apply_shouldSetCreationFieldsOnlyOnCreate() {
+        AuditingMetadata auditing = AuditingMetadata.resolve(ManualEntity.class, ManualEntity.class.getAnnotation(Auditable.class));
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 10, 30);
+        ManualEntity entity = new ManualEntity();
+
+        auditing.apply(entity, false, "alice", now);
+
+        assertThat(entity.createdAt).isNull();
+        assertThat(entity.createdBy).isNull();
+        assertThat(entity.updatedAt).isNotNull();
+
+        auditing.apply(entity, true, "alice", now);
+
+        assertThat(entity.createdAt).isEqualTo(now);
+        assertThat(entity.createdBy).isEqualTo("alice");
+    }
+
+    @Test
+    void resolve_shouldLeaveInheritedSpringDataAuditingToSpringData() {
+        AuditingMetadata auditing = AuditingMetadata.resolve(SpringDataEntity.class, SpringDataEntity.class.getAnnotation(Auditable.class));
+        SpringDataEntity entity = new SpringDataEntity();
+
+        auditing.apply(entity, true, "alice", LocalDateTime.now());
+
+        assertThat(auditing.mode()).isEqualTo(AuditingMetadata.Mode.SPRING_DATA);
+        assertThat(entity.createdAt).isNull();
+    }
+
+    @Test
+    void entityMetadata_shouldResolveAuditingWhenNotGiven() {
+        EntityMetadata metadata = new EntityMetadata(ManualEntity.class, Long.class, "ManualEntity", "manual_entity",
+                null, null, ManualEntity.class.getAnnotation(Auditable.class), null, List.of());
+
+        assertThat(metadata.auditing().mode()).isEqualTo(AuditingMetadata.Mode.MANUAL);
+        assertThat(metadata.usesSpringDataAuditing()).isFalse();
+    }
+}
@@ -0,0 +1,41 @@
+package io.springflow.core.metadata;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Subgraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FetchProfileMetadataTest {
+
+    @Test
+    void paths_shouldIncludeParentsOfNestedPaths() {
+        FetchProfileMetadata profile = new FetchProfileMetadata("detail", List.of("customer", "lines.product.supplier"));
+
+        assertThat(profile.paths()).containsExactly(
+                "customer", "lines", "lines.product", "lines.product.supplier");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void toEntityGraph_shouldAddAttributeNodesAndSubgraphs() {
+        EntityManager entityManager = mock(EntityManager.class);
+        EntityGraph<Object> graph = mock(EntityGraph.class);
+        Subgraph<Object> lines = mock(Subgraph.class);
+        when(entityManager.createEntityGraph(Object.class)).thenReturn(graph);
+        doReturn(lines).when(graph).addSubgraph("lines");
+
+        FetchProfileMetadata profile = new FetchProfileMetadata("detail", List.of("customer", "lines.product"));
+
+        assertThat(profile.toEntityGraph(entityManager, Object.class)).isSameAs(graph);
+        verify(graph).addAttributeNodes("customer");
+        verify(lines).addAttributeNodes("product");
+    }
+}
@@ -2,15 +2,24 @@ package io.springflow.core.repository;
 
 import io.springflow.core.dto.FilterOperator;
 import io.springflow.core.dto.SearchRequest;
+import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.FieldMetadata;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class SpecificationBuilderTest {
@@ -27,4 +36,169 @@ class SpecificationBuilderTest {
         // Testing the resulting predicate is hard without a real JPA environment, 
         // but we can at least verify it's not null.
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldBuildNestedGroupsWithTypedValues() throws Exception {
+        // status = 'OPEN' AND NOT (age > 42 OR name IS NULL)
+        SearchRequest nested = new SearchRequest(
+                List.of(new SearchRequest.FilterCriteria("age", FilterOperator.GREATER_THAN, "42"),
+                        new SearchRequest.FilterCriteria("name", FilterOperator.IS_NULL, null)),
+                SearchRequest.LogicalOperator.OR, null, true);
+        SearchRequest request = new SearchRequest(
+                List.of(new SearchRequest.FilterCriteria("name", FilterOperator.EQUALS, "OPEN")),
+                SearchRequest.LogicalOperator.AND, List.of(nested), false);
+
+        Root<SearchEntity> root = mock(Root.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Path<Object> path = mock(Path.class);
+        Predicate negated = mock(Predicate.class);
+        when(root.get(anyString())).thenReturn(path);
+        when(path.as(Comparable.class)).thenReturn((jakarta.persistence.criteria.Expression) path);
+        when(cb.not(any())).thenReturn(negated);
+
+        Specification<SearchEntity> spec = SpecificationBuilder.build(request, metadata());
+        spec.toPredicate(root, mock(CriteriaQuery.class), cb);
+
+        verify(cb).greaterThan(any(jakarta.persistence.criteria.Expression.class), eq((Comparable) 42));
+        verify(cb).or(any(Predicate[].class));
+        verify(cb).not(any());
+        verify(cb).and(any(Predicate[].class));
+    }
+
+    @Test
+    void shouldRejectUnknownField() throws Exception {
+        SearchRequest request = new SearchRequest(
+                List.of(new SearchRequest.FilterCriteria("unknown", FilterOperator.EQUALS, "x")),
+                SearchRequest.LogicalOperator.AND);
+
+        assertThatThrownBy(() -> SpecificationBuilder.build(request, metadata()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unknown");
+    }
+
+    @Test
+    void shouldRejectInvalidValue() throws Exception {
+        SearchRequest request = new SearchRequest(
+                List.of(new SearchRequest.FilterCriteria("age", FilterOperator.EQUALS, "not-a-number")),
+                SearchRequest.LogicalOperator.AND);
+
+        assertThatThrownBy(() -> SpecificationBuilder.build(request, metadata()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("age");
+    }
+
+    @Test
+    void shouldRejectLikeOnNonTextField() throws Exception {
+        SearchRequest request = new SearchRequest(
+                List.of(new SearchRequest.FilterCriteria("age", FilterOperator.LIKE, "4")),
+                SearchRequest.LogicalOperator.AND);
+
+        assertThatThrownBy(() -> SpecificationBuilder.build(request, metadata()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void specification_shouldCacheOnePlanPerRequestShape() throws Exception {
+        SpecificationBuilder builder = new SpecificationBuilder();
+        EntityMetadata metadata = metadata();
+
+        builder.specification(request("age", FilterOperator.EQUALS, "1"), metadata);
+        builder.specification(request("age", FilterOperator.EQUALS, "2"), metadata);
+        builder.specification(request("name", FilterOperator.EQUALS, "x"), metadata);
+
+        assertThat(builder.cachedPlans()).isEqualTo(2);
+        assertThat(new SpecificationBuilder().cachedPlans()).isZero();
+    }
+
+    @Test
+    void specification_shouldStopCachingOnceFullButStillBuild() throws Exception {
+        SpecificationBuilder builder = new SpecificationBuilder(1);
+        EntityMetadata metadata = metadata();
+
+        builder.specification(request("age", FilterOperator.EQUALS, "1"), metadata);
+        Specification<SearchEntity> spec = builder.specification(request("name", FilterOperator.EQUALS, "x"), metadata);
+
+        assertThat(spec).isNotNull();
+        assertThat(builder.cachedPlans()).isEqualTo(1);
+    }
+
+    @Test
+    void specification_shouldValidateValuesOfCachedShapes() throws Exception {
+        SpecificationBuilder builder = new SpecificationBuilder();
+        EntityMetadata metadata = metadata();
+        builder.specification(request("age", FilterOperator.EQUALS, "1"), metadata);
+
+        assertThatThrownBy(() -> builder.specification(request("age", FilterOperator.EQUALS, "not-a-number"), metadata))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("age");
+    }
+
+    @Test
+    void specification_shouldNotMistakeAFieldNameForAnotherShape() throws Exception {
+        SpecificationBuilder builder = new SpecificationBuilder();
+        EntityMetadata metadata = metadata();
+        builder.specification(new SearchRequest(
+                List.of(new SearchRequest.FilterCriteria("name", FilterOperator.EQUALS, "a"),
+                        new SearchRequest.FilterCriteria("name", FilterOperator.EQUALS, "b")),
+                SearchRequest.LogicalOperator.AND), metadata);
+
+        assertThatThrownBy(() -> builder.specification(request("name EQUALS,name", FilterOperator.EQUALS, "x"), metadata))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown search field");
+        assertThat(builder.cachedPlans()).isEqualTo(1);
+    }
+
+    @Test
+    void specification_shouldRejectNullAndEmptyGroups() throws Exception {
+        SpecificationBuilder builder = new SpecificationBuilder();
+        EntityMetadata metadata = metadata();
+        SearchRequest empty = new SearchRequest(List.of(), SearchRequest.LogicalOperator.OR);
+        List<SearchRequest> nullGroup = Collections.singletonList(null);
+
+        assertThatThrownBy(() -> builder.specification(new SearchRequest(List.of(), SearchRequest.LogicalOperator.AND,
+                List.of(empty), false), metadata))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at least one");
+        assertThatThrownBy(() -> builder.specification(new SearchRequest(List.of(), SearchRequest.LogicalOperator.AND,
+                nullGroup, false), metadata))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SpecificationBuilder.build(new SearchRequest(List.of(), SearchRequest.LogicalOperator.AND,
+                nullGroup, false), metadata))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMatchNothingForAnEmptyInList() throws Exception {
+        Root<SearchEntity> root = mock(Root.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Path<Object> path = mock(Path.class);
+        when(root.get(anyString())).thenReturn(path);
+
+        Specification<SearchEntity> spec = SpecificationBuilder.build(request("age", FilterOperator.IN, List.of()), metadata());
+        spec.toPredicate(root, mock(CriteriaQuery.class), cb);
+
+        verify(cb).disjunction();
+        verify(path, never()).in(any(Collection.class));
+    }
+
+    private static SearchRequest request(String field, FilterOperator operator, Object value) {
+        return new SearchRequest(List.of(new SearchRequest.FilterCriteria(field, operator, value)),
+                SearchRequest.LogicalOperator.AND);
+    }
+
+    private EntityMetadata metadata() throws Exception {
+        FieldMetadata name = new FieldMetadata(SearchEntity.class.getDeclaredField("name"), "name", String.class,
+                true, false, false, false, false, null, Collections.emptyList(), null, null, false);
+        FieldMetadata age = new FieldMetadata(SearchEntity.class.getDeclaredField("age"), "age", Integer.class,
+                true, false, false, false, false, null, Collections.emptyList(), null, null, false);
+        return new EntityMetadata(SearchEntity.class, Long.class, "SearchEntity", "search_entity", null,
+                List.of(name, age));
+    }
+
+    static class SearchEntity {
+        private String name;
+        private Integer age;
+    }
 }
@@ -0,0 +1,101 @@
+package io.springflow.core.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FullTextIndexTest {
+
+    private FullTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FullTextIndex(Map.of("name", 2.0f, "description", 1.0f));
+        index.index(1L, Map.of("name", "Wireless Mouse", "description", "Ergonomic mouse with USB receiver"));
+        index.index(2L, Map.of("name", "Wired Keyboard", "description", "Mechanical keyboard, wireless-free"));
+        index.index(3L, Map.of("name", "Mouse Pad", "description", "Large pad"));
+    }
+
+    @Test
+    void search_shouldRequireAllTerms() {
+        assertThat(index.search("wireless mouse", null, 10))
+                .extracting(FullTextIndex.Hit::id)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void search_shouldRankByTermFrequencyAndFieldWeight() {
+        assertThat(index.search("mouse", null, 10))
+                .extracting(FullTextIndex.Hit::id)
+                .containsExactly(1L, 3L);
+    }
+
+    @Test
+    void search_onField_shouldOnlyMatchThatField() {
+        assertThat(index.search("wireless", "name", 10))
+                .extracting(FullTextIndex.Hit::id)
+                .containsExactly(1L);
+        assertThat(index.search("wireless", "description", 10))
+                .extracting(FullTextIndex.Hit::id)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void search_shouldIgnoreCaseAndAccents() {
+        index.index(4L, Map.of("name", "Café Crème"));
+
+        assertThat(index.search("CAFE creme", null, 10))
+                .extracting(FullTextIndex.Hit::id)
+                .containsExactly(4L);
+    }
+
+    @Test
+    void search_shouldApplyLimit() {
+        assertThat(index.search("mouse", null, 1)).hasSize(1);
+    }
+
+    @Test
+    void search_withOffset_shouldReturnOneSliceAndTheTotal() {
+        FullTextIndex.Hits all = index.search("mouse", null, 0, 10);
+        FullTextIndex.Hits second = index.search("mouse", null, 1, 1);
+
+        assertThat(all.total()).isEqualTo(2);
+        assertThat(second.total()).isEqualTo(2);
+        assertThat(second.hits()).containsExactly(all.hits().get(1));
+        assertThat(index.search("mouse", null, 5, 1).hits()).isEmpty();
+    }
+
+    @Test
+    void index_shouldReplacePreviousTerms() {
+        index.index(3L, Map.of("name", "Desk Lamp"));
+
+        assertThat(index.search("pad", null, 10)).isEmpty();
+        assertThat(index.search("lamp", null, 10))
+                .extracting(FullTextIndex.Hit::id)
+                .containsExactly(3L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void remove_shouldDropDocument() {
+        index.remove(1L);
+
+        assertThat(index.search("mouse", null, 10))
+                .extracting(FullTextIndex.Hit::id)
+                .containsExactly(3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void clear_shouldResetReadiness() {
+        index.markReady();
+
+        index.clear();
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.size()).isZero();
+    }
+}
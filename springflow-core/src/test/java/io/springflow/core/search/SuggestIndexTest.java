@@ -0,0 +1,86 @@
+package io.springflow.core.search;
+
+import io.springflow.core.dto.FacetValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestIndexTest {
+
+    private SuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SuggestIndex(List.of("name"), 100);
+        index.add(Map.of("name", "Laptop"));
+        index.add(Map.of("name", "Laptop"));
+        index.add(Map.of("name", "Lamp"));
+        index.add(Map.of("name", "Laptop Stand"));
+        index.add(Map.of("name", "Mouse"));
+    }
+
+    @Test
+    void suggest_shouldRankByFrequencyWithinPrefix() {
+        assertThat(index.suggest("name", "la", 10)).containsExactly(
+                new FacetValue("Laptop", 2),
+                new FacetValue("Lamp", 1),
+                new FacetValue("Laptop Stand", 1)
+        );
+    }
+
+    @Test
+    void suggest_shouldIgnoreCaseAndAccents() {
+        index.add(Map.of("name", "Écran"));
+
+        assertThat(index.suggest("name", "ECR", 10)).containsExactly(new FacetValue("Écran", 1));
+    }
+
+    @Test
+    void suggest_shouldApplyLimit() {
+        assertThat(index.suggest("name", "la", 1)).containsExactly(new FacetValue("Laptop", 2));
+    }
+
+    @Test
+    void suggest_onUnknownField_shouldReturnNothing() {
+        assertThat(index.suggest("category", "la", 10)).isEmpty();
+    }
+
+    @Test
+    void replace_shouldMoveCountToNewValue() {
+        index.replace(Map.of("name", "Lamp"), Map.of("name", "Monitor"));
+
+        assertThat(index.suggest("name", "lam", 10)).isEmpty();
+        assertThat(index.suggest("name", "mo", 10)).containsExactly(
+                new FacetValue("Monitor", 1),
+                new FacetValue("Mouse", 1)
+        );
+    }
+
+    @Test
+    void remove_shouldDecrementCount() {
+        index.remove(Map.of("name", "Laptop"));
+
+        assertThat(index.suggest("name", "laptop", 10)).containsExactly(
+                new FacetValue("Laptop", 1),
+                new FacetValue("Laptop Stand", 1)
+        );
+    }
+
+    @Test
+    void add_beyondMemoryCap_shouldIgnoreNewValues() {
+        SuggestIndex capped = new SuggestIndex(List.of("name"), 2);
+        capped.add(Map.of("name", "Alpha"));
+        capped.add(Map.of("name", "Beta"));
+        capped.add(Map.of("name", "Gamma"));
+        capped.add(Map.of("name", "Alpha"));
+
+        assertThat(capped.suggest("name", "", 10)).containsExactly(
+                new FacetValue("Alpha", 2),
+                new FacetValue("Beta", 1)
+        );
+    }
+}
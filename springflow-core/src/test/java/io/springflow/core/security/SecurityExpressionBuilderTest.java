@@ -0,0 +1,34 @@
+package io.springflow.core.security;
+
+import io.springflow.annotations.SecuredApi;
+import io.springflow.annotations.SecurityLevel;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityExpressionBuilderTest {
+
+    private final SecurityExpressionBuilder builder = new SecurityExpressionBuilder();
+
+    private final SecuredApi securedApi = PublicReads.class.getAnnotation(SecuredApi.class);
+
+    @Test
+    void buildExpression_shouldApplyTheReadLevelToReadMethods() {
+        assertThat(builder.buildExpression(securedApi, "findById")).isEqualTo("permitAll()");
+        assertThat(builder.buildExpression(securedApi, "writeBehindOutcome")).isEqualTo("permitAll()");
+    }
+
+    @Test
+    void buildExpression_shouldApplyTheWriteLevelToWriteMethods() {
+        assertThat(builder.buildExpression(securedApi, "create")).isEqualTo("hasAnyRole('ADMIN')");
+    }
+
+    @Test
+    void buildExpression_shouldPermitAllWithoutConfiguration() {
+        assertThat(builder.buildExpression((SecuredApi) null, "findAll")).isEqualTo("permitAll()");
+    }
+
+    @SecuredApi(level = SecurityLevel.ROLE_BASED, roles = "ROLE_ADMIN", readLevel = SecurityLevel.PUBLIC)
+    private static class PublicReads {
+    }
+}
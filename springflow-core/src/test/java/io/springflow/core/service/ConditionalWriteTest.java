@@ -0,0 +1,103 @@
+package io.springflow.core.service;
+
+import io.springflow.core.exception.PreconditionFailedException;
+import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.MetadataResolver;
+import io.springflow.core.metadata.testentities.VersionedEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalWriteTest {
+
+    @Mock
+    private JpaRepository<VersionedEntity, Long> repository;
+
+    private EntityMetadata metadata;
+
+    private GenericCrudService<VersionedEntity, Long> service;
+
+    @BeforeEach
+    void setUp() {
+        metadata = new MetadataResolver().resolve(VersionedEntity.class);
+        service = new GenericCrudService<VersionedEntity, Long>(repository, VersionedEntity.class, metadata) {
+        };
+    }
+
+    private VersionedEntity entityAtVersion(long version) {
+        VersionedEntity entity = new VersionedEntity();
+        entity.setId(1L);
+        entity.setVersion(version);
+        entity.setName("Original");
+        when(repository.findById(1L)).thenReturn(Optional.of(entity));
+        return entity;
+    }
+
+    @Test
+    void update_withStaleVersion_shouldFailWithoutApplyingChanges() {
+        VersionedEntity entity = entityAtVersion(3L);
+
+        assertThatThrownBy(() -> service.update(1L, 2L, e -> e.setName("Changed")))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("is at version 3, not 2");
+        assertThat(entity.getName()).isEqualTo("Original");
+    }
+
+    @Test
+    void update_withCurrentVersion_shouldApplyChanges() {
+        VersionedEntity entity = entityAtVersion(3L);
+
+        service.update(1L, 3L, e -> e.setName("Changed"));
+
+        assertThat(entity.getName()).isEqualTo("Changed");
+    }
+
+    @Test
+    void update_shouldPassTheStateBeforeTheChangesToBeforeUpdate() {
+        entityAtVersion(3L);
+        List<String> names = new ArrayList<>();
+        GenericCrudService<VersionedEntity, Long> hooked = new GenericCrudService<VersionedEntity, Long>(
+                repository, VersionedEntity.class, metadata) {
+            @Override
+            protected void beforeUpdate(VersionedEntity existing, VersionedEntity updated) {
+                names.add(existing.getName());
+                names.add(updated.getName());
+            }
+        };
+
+        hooked.update(1L, e -> e.setName("Changed"));
+
+        assertThat(names).containsExactly("Original", "Changed");
+    }
+
+    @Test
+    void deleteById_withStaleVersion_shouldNotDelete() {
+        entityAtVersion(3L);
+
+        assertThatThrownBy(() -> service.deleteById(1L, 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(repository, never()).deleteById(any());
+    }
+
+    @Test
+    void findVersion_withoutEntityManager_shouldReadTheLoadedVersion() {
+        entityAtVersion(3L);
+
+        assertThat(service.findVersion(1L, null)).isEqualTo(3L);
+    }
+}
@@ -3,9 +3,15 @@ package io.springflow.core.service;
 import io.springflow.annotations.SoftDelete;
 import io.springflow.core.metadata.EntityMetadata;
 import io.springflow.core.metadata.FieldMetadata;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.jpa.domain.Specification;
@@ -89,6 +95,27 @@ class SoftDeleteTest {
         verify((JpaSpecificationExecutor<TestEntity>) repository).findAll(any(Specification.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void findAll_withNonNullFlag_shouldUseSingleEqualityPredicate() {
+        // Given
+        ArgumentCaptor<Specification<TestEntity>> captor = ArgumentCaptor.forClass(Specification.class);
+        Root<TestEntity> root = mock(Root.class);
+        jakarta.persistence.criteria.CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Path<Object> path = mock(Path.class);
+        when(root.get("deleted")).thenReturn(path);
+
+        // When
+        service.findAll();
+        verify((JpaSpecificationExecutor<TestEntity>) repository).findAll(captor.capture());
+        captor.getValue().toPredicate(root, mock(CriteriaQuery.class), cb);
+
+        // Then
+        verify(cb).equal(path, false);
+        verify(cb, never()).or(any(Expression.class), any(Expression.class));
+        verify(cb, never()).isNull(any());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void findDeletedOnly_shouldApplyDeletedOnlyFilter() {
@@ -1,6 +1,8 @@
 package io.springflow.demo.entity;
 
 import io.springflow.annotations.AutoApi;
+import io.springflow.annotations.FilterType;
+import io.springflow.annotations.Filterable;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
@@ -35,6 +37,7 @@ public class Invoice {
     @NotNull(message = "Amount is required")
     @DecimalMin(value = "0.01", message = "Amount must be positive")
     @Column(nullable = false, precision = 10, scale = 2)
+    @Filterable(types = {FilterType.RANGE})
     private BigDecimal amount;
 
     @Column(nullable = false)
@@ -44,6 +47,7 @@ public class Invoice {
     private LocalDateTime dueDate;
 
     @Column(length = 20)
+    @Filterable(types = {FilterType.EQUALS, FilterType.IN})
     private String status; // DRAFT, ISSUED, PAID, OVERDUE, CANCELLED
 
     @Column(length = 500)
@@ -1,10 +1,12 @@
 package io.springflow.demo.service;
 
+import io.springflow.core.dto.Aggregation;
 import io.springflow.core.service.GenericCrudService;
 import io.springflow.demo.entity.Invoice;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
@@ -99,9 +101,7 @@ public class InvoiceService extends GenericCrudService<Invoice, Long> {
      * @return total revenue (sum of all invoice amounts)
      */
     public BigDecimal getTotalRevenue() {
-        return repository.findAll().stream()
-                .map(Invoice::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return sumAmount(null);
     }
 
     /**
@@ -111,10 +111,7 @@ public class InvoiceService extends GenericCrudService<Invoice, Long> {
      * @return total revenue for invoices with the given status
      */
     public BigDecimal getRevenueByStatus(String status) {
-        return repository.findAll().stream()
-                .filter(invoice -> status.equals(invoice.getStatus()))
-                .map(Invoice::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return sumAmount((root, query, cb) -> cb.equal(root.get("status"), status));
     }
 
     /**
@@ -170,6 +167,18 @@ public class InvoiceService extends GenericCrudService<Invoice, Long> {
         return repository.save(invoice);
     }
 
+    /**
+     * Sum invoice amounts in the database instead of loading every invoice.
+     *
+     * @param spec optional filter
+     * @return the sum, or zero when no invoice matches
+     */
+    private BigDecimal sumAmount(Specification<Invoice> spec) {
+        Aggregation sum = new Aggregation(Aggregation.Function.SUM, "amount");
+        Object total = aggregate(spec, List.of(sum), List.of()).get(0).get(sum.alias());
+        return total != null ? (BigDecimal) total : BigDecimal.ZERO;
+    }
+
     /**
      * Generate a unique invoice number.
      * Format: INV-{timestamp}
@@ -1,5 +1,6 @@
 package io.springflow.graphql.config;
 
+import io.springflow.core.filter.InListStrategy;
 import io.springflow.core.metadata.EntityMetadata;
 import io.springflow.core.metadata.MetadataResolver;
 import io.springflow.core.scanner.EntityScanner;
@@ -56,6 +57,8 @@ public class DataLoaderRegistrar {
             EntityScanner entityScanner = applicationContext.getBean(EntityScanner.class);
             MetadataResolver metadataResolver = applicationContext.getBean(MetadataResolver.class);
             BatchLoaderRegistry registry = applicationContext.getBean(BatchLoaderRegistry.class);
+            InListStrategy inListStrategy = applicationContext.getBeanProvider(InListStrategy.class)
+                    .getIfAvailable(() -> InListStrategy.DEFAULT);
 
             // Get base packages
             List<String> basePackages = determineBasePackages();
@@ -76,7 +79,7 @@ public class DataLoaderRegistrar {
                     String loaderName = Character.toLowerCase(entityName.charAt(0)) + entityName.substring(1) + "Loader";
 
                     // Create and register DataLoader
-                    EntityBatchLoader<?, ?> batchLoader = new EntityBatchLoader<>(repository, metadata, entityName);
+                    EntityBatchLoader<?, ?> batchLoader = new EntityBatchLoader<>(repository, metadata, entityName, inListStrategy);
                     batchLoader.register(registry, loaderName);
 
                     registeredCount++;
@@ -207,9 +207,7 @@ public abstract class GenericGraphQLController<T, ID> {
     // @MutationMapping annotation will be added dynamically by ByteBuddy for each entity
     public Map<String, Object> update(@Argument ID id, @Argument Map<String, Object> input) {
         log.debug("GraphQL Mutation: update{}(id={}, input={})", entityName, id, input);
-        T existing = service.findById(id);
-        dtoMapper.updateEntity(existing, input);
-        T updated = service.save(existing);
+        T updated = service.update(id, existing -> dtoMapper.updateEntity(existing, input));
         return dtoMapper.toOutputDto(updated, null);
     }
 
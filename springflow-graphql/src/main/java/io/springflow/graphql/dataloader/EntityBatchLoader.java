@@ -1,5 +1,6 @@
 package io.springflow.graphql.dataloader;
 
+import io.springflow.core.filter.InListStrategy;
 import io.springflow.core.metadata.EntityMetadata;
 import io.springflow.core.metadata.FieldMetadata;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +10,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -45,11 +47,18 @@ public class EntityBatchLoader<T, ID> {
     private final JpaRepository<T, ID> repository;
     private final EntityMetadata metadata;
     private final String entityName;
+    private final InListStrategy inListStrategy;
 
     public EntityBatchLoader(JpaRepository<T, ID> repository, EntityMetadata metadata, String entityName) {
+        this(repository, metadata, entityName, InListStrategy.DEFAULT);
+    }
+
+    public EntityBatchLoader(JpaRepository<T, ID> repository, EntityMetadata metadata, String entityName,
+                             InListStrategy inListStrategy) {
         this.repository = repository;
         this.metadata = metadata;
         this.entityName = entityName;
+        this.inListStrategy = inListStrategy;
     }
 
     /**
@@ -57,6 +66,7 @@ public class EntityBatchLoader<T, ID> {
      * <p>
      * This method is called by GraphQL DataLoader with a batch of IDs to fetch.
      * Instead of N individual queries, it executes a single query with IN clause.
+     * IDs are deduplicated and, for large batches, split into chunks by the {@link InListStrategy}.
      * </p>
      *
      * @param ids list of entity IDs to load
@@ -66,8 +76,11 @@ public class EntityBatchLoader<T, ID> {
         log.debug("Batch loading {} entities with {} IDs", entityName, ids.size());
 
         return Mono.fromCallable(() -> {
-            // Fetch all entities in a single query using JpaRepository.findAllById()
-            List<T> entities = repository.findAllById(ids);
+            // Fetch all entities with one JpaRepository.findAllById() call per chunk of distinct IDs
+            List<T> entities = new ArrayList<>();
+            for (List<ID> chunk : inListStrategy.prepare(ids)) {
+                entities.addAll(repository.findAllById(chunk));
+            }
 
             log.debug("Batch loaded {} {} entities", entities.size(), entityName);
 
@@ -75,7 +88,8 @@ public class EntityBatchLoader<T, ID> {
             Map<ID, T> entityMap = entities.stream()
                     .collect(Collectors.toMap(
                             entity -> extractId(entity),
-                            Function.identity()
+                            Function.identity(),
+                            (first, second) -> first
                     ));
 
             // Return entities in the same order as requested IDs
@@ -0,0 +1,103 @@
+package io.springflow.starter.actuate;
+
+import io.springflow.annotations.AutoApi;
+import io.springflow.core.index.IndexAdvisor;
+import io.springflow.core.index.IndexRecommendation;
+import io.springflow.core.index.IndexRecommender;
+import io.springflow.core.index.QueryUsageRecorder;
+import io.springflow.core.metadata.EntityMetadata;
+import io.springflow.core.metadata.MetadataResolver;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ranking the indexes that the recorded traffic would use.
+ * <p>
+ * {@code GET /actuator/springflowindexes} returns the recorded usage per entity and the
+ * missing indexes, highest score first. {@code DELETE} clears the recorded usage, for example
+ * after the suggested indexes were created.
+ * </p>
+ */
+@Endpoint(id = "springflowindexes")
+public class IndexAdvisorEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexAdvisorEndpoint.class);
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final QueryUsageRecorder usageRecorder;
+    private final MetadataResolver metadataResolver = new MetadataResolver();
+    private volatile IndexRecommender recommender;
+
+    public IndexAdvisorEndpoint(DataSource dataSource, EntityManagerFactory entityManagerFactory,
+                                QueryUsageRecorder usageRecorder) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+        this.usageRecorder = usageRecorder;
+    }
+
+    /**
+     * Returns the recorded usage and the ranked missing indexes.
+     *
+     * @return the report
+     */
+    @ReadOperation
+    public IndexReport indexes() {
+        Map<String, QueryUsageRecorder.EntityUsage> usage = usageRecorder.snapshot();
+        List<EntityMetadata> entities = new ArrayList<>();
+        for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> javaType = entityType.getJavaType();
+            if (javaType != null && javaType.isAnnotationPresent(AutoApi.class)) {
+                entities.add(metadataResolver.resolve(javaType));
+            }
+        }
+        return new IndexReport(recommender().recommend(entities, usage), usage);
+    }
+
+    /**
+     * Clears the recorded usage.
+     */
+    @DeleteOperation
+    public void reset() {
+        usageRecorder.reset();
+    }
+
+    /**
+     * Creates the recommender on first use, with DDL for the connected database.
+     */
+    private IndexRecommender recommender() {
+        IndexRecommender current = recommender;
+        if (current == null) {
+            String databaseProductName = null;
+            try (Connection connection = dataSource.getConnection()) {
+                databaseProductName = connection.getMetaData().getDatabaseProductName();
+            } catch (SQLException e) {
+                log.warn("Could not read the database product name, suggesting portable DDL: {}", e.getMessage());
+            }
+            current = new IndexRecommender(new IndexAdvisor(databaseProductName));
+            recommender = current;
+        }
+        return current;
+    }
+
+    /**
+     * The endpoint response.
+     *
+     * @param recommendations the missing indexes, highest score first
+     * @param usage           the recorded usage, by entity name
+     */
+    public record IndexReport(List<IndexRecommendation> recommendations,
+                              Map<String, QueryUsageRecorder.EntityUsage> usage) {}
+}
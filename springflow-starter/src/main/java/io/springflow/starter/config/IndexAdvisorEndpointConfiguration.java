@@ -0,0 +1,32 @@
+package io.springflow.starter.config;
+
+import io.springflow.core.index.QueryUsageRecorder;
+import io.springflow.starter.actuate.IndexAdvisorEndpoint;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Registers the {@code springflowindexes} actuator endpoint.
+ * <p>
+ * Active when Spring Boot Actuator is on the classpath and usage recording is enabled
+ * ({@code springflow.indexes.record-usage}, default false). The endpoint still has to be
+ * exposed with {@code management.endpoints.web.exposure.include}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnClass(Endpoint.class)
+@ConditionalOnProperty(prefix = "springflow.indexes", name = "record-usage", havingValue = "true")
+public class IndexAdvisorEndpointConfiguration {
+
+    @Bean
+    public IndexAdvisorEndpoint indexAdvisorEndpoint(DataSource dataSource, EntityManagerFactory entityManagerFactory,
+                                                     QueryUsageRecorder queryUsageRecorder) {
+        return new IndexAdvisorEndpoint(dataSource, entityManagerFactory, queryUsageRecorder);
+    }
+}
@@ -1,17 +1,35 @@
 package io.springflow.starter.config;
 
+import io.springflow.core.config.BatchProperties;
 import io.springflow.core.config.PageableProperties;
 import io.springflow.core.config.SpringFlowWebConfiguration;
 import io.springflow.core.controller.GlobalExceptionHandler;
+import io.springflow.core.controller.ReadCoalescer;
 import io.springflow.core.controller.support.RequestMappingRegistrar;
+import io.springflow.core.execution.ConcurrencyLimiterRegistry;
+import io.springflow.core.execution.ConcurrencyLimits;
+import io.springflow.core.execution.ExecutionGate;
+import io.springflow.core.execution.WriteBehindRegistry;
+import io.springflow.core.execution.WriteBehindSettings;
 import io.springflow.core.filter.FilterResolver;
+import io.springflow.core.filter.InListStrategy;
+import io.springflow.core.filter.QueryLimits;
+import io.springflow.core.index.IndexValidator;
+import io.springflow.core.index.QueryUsageRecorder;
 import io.springflow.core.mapper.DtoMapperFactory;
+import io.springflow.core.search.FullTextIndexRegistry;
+import io.springflow.core.search.SearchIndexInitializer;
+import io.springflow.core.search.SuggestIndexRegistry;
 import io.springflow.core.repository.AutoApiRepositoryRegistrar;
+import io.springflow.core.repository.SpecificationBuilder;
 import io.springflow.core.validation.EntityValidator;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -19,8 +37,12 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.env.Environment;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+
 /**
  * Auto-configuration for SpringFlow framework.
  * <p>
@@ -54,7 +76,8 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
     GlobalExceptionHandler.class,
     SpringFlowWebConfiguration.class,
     OpenApiConfiguration.class,
-    JpaAuditingConfiguration.class
+    JpaAuditingConfiguration.class,
+    IndexAdvisorEndpointConfiguration.class
 })
 public class SpringFlowAutoConfiguration {
 
@@ -97,6 +120,20 @@ public class SpringFlowAutoConfiguration {
         return pageableProps;
     }
 
+    /**
+     * Creates BatchProperties bean from SpringFlowProperties configuration.
+     * Sets the chunk size and limits of the batch endpoints and bulk deletes.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "springflow", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public BatchProperties batchProperties(SpringFlowProperties properties) {
+        BatchProperties batchProps = new BatchProperties();
+        batchProps.setChunkSize(properties.getBatch().getChunkSize());
+        batchProps.setMaxItems(properties.getBatch().getMaxItems());
+        batchProps.setMaxAffectedRows(properties.getBatch().getMaxAffectedRows());
+        return batchProps;
+    }
+
     /**
      * Creates DtoMapperFactory bean for entity-DTO conversions.
      * Used by controllers to handle @Hidden and @ReadOnly fields.
@@ -108,15 +145,84 @@ public class SpringFlowAutoConfiguration {
         return new DtoMapperFactory(entityManager);
     }
 
+    /**
+     * Creates InListStrategy bean shaping IN predicates (deduplication, padding, chunking).
+     * Shared by the REST filters and the GraphQL batch loaders.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "springflow", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public InListStrategy inListStrategy(SpringFlowProperties properties) {
+        SpringFlowProperties.Query query = properties.getQuery();
+        return new InListStrategy(query.isInListPadding(), query.getInListChunkSize());
+    }
+
+    /**
+     * Creates SpecificationBuilder bean compiling POST /search requests, with a bounded
+     * concurrent cache of validated request shapes shared by the generated services.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "springflow", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SpecificationBuilder specificationBuilder() {
+        return new SpecificationBuilder();
+    }
+
+    /**
+     * Creates QueryLimits bean holding the global query budget (timeout, filters, IN size,
+     * offset, fetch joins). Entities override it with @AutoApi(budget = ...).
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "springflow", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public QueryLimits queryLimits(SpringFlowProperties properties) {
+        SpringFlowProperties.Query query = properties.getQuery();
+        return new QueryLimits(query.getTimeoutMs(), query.getMaxFilters(), query.getMaxInSize(),
+                query.getMaxOffset(), query.getMaxFetchJoins());
+    }
+
     /**
      * Creates FilterResolver bean for dynamic query filtering.
      * Uses the application's ConversionService for type conversion.
      */
     @Bean
     @ConditionalOnProperty(prefix = "springflow", name = "enabled", havingValue = "true", matchIfMissing = true)
-    public FilterResolver filterResolver(ConversionService conversionService) {
+    public FilterResolver filterResolver(ConversionService conversionService, InListStrategy inListStrategy,
+                                         FullTextIndexRegistry fullTextIndexRegistry, QueryLimits queryLimits,
+                                         ObjectProvider<QueryUsageRecorder> usageRecorder) {
         log.debug("Creating FilterResolver bean");
-        return new FilterResolver(conversionService);
+        FilterResolver filterResolver = new FilterResolver(conversionService, inListStrategy);
+        filterResolver.setFullTextIndexRegistry(fullTextIndexRegistry);
+        filterResolver.setQueryLimits(queryLimits);
+        filterResolver.setUsageRecorder(usageRecorder.getIfAvailable());
+        return filterResolver;
+    }
+
+    /**
+     * Creates FullTextIndexRegistry bean holding the in-process indexes of @Searchable fields.
+     * Generated services maintain them; the FilterResolver queries them.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "springflow", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FullTextIndexRegistry fullTextIndexRegistry() {
+        return new FullTextIndexRegistry();
+    }
+
+    /**
+     * Creates SuggestIndexRegistry bean holding the typeahead indexes of suggestable fields.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "springflow", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SuggestIndexRegistry suggestIndexRegistry(SpringFlowProperties properties) {
+        return new SuggestIndexRegistry(properties.getSearch().getSuggestMaxValuesPerField());
+    }
+
+    /**
+     * Creates SearchIndexInitializer bean that loads existing rows into the full-text and
+     * suggestion indexes in the background at startup.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "springflow.search", name = "rebuild-on-startup", havingValue = "true", matchIfMissing = true)
+    public SearchIndexInitializer searchIndexInitializer(ListableBeanFactory beanFactory) {
+        log.debug("Creating SearchIndexInitializer bean");
+        return new SearchIndexInitializer(beanFactory);
     }
 
     /**
@@ -130,4 +236,81 @@ public class SpringFlowAutoConfiguration {
         log.debug("Creating EntityValidator bean");
         return new EntityValidator(validator);
     }
+
+    /**
+     * Creates IndexValidator bean that checks suggested indexes (e.g. for soft delete) at startup.
+     * Missing indexes are only logged with their suggested DDL. Opt-in, as it reads the JDBC
+     * metadata of every table.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "springflow.indexes", name = "validate-on-startup", havingValue = "true")
+    public IndexValidator indexValidator(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        log.debug("Creating IndexValidator bean");
+        return new IndexValidator(dataSource, entityManagerFactory);
+    }
+
+    /**
+     * Creates QueryUsageRecorder bean counting the filters, sorts and list query times of each
+     * entity. Generated services and the FilterResolver feed it. Opt-in, as it adds work to
+     * every list request.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "springflow.indexes", name = "record-usage", havingValue = "true")
+    public QueryUsageRecorder queryUsageRecorder() {
+        return new QueryUsageRecorder();
+    }
+
+    /**
+     * Creates ReadCoalescer bean sharing one read between identical concurrent GET requests.
+     * Generated controllers use it when present.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "springflow.coalescing", name = "enabled", havingValue = "true")
+    public ReadCoalescer readCoalescer() {
+        return new ReadCoalescer();
+    }
+
+    /**
+     * Creates ExecutionGate bean bounding the concurrent calls to the generated controllers when
+     * requests run on virtual threads. Sized to the Hikari pool unless configured explicitly.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "springflow.execution", name = "virtual-threads", havingValue = "true")
+    public ExecutionGate executionGate(SpringFlowProperties properties, Environment environment) {
+        SpringFlowProperties.Execution execution = properties.getExecution();
+        int maxConcurrentCalls = execution.getMaxConcurrentCalls() > 0
+                ? execution.getMaxConcurrentCalls()
+                : environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        log.info("Virtual-thread execution - at most {} concurrent calls to the generated endpoints", maxConcurrentCalls);
+        return new ExecutionGate(maxConcurrentCalls, Duration.ofMillis(execution.getAcquireTimeoutMs()));
+    }
+
+    /**
+     * Creates ConcurrencyLimiterRegistry bean giving each operation of the generated endpoints
+     * an adaptive (AIMD) concurrency limit. Requests beyond the limit are rejected with 429.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "springflow.concurrency", name = "enabled", havingValue = "true")
+    public ConcurrencyLimiterRegistry concurrencyLimiterRegistry(SpringFlowProperties properties) {
+        SpringFlowProperties.Concurrency concurrency = properties.getConcurrency();
+        return new ConcurrencyLimiterRegistry(new ConcurrencyLimits(concurrency.getInitialLimit(),
+                concurrency.getMinLimit(), concurrency.getMaxLimit(), concurrency.getLatencyThresholdMs(),
+                concurrency.getBackoffRatio()));
+    }
+
+    /**
+     * Creates WriteBehindRegistry bean running the background writers of the entities created
+     * in write-behind mode, and flushing their queues on shutdown. Idle unless an entity
+     * enables @WriteBehind. Batch sizes are clamped to springflow.batch.max-items.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "springflow", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public WriteBehindRegistry writeBehindRegistry(SpringFlowProperties properties) {
+        SpringFlowProperties.WriteBehind writeBehind = properties.getWriteBehind();
+        return new WriteBehindRegistry(
+                new WriteBehindSettings(false, writeBehind.getQueueCapacity(), writeBehind.getBatchSize(),
+                        writeBehind.getMaxDelayMs(), writeBehind.getOfferTimeoutMs()),
+                Duration.ofMillis(writeBehind.getShutdownTimeoutMs()),
+                properties.getBatch().getMaxItems());
+    }
 }
@@ -30,6 +30,23 @@ import java.util.List;
  *     bot-patterns:
  *       - .php
  *       - wp-admin
+ *   indexes:
+ *     validate-on-startup: true
+ *   query:
+ *     in-list-padding: true
+ *     in-list-chunk-size: 1000
+ *     timeout-ms: 5000
+ *     max-filters: 20
+ *     max-in-size: 500
+ *     max-offset: 10000
+ *     max-fetch-joins: 4
+ *   search:
+ *     rebuild-on-startup: true
+ *     suggest-max-values-per-field: 50000
+ *   batch:
+ *     chunk-size: 500
+ *     max-items: 10000
+ *     max-affected-rows: 10000
  * </pre>
  */
 @ConfigurationProperties(prefix = "springflow")
@@ -66,6 +83,46 @@ public class SpringFlowProperties {
      */
     private Logging logging = new Logging();
 
+    /**
+     * Index advice configuration properties.
+     */
+    private Indexes indexes = new Indexes();
+
+    /**
+     * Query generation configuration properties.
+     */
+    private Query query = new Query();
+
+    /**
+     * Full-text search configuration properties.
+     */
+    private Search search = new Search();
+
+    /**
+     * Batch endpoint configuration properties.
+     */
+    private Batch batch = new Batch();
+
+    /**
+     * Read coalescing configuration properties.
+     */
+    private Coalescing coalescing = new Coalescing();
+
+    /**
+     * Execution configuration properties.
+     */
+    private Execution execution = new Execution();
+
+    /**
+     * Adaptive concurrency limiting configuration properties.
+     */
+    private Concurrency concurrency = new Concurrency();
+
+    /**
+     * Write-behind create configuration properties.
+     */
+    private WriteBehind writeBehind = new WriteBehind();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -114,6 +171,70 @@ public class SpringFlowProperties {
         this.logging = logging;
     }
 
+    public Indexes getIndexes() {
+        return indexes;
+    }
+
+    public void setIndexes(Indexes indexes) {
+        this.indexes = indexes;
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    public void setQuery(Query query) {
+        this.query = query;
+    }
+
+    public Search getSearch() {
+        return search;
+    }
+
+    public void setSearch(Search search) {
+        this.search = search;
+    }
+
+    public Batch getBatch() {
+        return batch;
+    }
+
+    public void setBatch(Batch batch) {
+        this.batch = batch;
+    }
+
+    public Coalescing getCoalescing() {
+        return coalescing;
+    }
+
+    public void setCoalescing(Coalescing coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    public Execution getExecution() {
+        return execution;
+    }
+
+    public void setExecution(Execution execution) {
+        this.execution = execution;
+    }
+
+    public Concurrency getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(Concurrency concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public WriteBehind getWriteBehind() {
+        return writeBehind;
+    }
+
+    public void setWriteBehind(WriteBehind writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
     /**
      * Pagination configuration.
      */
@@ -364,4 +485,442 @@ public class SpringFlowProperties {
             this.botPatterns = botPatterns;
         }
     }
+
+    /**
+     * Index advice configuration.
+     */
+    public static class Indexes {
+        /**
+         * Whether to check at startup that the indexes suggested for each @AutoApi entity
+         * (e.g. on the soft-delete flag) exist, and log the suggested DDL when they don't.
+         * Off by default: the check reads the JDBC metadata of every table at startup.
+         */
+        private boolean validateOnStartup = false;
+
+        /**
+         * Whether to record the filters, sorts and list query times of each entity, so that
+         * the springflowindexes actuator endpoint can rank the missing indexes. Off by default:
+         * recording adds work to every request.
+         */
+        private boolean recordUsage = false;
+
+        public boolean isValidateOnStartup() {
+            return validateOnStartup;
+        }
+
+        public void setValidateOnStartup(boolean validateOnStartup) {
+            this.validateOnStartup = validateOnStartup;
+        }
+
+        public boolean isRecordUsage() {
+            return recordUsage;
+        }
+
+        public void setRecordUsage(boolean recordUsage) {
+            this.recordUsage = recordUsage;
+        }
+    }
+
+    /**
+     * Query generation configuration.
+     */
+    public static class Query {
+        /**
+         * Whether IN lists (e.g. ?id_in=...) are padded to the next power of two by repeating
+         * the last value, so that statement and plan caches see fewer distinct SQL strings.
+         */
+        private boolean inListPadding = true;
+
+        /**
+         * Maximum number of values per IN list. Longer lists are split into several IN lists
+         * OR-ed together, staying under driver and database parameter limits.
+         */
+        private int inListChunkSize = 1000;
+
+        /**
+         * Query timeout in milliseconds for list, facet and aggregate queries (0 = none).
+         * Overridable per entity with @AutoApi(budget = @QueryBudget(...)).
+         */
+        private int timeoutMs = 0;
+
+        /**
+         * Maximum number of filter parameters per request (0 = unlimited).
+         */
+        private int maxFilters = 0;
+
+        /**
+         * Maximum number of values in an IN / NOT IN filter (0 = unlimited).
+         */
+        private int maxInSize = 0;
+
+        /**
+         * Maximum row offset (page * size) of a list request (0 = unlimited).
+         */
+        private int maxOffset = 0;
+
+        /**
+         * Maximum number of relations fetch-joined by a list query (0 = unlimited).
+         * Relations beyond the limit are loaded after the page query.
+         */
+        private int maxFetchJoins = 0;
+
+        public boolean isInListPadding() {
+            return inListPadding;
+        }
+
+        public void setInListPadding(boolean inListPadding) {
+            this.inListPadding = inListPadding;
+        }
+
+        public int getInListChunkSize() {
+            return inListChunkSize;
+        }
+
+        public void setInListChunkSize(int inListChunkSize) {
+            this.inListChunkSize = inListChunkSize;
+        }
+
+        public int getTimeoutMs() {
+            return timeoutMs;
+        }
+
+        public void setTimeoutMs(int timeoutMs) {
+            this.timeoutMs = timeoutMs;
+        }
+
+        public int getMaxFilters() {
+            return maxFilters;
+        }
+
+        public void setMaxFilters(int maxFilters) {
+            this.maxFilters = maxFilters;
+        }
+
+        public int getMaxInSize() {
+            return maxInSize;
+        }
+
+        public void setMaxInSize(int maxInSize) {
+            this.maxInSize = maxInSize;
+        }
+
+        public int getMaxOffset() {
+            return maxOffset;
+        }
+
+        public void setMaxOffset(int maxOffset) {
+            this.maxOffset = maxOffset;
+        }
+
+        public int getMaxFetchJoins() {
+            return maxFetchJoins;
+        }
+
+        public void setMaxFetchJoins(int maxFetchJoins) {
+            this.maxFetchJoins = maxFetchJoins;
+        }
+    }
+
+    /**
+     * Full-text search configuration.
+     */
+    public static class Search {
+        /**
+         * Whether to load existing rows into the full-text index of @Searchable fields and the
+         * suggestion index of suggestable fields at startup, in the background. Until an index is
+         * built, FULL_TEXT filters use LIKE and suggestions are counted in the database.
+         */
+        private boolean rebuildOnStartup = true;
+
+        /**
+         * Maximum number of distinct values kept per suggestable field. Once reached, new
+         * values are not suggested; this bounds the memory used by the suggestion index.
+         */
+        private int suggestMaxValuesPerField = 50_000;
+
+        public boolean isRebuildOnStartup() {
+            return rebuildOnStartup;
+        }
+
+        public void setRebuildOnStartup(boolean rebuildOnStartup) {
+            this.rebuildOnStartup = rebuildOnStartup;
+        }
+
+        public int getSuggestMaxValuesPerField() {
+            return suggestMaxValuesPerField;
+        }
+
+        public void setSuggestMaxValuesPerField(int suggestMaxValuesPerField) {
+            this.suggestMaxValuesPerField = suggestMaxValuesPerField;
+        }
+    }
+
+    /**
+     * Batch endpoint configuration.
+     */
+    public static class Batch {
+        /**
+         * Number of entities written per JDBC batch, after which the persistence context is
+         * flushed and cleared.
+         */
+        private int chunkSize = 500;
+
+        /**
+         * Maximum number of items accepted by one batch request. 0 disables the limit.
+         */
+        private int maxItems = 10_000;
+
+        /**
+         * Maximum number of rows a bulk delete by filter may affect. The matching rows are
+         * counted before the delete runs. 0 disables the limit.
+         */
+        private long maxAffectedRows = 10_000;
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getMaxItems() {
+            return maxItems;
+        }
+
+        public void setMaxItems(int maxItems) {
+            this.maxItems = maxItems;
+        }
+
+        public long getMaxAffectedRows() {
+            return maxAffectedRows;
+        }
+
+        public void setMaxAffectedRows(long maxAffectedRows) {
+            this.maxAffectedRows = maxAffectedRows;
+        }
+    }
+
+    /**
+     * Read coalescing configuration.
+     */
+    public static class Coalescing {
+        /**
+         * Whether identical concurrent GET requests on the generated endpoints share a single
+         * read. Only enable it when read results do not depend on the caller.
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Execution configuration.
+     */
+    public static class Execution {
+        /**
+         * Whether requests, and so the generated handlers and service calls, run on virtual
+         * threads. Sets spring.threads.virtual.enabled unless it is configured explicitly, and
+         * bounds the concurrent calls to the generated endpoints.
+         */
+        private boolean virtualThreads = false;
+
+        /**
+         * Maximum number of concurrent calls to the generated endpoints in virtual-thread mode.
+         * 0 sizes it to spring.datasource.hikari.maximum-pool-size (10 by default).
+         */
+        private int maxConcurrentCalls = 0;
+
+        /**
+         * How long a call waits for a free slot before the request is rejected with 503.
+         */
+        private long acquireTimeoutMs = 30_000;
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public long getAcquireTimeoutMs() {
+            return acquireTimeoutMs;
+        }
+
+        public void setAcquireTimeoutMs(long acquireTimeoutMs) {
+            this.acquireTimeoutMs = acquireTimeoutMs;
+        }
+    }
+
+    /**
+     * Adaptive concurrency limiting configuration.
+     * Each entity can override these values with @AutoApi(concurrency = @ConcurrencyLimit(...)).
+     */
+    public static class Concurrency {
+        /**
+         * Whether each operation of the generated endpoints gets an adaptive concurrency limit.
+         * Requests beyond the limit are rejected with 429 instead of queueing.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Concurrent calls allowed per operation before any latency is observed.
+         */
+        private int initialLimit = 10;
+
+        /**
+         * Lowest value the limit of an operation shrinks to.
+         */
+        private int minLimit = 1;
+
+        /**
+         * Highest value the limit of an operation grows to. 0 disables limiting.
+         */
+        private int maxLimit = 100;
+
+        /**
+         * Latency in milliseconds above which a call shrinks the limit of its operation.
+         */
+        private long latencyThresholdMs = 1000;
+
+        /**
+         * Factor applied to the limit of an operation when a call exceeds the latency threshold.
+         */
+        private double backoffRatio = 0.9;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public long getLatencyThresholdMs() {
+            return latencyThresholdMs;
+        }
+
+        public void setLatencyThresholdMs(long latencyThresholdMs) {
+            this.latencyThresholdMs = latencyThresholdMs;
+        }
+
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+
+        public void setBackoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+        }
+    }
+
+    /**
+     * Write-behind create configuration, for entities with @AutoApi(writeBehind = @WriteBehind(enabled = true)).
+     * Each entity can override these values in its @WriteBehind annotation.
+     */
+    public static class WriteBehind {
+        /**
+         * Maximum number of entities waiting to be written, per entity.
+         */
+        private int queueCapacity = 10_000;
+
+        /**
+         * Maximum number of entities inserted in one transaction. Clamped to
+         * springflow.batch.max-items.
+         */
+        private int batchSize = 500;
+
+        /**
+         * How long the writer waits for a batch to fill up before writing it.
+         */
+        private long maxDelayMs = 50;
+
+        /**
+         * How long a request waits for room in a full queue before it is rejected with 503.
+         */
+        private long offerTimeoutMs = 100;
+
+        /**
+         * How long shutdown waits for each queue to be written.
+         */
+        private long shutdownTimeoutMs = 30_000;
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getMaxDelayMs() {
+            return maxDelayMs;
+        }
+
+        public void setMaxDelayMs(long maxDelayMs) {
+            this.maxDelayMs = maxDelayMs;
+        }
+
+        public long getOfferTimeoutMs() {
+            return offerTimeoutMs;
+        }
+
+        public void setOfferTimeoutMs(long offerTimeoutMs) {
+            this.offerTimeoutMs = offerTimeoutMs;
+        }
+
+        public long getShutdownTimeoutMs() {
+            return shutdownTimeoutMs;
+        }
+
+        public void setShutdownTimeoutMs(long shutdownTimeoutMs) {
+            this.shutdownTimeoutMs = shutdownTimeoutMs;
+        }
+    }
 }
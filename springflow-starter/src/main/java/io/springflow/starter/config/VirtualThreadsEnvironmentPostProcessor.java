@@ -0,0 +1,38 @@
+package io.springflow.starter.config;
+
+import org.springframework.boot.EnvironmentPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Turns on Spring Boot's virtual threads when {@code springflow.execution.virtual-threads} is
+ * true.
+ * <p>
+ * This is opt-in: having the starter on the classpath does not change the threading model of
+ * the application. Nothing is set unless the property is exactly {@code true} and SpringFlow is
+ * not disabled with {@code springflow.enabled=false}.
+ * </p>
+ * <p>
+ * Requests are then handled on virtual threads, and so are the generated handlers and the
+ * service calls they make: a request waiting on the database no longer holds a server thread.
+ * An explicit {@code spring.threads.virtual.enabled} setting always wins.
+ * </p>
+ */
+public class VirtualThreadsEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE_NAME = "springflowVirtualThreads";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!"true".equalsIgnoreCase(environment.getProperty("springflow.execution.virtual-threads"))
+                || "false".equalsIgnoreCase(environment.getProperty("springflow.enabled"))
+                || environment.containsProperty("spring.threads.virtual.enabled")) {
+            return;
+        }
+        environment.getPropertySources().addLast(
+                new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of("spring.threads.virtual.enabled", "true")));
+    }
+}
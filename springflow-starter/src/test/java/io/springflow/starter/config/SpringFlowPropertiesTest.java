@@ -39,6 +39,18 @@ class SpringFlowPropertiesTest {
             assertThat(properties.getSwagger().getTitle()).isEqualTo("SpringFlow API");
             assertThat(properties.getSwagger().getDescription()).isEqualTo("Auto-generated REST API documentation");
             assertThat(properties.getSwagger().getVersion()).isEqualTo("1.0.0");
+
+            assertThat(properties.getIndexes().isValidateOnStartup()).isFalse();
+            assertThat(properties.getIndexes().isRecordUsage()).isFalse();
+            assertThat(properties.getCoalescing().isEnabled()).isFalse();
+            assertThat(properties.getExecution().isVirtualThreads()).isFalse();
+            assertThat(properties.getExecution().getMaxConcurrentCalls()).isZero();
+            assertThat(properties.getExecution().getAcquireTimeoutMs()).isEqualTo(30_000);
+            assertThat(properties.getConcurrency().isEnabled()).isFalse();
+            assertThat(properties.getConcurrency().getInitialLimit()).isEqualTo(10);
+            assertThat(properties.getConcurrency().getMaxLimit()).isEqualTo(100);
+            assertThat(properties.getWriteBehind().getQueueCapacity()).isEqualTo(10_000);
+            assertThat(properties.getWriteBehind().getBatchSize()).isEqualTo(500);
         });
     }
 
@@ -118,6 +130,170 @@ class SpringFlowPropertiesTest {
                 });
     }
 
+    @Test
+    void properties_indexesCustomization_shouldWork() {
+        // Given/When
+        contextRunner
+                .withPropertyValues(
+                        "springflow.indexes.validate-on-startup=true",
+                        "springflow.indexes.record-usage=true"
+                )
+                .run(context -> {
+                    // Then
+                    SpringFlowProperties properties = context.getBean(SpringFlowProperties.class);
+                    assertThat(properties.getIndexes().isValidateOnStartup()).isTrue();
+                    assertThat(properties.getIndexes().isRecordUsage()).isTrue();
+                });
+    }
+
+    @Test
+    void properties_queryCustomization_shouldWork() {
+        // Given/When
+        contextRunner
+                .withPropertyValues(
+                        "springflow.query.in-list-padding=false",
+                        "springflow.query.in-list-chunk-size=500"
+                )
+                .run(context -> {
+                    // Then
+                    SpringFlowProperties properties = context.getBean(SpringFlowProperties.class);
+                    assertThat(properties.getQuery().isInListPadding()).isFalse();
+                    assertThat(properties.getQuery().getInListChunkSize()).isEqualTo(500);
+                });
+    }
+
+    @Test
+    void properties_queryBudgetCustomization_shouldWork() {
+        // Given/When
+        contextRunner
+                .withPropertyValues(
+                        "springflow.query.timeout-ms=2000",
+                        "springflow.query.max-filters=10",
+                        "springflow.query.max-in-size=200",
+                        "springflow.query.max-offset=5000",
+                        "springflow.query.max-fetch-joins=3"
+                )
+                .run(context -> {
+                    // Then
+                    SpringFlowProperties.Query query = context.getBean(SpringFlowProperties.class).getQuery();
+                    assertThat(query.getTimeoutMs()).isEqualTo(2000);
+                    assertThat(query.getMaxFilters()).isEqualTo(10);
+                    assertThat(query.getMaxInSize()).isEqualTo(200);
+                    assertThat(query.getMaxOffset()).isEqualTo(5000);
+                    assertThat(query.getMaxFetchJoins()).isEqualTo(3);
+                });
+    }
+
+    @Test
+    void properties_searchCustomization_shouldWork() {
+        // Given/When
+        contextRunner
+                .withPropertyValues(
+                        "springflow.search.rebuild-on-startup=false",
+                        "springflow.search.suggest-max-values-per-field=1000"
+                )
+                .run(context -> {
+                    // Then
+                    SpringFlowProperties properties = context.getBean(SpringFlowProperties.class);
+                    assertThat(properties.getSearch().isRebuildOnStartup()).isFalse();
+                    assertThat(properties.getSearch().getSuggestMaxValuesPerField()).isEqualTo(1000);
+                });
+    }
+
+    @Test
+    void properties_batchCustomization_shouldWork() {
+        // Given/When
+        contextRunner
+                .withPropertyValues(
+                        "springflow.batch.chunk-size=50",
+                        "springflow.batch.max-items=200",
+                        "springflow.batch.max-affected-rows=0"
+                )
+                .run(context -> {
+                    // Then
+                    SpringFlowProperties properties = context.getBean(SpringFlowProperties.class);
+                    assertThat(properties.getBatch().getChunkSize()).isEqualTo(50);
+                    assertThat(properties.getBatch().getMaxItems()).isEqualTo(200);
+                    assertThat(properties.getBatch().getMaxAffectedRows()).isZero();
+                });
+    }
+
+    @Test
+    void properties_coalescingCustomization_shouldWork() {
+        // Given/When
+        contextRunner
+                .withPropertyValues("springflow.coalescing.enabled=true")
+                .run(context -> {
+                    // Then
+                    SpringFlowProperties properties = context.getBean(SpringFlowProperties.class);
+                    assertThat(properties.getCoalescing().isEnabled()).isTrue();
+                });
+    }
+
+    @Test
+    void properties_executionCustomization_shouldWork() {
+        // Given/When
+        contextRunner
+                .withPropertyValues(
+                        "springflow.execution.virtual-threads=true",
+                        "springflow.execution.max-concurrent-calls=40",
+                        "springflow.execution.acquire-timeout-ms=2000"
+                )
+                .run(context -> {
+                    // Then
+                    SpringFlowProperties.Execution execution = context.getBean(SpringFlowProperties.class).getExecution();
+                    assertThat(execution.isVirtualThreads()).isTrue();
+                    assertThat(execution.getMaxConcurrentCalls()).isEqualTo(40);
+                    assertThat(execution.getAcquireTimeoutMs()).isEqualTo(2000);
+                });
+    }
+
+    @Test
+    void properties_concurrencyCustomization_shouldWork() {
+        // Given/When
+        contextRunner
+                .withPropertyValues(
+                        "springflow.concurrency.enabled=true",
+                        "springflow.concurrency.initial-limit=5",
+                        "springflow.concurrency.min-limit=2",
+                        "springflow.concurrency.max-limit=20",
+                        "springflow.concurrency.latency-threshold-ms=250",
+                        "springflow.concurrency.backoff-ratio=0.75"
+                )
+                .run(context -> {
+                    // Then
+                    SpringFlowProperties.Concurrency concurrency = context.getBean(SpringFlowProperties.class).getConcurrency();
+                    assertThat(concurrency.isEnabled()).isTrue();
+                    assertThat(concurrency.getInitialLimit()).isEqualTo(5);
+                    assertThat(concurrency.getMinLimit()).isEqualTo(2);
+                    assertThat(concurrency.getMaxLimit()).isEqualTo(20);
+                    assertThat(concurrency.getLatencyThresholdMs()).isEqualTo(250);
+                    assertThat(concurrency.getBackoffRatio()).isEqualTo(0.75);
+                });
+    }
+
+    @Test
+    void properties_writeBehindCustomization_shouldWork() {
+        // Given/When
+        contextRunner
+                .withPropertyValues(
+                        "springflow.write-behind.queue-capacity=50000",
+                        "springflow.write-behind.batch-size=1000",
+                        "springflow.write-behind.max-delay-ms=20",
+                        "springflow.write-behind.offer-timeout-ms=0",
+                        "springflow.write-behind.shutdown-timeout-ms=5000"
+                )
+                .run(context -> {
+                    // Then
+                    SpringFlowProperties.WriteBehind writeBehind = context.getBean(SpringFlowProperties.class).getWriteBehind();
+                    assertThat(writeBehind.getQueueCapacity()).isEqualTo(50_000);
+                    assertThat(writeBehind.getBatchSize()).isEqualTo(1000);
+                    assertThat(writeBehind.getMaxDelayMs()).isEqualTo(20);
+                    assertThat(writeBehind.getOfferTimeoutMs()).isZero();
+                    assertThat(writeBehind.getShutdownTimeoutMs()).isEqualTo(5000);
+                });
+    }
+
     @EnableConfigurationProperties(SpringFlowProperties.class)
     static class TestConfiguration {
     }
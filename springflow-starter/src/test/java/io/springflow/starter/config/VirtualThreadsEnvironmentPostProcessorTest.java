@@ -0,0 +1,67 @@
+package io.springflow.starter.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for VirtualThreadsEnvironmentPostProcessor.
+ */
+class VirtualThreadsEnvironmentPostProcessorTest {
+
+    private final VirtualThreadsEnvironmentPostProcessor postProcessor = new VirtualThreadsEnvironmentPostProcessor();
+
+    @Test
+    void postProcessEnvironment_withVirtualThreads_shouldEnableSpringVirtualThreads() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("springflow.execution.virtual-threads", "true");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("spring.threads.virtual.enabled")).isEqualTo("true");
+    }
+
+    @Test
+    void postProcessEnvironment_withExplicitSpringSetting_shouldKeepIt() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("springflow.execution.virtual-threads", "true")
+                .withProperty("spring.threads.virtual.enabled", "false");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("spring.threads.virtual.enabled")).isEqualTo("false");
+        assertThat(environment.getPropertySources().contains(VirtualThreadsEnvironmentPostProcessor.PROPERTY_SOURCE_NAME)).isFalse();
+    }
+
+    @Test
+    void postProcessEnvironment_byDefault_shouldNotEnableVirtualThreads() {
+        MockEnvironment environment = new MockEnvironment();
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.containsProperty("spring.threads.virtual.enabled")).isFalse();
+    }
+
+    @Test
+    void postProcessEnvironment_withVirtualThreadsOff_shouldNotEnableVirtualThreads() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("springflow.execution.virtual-threads", "false");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.containsProperty("spring.threads.virtual.enabled")).isFalse();
+    }
+
+    @Test
+    void postProcessEnvironment_withSpringFlowDisabled_shouldNotEnableVirtualThreads() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("springflow.enabled", "false")
+                .withProperty("springflow.execution.virtual-threads", "true");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.containsProperty("spring.threads.virtual.enabled")).isFalse();
+    }
+}